@@ -142,6 +142,16 @@ public final class IndividualAddress implements KnxAddress {
         return area + "." + line + "." + device;
     }
 
+    /**
+     * Returns Individual Address as an int ({@code area} in bits 12-15,
+     * {@code line} in bits 8-11 and {@code device} in bits 0-7)
+     *
+     * @return individual address as int [0..65535]
+     */
+    public int getAddressAsInt() {
+        return (area << 12) | (line << 8) | device;
+    }
+
     @Override
     public byte[] toByteArray() {
         // byte 0: xxxx ....
@@ -18,6 +18,7 @@
 package li.pitschmann.knx.core.communication;
 
 import li.pitschmann.knx.core.address.GroupAddress;
+import li.pitschmann.knx.core.annotations.Nullable;
 import li.pitschmann.knx.core.body.Body;
 import li.pitschmann.knx.core.body.RequestBody;
 import li.pitschmann.knx.core.body.ResponseBody;
@@ -31,16 +32,11 @@ import li.pitschmann.knx.core.cemi.MessageCode;
 import li.pitschmann.knx.core.config.Config;
 import li.pitschmann.knx.core.config.CoreConfigs;
 import li.pitschmann.knx.core.datapoint.value.DataPointValue;
-import li.pitschmann.knx.core.exceptions.KnxCommunicationException;
 import li.pitschmann.knx.core.utils.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Base KNX client implementation
@@ -49,7 +45,6 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public class BaseKnxClient implements KnxClient {
     protected final Logger log = LoggerFactory.getLogger(getClass());
-    private final AtomicInteger sequence = new AtomicInteger();
     private final InternalKnxClient internalClient;
 
     /**
@@ -58,7 +53,17 @@ public class BaseKnxClient implements KnxClient {
      * @param config the configuration that should be used to create a link to KNX
      */
     protected BaseKnxClient(final Config config) {
-        internalClient = new InternalKnxClient(config);
+        this(config, null);
+    }
+
+    /**
+     * Starts KNX client with given config against the shared {@link KnxRuntime}
+     *
+     * @param config  the configuration that should be used to create a link to KNX
+     * @param runtime the shared runtime; if {@code null} the client has its own threads
+     */
+    protected BaseKnxClient(final Config config, final @Nullable KnxRuntime runtime) {
+        internalClient = new InternalKnxClient(config, runtime);
 
         // notifies all plug-ins about initialization
         // here we want to pass the BaseKnxClient to plugin manager - not the InternalKnxClient!
@@ -80,26 +85,12 @@ public class BaseKnxClient implements KnxClient {
             // tunneling request
             final var cemi = CEMI.useDefault(MessageCode.L_DATA_REQ, address, APCI.GROUP_VALUE_WRITE, dataPointValue);
             return getInternalClient().<TunnelingAckBody>send(
-                    TunnelingRequestBody.of(getInternalClient().getChannelId(), this.getNextSequence(), cemi),
+                    TunnelingRequestBody.of(getInternalClient().getChannelId(), getInternalClient().nextSequence(), cemi),
                     getConfig(CoreConfigs.Tunneling.REQUEST_TIMEOUT)
             ).thenApply(body -> body.getStatus() == Status.NO_ERROR);
         }
     }
 
-    @Override
-    public boolean writeRequest(final GroupAddress address, final DataPointValue dataPointValue, final long timeout) {
-        try {
-            return writeRequest(address, dataPointValue).get(timeout, TimeUnit.MILLISECONDS);
-        } catch (final TimeoutException ex) {
-            throw new KnxCommunicationException("Time ({} ms) exceeded for write request to group address: {}", timeout, address);
-        } catch (final ExecutionException ex) {
-            throw new KnxCommunicationException("Write request and wait for acknowledge failed for group address: {}", address);
-        } catch (final InterruptedException ie) {
-            Thread.currentThread().interrupt();
-        }
-        return false;
-    }
-
     @Override
     public CompletableFuture<Boolean> readRequest(final GroupAddress address) {
         Preconditions.checkNonNull(address);
@@ -114,35 +105,12 @@ public class BaseKnxClient implements KnxClient {
             // tunneling request
             final var cemi = CEMI.useDefault(MessageCode.L_DATA_REQ, address, APCI.GROUP_VALUE_READ, null);
             return getInternalClient().<TunnelingAckBody>send(
-                    TunnelingRequestBody.of(getInternalClient().getChannelId(), this.getNextSequence(), cemi),
+                    TunnelingRequestBody.of(getInternalClient().getChannelId(), getInternalClient().nextSequence(), cemi),
                     getConfig(CoreConfigs.Tunneling.REQUEST_TIMEOUT)
             ).thenApply(body -> body.getStatus() == Status.NO_ERROR);
         }
     }
 
-    @Override
-    public boolean readRequest(final GroupAddress address, final long timeout) {
-        try {
-            return readRequest(address).get(timeout, TimeUnit.MILLISECONDS);
-        } catch (final TimeoutException ex) {
-            throw new KnxCommunicationException("Time ({} ms) exceeded for read request to group address: {}", timeout, address);
-        } catch (final ExecutionException ex) {
-            throw new KnxCommunicationException("Read request and wait for acknowledge failed for group address: {}", address);
-        } catch (final InterruptedException ie) {
-            Thread.currentThread().interrupt();
-        }
-        return false;
-    }
-
-    /**
-     * Returns the next sequence (1-octet) between 0x00 and 0xFF. After 0xFF it should start with 0x00.
-     *
-     * @return next sequence number
-     */
-    private int getNextSequence() {
-        return this.sequence.getAndUpdate(v -> (v + 1) % 256);
-    }
-
     /**
      * Returns {@link InternalKnxClient} instance for internal purposes only
      * <p>
@@ -21,6 +21,8 @@ import li.pitschmann.knx.core.annotations.Nullable;
 import li.pitschmann.knx.core.config.Config;
 import li.pitschmann.knx.core.config.ConfigBuilder;
 
+import java.util.Objects;
+
 /**
  * Default KNX client implementation
  *
@@ -37,6 +39,16 @@ public final class DefaultKnxClient extends BaseKnxClient {
         super(config);
     }
 
+    /**
+     * Starts Default KNX client with {@link Config} against the shared {@link KnxRuntime}
+     *
+     * @param runtime the shared runtime
+     * @param config  the configuration that should be used to create a link to KNX
+     */
+    private DefaultKnxClient(final KnxRuntime runtime, final Config config) {
+        super(config, Objects.requireNonNull(runtime));
+    }
+
     /**
      * Creates the Default KNX Client without endpoint address. The look up for an
      * applicable KNX Net/IP device will be using KNX discovery service on a broadcast
@@ -77,4 +89,20 @@ public final class DefaultKnxClient extends BaseKnxClient {
         client.getInternalClient().start();
         return client;
     }
+
+    /**
+     * Creates the Default KNX Client with {@link Config} instance against the
+     * shared {@link KnxRuntime}. Threads for channels, communication and plugins
+     * are shared with other KNX clients of the same runtime.
+     *
+     * @param runtime the shared runtime
+     * @param config  the configuration that should be used to create a link to KNX
+     * @return an instance of {@link DefaultKnxClient}
+     */
+    public static DefaultKnxClient createStarted(final KnxRuntime runtime, final Config config) {
+        final var client = new DefaultKnxClient(runtime, config);
+        // start communication
+        client.getInternalClient().start();
+        return client;
+    }
 }
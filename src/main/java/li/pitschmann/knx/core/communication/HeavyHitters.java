@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication;
+
+import li.pitschmann.knx.core.utils.Preconditions;
+import li.pitschmann.knx.core.utils.Strings;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+/**
+ * Lock-free heavy hitters with bounded memory: a count-min sketch estimates the count per key
+ * and a small table keeps the keys with highest estimates (candidates).
+ * <p>
+ * The estimate of a key is never lower than the real count, but may be higher when other keys
+ * share the same counters. The candidate table is only scanned when the estimate of a key is
+ * higher than the lowest estimate of candidates, which keeps the update cheap for the many
+ * keys that are not heavy hitters. A key that is a candidate already is found by a small
+ * key to slot index without scan, and the lowest candidate is looked up by the estimates
+ * recorded per slot instead of reading the counters of all candidates.
+ * <p>
+ * Keys must not be negative.
+ *
+ * @author PITSCHR
+ */
+final class HeavyHitters {
+    private static final long EMPTY = -1L;
+    private static final int DEPTH = 4;
+    private static final long[] SEEDS = {0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+    private final int width;
+    private final AtomicLongArray counters;
+    private final AtomicLongArray candidates;
+    /**
+     * Estimate of candidate per slot when it has been last offered; a lower bound as estimates only increase
+     */
+    private final AtomicLongArray candidateEstimates;
+    /**
+     * Slot of candidate by hash of key; only a hint that is verified against the candidate slot
+     */
+    private final AtomicIntegerArray candidateSlots;
+    private volatile long threshold;
+
+    /**
+     * Creates a new {@link HeavyHitters}
+     *
+     * @param width    number of counters per row of count-min sketch (power of two)
+     * @param capacity number of candidates to be tracked
+     */
+    HeavyHitters(final int width, final int capacity) {
+        Preconditions.checkArgument(width > 0 && Integer.bitCount(width) == 1, "Width must be a power of two: {}", width);
+        Preconditions.checkArgument(capacity > 0, "Capacity must be positive: {}", capacity);
+        this.width = width;
+        this.counters = new AtomicLongArray(DEPTH * width);
+        this.candidates = new AtomicLongArray(capacity);
+        for (var i = 0; i < capacity; i++) {
+            this.candidates.set(i, EMPTY);
+        }
+        this.candidateEstimates = new AtomicLongArray(capacity);
+        this.candidateSlots = new AtomicIntegerArray(Integer.highestOneBit(capacity) << 2);
+    }
+
+    /**
+     * Increments the count of given {@code key}
+     *
+     * @param key the key, not negative
+     */
+    void add(final long key) {
+        var estimate = Long.MAX_VALUE;
+        for (var row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, this.counters.incrementAndGet(index(row, key)));
+        }
+        if (estimate > this.threshold) {
+            offer(key, estimate);
+        }
+    }
+
+    /**
+     * Returns the estimated count of given {@code key}
+     *
+     * @param key the key
+     * @return estimated count, never lower than the real count
+     */
+    long estimate(final long key) {
+        var estimate = Long.MAX_VALUE;
+        for (var row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, this.counters.get(index(row, key)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns the keys with highest estimated counts
+     *
+     * @param n maximum number of keys
+     * @return keys, highest estimated count first
+     */
+    List<Long> top(final int n) {
+        final var keys = new long[this.candidates.length()];
+        for (var i = 0; i < keys.length; i++) {
+            keys[i] = this.candidates.get(i);
+        }
+        return Arrays.stream(keys)
+                .filter(key -> key != EMPTY)
+                .distinct()
+                .boxed()
+                .sorted(Comparator.comparingLong(this::estimate).reversed())
+                .limit(n)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Offers the key as candidate: the key is added to an empty slot or replaces
+     * the candidate with lowest estimate, if its estimate is higher.
+     *
+     * @param key      the key
+     * @param estimate estimated count of key
+     */
+    private void offer(final long key, final long estimate) {
+        // already a candidate? (fast path for heavy hitters)
+        final var hashSlot = (int) (hash(key, 0) & (this.candidateSlots.length() - 1));
+        final var hintSlot = this.candidateSlots.get(hashSlot);
+        if (this.candidates.get(hintSlot) == key) {
+            this.candidateEstimates.set(hintSlot, estimate);
+            return;
+        }
+
+        // already a candidate or empty slot available?
+        for (var i = 0; i < this.candidates.length(); i++) {
+            final var candidate = this.candidates.get(i);
+            if (candidate == key || (candidate == EMPTY && this.candidates.compareAndSet(i, EMPTY, key))) {
+                this.candidateEstimates.set(i, estimate);
+                this.candidateSlots.set(hashSlot, i);
+                return;
+            }
+        }
+
+        // find the candidate with lowest recorded estimate
+        var minSlot = 0;
+        var minRecordedEstimate = this.candidateEstimates.get(0);
+        for (var i = 1; i < this.candidateEstimates.length(); i++) {
+            final var candidateEstimate = this.candidateEstimates.get(i);
+            if (candidateEstimate < minRecordedEstimate) {
+                minSlot = i;
+                minRecordedEstimate = candidateEstimate;
+            }
+        }
+
+        // recorded estimates are lower bounds, so the lowest one is a safe lower bound for the threshold
+        this.threshold = minRecordedEstimate;
+
+        // the recorded estimate may be outdated: compare with current estimate of candidate
+        final var minKey = this.candidates.get(minSlot);
+        final var minEstimate = estimate(minKey);
+        if (estimate > minEstimate) {
+            if (this.candidates.compareAndSet(minSlot, minKey, key)) {
+                this.candidateEstimates.set(minSlot, estimate);
+                this.candidateSlots.set(hashSlot, minSlot);
+            }
+        } else if (this.candidates.get(minSlot) == minKey) {
+            this.candidateEstimates.set(minSlot, minEstimate);
+        }
+    }
+
+    private int index(final int row, final long key) {
+        return row * this.width + (int) (hash(key, row) & (this.width - 1));
+    }
+
+    private static long hash(final long key, final int seed) {
+        // 64-bit finalizer of MurmurHash3
+        var h = key ^ SEEDS[seed];
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return Strings.toStringHelper(this)
+                .add("width", width)
+                .add("capacity", candidates.length())
+                .add("threshold", threshold)
+                .toString();
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication;
+
+import li.pitschmann.knx.core.annotations.Nullable;
+import li.pitschmann.knx.core.body.Body;
+import li.pitschmann.knx.core.body.BodyFactory;
+import li.pitschmann.knx.core.body.DescriptionResponseBody;
+import li.pitschmann.knx.core.body.SearchResponseBody;
+import li.pitschmann.knx.core.utils.Networker;
+import li.pitschmann.knx.core.utils.Strings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Persistent cache of {@link SearchResponseBody} and {@link DescriptionResponseBody} on the local filesystem.
+ * <p>
+ * Each response is stored as KNX frame (header and body) in its own file. The search response is keyed
+ * by the local interface and the multicast endpoint, the description response is keyed by the local
+ * interface and the remote endpoint of KNX Net/IP device. Files are written atomically (if supported by the
+ * filesystem); files that cannot be read or parsed are removed and treated as cache miss.
+ * <p>
+ * Each write and removal increments the generation of the key; see {@link #putIfUnchanged(String, Body, long)}
+ * to store a body only when the entry has not been written or removed in the meantime.
+ *
+ * @author PITSCHR
+ */
+final class InternalKnxCache {
+    private static final Logger log = LoggerFactory.getLogger(InternalKnxCache.class);
+    private static final String FILE_EXTENSION = ".knx";
+    private final Path directory;
+    // guarded by 'this'
+    private final Map<String, Long> generations = new HashMap<>();
+
+    /**
+     * Creates a new cache in the given {@code directory} (package protected)
+     *
+     * @param directory directory where the cached responses are stored, created on first write
+     */
+    InternalKnxCache(final Path directory) {
+        this.directory = Objects.requireNonNull(directory);
+    }
+
+    /**
+     * Returns the key for {@link SearchResponseBody}
+     *
+     * @param multicastEndpoint the multicast endpoint where search requests are sent to
+     * @return key
+     */
+    static String searchKey(final InetSocketAddress multicastEndpoint) {
+        return toKey("search", Networker.getLocalHost(), multicastEndpoint);
+    }
+
+    /**
+     * Returns the key for {@link DescriptionResponseBody}
+     *
+     * @param remoteEndpoint the remote endpoint of KNX Net/IP device
+     * @return key
+     */
+    static String descriptionKey(final InetSocketAddress remoteEndpoint) {
+        return toKey("description", Networker.getLocalHost(), remoteEndpoint);
+    }
+
+    private static String toKey(final String type, final InetAddress localAddress, final InetSocketAddress endpoint) {
+        // file name friendly (e.g. colons of IPv6 addresses)
+        return (type + "_" + localAddress.getHostAddress() + "_" + endpoint.getAddress().getHostAddress() + "_" + endpoint.getPort())
+                .replaceAll("[^a-zA-Z0-9._-]", "-");
+    }
+
+    /**
+     * Returns the cached body for given {@code key}
+     *
+     * @param key       the key of cached body
+     * @param bodyClass the expected class of body
+     * @param <T>       the type of {@link Body}
+     * @return cached body, or {@code null} if not cached
+     */
+    @Nullable
+    <T extends Body> T get(final String key, final Class<T> bodyClass) {
+        final var file = toFile(key);
+        if (!Files.isRegularFile(file)) {
+            log.debug("No cache entry found for key: {}", key);
+            return null;
+        }
+
+        try {
+            final Body body = BodyFactory.of(Files.readAllBytes(file));
+            if (bodyClass.isInstance(body)) {
+                log.debug("Cache entry found for key '{}': {}", key, body);
+                return bodyClass.cast(body);
+            }
+            log.warn("Cache entry for key '{}' is not an instance of '{}': {}", key, bodyClass.getSimpleName(), body);
+        } catch (final Exception ex) {
+            log.warn("Could not read cache entry for key: {}", key, ex);
+        }
+        // corrupt cache entry
+        remove(key);
+        return null;
+    }
+
+    /**
+     * Returns the current generation of cache entry for given {@code key}
+     *
+     * @param key the key of cache entry
+     * @return generation, incremented by every write and removal of the cache entry
+     */
+    synchronized long generation(final String key) {
+        return this.generations.getOrDefault(key, 0L);
+    }
+
+    /**
+     * Stores the {@code body} for given {@code key}. An existing cache entry will be replaced.
+     *
+     * @param key  the key of body to be cached
+     * @param body the body to be cached
+     */
+    synchronized void put(final String key, final Body body) {
+        this.generations.merge(key, 1L, Long::sum);
+        write(key, body);
+    }
+
+    /**
+     * Stores the {@code body} for given {@code key} only if the cache entry has not been
+     * written or removed since {@code generation} was obtained by {@link #generation(String)}.
+     *
+     * @param key        the key of body to be cached
+     * @param body       the body to be cached
+     * @param generation the expected generation of cache entry
+     * @return {@code true} if stored, otherwise {@code false}
+     */
+    synchronized boolean putIfUnchanged(final String key, final Body body, final long generation) {
+        if (generation(key) != generation) {
+            log.debug("Cache entry for key '{}' changed in the meantime, skip: {}", key, body);
+            return false;
+        }
+        put(key, body);
+        return true;
+    }
+
+    private void write(final String key, final Body body) {
+        final var file = toFile(key);
+        try {
+            Files.createDirectories(this.directory);
+            final var tempFile = Files.createTempFile(this.directory, key, ".tmp");
+            try {
+                Files.write(tempFile, body.toByteArray(true));
+                try {
+                    Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (final AtomicMoveNotSupportedException ex) {
+                    log.debug("Atomic move not supported for key '{}', replace non-atomically", key);
+                    Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+            log.debug("Cache entry stored for key '{}': {}", key, body);
+        } catch (final IOException ex) {
+            log.warn("Could not store cache entry for key: {}", key, ex);
+        }
+    }
+
+    /**
+     * Removes the cache entry for given {@code key}
+     *
+     * @param key the key of cache entry to be removed
+     */
+    synchronized void remove(final String key) {
+        this.generations.merge(key, 1L, Long::sum);
+        try {
+            if (Files.deleteIfExists(toFile(key))) {
+                log.debug("Cache entry removed for key: {}", key);
+            }
+        } catch (final IOException ex) {
+            log.warn("Could not remove cache entry for key: {}", key, ex);
+        }
+    }
+
+    private Path toFile(final String key) {
+        return this.directory.resolve(key + FILE_EXTENSION);
+    }
+
+    @Override
+    public String toString() {
+        return Strings.toStringHelper(this)
+                .add("directory", directory)
+                .toString();
+    }
+}
@@ -18,6 +18,7 @@
 package li.pitschmann.knx.core.communication;
 
 import li.pitschmann.knx.core.ChannelIdAware;
+import li.pitschmann.knx.core.annotations.Nullable;
 import li.pitschmann.knx.core.body.Body;
 import li.pitschmann.knx.core.body.ConnectRequestBody;
 import li.pitschmann.knx.core.body.ConnectResponseBody;
@@ -30,8 +31,12 @@ import li.pitschmann.knx.core.body.ResponseBody;
 import li.pitschmann.knx.core.body.SearchRequestBody;
 import li.pitschmann.knx.core.body.SearchResponseBody;
 import li.pitschmann.knx.core.body.Status;
+import li.pitschmann.knx.core.body.TunnelingAckBody;
+import li.pitschmann.knx.core.body.TunnelingRequestBody;
 import li.pitschmann.knx.core.communication.communicator.AbstractChannelCommunicator;
 import li.pitschmann.knx.core.communication.communicator.CommunicatorFactory;
+import li.pitschmann.knx.core.communication.communicator.ConnectionStateMonitor;
+import li.pitschmann.knx.core.communication.queue.KnxEventLoop;
 import li.pitschmann.knx.core.config.Config;
 import li.pitschmann.knx.core.config.ConfigValue;
 import li.pitschmann.knx.core.config.CoreConfigs;
@@ -41,9 +46,11 @@ import li.pitschmann.knx.core.exceptions.KnxChannelIdNotReceivedException;
 import li.pitschmann.knx.core.exceptions.KnxCommunicationException;
 import li.pitschmann.knx.core.exceptions.KnxDescriptionNotReceivedException;
 import li.pitschmann.knx.core.exceptions.KnxDiscoveryNotReceivedException;
+import li.pitschmann.knx.core.exceptions.KnxException;
 import li.pitschmann.knx.core.exceptions.KnxNoTunnelingException;
 import li.pitschmann.knx.core.exceptions.KnxWrongChannelIdException;
 import li.pitschmann.knx.core.net.HPAI;
+import li.pitschmann.knx.core.net.HostProtocol;
 import li.pitschmann.knx.core.net.tunnel.ConnectionRequestInfo;
 import li.pitschmann.knx.core.plugin.ObserverPlugin;
 import li.pitschmann.knx.core.plugin.PluginManager;
@@ -51,21 +58,26 @@ import li.pitschmann.knx.core.utils.Closeables;
 import li.pitschmann.knx.core.utils.Networker;
 import li.pitschmann.knx.core.utils.Preconditions;
 import li.pitschmann.knx.core.utils.Sleeper;
+import li.pitschmann.knx.core.utils.Stopwatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.InetSocketAddress;
+import java.util.ArrayDeque;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 /**
  * Abstract KNX Client class containing essential KNX communication ways to retrieve device information from
@@ -75,19 +87,35 @@ import java.util.concurrent.locks.ReentrantLock;
  */
 public final class InternalKnxClient implements AutoCloseable {
     private static final Logger log = LoggerFactory.getLogger(InternalKnxClient.class);
+    // revalidation of cache entries is blocking network I/O: use a dedicated daemon thread if no runtime
+    private static final Executor CACHE_REVALIDATION_EXECUTOR = task -> {
+        final var thread = new Thread(task, "knx-cache-revalidation");
+        thread.setDaemon(true);
+        thread.start();
+    };
     private final AtomicBoolean closed = new AtomicBoolean(true);
     private final Lock lock = new ReentrantLock();
     private final InternalKnxEventPool eventPool = new InternalKnxEventPool();
-    private final InternalKnxStatistic statistics = new InternalKnxStatistic();
-    private final InternalKnxStatusPool statusPool = new InternalKnxStatusPool();
+    private final InternalKnxStatistic statistics;
+    private final InternalKnxStatusPool statusPool;
     private final PluginManager pluginManager;
+    private final boolean pooled;
     private final Config config;
+    private final KnxRuntime runtime;
+    private final boolean reconnectEnabled;
+    private final InternalKnxCache cache;
+    private boolean cacheUsed;
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final Queue<DeferredRequest> deferredRequests = new ArrayDeque<>();
+    private boolean reconnecting;
+    private volatile int reconnectGeneration;
     private State state = State.NOT_STARTED;
     private List<AbstractChannelCommunicator> channelCommunicators = Collections.emptyList();
-    private ExecutorService channelExecutor;
+    private volatile ConnectionStateMonitor connectionStateMonitor;
+    private KnxEventLoop eventLoop;
     private HPAI controlHPAI;
     private HPAI dataHPAI;
-    private int channelId = -1;
+    private volatile int channelId = -1;
     private InetSocketAddress remoteEndpoint;
 
     /**
@@ -96,12 +124,73 @@ public final class InternalKnxClient implements AutoCloseable {
      * @param config an instance of {@link Config}
      */
     InternalKnxClient(final Config config) {
+        this(config, null);
+    }
+
+    /**
+     * KNX client constructor (package protected)
+     *
+     * @param config  an instance of {@link Config}
+     * @param runtime the shared runtime; if {@code null} the client has its own threads
+     */
+    InternalKnxClient(final Config config, final @Nullable KnxRuntime runtime) {
         log.trace("Internal KNX Client constructor");
         this.config = Objects.requireNonNull(config);
-        this.pluginManager = new PluginManager(config);
+        this.runtime = runtime;
+        this.statistics = new InternalKnxStatistic();
+        this.statusPool = new InternalKnxStatusPool();
+        this.pooled = false;
+        this.reconnectEnabled = isReconnectSupported(config) && config.getValue(CoreConfigs.Reconnect.ENABLED);
+        this.cache = !config.isRoutingEnabled() && config.getValue(CoreConfigs.Cache.ENABLED)
+                ? new InternalKnxCache(config.getValue(CoreConfigs.Cache.PATH))
+                : null;
+
+        if (runtime == null) {
+            this.pluginManager = new PluginManager(config, this.statistics);
+
+            // In case of forced shutdown (e.g. CTRL+C) we should try to close the client properly
+            Runtime.getRuntime().addShutdownHook(new Thread(this::close));
+        } else {
+            // plugin executor and shutdown hook are provided by the shared runtime
+            this.pluginManager = new PluginManager(config, runtime.getPluginExecutor(), this.statistics);
+            runtime.register(this);
+        }
+    }
 
-        // In case of forced shutdown (e.g. CTRL+C) we should try to close the client properly
-        Runtime.getRuntime().addShutdownHook(new Thread(this::close));
+    /**
+     * KNX client constructor for a tunneling connection of {@link PooledKnxClient} (package protected)
+     * <p>
+     * The statistic, status pool and plugin manager are shared with the other tunneling connections
+     * and owned by the pooled client. The plug-ins are notified about start and shutdown by the
+     * pooled client, not by this client.
+     *
+     * @param config        an instance of {@link Config}
+     * @param runtime       the shared runtime; if {@code null} the client has its own threads
+     * @param statistics    the shared statistic
+     * @param statusPool    the shared status pool
+     * @param pluginManager the shared plugin manager
+     */
+    InternalKnxClient(final Config config,
+                      final @Nullable KnxRuntime runtime,
+                      final InternalKnxStatistic statistics,
+                      final InternalKnxStatusPool statusPool,
+                      final PluginManager pluginManager) {
+        log.trace("Internal KNX Client constructor (pooled)");
+        this.config = Objects.requireNonNull(config);
+        this.runtime = runtime;
+        this.statistics = Objects.requireNonNull(statistics);
+        this.statusPool = Objects.requireNonNull(statusPool);
+        this.pluginManager = Objects.requireNonNull(pluginManager);
+        this.pooled = true;
+        this.reconnectEnabled = isReconnectSupported(config) && config.getValue(CoreConfigs.Reconnect.ENABLED);
+        this.cache = !config.isRoutingEnabled() && config.getValue(CoreConfigs.Cache.ENABLED)
+                ? new InternalKnxCache(config.getValue(CoreConfigs.Cache.PATH))
+                : null;
+
+        // shutdown hook is registered by the pooled client
+        if (runtime != null) {
+            runtime.register(this);
+        }
     }
 
     /**
@@ -115,6 +204,14 @@ public final class InternalKnxClient implements AutoCloseable {
 
             this.state = State.START_REQUEST;
 
+            // event loop transport mode: all channels of this client are served by a single selector thread
+            // with shared runtime the event loop is always used and shared with other clients
+            if (this.runtime != null) {
+                this.eventLoop = this.runtime.nextEventLoop();
+            } else if (getConfig(CoreConfigs.Communication.EVENT_LOOP_ENABLED)) {
+                this.eventLoop = new KnxEventLoop();
+            }
+
             // if remote control address is multicast address, then we know that we want to use the routing feature
             if (config.isRoutingEnabled()) {
                 startRouting();
@@ -124,12 +221,11 @@ public final class InternalKnxClient implements AutoCloseable {
                 startTunneling();
             }
 
+            // client is ready as soon the channels are open and the connection is established
             this.state = State.STARTED;
-
-            // inform plugins about client start with small delay to
-            // allow some breathe between initialization and start
-            Sleeper.milliseconds(100);
-            pluginManager.notifyClientStart();
+            if (!this.pooled) {
+                pluginManager.notifyClientStart();
+            }
         } catch (final Exception ex) {
             log.error("Exception caught on 'start()' method.", ex);
             this.notifyError(ex);
@@ -155,13 +251,46 @@ public final class InternalKnxClient implements AutoCloseable {
 
     /**
      * Starts KNX communication via Tunneling
+     * <p>
+     * If cache is enabled, the communication is started with cached search and description
+     * responses. If it fails, the cache entries are removed and the communication is started
+     * again with live search and description.
      */
     private void startTunneling() {
         log.trace("Method 'startTunneling()' called");
 
+        if (this.cache != null) {
+            this.cacheUsed = false;
+            try {
+                this.startTunneling(true);
+                return;
+            } catch (final KnxException ex) {
+                if (!this.cacheUsed) {
+                    throw ex;
+                }
+                log.warn("Could not start with cached responses. Fall back to live discovery and description.", ex);
+                if (config.getRemoteControlAddress().isAnyLocalAddress()) {
+                    this.cache.remove(InternalKnxCache.searchKey(this.getMulticastEndpoint()));
+                }
+                this.cache.remove(InternalKnxCache.descriptionKey(this.remoteEndpoint));
+                this.stopServices();
+            }
+        }
+        this.startTunneling(false);
+    }
+
+    /**
+     * Starts KNX communication via Tunneling
+     *
+     * @param useCache {@code true} if cached responses should be used (if available)
+     */
+    private void startTunneling(final boolean useCache) {
         // check if endpoint is defined - if not, look up for an available KNX Net/IP device
         if (config.getRemoteControlAddress().isAnyLocalAddress()) {
-            final var discoveryResponse = this.fetchDiscoveryFromKNX();
+            final var discoveryResponse = this.cache == null
+                    ? this.fetchDiscoveryFromKNX()
+                    : this.fetchCached(InternalKnxCache.searchKey(this.getMulticastEndpoint()), SearchResponseBody.class,
+                    useCache, this::fetchDiscoveryFromKNX);
             this.remoteEndpoint = Networker.toInetSocketAddress(discoveryResponse.getControlEndpoint());
             log.debug("Endpoint from discovery is taken: {} ({})", this.remoteEndpoint, discoveryResponse.getDeviceInformation().getDeviceFriendlyName());
         } else {
@@ -169,7 +298,7 @@ public final class InternalKnxClient implements AutoCloseable {
             log.debug("Endpoint from configuration is taken: {}", this.remoteEndpoint);
         }
 
-        if (this.verifyTunnelingSupport()) {
+        if (this.verifyTunnelingSupport(useCache)) {
             log.debug("Tunneling is used. Verification passed. Starting KNX services.");
             this.startServices();
         } else {
@@ -184,11 +313,15 @@ public final class InternalKnxClient implements AutoCloseable {
      * <p>
      * It will just check if the KNX Net/IP device supports tunneling.
      *
+     * @param useCache {@code true} if cached description response should be used (if available)
      * @return {@code true} if tunneling is supported by KNX Net/IP device and we can proceed with connect, otherwise {@code false}.
      */
-    private boolean verifyTunnelingSupport() {
-        log.trace("Call 'verifyTunnelingSupport()' method.");
-        final var descriptionResponseBody = this.fetchDescriptionFromKNX();
+    private boolean verifyTunnelingSupport(final boolean useCache) {
+        log.trace("Call 'verifyTunnelingSupport(boolean)' method.");
+        final var descriptionResponseBody = this.cache == null
+                ? this.fetchDescriptionFromKNX()
+                : this.fetchCached(InternalKnxCache.descriptionKey(this.remoteEndpoint), DescriptionResponseBody.class,
+                useCache, this::fetchDescriptionFromKNX);
 
         // get supported service families
         final var serviceFamilies = descriptionResponseBody.getSupportedDeviceFamilies().getServiceFamilies();
@@ -214,6 +347,13 @@ public final class InternalKnxClient implements AutoCloseable {
 
             this.controlHPAI = HPAI.useDefault();
             this.dataHPAI = HPAI.useDefault();
+        } else if (this.config.isTcpEnabled()) {
+            // TCP is enabled -> only one communicator (TCP connection) for control and data related packets
+            this.channelCommunicators = List.of(CommunicatorFactory.newTcpChannelCommunicator(this));
+
+            // over TCP the KNX Net/IP device routes back over the same connection
+            this.controlHPAI = HPAI.of(HostProtocol.IPV4_TCP, Networker.getAddressUnbound(), 0);
+            this.dataHPAI = this.controlHPAI;
         } else if (this.config.isNatEnabled()) {
             // NAT is enabled -> only one communicator for control and data related packets
             this.channelCommunicators = List.of(CommunicatorFactory.newControlAndDataChannelCommunicator(this));
@@ -236,10 +376,7 @@ public final class InternalKnxClient implements AutoCloseable {
         log.info("Local Endpoint  (Data Channel)   : {}:{}", this.dataHPAI.getAddress().getHostAddress(), this.dataHPAI.getPort());
         log.info("Routing Enabled                  : {}", this.config.isRoutingEnabled());
         log.info("NAT Enabled                      : {}", this.config.isNatEnabled());
-
-        // channel executors
-        this.channelExecutor = Executors.newFixedThreadPool(3);
-        this.channelCommunicators.forEach(channelExecutor::execute);
+        log.info("TCP Enabled                      : {}", this.config.isTcpEnabled());
 
         // get channel for further communications
         if (this.config.isRoutingEnabled()) {
@@ -249,12 +386,9 @@ public final class InternalKnxClient implements AutoCloseable {
             log.info("Channel ID (Tunneling)           : {}", this.channelId);
 
             // after obtaining channel id - start monitor as well
-            this.channelExecutor.submit(CommunicatorFactory.newConnectionStateCommunicator(this));
+            this.connectionStateMonitor = CommunicatorFactory.newConnectionStateMonitor(this);
+            this.connectionStateMonitor.start();
         }
-
-        // do not accept more services anymore!
-        this.channelExecutor.shutdown();
-        log.debug("Channel Executor created: {}", this.channelExecutor);
     }
 
     @Override
@@ -274,10 +408,20 @@ public final class InternalKnxClient implements AutoCloseable {
 
             this.stopServices();
         } finally {
-            // notifies the extension plug-ins about shutdown
-            pluginManager.notifyClientShutdown();
-            pluginManager.close();
-            log.info("Plugin Manager closed.");
+            // notifies the extension plug-ins about shutdown (unless it is owned by the pooled client)
+            if (!this.pooled) {
+                pluginManager.notifyClientShutdown();
+                pluginManager.close();
+                log.info("Plugin Manager closed.");
+            }
+
+            // close the event loop after all channels have been closed (unless it is owned by the shared runtime)
+            if (this.runtime == null) {
+                Closeables.closeQuietly(this.eventLoop);
+            } else {
+                this.runtime.unregister(this);
+            }
+            this.eventLoop = null;
 
             this.state = State.NOT_STARTED;
             this.lock.unlock();
@@ -314,6 +458,12 @@ public final class InternalKnxClient implements AutoCloseable {
                 }
             }
         } finally {
+            // stop the connection state monitor
+            if (this.connectionStateMonitor != null) {
+                this.connectionStateMonitor.stop();
+                this.connectionStateMonitor = null;
+            }
+
             // resets the communication information
             this.channelId = -1;
             this.controlHPAI = null;
@@ -324,14 +474,7 @@ public final class InternalKnxClient implements AutoCloseable {
                 isOk &= Closeables.closeQuietly(channelCommunicator);
             }
             log.debug("Channel Communicator stopped gracefully?: {}", isOk);
-
-            // shutdown executor now
-            isOk &= Closeables.shutdownQuietly(this.channelExecutor, 0, TimeUnit.SECONDS);
             log.debug("KNX Services stopped gracefully?: {}", isOk);
-
-            // some time buffer for OS to close the underlying network bindings to avoid
-            // "Address already in use" when restarting the client immediately.
-            Sleeper.milliseconds(100);
         }
     }
 
@@ -352,6 +495,26 @@ public final class InternalKnxClient implements AutoCloseable {
         return getConfig().getValue(configValue);
     }
 
+    /**
+     * Returns the shared runtime this client has been created against
+     *
+     * @return the shared runtime, or {@code null} if the client has its own threads
+     */
+    @Nullable
+    public KnxRuntime getRuntime() {
+        return this.runtime;
+    }
+
+    /**
+     * Returns the event loop that serves all channels of this client
+     *
+     * @return the event loop, or {@code null} if the event loop transport mode is not enabled
+     */
+    @Nullable
+    public KnxEventLoop getEventLoop() {
+        return this.eventLoop;
+    }
+
     public InternalKnxStatistic getStatistic() {
         return this.statistics;
     }
@@ -386,18 +549,265 @@ public final class InternalKnxClient implements AutoCloseable {
         return this.pluginManager;
     }
 
+    /**
+     * Returns the connection state monitor
+     *
+     * @return the connection state monitor, or {@code null} if not started (or in Routing mode)
+     */
+    @Nullable
+    public ConnectionStateMonitor getConnectionStateMonitor() {
+        return this.connectionStateMonitor;
+    }
+
     public int getChannelId() {
         return this.channelId;
     }
 
+    /**
+     * Returns the next sequence (1-octet) between 0x00 and 0xFF for tunneling requests.
+     * After 0xFF it should start with 0x00. The sequence is reset on reconnect.
+     *
+     * @return next sequence number
+     */
+    public int nextSequence() {
+        return this.sequence.getAndUpdate(v -> (v + 1) % 256);
+    }
+
+    /**
+     * Returns if reconnect is supported by the communication mode. Reconnect performs the CONNECT
+     * handshake on the existing channels again, therefore it is supported for tunneling over UDP
+     * only: routing has no connection, and the TCP connection is closed when the connection is lost.
+     *
+     * @param config the configuration
+     * @return {@code true} if reconnect is supported, otherwise {@code false}
+     */
+    private static boolean isReconnectSupported(final Config config) {
+        return !config.isRoutingEnabled() && !config.isTcpEnabled();
+    }
+
+    /**
+     * Returns if the KNX client is reconnecting to the KNX Net/IP device. Tunneling
+     * requests are deferred during reconnect and sent after the new channel id arrived.
+     *
+     * @return {@code true} if reconnecting, otherwise {@code false}
+     */
+    public boolean isReconnecting() {
+        synchronized (this.deferredRequests) {
+            return this.reconnecting;
+        }
+    }
+
     public void send(final Body body) {
+        // tunneling requests are deferred during reconnect
+        if (this.reconnectEnabled && body instanceof TunnelingRequestBody
+                && this.defer(new DeferredRequest((TunnelingRequestBody) body, 0, null))) {
+            return;
+        }
         this.getChannelCommunicator(body).send(body);
     }
 
     public <U extends ResponseBody> CompletableFuture<U> send(final RequestBody requestBody, final long msTimeout) {
+        if (requestBody instanceof TunnelingRequestBody && this.config.isTcpEnabled()) {
+            return this.sendTunnelingOverTcp((TunnelingRequestBody) requestBody);
+        }
+        if (this.reconnectEnabled && requestBody instanceof TunnelingRequestBody) {
+            return this.sendTunneling((TunnelingRequestBody) requestBody, msTimeout);
+        }
         return this.getChannelCommunicator(requestBody).send(requestBody, msTimeout);
     }
 
+    /**
+     * Sends the {@link TunnelingRequestBody} over TCP. The transport is reliable and the KNX Net/IP
+     * device doesn't acknowledge tunneling requests over TCP; therefore no acknowledge is waited
+     * for and the future is completed immediately with a {@link TunnelingAckBody} on behalf of the
+     * transport. If the TCP connection is closed already, the future is completed exceptionally.
+     *
+     * @param requestBody the tunneling request body
+     * @param <U>         an instance of {@link ResponseBody}
+     * @return a completed {@link CompletableFuture}
+     */
+    @SuppressWarnings("unchecked")
+    private <U extends ResponseBody> CompletableFuture<U> sendTunnelingOverTcp(final TunnelingRequestBody requestBody) {
+        final var communicator = this.getChannelCommunicator(requestBody);
+        if (!communicator.getChannel().isOpen()) {
+            return CompletableFuture.failedFuture(
+                    new KnxCommunicationException("TCP connection is closed. Could not send request: {}", requestBody));
+        }
+        this.statusPool.setDirty(requestBody);
+        communicator.send(requestBody);
+        return CompletableFuture.completedFuture(
+                (U) TunnelingAckBody.of(requestBody.getChannelId(), requestBody.getSequence(), Status.NO_ERROR));
+    }
+
+    /**
+     * Sends the {@link TunnelingRequestBody} when reconnect is enabled. The request is
+     * deferred when reconnect is in progress, and replayed (once) after reconnect when
+     * the connection has been lost while waiting for the acknowledge.
+     *
+     * @param requestBody the tunneling request body
+     * @param msTimeout   timeout in milliseconds waiting for acknowledge
+     * @param <U>         an instance of {@link ResponseBody}
+     * @return a {@link CompletableFuture} representing pending completion of the request
+     */
+    private <U extends ResponseBody> CompletableFuture<U> sendTunneling(final TunnelingRequestBody requestBody, final long msTimeout) {
+        final var future = new CompletableFuture<U>();
+        final var request = new DeferredRequest(requestBody, msTimeout, future);
+        if (!this.defer(request)) {
+            final var generation = this.reconnectGeneration;
+            this.getChannelCommunicator(requestBody).<U>send(requestBody, msTimeout).whenComplete((response, throwable) -> {
+                // connection has been lost while waiting for acknowledge -> replay after reconnect
+                if (response == null && throwable == null && generation != this.reconnectGeneration) {
+                    log.debug("Connection lost while waiting for acknowledge. Replay request after reconnect: {}", requestBody);
+                    if (!this.defer(request)) {
+                        this.replay(request);
+                    }
+                } else {
+                    complete(future, response, throwable);
+                }
+            });
+        }
+        return future;
+    }
+
+    /**
+     * Defers the request if reconnect is in progress
+     *
+     * @param request the request to be deferred
+     * @return {@code true} if deferred, {@code false} if no reconnect is in progress
+     */
+    private boolean defer(final DeferredRequest request) {
+        synchronized (this.deferredRequests) {
+            if (this.reconnecting) {
+                this.deferredRequests.add(request);
+                log.debug("Request deferred until reconnect is completed: {}", request.body);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Replays the deferred request with the current channel id and a new sequence
+     *
+     * @param request the request to be replayed
+     */
+    @SuppressWarnings("unchecked")
+    private void replay(final DeferredRequest request) {
+        final var body = TunnelingRequestBody.of(this.channelId, this.nextSequence(), request.body.getCEMI());
+        log.debug("Replay request: {}", body);
+        if (request.future == null) {
+            this.getChannelCommunicator(body).send(body);
+        } else {
+            this.getChannelCommunicator(body).<ResponseBody>send(body, request.timeout)
+                    .whenComplete((response, throwable) -> complete((CompletableFuture<ResponseBody>) request.future, response, throwable));
+        }
+    }
+
+    private static <U> void complete(final CompletableFuture<U> future, final @Nullable U response, final @Nullable Throwable throwable) {
+        if (throwable == null) {
+            future.complete(response);
+        } else {
+            future.completeExceptionally(throwable);
+        }
+    }
+
+    /**
+     * Called when the connection to the KNX Net/IP device is lost (e.g. no heartbeat). If
+     * reconnect is enabled only the CONNECT handshake is performed again, otherwise (or if
+     * reconnect fails) the client will be closed.
+     */
+    public void onConnectionLost() {
+        if (!this.reconnectEnabled) {
+            this.close();
+            return;
+        }
+
+        var reconnected = false;
+        this.lock.lock();
+        try {
+            if (this.closed.get() || this.state != State.STARTED) {
+                log.debug("Client is not running anymore. No reconnect.");
+                return;
+            }
+            reconnected = this.reconnect();
+        } finally {
+            this.lock.unlock();
+        }
+
+        if (!reconnected) {
+            this.close();
+        }
+    }
+
+    /**
+     * Reconnects to the KNX Net/IP device by re-running the CONNECT handshake with jittered
+     * exponential backoff. The channels, status pool and pending tunneling requests are kept.
+     *
+     * @return {@code true} if reconnected successfully, otherwise {@code false}
+     */
+    private boolean reconnect() {
+        final var sw = Stopwatch.createStarted();
+        synchronized (this.deferredRequests) {
+            this.reconnecting = true;
+            this.reconnectGeneration++;
+        }
+        if (this.connectionStateMonitor != null) {
+            this.connectionStateMonitor.stop();
+            this.connectionStateMonitor = null;
+        }
+
+        final var maxAttempts = getConfig(CoreConfigs.Reconnect.MAX_ATTEMPTS);
+        final var maxBackoff = getConfig(CoreConfigs.Reconnect.MAX_BACKOFF);
+        var backoff = getConfig(CoreConfigs.Reconnect.INITIAL_BACKOFF);
+        var reconnected = false;
+        log.warn("Connection to KNX Net/IP device lost. Reconnect (max attempts: {}).", maxAttempts);
+        for (var attempt = 1; attempt <= maxAttempts && !this.closed.get(); attempt++) {
+            try {
+                this.channelId = this.fetchChannelIdFromKNX();
+                reconnected = true;
+                break;
+            } catch (final KnxChannelIdNotReceivedException ex) {
+                // equal jitter: half of backoff is fixed, other half is random
+                final var delay = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+                log.warn("Reconnect attempt {}/{} failed. Next attempt in {} ms.", attempt, maxAttempts, delay);
+                if (attempt < maxAttempts && !Sleeper.milliseconds(delay)) {
+                    break;
+                }
+                backoff = Math.min(backoff * 2, maxBackoff);
+            }
+        }
+
+        if (reconnected) {
+            this.sequence.set(0);
+            this.statistics.onReconnect(sw.elapsed(TimeUnit.MILLISECONDS));
+            log.info("Reconnected in {} ms. Channel ID (Tunneling): {}", sw.elapsed(TimeUnit.MILLISECONDS), this.channelId);
+
+            this.connectionStateMonitor = CommunicatorFactory.newConnectionStateMonitor(this);
+            this.connectionStateMonitor.start();
+        } else {
+            log.error("Could not reconnect to KNX Net/IP device.");
+        }
+
+        // replay (or fail) the deferred requests in order
+        while (true) {
+            final DeferredRequest request;
+            synchronized (this.deferredRequests) {
+                request = this.deferredRequests.poll();
+                if (request == null) {
+                    this.reconnecting = false;
+                    break;
+                }
+            }
+            if (reconnected) {
+                this.replay(request);
+            } else if (request.future != null) {
+                request.future.completeExceptionally(
+                        new KnxCommunicationException("Could not reconnect to KNX Net/IP device for request: {}", request.body));
+            }
+        }
+        return reconnected;
+    }
+
     /**
      * Finds the responsible channel communicator for the given {@code body}
      *
@@ -416,20 +826,22 @@ public final class InternalKnxClient implements AutoCloseable {
     /**
      * Notifies all listeners{@link ObserverPlugin} about incoming {@link Body}
      *
-     * @param body any KNX body
+     * @param body        any KNX body
+     * @param frameLength the length of received frame (header and body) in bytes
      */
-    public void notifyIncomingBody(final Body body) {
-        statistics.onIncomingBody(body);
+    public void notifyIncomingBody(final Body body, final int frameLength) {
+        statistics.onIncomingBody(body, frameLength);
         pluginManager.notifyIncomingBody(body);
     }
 
     /**
      * Notifies all listeners about outgoing {@link Body}
      *
-     * @param body any KNX body
+     * @param body        any KNX body
+     * @param frameLength the length of sent frame (header and body) in bytes
      */
-    public void notifyOutgoingBody(final Body body) {
-        statistics.onOutgoingBody(body);
+    public void notifyOutgoingBody(final Body body, final int frameLength) {
+        statistics.onOutgoingBody(body, frameLength);
         pluginManager.notifyOutgoingBody(body);
     }
 
@@ -443,6 +855,44 @@ public final class InternalKnxClient implements AutoCloseable {
         pluginManager.notifyError(throwable);
     }
 
+    /**
+     * Notifies the statistic about a request {@link Body} that is sent again,
+     * because no response has been received within timeout
+     *
+     * @param body the request body that is sent again
+     */
+    public void notifyRetransmit(final Body body) {
+        statistics.onRetransmit(body);
+    }
+
+    /**
+     * Notifies the statistic about an element that is offered to the queue
+     *
+     * @param queueType the type of queue
+     */
+    public void notifyEnqueue(final KnxQueueType queueType) {
+        statistics.onEnqueue(queueType);
+    }
+
+    /**
+     * Notifies the statistic about an element that is taken from the queue for processing
+     *
+     * @param queueType the type of queue
+     * @param queueWait time in nanoseconds the element has been waiting in the queue
+     */
+    public void notifyDequeue(final KnxQueueType queueType, final long queueWait) {
+        statistics.onDequeue(queueType, queueWait);
+    }
+
+    /**
+     * Notifies the statistic about an element that is rejected or dropped instead of processed
+     *
+     * @param queueType the type of queue
+     */
+    public void notifyReject(final KnxQueueType queueType) {
+        statistics.onReject(queueType);
+    }
+
     /**
      * Verifies if the {@link Body} response if it meets the {@link #channelId}. The channel id check is skipped when
      * given {@link Body} doesn't implement the {@link ChannelIdAware} interface.
@@ -483,11 +933,6 @@ public final class InternalKnxClient implements AutoCloseable {
         // Description request / response is one-time task before establishing communication to KNX Net/IP device
         final var communicator = CommunicatorFactory.newDescriptionChannelCommunicator(this);
 
-        // Create executor service for description communication
-        final var es = Executors.newSingleThreadExecutor();
-        es.execute(communicator);
-        es.shutdown();
-
         // send description request
         final var requestBody = DescriptionRequestBody.useDefault();
         log.debug("Request for description: {}", requestBody);
@@ -500,8 +945,6 @@ public final class InternalKnxClient implements AutoCloseable {
         } catch (final Exception ex) {
             log.error("Exception during fetch description from KNX Net/IP device", ex);
             throw new KnxDescriptionNotReceivedException(requestBody);
-        } finally {
-            Closeables.shutdownQuietly(es);
         }
     }
 
@@ -518,11 +961,6 @@ public final class InternalKnxClient implements AutoCloseable {
         // Search request / response is one-time task to auto-find all available KNX Net/IP device
         final var communicator = CommunicatorFactory.newDiscoveryChannelCommunicator(this);
 
-        // Create executor service for discovery communication
-        final var es = Executors.newSingleThreadExecutor();
-        es.execute(communicator);
-        es.shutdown();
-
         // send search request
         final var requestBody = SearchRequestBody.of(HPAI.of(communicator.getChannel()));
         log.debug("Request for search: {}", requestBody);
@@ -535,11 +973,58 @@ public final class InternalKnxClient implements AutoCloseable {
             return responseBody;
         } catch (final Exception ex) {
             throw new KnxDiscoveryNotReceivedException(requestBody, responseBody, ex);
-        } finally {
-            Closeables.shutdownQuietly(es);
         }
     }
 
+    /**
+     * Returns the body from cache, or from the {@code fetcher} if not cached. A body
+     * fetched by {@code fetcher} will be cached. A body taken from cache will be
+     * revalidated in the background for the next start.
+     *
+     * @param key       the key of cache entry
+     * @param bodyClass the class of body
+     * @param useCache  {@code true} if cached body should be used (if available)
+     * @param fetcher   fetches the body from KNX Net/IP device
+     * @param <T>       the type of {@link Body}
+     * @return body
+     */
+    private <T extends Body> T fetchCached(final String key,
+                                           final Class<T> bodyClass,
+                                           final boolean useCache,
+                                           final Supplier<T> fetcher) {
+        if (useCache) {
+            final var cachedBody = this.cache.get(key, bodyClass);
+            if (cachedBody != null) {
+                this.cacheUsed = true;
+                final var executor = this.runtime == null ? CACHE_REVALIDATION_EXECUTOR : this.runtime.getTaskExecutor();
+                // skip the write if the entry has been removed (e.g. by fall back) or replaced in the meantime
+                final var generation = this.cache.generation(key);
+                CompletableFuture.runAsync(() -> {
+                    if (!this.closed.get() && this.cache.putIfUnchanged(key, fetcher.get(), generation)) {
+                        log.debug("Cache entry revalidated for key: {}", key);
+                    }
+                }, executor).whenComplete((v, throwable) -> {
+                    if (throwable != null) {
+                        log.warn("Could not revalidate cache entry for key: {}", key, throwable);
+                    }
+                });
+                return cachedBody;
+            }
+        }
+        final var body = fetcher.get();
+        this.cache.put(key, body);
+        return body;
+    }
+
+    /**
+     * Returns the multicast endpoint where the search requests are sent to
+     *
+     * @return multicast endpoint
+     */
+    private InetSocketAddress getMulticastEndpoint() {
+        return new InetSocketAddress(config.getValue(CoreConfigs.Multicast.ADDRESS), config.getRemoteControlPort());
+    }
+
     /**
      * Fetches the channel id from KNX Net/IP device.
      *
@@ -567,6 +1052,21 @@ public final class InternalKnxClient implements AutoCloseable {
         }
     }
 
+    /**
+     * Tunneling request that is deferred during reconnect
+     */
+    private static final class DeferredRequest {
+        private final TunnelingRequestBody body;
+        private final long timeout;
+        private final CompletableFuture<?> future;
+
+        private DeferredRequest(final TunnelingRequestBody body, final long timeout, final @Nullable CompletableFuture<?> future) {
+            this.body = body;
+            this.timeout = timeout;
+            this.future = future;
+        }
+    }
+
     /**
      * States of Internal KNX Client
      */
@@ -17,18 +17,74 @@
 
 package li.pitschmann.knx.core.communication;
 
+import li.pitschmann.knx.core.CEMIAware;
+import li.pitschmann.knx.core.address.GroupAddress;
+import li.pitschmann.knx.core.address.IndividualAddress;
+import li.pitschmann.knx.core.address.KnxAddress;
 import li.pitschmann.knx.core.body.Body;
-import li.pitschmann.knx.core.utils.Maps;
+import li.pitschmann.knx.core.body.ConnectRequestBody;
+import li.pitschmann.knx.core.body.ConnectResponseBody;
+import li.pitschmann.knx.core.body.ConnectionStateRequestBody;
+import li.pitschmann.knx.core.body.ConnectionStateResponseBody;
+import li.pitschmann.knx.core.body.DescriptionRequestBody;
+import li.pitschmann.knx.core.body.DescriptionResponseBody;
+import li.pitschmann.knx.core.body.DisconnectRequestBody;
+import li.pitschmann.knx.core.body.DisconnectResponseBody;
+import li.pitschmann.knx.core.body.RoutingIndicationBody;
+import li.pitschmann.knx.core.body.SearchRequestBody;
+import li.pitschmann.knx.core.body.SearchResponseBody;
+import li.pitschmann.knx.core.body.TunnelingAckBody;
+import li.pitschmann.knx.core.body.TunnelingRequestBody;
+import li.pitschmann.knx.core.cemi.APCI;
+import li.pitschmann.knx.core.cemi.CEMI;
+import li.pitschmann.knx.core.cemi.MessageCode;
+import li.pitschmann.knx.core.header.ServiceType;
+import li.pitschmann.knx.core.plugin.Plugin;
+import li.pitschmann.knx.core.utils.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 /**
  * Statistic about KNX/IP communications between client and the KNX Net/IP device
+ * <p>
+ * Latencies are measured between the time when a request has been sent and the time
+ * when the response has been received:
+ * <ul>
+ * <li>per request {@link ServiceType} until the response service type has been received;
+ * tunneling requests are matched with their acknowledge by channel id and sequence</li>
+ * <li>per write request ({@link APCI#GROUP_VALUE_WRITE}) until the acknowledge has been received</li>
+ * <li>per read request ({@link APCI#GROUP_VALUE_READ}) until the {@link APCI#GROUP_VALUE_RESPONSE}
+ * for same group address has been received</li>
+ * </ul>
+ * A request that is sent again (e.g. no response within timeout) is measured from its last send.
+ * <p>
+ * The statistic is updated by the inbox and outbox queues for every frame, therefore the hot path
+ * doesn't allocate: the counters are {@link LongAdder}s per {@link ServiceType} that are created once,
+ * and the number of bytes is taken from the raw frame length as received from / written to the channel.
+ * <p>
+ * Moving average rates (1 second, 1 minute and 5 minutes) are provided for bodies, bytes, errors and
+ * retransmits. The bus load of KNX TP1 line is estimated from the length of telegrams (cEMI) that have
+ * been transmitted on the bus: telegrams indicated and confirmed by the KNX Net/IP device, and telegrams
+ * routed by the client. Each telegram occupies the bus for {@code 50} bit times of line idle, {@code 13}
+ * bit times per character (start, 8 data, parity, stop and 2 bits pause), {@code 15} bit times until
+ * acknowledge and {@code 13} bit times for the acknowledge character, at {@code 9600} bit/s.
+ * <p>
+ * The same telegrams are counted per group address (destination) and per device (source address)
+ * exactly in arrays indexed by the 16-bit address. The pairs of source and destination are counted
+ * in a count-min sketch with a small table of heavy hitters (see {@link #topTalkers(int)}).
  *
  * @author PITSCHR
  */
@@ -38,84 +94,464 @@ public final class InternalKnxStatistic implements KnxStatistic {
      * 14 bytes for Ethernet packet<br>
      * 20 bytes for IPV4<br>
      * 8 bytes for UDP header<br>
-     * 6 bytes for KNX header<br>
-     * = 48 bytes
+     * = 42 bytes (the KNX header is part of frame length)
      */
-    private static final long KNX_PACKET_SIZE = 48L;
+    private static final long PROTOCOL_OVERHEAD_SIZE = 42L;
+    /**
+     * Service type by class of {@link Body}
+     */
+    private static final Map<Class<? extends Body>, ServiceType> SERVICE_TYPE_BY_BODY_CLASS = Map.ofEntries(
+            Map.entry(SearchRequestBody.class, ServiceType.SEARCH_REQUEST),
+            Map.entry(SearchResponseBody.class, ServiceType.SEARCH_RESPONSE),
+            Map.entry(DescriptionRequestBody.class, ServiceType.DESCRIPTION_REQUEST),
+            Map.entry(DescriptionResponseBody.class, ServiceType.DESCRIPTION_RESPONSE),
+            Map.entry(ConnectRequestBody.class, ServiceType.CONNECT_REQUEST),
+            Map.entry(ConnectResponseBody.class, ServiceType.CONNECT_RESPONSE),
+            Map.entry(ConnectionStateRequestBody.class, ServiceType.CONNECTION_STATE_REQUEST),
+            Map.entry(ConnectionStateResponseBody.class, ServiceType.CONNECTION_STATE_RESPONSE),
+            Map.entry(DisconnectRequestBody.class, ServiceType.DISCONNECT_REQUEST),
+            Map.entry(DisconnectResponseBody.class, ServiceType.DISCONNECT_RESPONSE),
+            Map.entry(TunnelingRequestBody.class, ServiceType.TUNNELING_REQUEST),
+            Map.entry(TunnelingAckBody.class, ServiceType.TUNNELING_ACK),
+            Map.entry(RoutingIndicationBody.class, ServiceType.ROUTING_INDICATION)
+    );
+    /**
+     * Number of slots for pending tunneling requests (power of two), indexed by channel id and sequence
+     */
+    private static final int TUNNELING_SLOTS = 1024;
+    /**
+     * Request service type by its response service type (e.g. CONNECT_RESPONSE -> CONNECT_REQUEST)
+     */
+    private static final Map<ServiceType, ServiceType> REQUEST_BY_RESPONSE = requestByResponse();
+    /**
+     * Transmission speed of KNX TP1 line in bit/s
+     */
+    private static final int TP1_BITS_PER_SECOND = 9600;
+    /**
+     * Bit times per character on TP1 line (start, 8 data, parity, stop and 2 bits pause)
+     */
+    private static final int TP1_BITS_PER_CHARACTER = 13;
+    /**
+     * Bit times per telegram on TP1 line that are independent of telegram length:
+     * 50 bit times line idle, 15 bit times until acknowledge, 13 bit times for acknowledge character
+     */
+    private static final int TP1_BITS_PER_TELEGRAM = 50 + 15 + TP1_BITS_PER_CHARACTER;
+    /**
+     * Number of TP1 characters that are not part of NPDU length: control field, source address (2),
+     * destination address (2), address type/routing/length, TPCI and checksum
+     */
+    private static final int TP1_FRAME_OVERHEAD = 8;
+    /**
+     * Number of 16-bit addresses
+     */
+    private static final int NUMBER_OF_ADDRESSES = 1 << 16;
+    /**
+     * Maximum number of top talkers
+     */
+    private static final int TOP_TALKERS_CAPACITY = 32;
 
     // General statistics
-    private final Map<Class<? extends Body>, AtomicLong> numberOfBodyReceivedMap = Maps.newHashMap(10);
-    private final Map<Class<? extends Body>, AtomicLong> numberOfBodySentMap = Maps.newHashMap(10);
-    private final AtomicLong numberOfBytesReceived = new AtomicLong();
-    private final AtomicLong numberOfBytesSent = new AtomicLong();
-    private final AtomicLong numberOfBodyReceived = new AtomicLong();
-    private final AtomicLong numberOfBodySent = new AtomicLong();
-    private final AtomicLong numberOfErrors = new AtomicLong();
+    private final Map<ServiceType, LongAdder> numberOfBodyReceivedMap = new EnumMap<>(ServiceType.class);
+    private final Map<ServiceType, LongAdder> numberOfBodySentMap = new EnumMap<>(ServiceType.class);
+    private final LongAdder numberOfBytesReceived = new LongAdder();
+    private final LongAdder numberOfBytesSent = new LongAdder();
+    private final LongAdder numberOfErrors = new LongAdder();
+    private final LongAdder numberOfRetransmits = new LongAdder();
+    private final AtomicLong numberOfReconnects = new AtomicLong();
+    private final AtomicLong lastReconnectLatency = new AtomicLong();
+    private final AtomicLong maxReconnectLatency = new AtomicLong();
+
+    // Rate statistics
+    private final RateMeter bodyReceivedRate;
+    private final RateMeter bodySentRate;
+    private final RateMeter bytesReceivedRate;
+    private final RateMeter bytesSentRate;
+    private final RateMeter errorsRate;
+    private final RateMeter retransmitsRate;
+    private final RateMeter busBitsRate;
+
+    // Address statistics
+    private final AtomicLongArray groupAddressTelegrams = new AtomicLongArray(NUMBER_OF_ADDRESSES);
+    private final AtomicLongArray sourceAddressTelegrams = new AtomicLongArray(NUMBER_OF_ADDRESSES);
+    private final HeavyHitters talkers = new HeavyHitters(1024, TOP_TALKERS_CAPACITY);
+
+    // Latency statistics
+    private final Map<ServiceType, LatencyHistogram> latencies = new EnumMap<>(ServiceType.class);
+    private final Map<ServiceType, AtomicLong> requestTimes = new EnumMap<>(ServiceType.class);
+    private final AtomicIntegerArray tunnelingRequestKeys = new AtomicIntegerArray(TUNNELING_SLOTS);
+    private final AtomicLongArray tunnelingRequestTimes = new AtomicLongArray(TUNNELING_SLOTS);
+    private final AtomicLongArray writeRequestTimes = new AtomicLongArray(TUNNELING_SLOTS);
+    private final Map<KnxAddress, Long> readRequestTimes = new ConcurrentHashMap<>();
+    private final LatencyHistogram writeLatency = new LatencyHistogram();
+    private final LatencyHistogram readLatency = new LatencyHistogram();
+    private final Map<KnxQueueType, QueueGauge> queueGauges = new EnumMap<>(KnxQueueType.class);
+    private final Map<Class<? extends Plugin>, LongAdder> pluginDrops = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
 
     /**
      * Default package-private constructor for {@link InternalKnxStatistic}
      */
     InternalKnxStatistic() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Package-private constructor for {@link InternalKnxStatistic} with given clock
+     *
+     * @param nanoClock clock in nanoseconds, see {@link System#nanoTime()}
+     */
+    InternalKnxStatistic(final LongSupplier nanoClock) {
+        this.nanoClock = Objects.requireNonNull(nanoClock);
+        this.bodyReceivedRate = new RateMeter(nanoClock);
+        this.bodySentRate = new RateMeter(nanoClock);
+        this.bytesReceivedRate = new RateMeter(nanoClock);
+        this.bytesSentRate = new RateMeter(nanoClock);
+        this.errorsRate = new RateMeter(nanoClock);
+        this.retransmitsRate = new RateMeter(nanoClock);
+        this.busBitsRate = new RateMeter(nanoClock);
+
+        // maps are filled once and read-only afterwards
+        for (final var serviceType : ServiceType.values()) {
+            this.numberOfBodyReceivedMap.put(serviceType, new LongAdder());
+            this.numberOfBodySentMap.put(serviceType, new LongAdder());
+        }
+        for (final var requestServiceType : REQUEST_BY_RESPONSE.values()) {
+            this.latencies.put(requestServiceType, new LatencyHistogram());
+            this.requestTimes.put(requestServiceType, new AtomicLong());
+        }
+        for (final var queueType : KnxQueueType.values()) {
+            this.queueGauges.put(queueType, new QueueGauge());
+        }
         log.trace("Internal KNX Statistic object created.");
     }
 
     @Override
     public long getNumberOfBodyReceived() {
-        return this.numberOfBodyReceived.longValue();
+        return sum(this.numberOfBodyReceivedMap);
     }
 
     @Override
     public long getNumberOfBodyReceived(final Class<? extends Body> bodyClass) {
-        final var al = this.numberOfBodyReceivedMap.get(bodyClass);
-        return al == null ? 0L : al.longValue();
+        final var serviceType = SERVICE_TYPE_BY_BODY_CLASS.get(bodyClass);
+        return serviceType == null ? 0L : getNumberOfBodyReceived(serviceType);
+    }
+
+    @Override
+    public long getNumberOfBodyReceived(final ServiceType serviceType) {
+        return this.numberOfBodyReceivedMap.get(serviceType).sum();
     }
 
     @Override
     public long getNumberOfBodySent() {
-        return this.numberOfBodySent.longValue();
+        return sum(this.numberOfBodySentMap);
     }
 
     @Override
     public long getNumberOfBodySent(final Class<? extends Body> bodyClass) {
-        final var al = this.numberOfBodySentMap.get(bodyClass);
-        return al == null ? 0L : al.longValue();
+        final var serviceType = SERVICE_TYPE_BY_BODY_CLASS.get(bodyClass);
+        return serviceType == null ? 0L : getNumberOfBodySent(serviceType);
+    }
+
+    @Override
+    public long getNumberOfBodySent(final ServiceType serviceType) {
+        return this.numberOfBodySentMap.get(serviceType).sum();
     }
 
     @Override
     public long getNumberOfBytesReceived() {
-        return this.numberOfBytesReceived.longValue();
+        return this.numberOfBytesReceived.sum();
     }
 
     @Override
     public long getNumberOfBytesSent() {
-        return this.numberOfBytesSent.longValue();
+        return this.numberOfBytesSent.sum();
     }
 
     @Override
     public long getNumberOfErrors() {
-        return this.numberOfErrors.longValue();
+        return this.numberOfErrors.sum();
+    }
+
+    @Override
+    public long getNumberOfRetransmits() {
+        return this.numberOfRetransmits.sum();
+    }
+
+    @Override
+    public long getNumberOfReconnects() {
+        return this.numberOfReconnects.longValue();
+    }
+
+    @Override
+    public long getLastReconnectLatency() {
+        return this.lastReconnectLatency.longValue();
+    }
+
+    @Override
+    public long getMaxReconnectLatency() {
+        return this.maxReconnectLatency.longValue();
+    }
+
+    @Override
+    public KnxRate getBodyReceivedRate() {
+        return this.bodyReceivedRate.snapshot();
+    }
+
+    @Override
+    public KnxRate getBodySentRate() {
+        return this.bodySentRate.snapshot();
+    }
+
+    @Override
+    public KnxRate getBytesReceivedRate() {
+        return this.bytesReceivedRate.snapshot();
+    }
+
+    @Override
+    public KnxRate getBytesSentRate() {
+        return this.bytesSentRate.snapshot();
+    }
+
+    @Override
+    public KnxRate getErrorsRate() {
+        return this.errorsRate.snapshot();
+    }
+
+    @Override
+    public KnxRate getRetransmitsRate() {
+        return this.retransmitsRate.snapshot();
+    }
+
+    @Override
+    public KnxRate getBusLoad() {
+        return this.busBitsRate.snapshot().multiply(100d / TP1_BITS_PER_SECOND);
+    }
+
+    @Override
+    public long getNumberOfTelegramsTo(final GroupAddress groupAddress) {
+        return this.groupAddressTelegrams.get(groupAddress.getAddressAsInt());
+    }
+
+    @Override
+    public long getNumberOfTelegramsFrom(final IndividualAddress sourceAddress) {
+        return this.sourceAddressTelegrams.get(sourceAddress.getAddressAsInt());
+    }
+
+    @Override
+    public List<KnxTalker> topTalkers(final int n) {
+        Preconditions.checkArgument(n >= 0, "Number of top talkers must not be negative: {}", n);
+        return this.talkers.top(n).stream()
+                .map(key -> new KnxTalker(toSourceAddress(key), toDestinationAddress(key), this.talkers.estimate(key)))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    @Override
+    public KnxLatency getLatency(final ServiceType requestServiceType) {
+        final var histogram = this.latencies.get(requestServiceType);
+        return histogram == null ? KnxLatency.EMPTY : histogram.snapshot();
+    }
+
+    @Override
+    public KnxLatency getWriteLatency() {
+        return this.writeLatency.snapshot();
+    }
+
+    @Override
+    public KnxLatency getReadLatency() {
+        return this.readLatency.snapshot();
+    }
+
+    @Override
+    public KnxQueueStatistic getQueueStatistic(final KnxQueueType queueType) {
+        return this.queueGauges.get(Objects.requireNonNull(queueType)).snapshot();
+    }
+
+    @Override
+    public Map<Class<? extends Plugin>, Long> getNumberOfPluginDrops() {
+        return this.pluginDrops.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> e.getValue().sum()));
     }
 
     /**
      * (internal) Updates the statistics about received {@link Body}
      *
-     * @param body the incoming body
+     * @param body        the incoming body
+     * @param frameLength the length of received frame (header and body) in bytes
      */
-    public void onIncomingBody(final Body body) {
-        this.numberOfBodyReceived.incrementAndGet();
-        this.numberOfBodyReceivedMap.computeIfAbsent(body.getClass(), s -> new AtomicLong()).incrementAndGet();
-        this.numberOfBytesReceived.addAndGet(body.toByteArray().length + KNX_PACKET_SIZE);
+    public void onIncomingBody(final Body body, final int frameLength) {
+        final var bytes = frameLength + PROTOCOL_OVERHEAD_SIZE;
+        this.numberOfBodyReceivedMap.get(body.getServiceType()).increment();
+        this.numberOfBytesReceived.add(bytes);
+        this.bodyReceivedRate.mark(1);
+        this.bytesReceivedRate.mark(bytes);
+        if (body instanceof CEMIAware) {
+            final var cemi = ((CEMIAware) body).getCEMI();
+            if (cemi.getMessageCode() == MessageCode.L_DATA_IND || cemi.getMessageCode() == MessageCode.L_DATA_CON) {
+                this.onTelegram(cemi);
+            }
+        }
+        this.recordResponseLatency(body, this.nanoClock.getAsLong());
     }
 
     /**
      * (internal) Updates the statistics about sent {@link Body}
      *
+     * @param body        the outgoing body
+     * @param frameLength the length of sent frame (header and body) in bytes
+     */
+    public void onOutgoingBody(final Body body, final int frameLength) {
+        final var bytes = frameLength + PROTOCOL_OVERHEAD_SIZE;
+        this.numberOfBodySentMap.get(body.getServiceType()).increment();
+        this.numberOfBytesSent.add(bytes);
+        this.bodySentRate.mark(1);
+        this.bytesSentRate.mark(bytes);
+        // routed telegrams are not confirmed by KNX Net/IP device
+        if (body instanceof RoutingIndicationBody) {
+            this.onTelegram(((RoutingIndicationBody) body).getCEMI());
+        }
+        this.registerRequestTime(body, this.nanoClock.getAsLong());
+    }
+
+    /**
+     * Registers the time of sent request body
+     *
      * @param body the outgoing body
+     * @param now  current time, see {@link System#nanoTime()}
+     */
+    private void registerRequestTime(final Body body, final long now) {
+        if (body instanceof TunnelingRequestBody) {
+            final var requestBody = (TunnelingRequestBody) body;
+            final var key = tunnelingKey(requestBody.getChannelId(), requestBody.getSequence());
+            final var slot = key & (TUNNELING_SLOTS - 1);
+            this.tunnelingRequestKeys.set(slot, key);
+            this.tunnelingRequestTimes.set(slot, now);
+            this.writeRequestTimes.set(slot, requestBody.getCEMI().getAPCI() == APCI.GROUP_VALUE_WRITE ? now : 0L);
+        } else {
+            final var requestTime = this.requestTimes.get(body.getServiceType());
+            if (requestTime != null) {
+                requestTime.set(now);
+            }
+        }
+
+        if (body instanceof CEMIAware) {
+            final var cemi = ((CEMIAware) body).getCEMI();
+            if (cemi.getAPCI() == APCI.GROUP_VALUE_READ) {
+                this.readRequestTimes.put(cemi.getDestinationAddress(), now);
+            }
+        }
+    }
+
+    /**
+     * Records the latency if the received body is a response to a registered request
+     *
+     * @param body the incoming body
+     * @param now  current time, see {@link System#nanoTime()}
+     */
+    private void recordResponseLatency(final Body body, final long now) {
+        if (body instanceof TunnelingAckBody) {
+            final var ackBody = (TunnelingAckBody) body;
+            final var key = tunnelingKey(ackBody.getChannelId(), ackBody.getSequence());
+            final var slot = key & (TUNNELING_SLOTS - 1);
+            if (this.tunnelingRequestKeys.get(slot) == key) {
+                final var requestTime = this.tunnelingRequestTimes.getAndSet(slot, 0L);
+                if (requestTime != 0L) {
+                    this.latencies.get(ServiceType.TUNNELING_REQUEST).record(now - requestTime);
+                }
+                final var writeRequestTime = this.writeRequestTimes.getAndSet(slot, 0L);
+                if (writeRequestTime != 0L) {
+                    this.writeLatency.record(now - writeRequestTime);
+                }
+            }
+        } else {
+            final var requestServiceType = REQUEST_BY_RESPONSE.get(body.getServiceType());
+            if (requestServiceType != null) {
+                final var requestTime = this.requestTimes.get(requestServiceType).getAndSet(0L);
+                if (requestTime != 0L) {
+                    this.latencies.get(requestServiceType).record(now - requestTime);
+                }
+            }
+        }
+
+        if (body instanceof CEMIAware) {
+            final var cemi = ((CEMIAware) body).getCEMI();
+            if (cemi.getAPCI() == APCI.GROUP_VALUE_RESPONSE) {
+                final var readRequestTime = this.readRequestTimes.remove(cemi.getDestinationAddress());
+                if (readRequestTime != null) {
+                    this.readLatency.record(now - readRequestTime);
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the bus load and address statistics about a telegram that has been transmitted on the bus
+     *
+     * @param cemi the telegram
      */
-    public void onOutgoingBody(final Body body) {
-        this.numberOfBodySent.incrementAndGet();
-        this.numberOfBodySentMap.computeIfAbsent(body.getClass(), s -> new AtomicLong()).incrementAndGet();
-        this.numberOfBytesSent.addAndGet(body.toByteArray().length + KNX_PACKET_SIZE);
+    private void onTelegram(final CEMI cemi) {
+        this.busBitsRate.mark(tp1BitTimes(cemi));
+
+        final var source = cemi.getSourceAddress().getAddressAsInt();
+        final var destinationAddress = cemi.getDestinationAddress();
+        final int destination;
+        final long destinationType;
+        if (destinationAddress instanceof GroupAddress) {
+            destination = ((GroupAddress) destinationAddress).getAddressAsInt();
+            destinationType = 1L;
+            this.groupAddressTelegrams.incrementAndGet(destination);
+        } else {
+            destination = ((IndividualAddress) destinationAddress).getAddressAsInt();
+            destinationType = 0L;
+        }
+        this.sourceAddressTelegrams.incrementAndGet(source);
+        // key: source address (bits 17-32), destination type (bit 16), destination address (bits 0-15)
+        this.talkers.add(((long) source << 17) | (destinationType << 16) | destination);
+    }
+
+    private static IndividualAddress toSourceAddress(final long key) {
+        final var address = (int) (key >>> 17);
+        return IndividualAddress.of(address >>> 12, (address >>> 8) & 0x0F, address & 0xFF);
+    }
+
+    private static KnxAddress toDestinationAddress(final long key) {
+        final var address = (int) (key & 0xFFFF);
+        if (((key >>> 16) & 1) == 1) {
+            return GroupAddress.of(new byte[]{(byte) (address >>> 8), (byte) address});
+        } else {
+            return IndividualAddress.of(address >>> 12, (address >>> 8) & 0x0F, address & 0xFF);
+        }
+    }
+
+    /**
+     * Returns the bit times of telegram on KNX TP1 line
+     *
+     * @param cemi the telegram
+     * @return number of bit times
+     */
+    private static long tp1BitTimes(final CEMI cemi) {
+        return TP1_BITS_PER_TELEGRAM + (long) TP1_BITS_PER_CHARACTER * (TP1_FRAME_OVERHEAD + cemi.getLength());
+    }
+
+    private static long sum(final Map<ServiceType, LongAdder> map) {
+        var sum = 0L;
+        for (final var adder : map.values()) {
+            sum += adder.sum();
+        }
+        return sum;
+    }
+
+    private static int tunnelingKey(final int channelId, final int sequence) {
+        return (channelId << 8) | sequence;
+    }
+
+    private static Map<ServiceType, ServiceType> requestByResponse() {
+        final var map = new EnumMap<ServiceType, ServiceType>(ServiceType.class);
+        for (final var serviceType : ServiceType.values()) {
+            if (serviceType.hasResponseIdentifier()) {
+                map.put(serviceType.getResponseIdentifier(), serviceType);
+            }
+        }
+        return Collections.unmodifiableMap(map);
     }
 
     /**
@@ -124,7 +560,69 @@ public final class InternalKnxStatistic implements KnxStatistic {
      * @param throwable - not used yet in this class
      */
     public void onError(final Throwable throwable) {
-        this.numberOfErrors.incrementAndGet();
+        this.numberOfErrors.increment();
+        this.errorsRate.mark(1);
+    }
+
+    /**
+     * (internal) Updates the statistics about a request that is sent again,
+     * because no response has been received within timeout
+     *
+     * @param body the body that is sent again
+     */
+    public void onRetransmit(final Body body) {
+        this.numberOfRetransmits.increment();
+        this.retransmitsRate.mark(1);
+    }
+
+    /**
+     * (internal) Updates the statistics about an element that is offered to the queue
+     *
+     * @param queueType the type of queue
+     */
+    public void onEnqueue(final KnxQueueType queueType) {
+        this.queueGauges.get(queueType).enqueue();
+    }
+
+    /**
+     * (internal) Updates the statistics about an element that is taken from the queue for processing
+     *
+     * @param queueType the type of queue
+     * @param queueWait time in nanoseconds the element has been waiting in the queue
+     */
+    public void onDequeue(final KnxQueueType queueType, final long queueWait) {
+        this.queueGauges.get(queueType).dequeue(queueWait);
+    }
+
+    /**
+     * (internal) Updates the statistics about an element that has been offered to the queue,
+     * but is rejected or dropped instead of processed
+     *
+     * @param queueType the type of queue
+     */
+    public void onReject(final KnxQueueType queueType) {
+        this.queueGauges.get(queueType).reject();
+    }
+
+    /**
+     * (internal) Updates the statistics about a notification that has been dropped
+     * because the mailbox of plug-in was full
+     *
+     * @param pluginClass the class of plug-in
+     */
+    public void onPluginDrop(final Class<? extends Plugin> pluginClass) {
+        this.pluginDrops.computeIfAbsent(pluginClass, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * (internal) Updates the statistics about a successful reconnect
+     *
+     * @param latency the latency of reconnect in milliseconds
+     */
+    public void onReconnect(final long latency) {
+        this.numberOfReconnects.incrementAndGet();
+        this.lastReconnectLatency.set(latency);
+        this.maxReconnectLatency.accumulateAndGet(latency, Math::max);
     }
 
     /**
@@ -138,38 +636,82 @@ public final class InternalKnxStatistic implements KnxStatistic {
 
     /**
      * Unmodifiable {@link KnxStatistic}
+     * <p>
+     * The counters are copied once per service type, the totals are the sum of copied
+     * counters to be consistent within the snapshot. The telegram counters per address
+     * are not copied (65536 counters per address type) but read when requested.
      *
      * @author PITSCHR
      */
     private static final class UnmodifiableKnxStatistic implements KnxStatistic {
-        private final Map<Class<? extends Body>, Long> numberOfBodyReceivedMap;
-        private final Map<Class<? extends Body>, Long> numberOfBodySentMap;
+        private final Map<ServiceType, Long> numberOfBodyReceivedMap;
+        private final Map<ServiceType, Long> numberOfBodySentMap;
         private final long numberOfBodyReceived;
         private final long numberOfBodySent;
         private final long numberOfBytesReceived;
         private final long numberOfBytesSent;
         private final long numberOfErrors;
-        private final double errorRate;
+        private final long numberOfReconnects;
+        private final long numberOfRetransmits;
+        private final long lastReconnectLatency;
+        private final long maxReconnectLatency;
+        private final Map<ServiceType, KnxLatency> latencies;
+        private final KnxLatency writeLatency;
+        private final KnxLatency readLatency;
+        private final KnxRate bodyReceivedRate;
+        private final KnxRate bodySentRate;
+        private final KnxRate bytesReceivedRate;
+        private final KnxRate bytesSentRate;
+        private final KnxRate errorsRate;
+        private final KnxRate retransmitsRate;
+        private final KnxRate busLoad;
+        private final AtomicLongArray groupAddressTelegrams;
+        private final AtomicLongArray sourceAddressTelegrams;
+        private final List<KnxTalker> topTalkers;
+        private final Map<KnxQueueType, KnxQueueStatistic> queueStatistics;
+        private final Map<Class<? extends Plugin>, Long> pluginDrops;
 
         private UnmodifiableKnxStatistic(final InternalKnxStatistic statistic) {
-            this.numberOfBodyReceivedMap = deepCopy(statistic.numberOfBodyReceivedMap);
-            this.numberOfBodySentMap = deepCopy(statistic.numberOfBodySentMap);
+            this.numberOfBodyReceivedMap = copy(statistic.numberOfBodyReceivedMap);
+            this.numberOfBodySentMap = copy(statistic.numberOfBodySentMap);
             this.numberOfBytesReceived = statistic.getNumberOfBytesReceived();
             this.numberOfBytesSent = statistic.getNumberOfBytesSent();
-            this.numberOfBodyReceived = statistic.getNumberOfBodyReceived();
-            this.numberOfBodySent = statistic.getNumberOfBodySent();
+            this.numberOfBodyReceived = this.numberOfBodyReceivedMap.values().stream().mapToLong(Long::longValue).sum();
+            this.numberOfBodySent = this.numberOfBodySentMap.values().stream().mapToLong(Long::longValue).sum();
             this.numberOfErrors = statistic.getNumberOfErrors();
-            this.errorRate = statistic.getErrorRate();
+            this.numberOfReconnects = statistic.getNumberOfReconnects();
+            this.numberOfRetransmits = statistic.getNumberOfRetransmits();
+            this.lastReconnectLatency = statistic.getLastReconnectLatency();
+            this.maxReconnectLatency = statistic.getMaxReconnectLatency();
+            this.latencies = statistic.latencies.keySet().stream()
+                    .collect(Collectors.toUnmodifiableMap(serviceType -> serviceType, statistic::getLatency));
+            this.writeLatency = statistic.getWriteLatency();
+            this.readLatency = statistic.getReadLatency();
+            this.bodyReceivedRate = statistic.getBodyReceivedRate();
+            this.bodySentRate = statistic.getBodySentRate();
+            this.bytesReceivedRate = statistic.getBytesReceivedRate();
+            this.bytesSentRate = statistic.getBytesSentRate();
+            this.errorsRate = statistic.getErrorsRate();
+            this.retransmitsRate = statistic.getRetransmitsRate();
+            this.busLoad = statistic.getBusLoad();
+            this.groupAddressTelegrams = statistic.groupAddressTelegrams;
+            this.sourceAddressTelegrams = statistic.sourceAddressTelegrams;
+            this.topTalkers = statistic.topTalkers(TOP_TALKERS_CAPACITY);
+            this.queueStatistics = new EnumMap<>(KnxQueueType.class);
+            statistic.queueGauges.forEach((queueType, gauge) -> this.queueStatistics.put(queueType, gauge.snapshot()));
+            this.pluginDrops = statistic.getNumberOfPluginDrops();
         }
 
         /**
-         * Performs a deep copy of given {@link Map} to avoid an origin manipulation.
+         * Copies the current values of counters
          *
-         * @param map map to be deeply copied
-         * @return unmodifiable deep copied map whereas the value is a {@link Long} (and not an {@link AtomicLong})
+         * @param map map of counters to be copied
+         * @return copied map whereas the value is a {@link Long} (and not a {@link LongAdder})
          */
-        private static Map<Class<? extends Body>, Long> deepCopy(final Map<Class<? extends Body>, AtomicLong> map) {
-            return new HashMap<>(map).entrySet().stream().collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> e.getValue().longValue()));
+        private static Map<ServiceType, Long> copy(final Map<ServiceType, LongAdder> map) {
+            final var copy = new EnumMap<ServiceType, Long>(ServiceType.class);
+            map.forEach((serviceType, adder) -> copy.put(serviceType, adder.sum()));
+            return copy;
         }
 
         @Override
@@ -179,7 +721,13 @@ public final class InternalKnxStatistic implements KnxStatistic {
 
         @Override
         public long getNumberOfBodyReceived(final Class<? extends Body> bodyClass) {
-            return this.numberOfBodyReceivedMap.getOrDefault(bodyClass, 0L);
+            final var serviceType = SERVICE_TYPE_BY_BODY_CLASS.get(bodyClass);
+            return serviceType == null ? 0L : getNumberOfBodyReceived(serviceType);
+        }
+
+        @Override
+        public long getNumberOfBodyReceived(final ServiceType serviceType) {
+            return this.numberOfBodyReceivedMap.get(serviceType);
         }
 
         @Override
@@ -189,7 +737,13 @@ public final class InternalKnxStatistic implements KnxStatistic {
 
         @Override
         public long getNumberOfBodySent(final Class<? extends Body> bodyClass) {
-            return this.numberOfBodySentMap.getOrDefault(bodyClass, 0L);
+            final var serviceType = SERVICE_TYPE_BY_BODY_CLASS.get(bodyClass);
+            return serviceType == null ? 0L : getNumberOfBodySent(serviceType);
+        }
+
+        @Override
+        public long getNumberOfBodySent(final ServiceType serviceType) {
+            return this.numberOfBodySentMap.get(serviceType);
         }
 
         @Override
@@ -208,8 +762,99 @@ public final class InternalKnxStatistic implements KnxStatistic {
         }
 
         @Override
-        public double getErrorRate() {
-            return this.errorRate;
+        public long getNumberOfRetransmits() {
+            return this.numberOfRetransmits;
+        }
+
+        @Override
+        public long getNumberOfReconnects() {
+            return this.numberOfReconnects;
+        }
+
+        @Override
+        public long getLastReconnectLatency() {
+            return this.lastReconnectLatency;
+        }
+
+        @Override
+        public long getMaxReconnectLatency() {
+            return this.maxReconnectLatency;
+        }
+
+        @Override
+        public KnxRate getBodyReceivedRate() {
+            return this.bodyReceivedRate;
+        }
+
+        @Override
+        public KnxRate getBodySentRate() {
+            return this.bodySentRate;
+        }
+
+        @Override
+        public KnxRate getBytesReceivedRate() {
+            return this.bytesReceivedRate;
+        }
+
+        @Override
+        public KnxRate getBytesSentRate() {
+            return this.bytesSentRate;
+        }
+
+        @Override
+        public KnxRate getErrorsRate() {
+            return this.errorsRate;
+        }
+
+        @Override
+        public KnxRate getRetransmitsRate() {
+            return this.retransmitsRate;
+        }
+
+        @Override
+        public KnxRate getBusLoad() {
+            return this.busLoad;
+        }
+
+        @Override
+        public long getNumberOfTelegramsTo(final GroupAddress groupAddress) {
+            return this.groupAddressTelegrams.get(groupAddress.getAddressAsInt());
+        }
+
+        @Override
+        public long getNumberOfTelegramsFrom(final IndividualAddress sourceAddress) {
+            return this.sourceAddressTelegrams.get(sourceAddress.getAddressAsInt());
+        }
+
+        @Override
+        public List<KnxTalker> topTalkers(final int n) {
+            Preconditions.checkArgument(n >= 0, "Number of top talkers must not be negative: {}", n);
+            return this.topTalkers.subList(0, Math.min(n, this.topTalkers.size()));
+        }
+
+        @Override
+        public KnxLatency getLatency(final ServiceType requestServiceType) {
+            return this.latencies.getOrDefault(requestServiceType, KnxLatency.EMPTY);
+        }
+
+        @Override
+        public KnxLatency getWriteLatency() {
+            return this.writeLatency;
+        }
+
+        @Override
+        public KnxLatency getReadLatency() {
+            return this.readLatency;
+        }
+
+        @Override
+        public KnxQueueStatistic getQueueStatistic(final KnxQueueType queueType) {
+            return this.queueStatistics.get(Objects.requireNonNull(queueType));
+        }
+
+        @Override
+        public Map<Class<? extends Plugin>, Long> getNumberOfPluginDrops() {
+            return this.pluginDrops;
         }
     }
 }
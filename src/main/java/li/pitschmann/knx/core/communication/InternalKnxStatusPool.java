@@ -24,6 +24,7 @@ import li.pitschmann.knx.core.body.RequestBody;
 import li.pitschmann.knx.core.body.RoutingIndicationBody;
 import li.pitschmann.knx.core.body.TunnelingRequestBody;
 import li.pitschmann.knx.core.cemi.CEMI;
+import li.pitschmann.knx.core.communication.jfr.KnxStatusUpdateEvent;
 import li.pitschmann.knx.core.config.CoreConfigs;
 import li.pitschmann.knx.core.datapoint.BaseDataPointType;
 import li.pitschmann.knx.core.datapoint.DataPointRegistry;
@@ -36,24 +37,45 @@ import li.pitschmann.knx.core.utils.Strings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
 /**
  * KNX Status Pool covering all current statuses of KNX group addresses.
+ * <p>
+ * The status pool may be updated by several threads (e.g. the tunneling connections of
+ * a pooled KNX client), therefore every access to the status map is guarded by its lock.
  *
  * @author PITSCHR
  */
 public final class InternalKnxStatusPool implements KnxStatusPool {
     private static final Logger log = LoggerFactory.getLogger(InternalKnxStatusPool.class);
     private final Map<KnxAddress, KnxStatusData> statusMap = Maps.newLinkedHashMap(1000);
+    private final long deduplicationWindow;
 
     /**
      * KNX status pool (package protected)
      */
     InternalKnxStatusPool() {
-        log.trace("Internal KNX Status Pool object created.");
+        this(0L);
+    }
+
+    /**
+     * KNX status pool that is shared by several tunneling connections (package protected)
+     * <p>
+     * An identical status received via another tunneling connection within the given
+     * time window is considered as duplicate and ignored.
+     *
+     * @param deduplicationWindow time window in milliseconds; zero disables the de-duplication
+     */
+    InternalKnxStatusPool(final long deduplicationWindow) {
+        Preconditions.checkArgument(deduplicationWindow >= 0,
+                "De-duplication window must be zero or positive: {}", deduplicationWindow);
+        this.deduplicationWindow = deduplicationWindow;
+        log.trace("Internal KNX Status Pool object created (de-duplication window: {} ms).", deduplicationWindow);
     }
 
     /**
@@ -65,8 +87,42 @@ public final class InternalKnxStatusPool implements KnxStatusPool {
     public void updateStatus(final KnxAddress address, final KnxStatusData statusData) {
         Preconditions.checkNonNull(address);
         Preconditions.checkNonNull(statusData);
-        log.trace("Update status by KNX address {}: {}", address, statusData);
-        this.statusMap.put(address, statusData);
+        final var event = new KnxStatusUpdateEvent();
+        event.begin();
+        final boolean duplicate;
+        synchronized (this.statusMap) {
+            duplicate = isDuplicate(this.statusMap.get(address), statusData);
+            if (duplicate) {
+                log.trace("Duplicate status for KNX address {} ignored: {}", address, statusData);
+            } else {
+                log.trace("Update status by KNX address {}: {}", address, statusData);
+                this.statusMap.put(address, statusData);
+            }
+        }
+        if (event.shouldCommit()) {
+            event.setStatus(address, statusData);
+            event.setDuplicate(duplicate);
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns {@code true} if the {@code newStatus} is a duplicate of {@code oldStatus}: same
+     * source address, APCI and data, and received within the de-duplication window. A dirty
+     * status is never considered as duplicate as an update has been requested.
+     *
+     * @param oldStatus the current status in pool, may be {@code null}
+     * @param newStatus the new status
+     * @return {@code true} if duplicate, otherwise {@code false}
+     */
+    private boolean isDuplicate(final @Nullable KnxStatusData oldStatus, final KnxStatusData newStatus) {
+        return this.deduplicationWindow > 0
+                && oldStatus != null
+                && !oldStatus.isDirty()
+                && oldStatus.getAPCI() == newStatus.getAPCI()
+                && oldStatus.getSourceAddress().equals(newStatus.getSourceAddress())
+                && Arrays.equals(oldStatus.getData(), newStatus.getData())
+                && Duration.between(oldStatus.getTimestamp(), newStatus.getTimestamp()).toMillis() < this.deduplicationWindow;
     }
 
     /**
@@ -85,7 +141,7 @@ public final class InternalKnxStatusPool implements KnxStatusPool {
      */
     public void setDirty(final KnxAddress address) {
         Preconditions.checkNonNull(address);
-        final var knxStatus = this.statusMap.get(address);
+        final var knxStatus = getStatus(address);
         if (knxStatus != null) {
             knxStatus.setDirty(true);
         }
@@ -107,13 +163,15 @@ public final class InternalKnxStatusPool implements KnxStatusPool {
 
     @Override
     public boolean isUpdated(final KnxAddress address) {
-        final var knxStatus = this.statusMap.get(Objects.requireNonNull(address));
+        final var knxStatus = getStatus(Objects.requireNonNull(address));
         return knxStatus != null && !knxStatus.isDirty();
     }
 
     @Override
     public boolean existsStatusFor(final KnxAddress address) {
-        return this.statusMap.containsKey(address);
+        synchronized (this.statusMap) {
+            return this.statusMap.containsKey(address);
+        }
     }
 
     @Nullable
@@ -147,7 +205,7 @@ public final class InternalKnxStatusPool implements KnxStatusPool {
         final var end = System.currentTimeMillis() + unit.toMillis(duration);
         KnxStatusData statusData;
         do {
-            statusData = this.statusMap.get(address);
+            statusData = getStatus(address);
         } while ((statusData == null || (mustUpToDate && statusData.isDirty())) && Sleeper.milliseconds(10) && System.currentTimeMillis() < end);
 
         if (statusData == null) {
@@ -207,13 +265,37 @@ public final class InternalKnxStatusPool implements KnxStatusPool {
 
     @Override
     public Map<KnxAddress, KnxStatusData> copyStatusMap() {
-        return Map.copyOf(this.statusMap);
+        synchronized (this.statusMap) {
+            return Map.copyOf(this.statusMap);
+        }
+    }
+
+    @Override
+    public int size() {
+        synchronized (this.statusMap) {
+            return this.statusMap.size();
+        }
+    }
+
+    /**
+     * Returns the status for given {@link KnxAddress} from status map
+     *
+     * @param address KNX address
+     * @return {@link KnxStatusData} if exists, otherwise {@code null}
+     */
+    @Nullable
+    private KnxStatusData getStatus(final KnxAddress address) {
+        synchronized (this.statusMap) {
+            return this.statusMap.get(address);
+        }
     }
 
     @Override
     public String toString() {
-        return Strings.toStringHelper(this) //
-                .add("statusMap", this.statusMap) //
-                .toString();
+        synchronized (this.statusMap) {
+            return Strings.toStringHelper(this) //
+                    .add("statusMap", this.statusMap) //
+                    .toString();
+        }
     }
 }
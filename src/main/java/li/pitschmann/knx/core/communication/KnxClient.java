@@ -26,9 +26,13 @@ import li.pitschmann.knx.core.body.ResponseBody;
 import li.pitschmann.knx.core.config.Config;
 import li.pitschmann.knx.core.config.ConfigValue;
 import li.pitschmann.knx.core.datapoint.value.DataPointValue;
+import li.pitschmann.knx.core.exceptions.KnxCommunicationException;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Interface for all KNX Clients.
@@ -124,7 +128,18 @@ public interface KnxClient extends AutoCloseable {
      * @param timeout        timeout in milliseconds
      * @return {@code true} if the acknowledge for write request was successful within expected time frame, otherwise {@code false}
      */
-    boolean writeRequest(final GroupAddress address, final DataPointValue dataPointValue, final long timeout);
+    default boolean writeRequest(final GroupAddress address, final DataPointValue dataPointValue, final long timeout) {
+        try {
+            return writeRequest(address, dataPointValue).get(timeout, TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException ex) {
+            throw new KnxCommunicationException("Time ({} ms) exceeded for write request to group address: {}", timeout, address);
+        } catch (final ExecutionException ex) {
+            throw new KnxCommunicationException("Write request and wait for acknowledge failed for group address: {}", address);
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
 
     /**
      * Sends a READ request to {@link GroupAddress} asynchronously.
@@ -144,5 +159,16 @@ public interface KnxClient extends AutoCloseable {
      * @param timeout timeout in milliseconds
      * @return {@code true} if the acknowledge for read request was successful within expected time frame, otherwise {@code false}
      */
-    boolean readRequest(final GroupAddress address, final long timeout);
+    default boolean readRequest(final GroupAddress address, final long timeout) {
+        try {
+            return readRequest(address).get(timeout, TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException ex) {
+            throw new KnxCommunicationException("Time ({} ms) exceeded for read request to group address: {}", timeout, address);
+        } catch (final ExecutionException ex) {
+            throw new KnxCommunicationException("Read request and wait for acknowledge failed for group address: {}", address);
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication;
+
+import li.pitschmann.knx.core.annotations.Nullable;
+import li.pitschmann.knx.core.utils.Strings;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of latency percentiles (see {@link LatencyHistogram#snapshot()})
+ * <p>
+ * The percentiles are upper bounds of the histogram buckets, the relative error is
+ * not greater than {@code 1/16} of the latency.
+ *
+ * @author PITSCHR
+ */
+public final class KnxLatency {
+    /**
+     * Latency without any recorded values
+     */
+    public static final KnxLatency EMPTY = new KnxLatency(0, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+    private final long count;
+    private final Duration p50;
+    private final Duration p90;
+    private final Duration p99;
+    private final Duration max;
+
+    KnxLatency(final long count, final Duration p50, final Duration p90, final Duration p99, final Duration max) {
+        this.count = count;
+        this.p50 = Objects.requireNonNull(p50);
+        this.p90 = Objects.requireNonNull(p90);
+        this.p99 = Objects.requireNonNull(p99);
+        this.max = Objects.requireNonNull(max);
+    }
+
+    /**
+     * Returns the number of recorded latencies
+     *
+     * @return number of recorded latencies
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the median (50th percentile) of latencies
+     *
+     * @return median latency, {@link Duration#ZERO} if no latency has been recorded
+     */
+    public Duration getP50() {
+        return p50;
+    }
+
+    /**
+     * Returns the 90th percentile of latencies
+     *
+     * @return 90th percentile latency, {@link Duration#ZERO} if no latency has been recorded
+     */
+    public Duration getP90() {
+        return p90;
+    }
+
+    /**
+     * Returns the 99th percentile of latencies
+     *
+     * @return 99th percentile latency, {@link Duration#ZERO} if no latency has been recorded
+     */
+    public Duration getP99() {
+        return p99;
+    }
+
+    /**
+     * Returns the maximum latency (exact)
+     *
+     * @return maximum latency, {@link Duration#ZERO} if no latency has been recorded
+     */
+    public Duration getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return Strings.toStringHelper(this)
+                .add("count", count)
+                .add("p50", p50.toNanos() / 1000 + "us")
+                .add("p90", p90.toNanos() / 1000 + "us")
+                .add("p99", p99.toNanos() / 1000 + "us")
+                .add("max", max.toNanos() / 1000 + "us")
+                .toString();
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof KnxLatency) {
+            final var other = (KnxLatency) obj;
+            return this.count == other.count
+                    && Objects.equals(this.p50, other.p50)
+                    && Objects.equals(this.p90, other.p90)
+                    && Objects.equals(this.p99, other.p99)
+                    && Objects.equals(this.max, other.max);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(count, p50, p90, p99, max);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication;
+
+import li.pitschmann.knx.core.annotations.Nullable;
+import li.pitschmann.knx.core.utils.Strings;
+
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of a queue (see {@link KnxQueueType}) with its depth, enqueue-to-dequeue
+ * wait time and number of rejected elements
+ *
+ * @author PITSCHR
+ */
+public final class KnxQueueStatistic {
+    /**
+     * Statistic of queue without any elements
+     */
+    public static final KnxQueueStatistic EMPTY = new KnxQueueStatistic(0L, 0L, 0L, 0L, KnxLatency.EMPTY);
+    private final long depth;
+    private final long maxDepth;
+    private final long numberOfEnqueued;
+    private final long numberOfRejected;
+    private final KnxLatency wait;
+
+    KnxQueueStatistic(final long depth,
+                      final long maxDepth,
+                      final long numberOfEnqueued,
+                      final long numberOfRejected,
+                      final KnxLatency wait) {
+        this.depth = depth;
+        this.maxDepth = maxDepth;
+        this.numberOfEnqueued = numberOfEnqueued;
+        this.numberOfRejected = numberOfRejected;
+        this.wait = Objects.requireNonNull(wait);
+    }
+
+    /**
+     * Returns the current number of elements that are waiting in the queue
+     *
+     * @return current depth
+     */
+    public long getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns the highest number of elements that were waiting in the queue at the same time
+     *
+     * @return maximum depth
+     */
+    public long getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Returns the total number of elements that have been offered to the queue
+     *
+     * @return number of enqueued elements (including rejected elements)
+     */
+    public long getNumberOfEnqueued() {
+        return numberOfEnqueued;
+    }
+
+    /**
+     * Returns the total number of elements that have been rejected or dropped instead of processed
+     *
+     * @return number of rejected elements
+     */
+    public long getNumberOfRejected() {
+        return numberOfRejected;
+    }
+
+    /**
+     * Returns the time elements have been waiting in the queue until they were taken for processing
+     *
+     * @return wait time distribution
+     */
+    public KnxLatency getWait() {
+        return wait;
+    }
+
+    @Override
+    public String toString() {
+        return Strings.toStringHelper(this)
+                .add("depth", depth)
+                .add("maxDepth", maxDepth)
+                .add("numberOfEnqueued", numberOfEnqueued)
+                .add("numberOfRejected", numberOfRejected)
+                .add("wait", wait)
+                .toString();
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof KnxQueueStatistic) {
+            final var other = (KnxQueueStatistic) obj;
+            return this.depth == other.depth
+                    && this.maxDepth == other.maxDepth
+                    && this.numberOfEnqueued == other.numberOfEnqueued
+                    && this.numberOfRejected == other.numberOfRejected
+                    && Objects.equals(this.wait, other.wait);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(depth, maxDepth, numberOfEnqueued, numberOfRejected, wait);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication;
+
+/**
+ * Queues and executors of KNX client for which the depth, wait time and number of
+ * rejections are tracked, see {@link KnxStatistic#getQueueStatistic(KnxQueueType)}
+ *
+ * @author PITSCHR
+ */
+public enum KnxQueueType {
+    /**
+     * Inbox queues of received packets until they are dispatched to subscribers
+     */
+    INBOX,
+    /**
+     * Outbox queues of packets until they are written to the channel
+     */
+    OUTBOX,
+    /**
+     * Buffers of subscribers (tasks) of channel communicators until the packet is consumed
+     */
+    SUBSCRIBER,
+    /**
+     * Executor for requests that are waiting for a response
+     */
+    COMMUNICATION_EXECUTOR,
+    /**
+     * Mailboxes of plug-ins until the notification is consumed by plug-in
+     */
+    PLUGIN_EXECUTOR
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication;
+
+import li.pitschmann.knx.core.annotations.Nullable;
+import li.pitschmann.knx.core.utils.Strings;
+
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of moving average rates (see {@link RateMeter#snapshot()})
+ * <p>
+ * The rates are exponentially weighted moving averages per second over a window
+ * of one second, one minute and five minutes.
+ *
+ * @author PITSCHR
+ */
+public final class KnxRate {
+    /**
+     * Rate without any events
+     */
+    public static final KnxRate ZERO = new KnxRate(0d, 0d, 0d);
+    private final double oneSecondRate;
+    private final double oneMinuteRate;
+    private final double fiveMinuteRate;
+
+    KnxRate(final double oneSecondRate, final double oneMinuteRate, final double fiveMinuteRate) {
+        this.oneSecondRate = oneSecondRate;
+        this.oneMinuteRate = oneMinuteRate;
+        this.fiveMinuteRate = fiveMinuteRate;
+    }
+
+    /**
+     * Returns the moving average rate per second over the last second
+     *
+     * @return rate per second
+     */
+    public double getOneSecondRate() {
+        return oneSecondRate;
+    }
+
+    /**
+     * Returns the moving average rate per second over the last minute
+     *
+     * @return rate per second
+     */
+    public double getOneMinuteRate() {
+        return oneMinuteRate;
+    }
+
+    /**
+     * Returns the moving average rate per second over the last five minutes
+     *
+     * @return rate per second
+     */
+    public double getFiveMinuteRate() {
+        return fiveMinuteRate;
+    }
+
+    /**
+     * Returns a new {@link KnxRate} with all rates multiplied by {@code factor}
+     *
+     * @param factor the factor
+     * @return a new immutable {@link KnxRate}
+     */
+    KnxRate multiply(final double factor) {
+        return new KnxRate(oneSecondRate * factor, oneMinuteRate * factor, fiveMinuteRate * factor);
+    }
+
+    @Override
+    public String toString() {
+        return Strings.toStringHelper(this)
+                .add("oneSecondRate", oneSecondRate)
+                .add("oneMinuteRate", oneMinuteRate)
+                .add("fiveMinuteRate", fiveMinuteRate)
+                .toString();
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof KnxRate) {
+            final var other = (KnxRate) obj;
+            return Double.compare(this.oneSecondRate, other.oneSecondRate) == 0
+                    && Double.compare(this.oneMinuteRate, other.oneMinuteRate) == 0
+                    && Double.compare(this.fiveMinuteRate, other.fiveMinuteRate) == 0;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(oneSecondRate, oneMinuteRate, fiveMinuteRate);
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication;
+
+import li.pitschmann.knx.core.communication.queue.KnxEventLoop;
+import li.pitschmann.knx.core.utils.Closeables;
+import li.pitschmann.knx.core.utils.ExecutorServices;
+import li.pitschmann.knx.core.utils.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runtime that is shared by many KNX clients within the same JVM
+ * <p>
+ * Without runtime every KNX client creates its own threads for channels,
+ * communication and plugins, and registers its own JVM shutdown hook. When
+ * hosting many KNX clients (e.g. one per building) the number of threads
+ * grows linearly with the number of clients.
+ * <p>
+ * KNX clients created against a runtime share:
+ * <ul>
+ * <li>a fixed number of {@link KnxEventLoop}s serving the channels of all clients</li>
+ * <li>one task executor for request/response communication and channel tasks</li>
+ * <li>one plugin executor for the notification of plugins</li>
+ * <li>one scheduler for timer tasks like the connection state monitoring</li>
+ * <li>one JVM shutdown hook closing all clients that are still open</li>
+ * </ul>
+ * Each KNX client still has its own configuration, event pool, status pool,
+ * statistic and plugins, and can be started and closed independently. Closing
+ * the runtime closes all KNX clients that are still open.
+ *
+ * <pre>{@code
+ * try (final var runtime = KnxRuntime.create()) {
+ *     final var client1 = DefaultKnxClient.createStarted(runtime, config1);
+ *     final var client2 = DefaultKnxClient.createStarted(runtime, config2);
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @author PITSCHR
+ */
+public final class KnxRuntime implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(KnxRuntime.class);
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final Set<InternalKnxClient> clients = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger eventLoopIndex = new AtomicInteger();
+    private final List<KnxEventLoop> eventLoops;
+    private final ExecutorService taskExecutor;
+    private final ExecutorService pluginExecutor;
+    private final ScheduledExecutorService scheduler;
+    private final Thread shutdownHook;
+
+    private KnxRuntime(final int eventLoopCount, final int pluginPoolSize) {
+        Preconditions.checkArgument(eventLoopCount > 0,
+                "Number of event loops must be positive: {}", eventLoopCount);
+        Preconditions.checkArgument(pluginPoolSize > 0,
+                "Pool size for plugin executor must be positive: {}", pluginPoolSize);
+
+        final var loops = new ArrayList<KnxEventLoop>(eventLoopCount);
+        for (var i = 0; i < eventLoopCount; i++) {
+            loops.add(new KnxEventLoop());
+        }
+        this.eventLoops = Collections.unmodifiableList(loops);
+
+        // tasks are blocking while waiting for responses: use virtual threads when available,
+        // otherwise a cached thread pool that grows with the number of concurrent requests
+        this.taskExecutor = ExecutorServices.isVirtualThreadSupported()
+                ? ExecutorServices.newExecutorService(true, 1)
+                : Executors.newCachedThreadPool();
+        this.pluginExecutor = ExecutorServices.newExecutorService(ExecutorServices.isVirtualThreadSupported(), pluginPoolSize);
+        this.scheduler = ExecutorServices.newSingleThreadScheduler("knx-runtime-scheduler");
+
+        // In case of forced shutdown (e.g. CTRL+C) we should try to close all clients properly
+        this.shutdownHook = new Thread(this::closeInternal);
+        Runtime.getRuntime().addShutdownHook(this.shutdownHook);
+
+        log.debug("KNX Runtime created (event loops: {}, plugin pool size: {})", eventLoopCount, pluginPoolSize);
+    }
+
+    /**
+     * Creates a new {@link KnxRuntime} with one event loop and a plugin executor
+     * with a pool size of available processors
+     *
+     * @return a new instance of {@link KnxRuntime}
+     */
+    public static KnxRuntime create() {
+        return create(1, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new {@link KnxRuntime}
+     *
+     * @param eventLoopCount number of event loops (threads) serving the channels of all KNX clients
+     * @param pluginPoolSize pool size of plugin executor (ignored when virtual threads are supported)
+     * @return a new instance of {@link KnxRuntime}
+     */
+    public static KnxRuntime create(final int eventLoopCount, final int pluginPoolSize) {
+        return new KnxRuntime(eventLoopCount, pluginPoolSize);
+    }
+
+    /**
+     * Registers the KNX client to this runtime (package protected)
+     *
+     * @param client the internal KNX client to be registered
+     */
+    void register(final InternalKnxClient client) {
+        Preconditions.checkState(!isClosed(), "KNX Runtime is closed.");
+        clients.add(client);
+        log.debug("Client registered to runtime (total: {}): {}", clients.size(), client);
+    }
+
+    /**
+     * Unregisters the KNX client from this runtime (package protected)
+     *
+     * @param client the internal KNX client to be unregistered
+     */
+    void unregister(final InternalKnxClient client) {
+        if (clients.remove(client)) {
+            log.debug("Client unregistered from runtime (total: {}): {}", clients.size(), client);
+        }
+    }
+
+    /**
+     * Returns the next event loop. The event loops are assigned in round-robin manner.
+     *
+     * @return event loop
+     */
+    public KnxEventLoop nextEventLoop() {
+        return eventLoops.get(Math.floorMod(eventLoopIndex.getAndIncrement(), eventLoops.size()));
+    }
+
+    /**
+     * Returns the event loops of this runtime
+     *
+     * @return unmodifiable list of event loops
+     */
+    public List<KnxEventLoop> getEventLoops() {
+        return eventLoops;
+    }
+
+    /**
+     * Returns the executor for communication and channel tasks. The executor
+     * is owned by the runtime and must not be shut down by KNX clients.
+     *
+     * @return executor service
+     */
+    public ExecutorService getTaskExecutor() {
+        return taskExecutor;
+    }
+
+    /**
+     * Returns the executor for plugin notifications. The executor is owned
+     * by the runtime and must not be shut down by KNX clients.
+     *
+     * @return executor service
+     */
+    public ExecutorService getPluginExecutor() {
+        return pluginExecutor;
+    }
+
+    /**
+     * Returns the scheduler for short-running timer tasks. The scheduler
+     * is owned by the runtime and must not be shut down by KNX clients.
+     *
+     * @return scheduled executor service
+     */
+    public ScheduledExecutorService getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Returns the number of KNX clients that are registered to this runtime
+     *
+     * @return number of clients
+     */
+    public int getClientCount() {
+        return clients.size();
+    }
+
+    /**
+     * Returns if the runtime is closed
+     *
+     * @return {@code true} if closed, otherwise {@code false}
+     */
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    @Override
+    public void close() {
+        if (closeInternal()) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(this.shutdownHook);
+            } catch (final IllegalStateException ise) {
+                // shutdown in progress
+                log.debug("Shutdown hook could not be removed", ise);
+            }
+        }
+    }
+
+    /**
+     * Closes all KNX clients that are still registered and the shared resources
+     *
+     * @return {@code true} if the runtime has been closed by this call, {@code false} if it was already closed
+     */
+    private boolean closeInternal() {
+        if (closed.getAndSet(true)) {
+            return false;
+        }
+
+        log.debug("KNX Runtime will be closed (clients: {})", clients.size());
+        for (final var client : List.copyOf(clients)) {
+            Closeables.closeQuietly(client);
+        }
+        clients.clear();
+
+        for (final var eventLoop : eventLoops) {
+            Closeables.closeQuietly(eventLoop);
+        }
+        Closeables.shutdownQuietly(pluginExecutor, 10, TimeUnit.SECONDS);
+        Closeables.shutdownQuietly(taskExecutor);
+        Closeables.shutdownQuietly(scheduler);
+        log.debug("KNX Runtime closed.");
+        return true;
+    }
+}
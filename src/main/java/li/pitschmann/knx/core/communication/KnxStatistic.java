@@ -17,7 +17,14 @@
 
 package li.pitschmann.knx.core.communication;
 
+import li.pitschmann.knx.core.address.GroupAddress;
+import li.pitschmann.knx.core.address.IndividualAddress;
 import li.pitschmann.knx.core.body.Body;
+import li.pitschmann.knx.core.header.ServiceType;
+import li.pitschmann.knx.core.plugin.Plugin;
+
+import java.util.List;
+import java.util.Map;
 
 /**
  * Interface Statistic about KNX/IP communication
@@ -40,6 +47,14 @@ public interface KnxStatistic {
      */
     long getNumberOfBodyReceived(Class<? extends Body> bodyClass);
 
+    /**
+     * Returns the number of received {@link Body} by KNX Net/IP Client from KNX Net/IP device
+     *
+     * @param serviceType service type of body
+     * @return number of received {@link Body}
+     */
+    long getNumberOfBodyReceived(ServiceType serviceType);
+
     /**
      * Returns <strong>total</strong> number of sent {@link Body} from KNX Net/IP Client to the KNX Net/IP device
      *
@@ -55,6 +70,14 @@ public interface KnxStatistic {
      */
     long getNumberOfBodySent(Class<? extends Body> bodyClass);
 
+    /**
+     * Returns the number of sent {@link Body} from KNX Net/IP Client to the KNX Net/IP device
+     *
+     * @param serviceType service type of body
+     * @return number of sent {@link Body}
+     */
+    long getNumberOfBodySent(ServiceType serviceType);
+
     /**
      * Returns number of bytes received by KNX Net/IP Client from KNX Net/IP device
      * <p>
@@ -80,6 +103,161 @@ public interface KnxStatistic {
      */
     long getNumberOfErrors();
 
+    /**
+     * Returns number of requests that have been sent again, because no response
+     * has been received within timeout
+     *
+     * @return number of retransmits
+     */
+    long getNumberOfRetransmits();
+
+    /**
+     * Returns number of successful reconnects to the KNX Net/IP device
+     *
+     * @return number of reconnects
+     */
+    long getNumberOfReconnects();
+
+    /**
+     * Returns the latency of last successful reconnect in milliseconds,
+     * measured from loss of connection until the new channel id is received.
+     *
+     * @return latency of last reconnect in milliseconds, or {@code 0} if no reconnect happened yet
+     */
+    long getLastReconnectLatency();
+
+    /**
+     * Returns the maximum latency of all successful reconnects in milliseconds
+     *
+     * @return maximum latency of reconnects in milliseconds, or {@code 0} if no reconnect happened yet
+     */
+    long getMaxReconnectLatency();
+
+    /**
+     * Returns the moving average rates of received {@link Body} per second
+     *
+     * @return rates of received bodies
+     */
+    KnxRate getBodyReceivedRate();
+
+    /**
+     * Returns the moving average rates of sent {@link Body} per second
+     *
+     * @return rates of sent bodies
+     */
+    KnxRate getBodySentRate();
+
+    /**
+     * Returns the moving average rates of received bytes per second
+     *
+     * @return rates of received bytes
+     */
+    KnxRate getBytesReceivedRate();
+
+    /**
+     * Returns the moving average rates of sent bytes per second
+     *
+     * @return rates of sent bytes
+     */
+    KnxRate getBytesSentRate();
+
+    /**
+     * Returns the moving average rates of errors per second
+     *
+     * @return rates of errors
+     */
+    KnxRate getErrorsRate();
+
+    /**
+     * Returns the moving average rates of retransmitted requests per second
+     *
+     * @return rates of retransmits
+     */
+    KnxRate getRetransmitsRate();
+
+    /**
+     * Returns the estimated bus load of KNX TP1 line in percentage (moving averages),
+     * based on the length of telegrams that have been transmitted on the bus.
+     * <p>
+     * The estimation covers the telegrams seen by the KNX Net/IP device only; it is
+     * accurate when the KNX Net/IP device forwards all telegrams of the line.
+     *
+     * @return bus load in percentage
+     */
+    KnxRate getBusLoad();
+
+    /**
+     * Returns the number of telegrams on the bus that have been sent to given group address
+     *
+     * @param groupAddress the destination group address
+     * @return number of telegrams
+     */
+    long getNumberOfTelegramsTo(GroupAddress groupAddress);
+
+    /**
+     * Returns the number of telegrams on the bus that have been sent by given device
+     *
+     * @param sourceAddress the source address of device
+     * @return number of telegrams
+     */
+    long getNumberOfTelegramsFrom(IndividualAddress sourceAddress);
+
+    /**
+     * Returns the pairs of source device and destination address with the highest (estimated)
+     * number of telegrams on the bus. At most 32 top talkers are tracked.
+     *
+     * @param n maximum number of top talkers to be returned
+     * @return immutable list of top talkers, highest number of telegrams first
+     */
+    List<KnxTalker> topTalkers(int n);
+
+    /**
+     * Returns the latency between a request and its response for given request {@link ServiceType}
+     * (e.g. {@link ServiceType#CONNECTION_STATE_REQUEST} until {@link ServiceType#CONNECTION_STATE_RESPONSE},
+     * {@link ServiceType#TUNNELING_REQUEST} until {@link ServiceType#TUNNELING_ACK})
+     *
+     * @param requestServiceType the service type of request
+     * @return latency, {@link KnxLatency#EMPTY} if no latency has been recorded
+     * or the service type is not a request
+     */
+    KnxLatency getLatency(ServiceType requestServiceType);
+
+    /**
+     * Returns the latency between a write request and its acknowledge
+     *
+     * @return latency of write requests
+     */
+    KnxLatency getWriteLatency();
+
+    /**
+     * Returns the latency between a read request and the group value response
+     * for same group address
+     *
+     * @return latency of read requests
+     */
+    KnxLatency getReadLatency();
+
+    /**
+     * Returns the statistic of given queue: the current and maximum depth, the wait time
+     * from enqueue to dequeue and the number of rejected elements.
+     * <p>
+     * Queues of same type are summed up, e.g. the inbox queues of all channels.
+     *
+     * @param queueType the type of queue
+     * @return statistic of queue
+     */
+    KnxQueueStatistic getQueueStatistic(KnxQueueType queueType);
+
+    /**
+     * Returns the number of notifications per plug-in that have been dropped because the
+     * mailbox of plug-in was full (see {@link li.pitschmann.knx.core.config.CoreConfigs.Plugin#MAILBOX_OVERFLOW_POLICY}).
+     * <p>
+     * Plug-ins without dropped notifications are not present.
+     *
+     * @return immutable map of plug-in class and number of dropped notifications
+     */
+    Map<Class<? extends Plugin>, Long> getNumberOfPluginDrops();
+
     /**
      * Returns the error rate in percentage based on calculation from received / sent bodies.
      *
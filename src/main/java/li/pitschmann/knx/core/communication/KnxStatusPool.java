@@ -147,4 +147,16 @@ public interface KnxStatusPool {
      * @return an immutable map
      */
     Map<KnxAddress, KnxStatusData> copyStatusMap();
+
+    /**
+     * Returns the number of {@link KnxAddress} with a status in the pool
+     * <p>
+     * The default implementation counts the entries of {@link #copyStatusMap()};
+     * implementations should override it to avoid the copy.
+     *
+     * @return number of statuses
+     */
+    default int size() {
+        return copyStatusMap().size();
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication;
+
+import li.pitschmann.knx.core.address.IndividualAddress;
+import li.pitschmann.knx.core.address.KnxAddress;
+import li.pitschmann.knx.core.annotations.Nullable;
+import li.pitschmann.knx.core.utils.Strings;
+
+import java.util.Objects;
+
+/**
+ * Pair of source device and destination address with its (estimated) number
+ * of telegrams, see {@link KnxStatistic#topTalkers(int)}
+ *
+ * @author PITSCHR
+ */
+public final class KnxTalker {
+    private final IndividualAddress source;
+    private final KnxAddress destination;
+    private final long numberOfTelegrams;
+
+    KnxTalker(final IndividualAddress source, final KnxAddress destination, final long numberOfTelegrams) {
+        this.source = Objects.requireNonNull(source);
+        this.destination = Objects.requireNonNull(destination);
+        this.numberOfTelegrams = numberOfTelegrams;
+    }
+
+    /**
+     * Returns the source address of device that sent the telegrams
+     *
+     * @return source address
+     */
+    public IndividualAddress getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the destination address of telegrams
+     *
+     * @return destination address (group or individual address)
+     */
+    public KnxAddress getDestination() {
+        return destination;
+    }
+
+    /**
+     * Returns the estimated number of telegrams from source to destination.
+     * The estimation is never lower than the real number of telegrams.
+     *
+     * @return estimated number of telegrams
+     */
+    public long getNumberOfTelegrams() {
+        return numberOfTelegrams;
+    }
+
+    @Override
+    public String toString() {
+        return Strings.toStringHelper(this)
+                .add("source", source.getAddress())
+                .add("destination", destination.getAddress())
+                .add("numberOfTelegrams", numberOfTelegrams)
+                .toString();
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof KnxTalker) {
+            final var other = (KnxTalker) obj;
+            return Objects.equals(this.source, other.source)
+                    && Objects.equals(this.destination, other.destination)
+                    && this.numberOfTelegrams == other.numberOfTelegrams;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(source, destination, numberOfTelegrams);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication;
+
+import li.pitschmann.knx.core.utils.Strings;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with logarithmic buckets and fixed memory (HDR-style)
+ * <p>
+ * Latencies are recorded in microseconds. Each power of two is divided into
+ * {@link #SUB_BUCKETS} linear sub-buckets, which limits the relative error of
+ * percentiles to {@code 1/16}. Latencies of more than {@code 2^36} microseconds
+ * (about 19 hours) are recorded in the last bucket.
+ *
+ * @author PITSCHR
+ */
+final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_BITS = 36;
+    private static final long MAX_VALUE = (1L << MAX_BITS) - 1;
+    private static final int NUMBER_OF_BUCKETS = (MAX_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+    private final AtomicLongArray buckets = new AtomicLongArray(NUMBER_OF_BUCKETS);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Returns the bucket index for given {@code value}
+     *
+     * @param value value in microseconds
+     * @return index of bucket
+     */
+    static int indexOf(final long value) {
+        final var v = Math.min(Math.max(0, value), MAX_VALUE);
+        if (v < SUB_BUCKETS) {
+            return (int) v;
+        }
+        final var shift = 63 - Long.numberOfLeadingZeros(v) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((v >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * Returns the highest value (inclusive) that is recorded in the bucket of given {@code index}
+     *
+     * @param index index of bucket
+     * @return highest value in microseconds
+     */
+    static long upperBoundOf(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final var shift = index / SUB_BUCKETS - 1;
+        final var lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    /**
+     * Records the latency
+     *
+     * @param nanos latency in nanoseconds
+     */
+    void record(final long nanos) {
+        final var micros = TimeUnit.NANOSECONDS.toMicros(Math.max(0, nanos));
+        this.buckets.incrementAndGet(indexOf(micros));
+        this.max.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * Returns the percentiles of recorded latencies
+     * <p>
+     * Recording may continue while the snapshot is created; the buckets are copied
+     * first so the percentiles are consistent within the snapshot.
+     *
+     * @return a new immutable {@link KnxLatency}
+     */
+    KnxLatency snapshot() {
+        final var copy = new long[NUMBER_OF_BUCKETS];
+        var count = 0L;
+        for (var i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            copy[i] = this.buckets.get(i);
+            count += copy[i];
+        }
+        if (count == 0) {
+            return KnxLatency.EMPTY;
+        }
+        final var maxMicros = this.max.get();
+        return new KnxLatency(
+                count,
+                percentile(copy, count, 0.50d, maxMicros),
+                percentile(copy, count, 0.90d, maxMicros),
+                percentile(copy, count, 0.99d, maxMicros),
+                Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(maxMicros))
+        );
+    }
+
+    private static Duration percentile(final long[] buckets, final long count, final double percentile, final long maxMicros) {
+        final var rank = Math.max(1L, (long) Math.ceil(percentile * count));
+        var cumulative = 0L;
+        for (var i = 0; i < buckets.length; i++) {
+            cumulative += buckets[i];
+            if (cumulative >= rank) {
+                return Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(Math.min(upperBoundOf(i), maxMicros)));
+            }
+        }
+        return Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(maxMicros));
+    }
+
+    @Override
+    public String toString() {
+        return Strings.toStringHelper(this)
+                .add("latency", snapshot())
+                .toString();
+    }
+}
@@ -0,0 +1,478 @@
+/*
+ * Copyright (C) 2021 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication;
+
+import li.pitschmann.knx.core.address.GroupAddress;
+import li.pitschmann.knx.core.address.KnxAddress;
+import li.pitschmann.knx.core.annotations.Nullable;
+import li.pitschmann.knx.core.body.Body;
+import li.pitschmann.knx.core.body.RequestBody;
+import li.pitschmann.knx.core.body.ResponseBody;
+import li.pitschmann.knx.core.body.Status;
+import li.pitschmann.knx.core.body.TunnelingAckBody;
+import li.pitschmann.knx.core.body.TunnelingRequestBody;
+import li.pitschmann.knx.core.cemi.APCI;
+import li.pitschmann.knx.core.cemi.CEMI;
+import li.pitschmann.knx.core.cemi.MessageCode;
+import li.pitschmann.knx.core.config.Config;
+import li.pitschmann.knx.core.config.ConfigBuilder;
+import li.pitschmann.knx.core.config.CoreConfigs;
+import li.pitschmann.knx.core.datapoint.value.DataPointValue;
+import li.pitschmann.knx.core.exceptions.KnxBodyNotReceivedException;
+import li.pitschmann.knx.core.exceptions.KnxCommunicationException;
+import li.pitschmann.knx.core.plugin.PluginManager;
+import li.pitschmann.knx.core.utils.Preconditions;
+import li.pitschmann.knx.core.utils.Strings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * KNX client that spreads the communication across several tunneling connections
+ * <p>
+ * A single tunneling connection serializes all tunneling requests behind one sequence
+ * counter and waits for the acknowledge of each request. Most KNX Net/IP devices offer
+ * several tunneling connections, and an installation may have several KNX Net/IP devices.
+ * This client opens one tunneling connection per given {@link Config} and:
+ * <ul>
+ * <li>spreads write and read requests across the tunneling connections; the connection is
+ * chosen by the hash of group address to preserve the order of requests per group address</li>
+ * <li>merges the incoming indications of all tunneling connections into one status pool;
+ * an identical status that arrives via another connection is de-duplicated within
+ * {@link CoreConfigs.Pool#DEDUPLICATION_WINDOW}</li>
+ * <li>shares one statistic and one plugin manager across all tunneling connections</li>
+ * </ul>
+ * Tunneling connections that cannot be established (e.g. no free tunneling slot) are skipped,
+ * at least one tunneling connection is required.
+ * <p>
+ * When created with a {@link Config} having several endpoints (see {@link ConfigBuilder#endpoint(InetAddress, int)})
+ * one tunneling connection per KNX Net/IP device is opened. The traffic is sent to the first healthy device in
+ * order of endpoints, the other devices are kept connected as hot standby; or, if
+ * {@link CoreConfigs.Pool#LOAD_BALANCING} is enabled, the traffic is spread across all healthy devices.
+ * <p>
+ * A tunneling connection is degraded (not healthy) when
+ * <ul>
+ * <li>it is reconnecting, or the connection state response is overdue</li>
+ * <li>the round trip time of last connection state request exceeds {@link CoreConfigs.Pool#MAX_ROUND_TRIP_TIME}</li>
+ * <li>a tunneling request was not acknowledged (or not within {@link CoreConfigs.Pool#MAX_ROUND_TRIP_TIME}),
+ * and no connection state response has been received since then</li>
+ * </ul>
+ * The traffic of a degraded tunneling connection is taken over by the next healthy tunneling connection;
+ * a tunneling request that was not acknowledged is sent again (once) via the next healthy tunneling connection.
+ * <p>
+ * The plugins and general settings are taken from the first {@link Config}. Routing is not supported.
+ *
+ * @author PITSCHR
+ */
+public final class PooledKnxClient implements KnxClient {
+    private static final Logger log = LoggerFactory.getLogger(PooledKnxClient.class);
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final Config config;
+    private final InternalKnxStatistic statistics = new InternalKnxStatistic();
+    private final InternalKnxStatusPool statusPool;
+    private final PluginManager pluginManager;
+    private final List<Connection> connections;
+    private final boolean loadBalancing;
+    private final long maxRoundTripTimeNanos;
+
+    private PooledKnxClient(final @Nullable KnxRuntime runtime, final List<Config> configs, final boolean loadBalancing) {
+        Preconditions.checkArgument(!configs.isEmpty(), "At least one config is required.");
+        for (final var c : configs) {
+            Preconditions.checkArgument(!c.isRoutingEnabled(), "Routing is not supported by pooled KNX client: {}", c);
+        }
+        this.config = configs.get(0);
+        this.loadBalancing = loadBalancing;
+        this.maxRoundTripTimeNanos = TimeUnit.MILLISECONDS.toNanos(this.config.getValue(CoreConfigs.Pool.MAX_ROUND_TRIP_TIME));
+        this.statusPool = new InternalKnxStatusPool(this.config.getValue(CoreConfigs.Pool.DEDUPLICATION_WINDOW));
+
+        if (runtime == null) {
+            this.pluginManager = new PluginManager(this.config, this.statistics);
+
+            // In case of forced shutdown (e.g. CTRL+C) we should try to close the client properly
+            Runtime.getRuntime().addShutdownHook(new Thread(this::close));
+        } else {
+            // plugin executor and shutdown hook are provided by the shared runtime
+            this.pluginManager = new PluginManager(this.config, runtime.getPluginExecutor(), this.statistics);
+        }
+
+        final var tmpConnections = new ArrayList<Connection>(configs.size());
+        for (final var c : configs) {
+            tmpConnections.add(new Connection(new InternalKnxClient(c, runtime, this.statistics, this.statusPool, this.pluginManager)));
+        }
+        this.connections = Collections.unmodifiableList(tmpConnections);
+        this.pluginManager.notifyInitialization(this);
+    }
+
+    /**
+     * Creates the pooled KNX client with one tunneling connection per endpoint of given {@link Config}
+     * (see {@link Config#getEndpoints()}). The first healthy KNX Net/IP device is used, the others are
+     * kept as hot standby, unless {@link CoreConfigs.Pool#LOAD_BALANCING} is enabled.
+     *
+     * @param config the configuration with one or more endpoints
+     * @return an instance of {@link PooledKnxClient}
+     */
+    public static PooledKnxClient createStarted(final Config config) {
+        return createStarted(null, config);
+    }
+
+    /**
+     * Creates the pooled KNX client with one tunneling connection per endpoint of given {@link Config}
+     * against the shared {@link KnxRuntime}
+     *
+     * @param runtime the shared runtime
+     * @param config  the configuration with one or more endpoints
+     * @return an instance of {@link PooledKnxClient}
+     * @see #createStarted(Config)
+     */
+    public static PooledKnxClient createStarted(final @Nullable KnxRuntime runtime, final Config config) {
+        final var configs = new ArrayList<Config>();
+        for (final var endpoint : config.getEndpoints()) {
+            configs.add(config.withEndpoint(endpoint));
+        }
+        final var client = new PooledKnxClient(runtime, configs, config.getValue(CoreConfigs.Pool.LOAD_BALANCING));
+        client.start();
+        return client;
+    }
+
+    /**
+     * Creates the pooled KNX client with {@code connections} tunneling connections
+     * to the KNX Net/IP device of given {@link Config}
+     *
+     * @param config      the configuration for all tunneling connections
+     * @param connections number of tunneling connections
+     * @return an instance of {@link PooledKnxClient}
+     */
+    public static PooledKnxClient createStarted(final Config config, final int connections) {
+        Preconditions.checkNonNull(config);
+        Preconditions.checkArgument(connections > 0, "Number of connections must be positive: {}", connections);
+        return createStarted(Collections.nCopies(connections, config));
+    }
+
+    /**
+     * Creates the pooled KNX client with one tunneling connection per {@link Config}. The
+     * configs may refer to the same or to different KNX Net/IP devices.
+     *
+     * @param configs the configurations, one per tunneling connection
+     * @return an instance of {@link PooledKnxClient}
+     */
+    public static PooledKnxClient createStarted(final List<Config> configs) {
+        final var client = new PooledKnxClient(null, List.copyOf(configs), true);
+        client.start();
+        return client;
+    }
+
+    /**
+     * Creates the pooled KNX client with one tunneling connection per {@link Config}
+     * against the shared {@link KnxRuntime}
+     *
+     * @param runtime the shared runtime
+     * @param configs the configurations, one per tunneling connection
+     * @return an instance of {@link PooledKnxClient}
+     */
+    public static PooledKnxClient createStarted(final KnxRuntime runtime, final List<Config> configs) {
+        final var client = new PooledKnxClient(Objects.requireNonNull(runtime), List.copyOf(configs), true);
+        client.start();
+        return client;
+    }
+
+    /**
+     * Starts the tunneling connections. Connections that cannot be established are skipped.
+     *
+     * @throws RuntimeException the exception of first tunneling connection if no connection could be established
+     */
+    private void start() {
+        RuntimeException firstException = null;
+        for (final var connection : this.connections) {
+            try {
+                connection.client.start();
+            } catch (final RuntimeException ex) {
+                log.warn("Could not establish tunneling connection: {}", connection, ex);
+                if (firstException == null) {
+                    firstException = ex;
+                }
+            }
+        }
+
+        final var activeConnections = getActiveConnections();
+        if (activeConnections == 0) {
+            this.close();
+            throw Objects.requireNonNull(firstException);
+        }
+        log.info("Pooled KNX client started with {} of {} tunneling connections.", activeConnections, this.connections.size());
+        this.pluginManager.notifyClientStart();
+    }
+
+    /**
+     * Returns the number of tunneling connections that are established
+     *
+     * @return number of established tunneling connections
+     */
+    public int getActiveConnections() {
+        return (int) this.connections.stream().filter(Connection::isStarted).count();
+    }
+
+    /**
+     * Returns the number of tunneling connections that are established and healthy
+     *
+     * @return number of healthy tunneling connections
+     */
+    public int getHealthyConnections() {
+        return (int) this.connections.stream().filter(this::isHealthy).count();
+    }
+
+    /**
+     * Returns the tunneling connection for given {@link KnxAddress}. The first healthy tunneling connection
+     * is taken, or if no tunneling connection is healthy, the first established tunneling connection.
+     * With load-balancing the search starts with the connection responsible for the hash of {@code address},
+     * otherwise with the first connection.
+     *
+     * @param address the destination address
+     * @param exclude the connection to be excluded, may be {@code null}
+     * @return tunneling connection, or {@code null} if no tunneling connection is established
+     */
+    @Nullable
+    private Connection getConnection(final KnxAddress address, final @Nullable Connection exclude) {
+        final var size = this.connections.size();
+        final var index = this.loadBalancing ? Math.floorMod(address.hashCode(), size) : 0;
+        Connection fallback = null;
+        for (var i = 0; i < size; i++) {
+            final var connection = this.connections.get((index + i) % size);
+            if (connection == exclude || !connection.isStarted()) {
+                continue;
+            }
+            if (isHealthy(connection)) {
+                return connection;
+            } else if (fallback == null) {
+                fallback = connection;
+            }
+        }
+        return fallback;
+    }
+
+    /**
+     * Returns if the tunneling connection is established and not degraded
+     *
+     * @param connection the tunneling connection to be checked
+     * @return {@code true} if healthy, otherwise {@code false}
+     */
+    private boolean isHealthy(final Connection connection) {
+        final var client = connection.client;
+        final var monitor = client.getConnectionStateMonitor();
+        if (!connection.isStarted() || client.isReconnecting() || monitor == null || monitor.isHeartbeatOverdue()) {
+            return false;
+        }
+        // degraded until a connection state response arrived within round trip time after the failure
+        return monitor.getRoundTripTime() <= this.maxRoundTripTimeNanos
+                && (!connection.failed || monitor.getLastResponseTime() - connection.failureTime > 0);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> writeRequest(final GroupAddress address, final DataPointValue dataPointValue) {
+        Preconditions.checkNonNull(address);
+        Preconditions.checkNonNull(dataPointValue);
+        Preconditions.checkState(isRunning());
+
+        final var cemi = CEMI.useDefault(MessageCode.L_DATA_REQ, address, APCI.GROUP_VALUE_WRITE, dataPointValue);
+        return sendTunneling(cemi);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> readRequest(final GroupAddress address) {
+        Preconditions.checkNonNull(address);
+        Preconditions.checkState(isRunning());
+
+        final var cemi = CEMI.useDefault(MessageCode.L_DATA_REQ, address, APCI.GROUP_VALUE_READ, null);
+        return sendTunneling(cemi);
+    }
+
+    /**
+     * Sends the {@link CEMI} as tunneling request via the tunneling connection for destination address.
+     * If the tunneling request is not acknowledged, it is sent again via another tunneling connection.
+     *
+     * @param cemi the CEMI to be sent
+     * @return a {@link CompletableFuture} with {@code true} if acknowledged without error, otherwise {@code false}
+     */
+    private CompletableFuture<Boolean> sendTunneling(final CEMI cemi) {
+        final var connection = getConnection(cemi.getDestinationAddress(), null);
+        if (connection == null) {
+            throw new KnxCommunicationException("No tunneling connection available for: {}", cemi.getDestinationAddress());
+        }
+
+        final var future = new CompletableFuture<Boolean>();
+        sendTunneling(connection, cemi).whenComplete((ack, throwable) -> {
+            if (ack != null) {
+                future.complete(ack.getStatus() == Status.NO_ERROR);
+                return;
+            }
+
+            // not acknowledged -> send again via another tunneling connection
+            final var otherConnection = getConnection(cemi.getDestinationAddress(), connection);
+            if (otherConnection == null) {
+                future.completeExceptionally(throwable == null ? new KnxBodyNotReceivedException(TunnelingAckBody.class) : throwable);
+            } else {
+                log.warn("Tunneling request not acknowledged by {}, send it again via: {}", connection, otherConnection);
+                sendTunneling(otherConnection, cemi).whenComplete((otherAck, otherThrowable) -> {
+                    if (otherAck != null) {
+                        future.complete(otherAck.getStatus() == Status.NO_ERROR);
+                    } else {
+                        future.completeExceptionally(otherThrowable == null ? new KnxBodyNotReceivedException(TunnelingAckBody.class) : otherThrowable);
+                    }
+                });
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Sends the {@link CEMI} as tunneling request via given tunneling connection and marks the
+     * connection as failed if the tunneling request is not acknowledged within round trip time.
+     *
+     * @param connection the tunneling connection
+     * @param cemi       the CEMI to be sent
+     * @return a {@link CompletableFuture} with acknowledge, or {@code null} if not acknowledged
+     */
+    private CompletableFuture<TunnelingAckBody> sendTunneling(final Connection connection, final CEMI cemi) {
+        final var client = connection.client;
+        final var start = System.nanoTime();
+        return client.<TunnelingAckBody>send(
+                TunnelingRequestBody.of(client.getChannelId(), client.nextSequence(), cemi),
+                client.getConfig(CoreConfigs.Tunneling.REQUEST_TIMEOUT)
+        ).whenComplete((ack, throwable) -> {
+            final var now = System.nanoTime();
+            if (ack == null || now - start > this.maxRoundTripTimeNanos) {
+                connection.onFailure(now);
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The body is sent via the first healthy tunneling connection.
+     */
+    @Override
+    public void send(final Body body) {
+        getFirstConnection().client.send(body);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The request body is sent via the first healthy tunneling connection.
+     */
+    @Override
+    public <T extends ResponseBody> CompletableFuture<T> send(final RequestBody requestBody, final long msTimeout) {
+        return getFirstConnection().client.send(requestBody, msTimeout);
+    }
+
+    private Connection getFirstConnection() {
+        final var connection = this.connections.stream().filter(this::isHealthy).findFirst()
+                .or(() -> this.connections.stream().filter(Connection::isStarted).findFirst());
+        return connection.orElseThrow(() -> new KnxCommunicationException("No tunneling connection available."));
+    }
+
+    @Override
+    public Config getConfig() {
+        return this.config;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The pooled KNX client is running as long at least one tunneling connection is established.
+     */
+    @Override
+    public boolean isRunning() {
+        return !this.closed.get() && getActiveConnections() > 0;
+    }
+
+    @Override
+    public KnxStatistic getStatistic() {
+        return this.statistics.asUnmodifiable();
+    }
+
+    @Override
+    public KnxStatusPool getStatusPool() {
+        return this.statusPool;
+    }
+
+    @Override
+    public void close() {
+        if (this.closed.getAndSet(true)) {
+            log.debug("Already closed. Do nothing!");
+            return;
+        }
+
+        this.connections.forEach(c -> c.client.close());
+
+        // notifies the extension plug-ins about shutdown
+        this.pluginManager.notifyClientShutdown();
+        this.pluginManager.close();
+        log.info("Pooled KNX client closed.");
+    }
+
+    @Override
+    public String toString() {
+        return Strings.toStringHelper(this)
+                .add("connections", this.connections.size())
+                .add("activeConnections", getActiveConnections())
+                .add("loadBalancing", this.loadBalancing)
+                .add("closed", this.closed.get())
+                .toString();
+    }
+
+    /**
+     * Tunneling connection of pool with time of last failure
+     */
+    private static final class Connection {
+        private final InternalKnxClient client;
+        private volatile boolean failed;
+        private volatile long failureTime;
+
+        private Connection(final InternalKnxClient client) {
+            this.client = client;
+        }
+
+        private boolean isStarted() {
+            return this.client.getState() == InternalKnxClient.State.STARTED;
+        }
+
+        private void onFailure(final long time) {
+            this.failureTime = time;
+            this.failed = true;
+        }
+
+        @Override
+        public String toString() {
+            return Strings.toStringHelper(this)
+                    .add("endpoint", this.client.getConfig().getRemoteControlAddress().getHostAddress()
+                            + ":" + this.client.getConfig().getRemoteControlPort())
+                    .add("state", this.client.getState())
+                    .add("failed", this.failed)
+                    .toString();
+        }
+    }
+}
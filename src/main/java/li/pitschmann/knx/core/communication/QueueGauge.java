@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication;
+
+import li.pitschmann.knx.core.utils.Strings;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free gauge for the depth of a queue, the enqueue-to-dequeue wait time and the
+ * number of rejected elements
+ * <p>
+ * Every element is counted by {@link #enqueue()} when offered to the queue and afterwards
+ * either by {@link #dequeue(long)} when taken for processing or by {@link #reject()} when
+ * rejected or dropped.
+ *
+ * @author PITSCHR
+ */
+final class QueueGauge {
+    private final AtomicLong depth = new AtomicLong();
+    private final AtomicLong maxDepth = new AtomicLong();
+    private final LongAdder numberOfEnqueued = new LongAdder();
+    private final LongAdder numberOfRejected = new LongAdder();
+    private final LatencyHistogram wait = new LatencyHistogram();
+
+    /**
+     * Counts an element that is offered to the queue
+     */
+    void enqueue() {
+        this.numberOfEnqueued.increment();
+        final var newDepth = this.depth.incrementAndGet();
+        if (newDepth > this.maxDepth.get()) {
+            this.maxDepth.accumulateAndGet(newDepth, Math::max);
+        }
+    }
+
+    /**
+     * Counts an element that is taken from queue for processing
+     *
+     * @param waitNanos time in nanoseconds the element has been waiting in the queue
+     */
+    void dequeue(final long waitNanos) {
+        this.depth.decrementAndGet();
+        this.wait.record(waitNanos);
+    }
+
+    /**
+     * Counts an element that is rejected or dropped instead of processed
+     */
+    void reject() {
+        this.depth.decrementAndGet();
+        this.numberOfRejected.increment();
+    }
+
+    /**
+     * Returns the current statistic of queue
+     *
+     * @return a new immutable {@link KnxQueueStatistic}
+     */
+    KnxQueueStatistic snapshot() {
+        return new KnxQueueStatistic(
+                // depth may be negative for a moment when an element is dequeued before its enqueue is counted
+                Math.max(0L, this.depth.get()),
+                this.maxDepth.get(),
+                this.numberOfEnqueued.sum(),
+                this.numberOfRejected.sum(),
+                this.wait.snapshot()
+        );
+    }
+
+    @Override
+    public String toString() {
+        return Strings.toStringHelper(this)
+                .add("statistic", snapshot())
+                .toString();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication;
+
+import li.pitschmann.knx.core.utils.Strings;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free meter for moving average rates (exponentially weighted) over one second,
+ * one minute and five minutes
+ * <p>
+ * Events are summed up in a {@link LongAdder}; the averages are updated once per second
+ * lazily when the meter is marked or read. Only the thread that wins the tick updates the
+ * averages, other threads continue without waiting.
+ *
+ * @author PITSCHR
+ */
+final class RateMeter {
+    private static final long TICK_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+    private final LongSupplier nanoClock;
+    private final AtomicLong lastTick;
+    private final LongAdder uncounted = new LongAdder();
+    private final Ewma oneSecond = new Ewma(1);
+    private final Ewma oneMinute = new Ewma(60);
+    private final Ewma fiveMinute = new Ewma(300);
+
+    /**
+     * Creates a new {@link RateMeter}
+     *
+     * @param nanoClock clock in nanoseconds, see {@link System#nanoTime()}
+     */
+    RateMeter(final LongSupplier nanoClock) {
+        this.nanoClock = Objects.requireNonNull(nanoClock);
+        this.lastTick = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Marks the occurrence of {@code n} events
+     *
+     * @param n number of events
+     */
+    void mark(final long n) {
+        tickIfNecessary();
+        this.uncounted.add(n);
+    }
+
+    /**
+     * Returns the current moving average rates
+     *
+     * @return a new immutable {@link KnxRate}
+     */
+    KnxRate snapshot() {
+        tickIfNecessary();
+        return new KnxRate(this.oneSecond.rate, this.oneMinute.rate, this.fiveMinute.rate);
+    }
+
+    private void tickIfNecessary() {
+        final var oldTick = this.lastTick.get();
+        final var age = this.nanoClock.getAsLong() - oldTick;
+        if (age >= TICK_INTERVAL) {
+            final var ticks = age / TICK_INTERVAL;
+            if (this.lastTick.compareAndSet(oldTick, oldTick + ticks * TICK_INTERVAL)) {
+                // events since last tick belong to the first tick, remaining ticks had no events
+                final var count = this.uncounted.sumThenReset();
+                this.oneSecond.tick(count, ticks);
+                this.oneMinute.tick(count, ticks);
+                this.fiveMinute.tick(count, ticks);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Strings.toStringHelper(this)
+                .add("rate", snapshot())
+                .toString();
+    }
+
+    /**
+     * Exponentially weighted moving average with tick interval of one second
+     */
+    private static final class Ewma {
+        private final double windowSeconds;
+        private final double alpha;
+        private volatile double rate;
+
+        private Ewma(final int windowSeconds) {
+            this.windowSeconds = windowSeconds;
+            this.alpha = 1d - Math.exp(-1d / windowSeconds);
+        }
+
+        private void tick(final long count, final long ticks) {
+            final var newRate = this.rate + this.alpha * (count - this.rate);
+            // decay for ticks without events
+            this.rate = newRate * Math.exp(-(ticks - 1) / this.windowSeconds);
+        }
+    }
+}
@@ -22,28 +22,39 @@ import li.pitschmann.knx.core.body.Body;
 import li.pitschmann.knx.core.body.RequestBody;
 import li.pitschmann.knx.core.body.ResponseBody;
 import li.pitschmann.knx.core.communication.InternalKnxClient;
+import li.pitschmann.knx.core.communication.KnxQueueType;
 import li.pitschmann.knx.core.communication.event.KnxEvent;
 import li.pitschmann.knx.core.communication.event.KnxMultiEvent;
+import li.pitschmann.knx.core.communication.jfr.KnxRequestEvent;
 import li.pitschmann.knx.core.communication.queue.AbstractInboxQueue;
 import li.pitschmann.knx.core.communication.queue.AbstractOutboxQueue;
 import li.pitschmann.knx.core.communication.queue.DefaultInboxQueue;
 import li.pitschmann.knx.core.communication.queue.DefaultOutboxQueue;
+import li.pitschmann.knx.core.communication.queue.KnxEventLoop;
 import li.pitschmann.knx.core.config.CoreConfigs;
 import li.pitschmann.knx.core.utils.Closeables;
+import li.pitschmann.knx.core.utils.ExecutorServices;
 import li.pitschmann.knx.core.utils.Sleeper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.channels.ByteChannel;
 import java.nio.channels.SelectableChannel;
+import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Abstract channel communicator. It coordinates the communication for given channel
@@ -52,20 +63,41 @@ import java.util.function.Predicate;
  * <p>
  * It also controls the lifecycle of channel (opening, closing) and all receiving
  * KNX packets are forwarded to all subscribers.
+ * <p>
+ * If the KNX client has a {@link KnxEventLoop}, the inbox and outbox queues are
+ * served by the event loop instead of dedicated threads. As the event loop thread must
+ * not block, the received bodies are handed off to the communication executor which
+ * dispatches them in order to the subscribers (and may wait until subscribers have capacity).
+ * Otherwise the queues and the dispatching of received bodies are served by own threads
+ * of this communicator.
  *
  * @author PITSCHR
  */
-public abstract class AbstractChannelCommunicator extends SubmissionPublisher<Body> implements Runnable {
+public abstract class AbstractChannelCommunicator extends SubmissionPublisher<Body> {
+    private static final long QUEUE_TERMINATION_TIMEOUT_MILLIS = 5000;
     protected final Logger log = LoggerFactory.getLogger(getClass());
     private final InternalKnxClient client;
     private final AtomicBoolean closed = new AtomicBoolean();
     private final ExecutorService queueExecutor;
     private final ExecutorService communicationExecutor;
+    private final KnxEventLoop.Registration eventLoopRegistration;
 
     private final SelectableChannel channel;
     private final AbstractInboxQueue<? extends ByteChannel> inboxQueue;
     private final AbstractOutboxQueue<? extends ByteChannel> outboxQueue;
 
+    /**
+     * Lock for subscribe and reading the subscribers to record the submit time of a body. The lock
+     * is not held while waiting for subscribers to have capacity.
+     */
+    private final Object submitLock = new Object();
+
+    /**
+     * Bodies received by the event loop thread that are not dispatched to subscribers yet
+     */
+    private final Queue<Body> handOffQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean handOffScheduled = new AtomicBoolean();
+
     protected AbstractChannelCommunicator(final InternalKnxClient client) {
         this.client = Objects.requireNonNull(client);
 
@@ -77,17 +109,34 @@ public abstract class AbstractChannelCommunicator extends SubmissionPublisher<Bo
         this.outboxQueue = createOutboxQueue(this.client, this.channel);
         log.debug("Inbox and Outbox Queues created: InboxQueue={}, OutboxQueue={}.", this.inboxQueue, this.outboxQueue);
 
-        // creates queue executor
-        this.queueExecutor = Executors.newFixedThreadPool(2);
-        this.queueExecutor.submit(inboxQueue);
-        this.queueExecutor.submit(outboxQueue);
-        this.queueExecutor.shutdown();
-        log.debug("Queue Executor created: {}", this.queueExecutor);
-
-        // creates executor for communication
-        final var poolSize = this.client.getConfig(CoreConfigs.Communication.EXECUTOR_POOL_SIZE);
-        this.communicationExecutor = Executors.newFixedThreadPool(poolSize);
-        log.debug("Communication Executor created with size of {}: {}", poolSize, this.communicationExecutor);
+        final var eventLoop = this.client.getEventLoop();
+        if (eventLoop == null) {
+            // creates queue executor (inbox queue, outbox queue and dispatching of received bodies)
+            this.queueExecutor = Executors.newFixedThreadPool(3);
+            this.queueExecutor.submit(inboxQueue);
+            this.queueExecutor.submit(outboxQueue);
+            this.queueExecutor.submit(this::dispatchLoop);
+            this.queueExecutor.shutdown();
+            this.eventLoopRegistration = null;
+            log.debug("Queue Executor created: {}", this.queueExecutor);
+        } else {
+            // queues are served by the event loop, received bodies are dispatched by the event loop thread
+            this.queueExecutor = null;
+            this.eventLoopRegistration = eventLoop.register(inboxQueue, outboxQueue, this::handOff);
+            log.debug("Queues registered to event loop: {}", eventLoop);
+        }
+
+        // creates executor for communication (or use the executor of shared runtime)
+        final var runtime = this.client.getRuntime();
+        if (runtime == null) {
+            final var poolSize = this.client.getConfig(CoreConfigs.Communication.EXECUTOR_POOL_SIZE);
+            final var virtualThreads = this.client.getConfig(CoreConfigs.Communication.VIRTUAL_THREADS_ENABLED);
+            this.communicationExecutor = ExecutorServices.newExecutorService(virtualThreads, poolSize);
+            log.debug("Communication Executor created with size of {} (virtual threads: {}): {}", poolSize, virtualThreads, this.communicationExecutor);
+        } else {
+            this.communicationExecutor = runtime.getTaskExecutor();
+            log.debug("Communication Executor of shared runtime used: {}", this.communicationExecutor);
+        }
     }
 
     /**
@@ -127,27 +176,26 @@ public abstract class AbstractChannelCommunicator extends SubmissionPublisher<Bo
         return channel;
     }
 
-    @Override
-    public void run() {
+    /**
+     * Returns {@code true} if the channel of this communicator is served by the {@link KnxEventLoop}.
+     *
+     * @return {@code true} if event loop is used, otherwise {@code false}
+     */
+    public final boolean isEventLoopRegistered() {
+        return eventLoopRegistration != null;
+    }
+
+    /**
+     * Dispatches the bodies taken from inbox queue to the subscribers until the communicator
+     * is closed. Used only when the communicator is not served by the {@link KnxEventLoop}.
+     */
+    private void dispatchLoop() {
         log.trace("*** START ***");
 
         while (!Thread.interrupted() && !isClosed()) {
             try {
                 log.debug("Waiting for next packet from channel");
-                final var body = this.inboxQueue.next();
-                // accepted body
-                if (this.isCompatible(body)) {
-                    if (isClosed()) {
-                        log.warn("Body not sent to subscribers because submission publisher is closed: {}", body);
-                    } else {
-                        log.debug("Body from channel to be sent to subscribers: {}", body);
-                        this.submit(body);
-                    }
-                }
-                // not accepted body
-                else {
-                    log.warn("Body is not expected for this channel and therefore ignored: {}", body);
-                }
+                dispatch(this.inboxQueue.next());
             } catch (final InterruptedException ex) {
                 log.debug("Channel receiver is cancelled");
                 Thread.currentThread().interrupt();
@@ -163,6 +211,144 @@ public abstract class AbstractChannelCommunicator extends SubmissionPublisher<Bo
         log.trace("*** END ***");
     }
 
+    /**
+     * Dispatches the received {@link Body} to the subscribers
+     *
+     * @param body the body received from channel
+     */
+    private void dispatch(final Body body) {
+        // accepted body
+        if (this.isCompatible(body)) {
+            if (isClosed()) {
+                log.warn("Body not sent to subscribers because submission publisher is closed: {}", body);
+                this.client.notifyEnqueue(KnxQueueType.SUBSCRIBER);
+                this.client.notifyReject(KnxQueueType.SUBSCRIBER);
+            } else {
+                log.debug("Body from channel to be sent to subscribers: {}", body);
+                // a subscriber added after reading the subscribers gets the body without submit time
+                // recorded, see MeteredSubscriber#onNext(Body)
+                final List<Flow.Subscriber<? super Body>> subscribers;
+                synchronized (this.submitLock) {
+                    subscribers = super.getSubscribers();
+                }
+                final var submitTime = System.nanoTime();
+                for (final var subscriber : subscribers) {
+                    ((MeteredSubscriber) subscriber).enqueue(submitTime);
+                }
+                awaitSubscriberCapacity();
+                this.submit(body);
+            }
+        }
+        // not accepted body
+        else {
+            log.warn("Body is not expected for this channel and therefore ignored: {}", body);
+        }
+    }
+
+    /**
+     * Waits until all subscribers have capacity for the next body in their buffer. Bodies are
+     * dispatched by a single thread only, therefore the subsequent submit will not block.
+     * <p>
+     * A blocking {@link #submit(Object)} would wait while holding the monitor of the submission
+     * publisher, which blocks {@link #subscribe(Flow.Subscriber)} and {@link #close()} as well.
+     */
+    private void awaitSubscriberCapacity() {
+        final var capacity = getMaxBufferCapacity();
+        while (estimateMaximumLag() >= capacity && !isClosed()) {
+            if (!Sleeper.milliseconds(1)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Hands off the body received by the event loop thread. The event loop thread must not block,
+     * the bodies are dispatched in order by a single task of communication executor that may wait
+     * until subscribers have capacity. No body is dropped.
+     *
+     * @param body the body received from channel
+     */
+    private void handOff(final Body body) {
+        this.handOffQueue.add(body);
+        scheduleHandOff();
+    }
+
+    /**
+     * Schedules the task that dispatches the handed off bodies, if not scheduled yet
+     */
+    private void scheduleHandOff() {
+        if (!this.handOffQueue.isEmpty() && this.handOffScheduled.compareAndSet(false, true)) {
+            try {
+                this.communicationExecutor.execute(this::dispatchHandOff);
+            } catch (final RejectedExecutionException ex) {
+                this.handOffScheduled.set(false);
+                log.debug("Bodies not dispatched because communication executor is shut down: {}", this.handOffQueue.size());
+            }
+        }
+    }
+
+    /**
+     * Dispatches the handed off bodies in order to the subscribers
+     */
+    private void dispatchHandOff() {
+        try {
+            Body body;
+            while ((body = this.handOffQueue.poll()) != null) {
+                dispatch(body);
+            }
+        } catch (final Throwable t) {
+            // race condition: log issue only when it is not closed
+            if (!isClosed()) {
+                log.error("Throwable caught during dispatching bodies", t);
+            }
+        } finally {
+            this.handOffScheduled.set(false);
+            // a body may have been handed off after last poll
+            if (!isClosed()) {
+                scheduleHandOff();
+            }
+        }
+    }
+
+    /**
+     * Adds the given subscriber. The subscriber is wrapped to measure the time bodies are
+     * waiting in the buffer of subscriber, see {@link KnxQueueType#SUBSCRIBER}.
+     * <p>
+     * As the wrapper is equal to the wrapper of an already subscribed (same) subscriber, a
+     * duplicate subscription is detected by {@link SubmissionPublisher#subscribe(Flow.Subscriber)}.
+     *
+     * @param subscriber the subscriber
+     */
+    @Override
+    public void subscribe(final Flow.Subscriber<? super Body> subscriber) {
+        Objects.requireNonNull(subscriber);
+        synchronized (this.submitLock) {
+            super.subscribe(new MeteredSubscriber(subscriber));
+        }
+    }
+
+    /**
+     * Returns a list of current subscribers (unwrapped)
+     *
+     * @return list of current subscribers
+     */
+    @Override
+    public List<Flow.Subscriber<? super Body>> getSubscribers() {
+        return super.getSubscribers().stream()
+                .map(AbstractChannelCommunicator::unwrap)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean isSubscribed(final Flow.Subscriber<? super Body> subscriber) {
+        Objects.requireNonNull(subscriber);
+        return getSubscribers().stream().anyMatch(s -> s.equals(subscriber));
+    }
+
+    private static Flow.Subscriber<? super Body> unwrap(final Flow.Subscriber<? super Body> subscriber) {
+        return subscriber instanceof MeteredSubscriber ? ((MeteredSubscriber) subscriber).delegate : subscriber;
+    }
+
     /**
      * Returns if given {@link Body} is compatible
      *
@@ -211,8 +397,19 @@ public abstract class AbstractChannelCommunicator extends SubmissionPublisher<Bo
     public final <T extends ResponseBody> CompletableFuture<T> send(final RequestBody requestBody,
                                                                     final @Nullable Predicate<T> predicate,
                                                                     final long msTimeout) {
-        return CompletableFuture
-                .supplyAsync(() -> sendAndWaitInternal(requestBody, predicate, msTimeout), this.communicationExecutor)
+        final var enqueueTime = System.nanoTime();
+        this.client.notifyEnqueue(KnxQueueType.COMMUNICATION_EXECUTOR);
+        final CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> {
+                this.client.notifyDequeue(KnxQueueType.COMMUNICATION_EXECUTOR, System.nanoTime() - enqueueTime);
+                return sendAndWaitInternal(requestBody, predicate, msTimeout);
+            }, this.communicationExecutor);
+        } catch (final RejectedExecutionException ex) {
+            this.client.notifyReject(KnxQueueType.COMMUNICATION_EXECUTOR);
+            throw ex;
+        }
+        return future
                 .exceptionally(throwable -> {
                     this.client.notifyError(throwable);
                     return null;
@@ -234,6 +431,8 @@ public abstract class AbstractChannelCommunicator extends SubmissionPublisher<Bo
     private final <T extends ResponseBody> T sendAndWaitInternal(final RequestBody requestBody,
                                                                  final @Nullable Predicate<T> predicate,
                                                                  final long msTimeout) {
+        final var jfrEvent = new KnxRequestEvent();
+        jfrEvent.begin();
         final var eventPool = this.client.getEventPool();
 
         // override the last knx event with the most recent request body
@@ -248,11 +447,16 @@ public abstract class AbstractChannelCommunicator extends SubmissionPublisher<Bo
 
         // send packet
         var attempts = 1;
+        var retries = 0;
         final var totalAttempts = CoreConfigs.Event.TOTAL_ATTEMPTS;
         final var checkInterval = CoreConfigs.Event.CHECK_INTERVAL;
         T responseBody = null;
 
         do {
+            if (attempts > 1) {
+                this.client.notifyRetransmit(requestBody);
+                retries++;
+            }
             send(requestBody);
 
             // iterate for event response
@@ -296,6 +500,12 @@ public abstract class AbstractChannelCommunicator extends SubmissionPublisher<Bo
             // if no response and not interrupted try to repeat this step up to 'totalAttempts'
         } while (responseBody == null && attempts++ < totalAttempts && !Thread.currentThread().isInterrupted());
 
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.setBody(requestBody);
+            jfrEvent.setRetries(retries);
+            jfrEvent.setResponseReceived(responseBody != null);
+            jfrEvent.commit();
+        }
         return responseBody;
     }
 
@@ -313,19 +523,157 @@ public abstract class AbstractChannelCommunicator extends SubmissionPublisher<Bo
                 cleanUp();
             } finally {
                 // close channel and executors
+                // the local port is released when the channel is deregistered from all selectors and closed:
+                // wait until the event loop has deregistered the channel or the queue threads have terminated
+                if (this.eventLoopRegistration != null) {
+                    this.eventLoopRegistration.cancel();
+                }
                 Closeables.closeQuietly(this.channel);
-                Closeables.shutdownQuietly(this.queueExecutor);
-                Closeables.shutdownQuietly(this.communicationExecutor);
+                awaitQueueTermination();
+                if (this.client.getRuntime() == null) {
+                    Closeables.shutdownQuietly(this.communicationExecutor);
+                }
                 log.debug("Method 'close()' called.");
             }
 
         }
     }
 
+    /**
+     * Shuts down the queue executor and waits until the inbox, outbox and dispatching threads
+     * have been terminated. The selectors of inbox and outbox queue are closed when terminated.
+     */
+    private void awaitQueueTermination() {
+        if (this.queueExecutor == null) {
+            return;
+        }
+        Closeables.shutdownQuietly(this.queueExecutor);
+        try {
+            if (!this.queueExecutor.awaitTermination(QUEUE_TERMINATION_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                log.warn("Queue threads not terminated within {} ms: {}", QUEUE_TERMINATION_TIMEOUT_MILLIS, this.queueExecutor);
+            }
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     /**
      * Method to be invoked before closing the communicator
      */
     protected void cleanUp() {
         // NO-OP
     }
+
+    /**
+     * Subscriber that records the submit times of bodies until they are consumed from buffer
+     * of subscriber and then delegates to the actual subscriber. Bodies that are dropped or
+     * that are still in buffer when the subscription ends are counted as rejected.
+     */
+    private final class MeteredSubscriber implements Flow.Subscriber<Body> {
+        private final Flow.Subscriber<? super Body> delegate;
+        /**
+         * Submit times of bodies not consumed yet (ring buffer, oldest first)
+         */
+        private long[] submitTimes = new long[16];
+        private int head;
+        private int size;
+        private boolean cancelled;
+
+        private MeteredSubscriber(final Flow.Subscriber<? super Body> delegate) {
+            this.delegate = delegate;
+        }
+
+        /**
+         * Records the submit time of body that is about to be submitted to this subscriber
+         *
+         * @param submitTime submit time in nanoseconds
+         */
+        private void enqueue(final long submitTime) {
+            synchronized (this) {
+                if (this.cancelled) {
+                    return;
+                }
+                if (this.size == this.submitTimes.length) {
+                    final var newSubmitTimes = new long[this.size << 1];
+                    for (var i = 0; i < this.size; i++) {
+                        newSubmitTimes[i] = this.submitTimes[(this.head + i) & (this.size - 1)];
+                    }
+                    this.submitTimes = newSubmitTimes;
+                    this.head = 0;
+                }
+                this.submitTimes[(this.head + this.size++) & (this.submitTimes.length - 1)] = submitTime;
+            }
+            client.notifyEnqueue(KnxQueueType.SUBSCRIBER);
+        }
+
+        /**
+         * Removes the submit times of all bodies that will not be consumed anymore
+         */
+        private void rejectAll() {
+            final int rejected;
+            synchronized (this) {
+                this.cancelled = true;
+                rejected = this.size;
+                this.size = 0;
+            }
+            for (var i = 0; i < rejected; i++) {
+                client.notifyReject(KnxQueueType.SUBSCRIBER);
+            }
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.delegate.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(final long n) {
+                    subscription.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    subscription.cancel();
+                    rejectAll();
+                }
+            });
+        }
+
+        @Override
+        public void onNext(final Body item) {
+            // wait time is negative if body has been already counted as rejected or subscribed after submit time was recorded
+            var waitTime = -1L;
+            synchronized (this) {
+                if (this.size > 0) {
+                    waitTime = System.nanoTime() - this.submitTimes[this.head];
+                    this.head = (this.head + 1) & (this.submitTimes.length - 1);
+                    this.size--;
+                }
+            }
+            if (waitTime >= 0) {
+                client.notifyDequeue(KnxQueueType.SUBSCRIBER, waitTime);
+            }
+            this.delegate.onNext(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            rejectAll();
+            this.delegate.onError(throwable);
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object obj) {
+            return obj instanceof MeteredSubscriber && this.delegate.equals(((MeteredSubscriber) obj).delegate);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.delegate.hashCode();
+        }
+
+        @Override
+        public void onComplete() {
+            rejectAll();
+            this.delegate.onComplete();
+        }
+    }
 }
@@ -27,6 +27,7 @@ import org.slf4j.LoggerFactory;
 import java.net.StandardSocketOptions;
 import java.nio.channels.DatagramChannel;
 import java.nio.channels.SelectableChannel;
+import java.nio.channels.SocketChannel;
 import java.util.Collections;
 
 /**
@@ -110,4 +111,20 @@ public final class ChannelFactory {
         return Networker.newDatagramChannel(localPort, socketTimeout, socketAddress, null);
     }
 
+    /**
+     * Creates channel for control and data communication over TCP and connects to the given
+     * socket address provided by {@link InternalKnxClient}
+     *
+     * @param client the internal knx client
+     * @return a new instance of {@link SocketChannel} for control- and data-related communication
+     * @throws KnxCommunicationException in case the channel could not be created
+     */
+    public static SelectableChannel newTcpChannel(final InternalKnxClient client) {
+        final var localPort = client.getConfig(CoreConfigs.Control.PORT);
+        final var socketAddress = client.getRemoteEndpoint();
+        final var socketTimeout = client.getConfig(CoreConfigs.Control.SOCKET_TIMEOUT);
+        log.debug("Create new TCP channel for local: {} (local port: {}, socket timeout: {} ms)",
+                socketAddress, localPort, socketTimeout);
+        return Networker.newSocketChannel(localPort, socketTimeout, socketAddress);
+    }
 }
@@ -26,8 +26,9 @@ import java.util.concurrent.Flow;
  * <li>Description: {@link #newDescriptionChannelCommunicator(InternalKnxClient)}</li>
  * <li>Tunneling (without NAT): {@link #newControlChannelCommunicator(InternalKnxClient)}} and {@link #newDataChannelCommunicator(InternalKnxClient)}</li>
  * <li>Tunnelling (with NAT): {@link #newControlAndDataChannelCommunicator(InternalKnxClient)}</li>
+ * <li>Tunnelling (over TCP): {@link #newTcpChannelCommunicator(InternalKnxClient)}</li>
  * <li>Routing: {@link #newRoutingChannelCommunicator(InternalKnxClient)}</li>
- * <li>Health Check: {@link #newConnectionStateCommunicator(InternalKnxClient)}</li>
+ * <li>Health Check: {@link #newConnectionStateMonitor(InternalKnxClient)}</li>
  * </ul>
  */
 public final class CommunicatorFactory {
@@ -86,15 +87,29 @@ public final class CommunicatorFactory {
     }
 
     /**
-     * Creates new {@link ConnectionStateCommunicator} for regular health-check
+     * Creates new {@link TcpChannelCommunicator} for control <strong>AND</strong> data
+     * related packet communications over TCP
+     *
+     * @param client the internal KNX client
+     * @return communicator
+     */
+    public static TcpChannelCommunicator newTcpChannelCommunicator(final InternalKnxClient client) {
+        final var communicator = new TcpChannelCommunicator(client);
+        getDataChannelTasks(client).forEach(communicator::subscribe);
+        getControlChannelTasks(client).forEach(communicator::subscribe);
+        return communicator;
+    }
+
+    /**
+     * Creates new {@link ConnectionStateMonitor} for regular health-check
      * <p>
      * The connection state monitor is used in Tunneling mode only!
      *
      * @param client the internal knx client
-     * @return communicator
+     * @return monitor
      */
-    public static ConnectionStateCommunicator newConnectionStateCommunicator(final InternalKnxClient client) {
-        return new ConnectionStateCommunicator(client);
+    public static ConnectionStateMonitor newConnectionStateMonitor(final InternalKnxClient client) {
+        return new ConnectionStateMonitor(client);
     }
 
     /**
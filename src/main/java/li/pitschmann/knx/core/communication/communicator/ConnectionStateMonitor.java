@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication.communicator;
+
+import li.pitschmann.knx.core.body.ConnectionStateRequestBody;
+import li.pitschmann.knx.core.body.ConnectionStateResponseBody;
+import li.pitschmann.knx.core.communication.InternalKnxClient;
+import li.pitschmann.knx.core.config.CoreConfigs;
+import li.pitschmann.knx.core.utils.ExecutorServices;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monitors the health of tunneling connection by sending {@link ConnectionStateRequestBody}
+ * frames to the KNX Net/IP device in a regular interval (heartbeat).
+ * <p>
+ * The monitor doesn't occupy a thread; it is driven by timer tasks on a scheduler that is
+ * shared across KNX clients (see {@link ExecutorServices#sharedScheduler()}, or the scheduler
+ * of shared runtime) and by the arrival of {@link ConnectionStateResponseBody}:
+ * <ul>
+ * <li>When a response arrives, the next request is scheduled at
+ * {@link CoreConfigs.ConnectionState#HEARTBEAT_INTERVAL} after the last request</li>
+ * <li>When no response arrives within {@link CoreConfigs.ConnectionState#REQUEST_TIMEOUT},
+ * the request is sent again</li>
+ * <li>When no response arrives within {@link CoreConfigs.ConnectionState#HEARTBEAT_TIMEOUT}
+ * since last response, the connection is lost and the client reconnects or will be closed
+ * (see {@link InternalKnxClient#onConnectionLost()})</li>
+ * </ul>
+ * The connection state monitor is used in Tunneling mode only!
+ *
+ * @author PITSCHR
+ */
+public final class ConnectionStateMonitor {
+    private static final Logger log = LoggerFactory.getLogger(ConnectionStateMonitor.class);
+    private final InternalKnxClient client;
+    private final ScheduledExecutorService scheduler;
+    private final Executor connectionLostExecutor;
+    private final long requestTimeoutNanos;
+    private final long heartbeatIntervalNanos;
+    private final long heartbeatTimeoutNanos;
+    private ScheduledFuture<?> pendingTask;
+    private long lastRequestTime;
+    private long lastResponseTime;
+    private long roundTripTime;
+    private boolean stopped;
+
+    /**
+     * KNX Connection State Monitor (package protected)
+     */
+    ConnectionStateMonitor(final InternalKnxClient client) {
+        this.client = Objects.requireNonNull(client);
+
+        final var runtime = client.getRuntime();
+        if (runtime == null) {
+            this.scheduler = ExecutorServices.sharedScheduler();
+            // reconnect may block for a long time (attempts with backoff): use a dedicated thread
+            this.connectionLostExecutor = task -> {
+                final var thread = new Thread(task, "knx-connection-lost");
+                thread.setDaemon(true);
+                thread.start();
+            };
+        } else {
+            this.scheduler = runtime.getScheduler();
+            this.connectionLostExecutor = runtime.getTaskExecutor();
+        }
+
+        this.requestTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(client.getConfig(CoreConfigs.ConnectionState.REQUEST_TIMEOUT));
+        this.heartbeatIntervalNanos = TimeUnit.MILLISECONDS.toNanos(client.getConfig(CoreConfigs.ConnectionState.HEARTBEAT_INTERVAL));
+        this.heartbeatTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(client.getConfig(CoreConfigs.ConnectionState.HEARTBEAT_TIMEOUT));
+    }
+
+    /**
+     * Starts the monitoring and sends the first connection state request immediately.
+     * <p>
+     * The time of start is taken as the time of last response, as the connection has
+     * just been established by a connect response.
+     */
+    public synchronized void start() {
+        log.trace("*** START ***");
+        this.lastResponseTime = System.nanoTime();
+        this.sendConnectionStateRequest();
+    }
+
+    /**
+     * Stops the monitoring, pending timer tasks are cancelled
+     */
+    public synchronized void stop() {
+        if (!this.stopped) {
+            this.stopped = true;
+            this.cancelPendingTask();
+            log.trace("*** END *** (Client state: {})", this.client.getState());
+        }
+    }
+
+    /**
+     * Returns if the monitoring has been stopped
+     *
+     * @return {@code true} if stopped, otherwise {@code false}
+     */
+    public synchronized boolean isStopped() {
+        return this.stopped;
+    }
+
+    /**
+     * Returns the time of last connection state response (or of start), see {@link System#nanoTime()}
+     *
+     * @return time of last response in nanoseconds
+     */
+    public synchronized long getLastResponseTime() {
+        return this.lastResponseTime;
+    }
+
+    /**
+     * Returns the round trip time between the last connection state request and its response
+     *
+     * @return round trip time in nanoseconds, {@code 0} if no response has been received yet
+     */
+    public synchronized long getRoundTripTime() {
+        return this.roundTripTime;
+    }
+
+    /**
+     * Returns if the connection state response is overdue: no response has been received
+     * within {@link CoreConfigs.ConnectionState#HEARTBEAT_INTERVAL} and
+     * {@link CoreConfigs.ConnectionState#REQUEST_TIMEOUT} since last response.
+     *
+     * @return {@code true} if heartbeat is overdue, otherwise {@code false}
+     */
+    public synchronized boolean isHeartbeatOverdue() {
+        return System.nanoTime() - this.lastResponseTime > this.heartbeatIntervalNanos + this.requestTimeoutNanos;
+    }
+
+    /**
+     * Notifies the monitor that a {@link ConnectionStateResponseBody} has been received.
+     * The next connection state request is scheduled after heartbeat interval since last request.
+     *
+     * @param responseBody the received response body
+     */
+    public synchronized void onResponse(final ConnectionStateResponseBody responseBody) {
+        if (this.stopped) {
+            return;
+        }
+        this.lastResponseTime = System.nanoTime();
+        this.roundTripTime = this.lastResponseTime - this.lastRequestTime;
+        this.cancelPendingTask();
+
+        final var delay = Math.max(0, this.heartbeatIntervalNanos - (this.lastResponseTime - this.lastRequestTime));
+        log.debug("Connection state response received: {}. Next connection state check will be done in {} ms.",
+                responseBody, TimeUnit.NANOSECONDS.toMillis(delay));
+        this.pendingTask = this.scheduler.schedule(this::onHeartbeat, delay, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Timer task for heartbeat: sends the next connection state request
+     */
+    private synchronized void onHeartbeat() {
+        if (isActive()) {
+            this.sendConnectionStateRequest();
+        }
+    }
+
+    /**
+     * Timer task when no connection state response has been received within request timeout.
+     * Re-sends the connection state request, or notifies the client about the lost connection
+     * if heartbeat timeout has been exceeded since last response.
+     */
+    private synchronized void onRequestTimeout() {
+        if (!isActive()) {
+            return;
+        }
+
+        final var offsetLastResponse = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.lastResponseTime);
+        if (offsetLastResponse >= TimeUnit.NANOSECONDS.toMillis(this.heartbeatTimeoutNanos)) {
+            log.error("Could not get connection state response since {} ms. Connection is lost.", offsetLastResponse);
+            this.stop();
+            // reconnect or close asynchronously as it is blocking and must not block the scheduler
+            CompletableFuture.runAsync(this.client::onConnectionLost, this.connectionLostExecutor);
+        } else {
+            log.warn("Connection State Request to be sent again, last heartbeat was received {} ms ago.", offsetLastResponse);
+            this.client.notifyRetransmit(this.sendConnectionStateRequest());
+        }
+    }
+
+    /**
+     * Sends out the {@link ConnectionStateRequestBody} packet and schedules the timer
+     * task for request timeout.
+     *
+     * @return the sent request body
+     */
+    private ConnectionStateRequestBody sendConnectionStateRequest() {
+        log.trace("Send connection state request now.");
+
+        // create body
+        final var requestBody = ConnectionStateRequestBody.of(this.client.getChannelId(), this.client.getControlHPAI());
+
+        // send and register set the last request body
+        // the response won't be cleared because we need to keep the last time of response
+        this.client.getEventPool().connectionStateEvent().setRequest(requestBody);
+        this.lastRequestTime = System.nanoTime();
+        this.client.send(requestBody);
+
+        // check for response not later than the heartbeat timeout
+        final var remainingHeartbeatTimeout = this.heartbeatTimeoutNanos - (this.lastRequestTime - this.lastResponseTime);
+        final var delay = Math.max(0, Math.min(this.requestTimeoutNanos, remainingHeartbeatTimeout));
+        this.pendingTask = this.scheduler.schedule(this::onRequestTimeout, delay, TimeUnit.NANOSECONDS);
+        return requestBody;
+    }
+
+    /**
+     * Returns {@code true} if the monitor is not stopped and the client is started (or going to be started)
+     *
+     * @return {@code true} if active, otherwise {@code false}
+     */
+    private boolean isActive() {
+        final var state = this.client.getState();
+        return !this.stopped
+                && (state == InternalKnxClient.State.STARTED || state == InternalKnxClient.State.START_REQUEST);
+    }
+
+    private void cancelPendingTask() {
+        if (this.pendingTask != null) {
+            this.pendingTask.cancel(false);
+            this.pendingTask = null;
+        }
+    }
+}
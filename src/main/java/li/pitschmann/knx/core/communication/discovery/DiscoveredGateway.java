@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication.discovery;
+
+import li.pitschmann.knx.core.annotations.Nullable;
+import li.pitschmann.knx.core.body.SearchResponseBody;
+import li.pitschmann.knx.core.dib.ServiceTypeFamily;
+import li.pitschmann.knx.core.utils.Networker;
+import li.pitschmann.knx.core.utils.Strings;
+
+import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * KNX Net/IP device (gateway) that has been discovered by {@link KnxDiscovery}
+ * <p>
+ * Contains the {@link SearchResponseBody}, the local network interface where the
+ * response has been received and the measured latency between search request and
+ * search response.
+ *
+ * @author PITSCHR
+ */
+public final class DiscoveredGateway {
+    /**
+     * Ranking of discovered gateways (best first):
+     * <ol>
+     * <li>Gateways supporting {@link ServiceTypeFamily#TUNNELING}</li>
+     * <li>Gateways advertising more service families</li>
+     * <li>Gateways with lower response latency</li>
+     * </ol>
+     */
+    public static final Comparator<DiscoveredGateway> RANKING = Comparator
+            .comparing((DiscoveredGateway g) -> !g.supports(ServiceTypeFamily.TUNNELING))
+            .thenComparing(g -> -g.searchResponse.getSupportedDeviceFamilies().getServiceFamilies().size())
+            .thenComparing(DiscoveredGateway::getLatency);
+    private final SearchResponseBody searchResponse;
+    private final NetworkInterface networkInterface;
+    private final Duration latency;
+
+    DiscoveredGateway(final SearchResponseBody searchResponse,
+                      final NetworkInterface networkInterface,
+                      final Duration latency) {
+        this.searchResponse = Objects.requireNonNull(searchResponse);
+        this.networkInterface = Objects.requireNonNull(networkInterface);
+        this.latency = Objects.requireNonNull(latency);
+    }
+
+    /**
+     * Returns the search response sent by the KNX Net/IP device
+     *
+     * @return search response body
+     */
+    public SearchResponseBody getSearchResponse() {
+        return searchResponse;
+    }
+
+    /**
+     * Returns the local network interface where the search response has been received
+     *
+     * @return network interface
+     */
+    public NetworkInterface getNetworkInterface() {
+        return networkInterface;
+    }
+
+    /**
+     * Returns the measured latency between search request and search response
+     *
+     * @return latency
+     */
+    public Duration getLatency() {
+        return latency;
+    }
+
+    /**
+     * Returns the control endpoint of KNX Net/IP device
+     *
+     * @return control endpoint
+     */
+    public InetSocketAddress getControlEndpoint() {
+        return Networker.toInetSocketAddress(searchResponse.getControlEndpoint());
+    }
+
+    /**
+     * Returns if the KNX Net/IP device supports given {@link ServiceTypeFamily}
+     *
+     * @param serviceTypeFamily service type family to be checked
+     * @return {@code true} if supported, otherwise {@code false}
+     */
+    public boolean supports(final ServiceTypeFamily serviceTypeFamily) {
+        return searchResponse.getSupportedDeviceFamilies().hasServiceTypeFamily(serviceTypeFamily);
+    }
+
+    @Override
+    public String toString() {
+        return Strings.toStringHelper(this)
+                .add("controlEndpoint", getControlEndpoint())
+                .add("friendlyName", searchResponse.getDeviceInformation().getDeviceFriendlyName())
+                .add("networkInterface", networkInterface.getName())
+                .add("latency", latency.toMillis() + "ms")
+                .toString();
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof DiscoveredGateway) {
+            final var other = (DiscoveredGateway) obj;
+            return Objects.equals(this.searchResponse, other.searchResponse)
+                    && Objects.equals(this.networkInterface, other.networkInterface)
+                    && Objects.equals(this.latency, other.latency);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(searchResponse, networkInterface, latency);
+    }
+}
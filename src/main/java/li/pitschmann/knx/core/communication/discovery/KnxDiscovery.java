@@ -0,0 +1,310 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication.discovery;
+
+import li.pitschmann.knx.core.annotations.Nullable;
+import li.pitschmann.knx.core.body.BodyFactory;
+import li.pitschmann.knx.core.body.SearchRequestBody;
+import li.pitschmann.knx.core.body.SearchResponseBody;
+import li.pitschmann.knx.core.config.Config;
+import li.pitschmann.knx.core.config.CoreConfigs;
+import li.pitschmann.knx.core.exceptions.KnxCommunicationException;
+import li.pitschmann.knx.core.net.HPAI;
+import li.pitschmann.knx.core.utils.Closeables;
+import li.pitschmann.knx.core.utils.Networker;
+import li.pitschmann.knx.core.utils.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Discovery of KNX Net/IP devices (gateways) on all network interfaces in parallel
+ * <p>
+ * For each eligible network interface (see {@link Networker#getNetworkInterfaces()}) a channel is
+ * opened that sends a {@link SearchRequestBody} to the multicast endpoint via this interface. All
+ * channels are served by a single selector, the {@link SearchResponseBody} frames are streamed as
+ * they arrive. A gateway that answers on several interfaces is reported once (first response).
+ * <p>
+ * Callers can choose between:
+ * <ul>
+ * <li>{@link #findFirst(long)} first response wins</li>
+ * <li>{@link #findBest(long)} / {@link #collect(long)} collect responses for a duration and rank
+ * them by {@link DiscoveredGateway#RANKING}</li>
+ * <li>{@link #search(long, Consumer)} stream all responses as they arrive</li>
+ * </ul>
+ *
+ * @author PITSCHR
+ */
+public final class KnxDiscovery {
+    private static final Logger log = LoggerFactory.getLogger(KnxDiscovery.class);
+    private static final int BUFFER_SIZE = 256;
+    private final InetSocketAddress multicastEndpoint;
+    private final Map<NetworkInterface, List<InetAddress>> networkInterfaces;
+    private final int timeToLive;
+
+    private KnxDiscovery(final InetSocketAddress multicastEndpoint,
+                         final Map<NetworkInterface, List<InetAddress>> networkInterfaces,
+                         final int timeToLive) {
+        this.multicastEndpoint = Objects.requireNonNull(multicastEndpoint);
+        this.networkInterfaces = Objects.requireNonNull(networkInterfaces);
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Creates a new {@link KnxDiscovery} for standard KNX multicast address and port
+     * on all eligible network interfaces
+     *
+     * @return a new instance of {@link KnxDiscovery}
+     */
+    public static KnxDiscovery create() {
+        return create(CoreConfigs.MULTICAST_ADDRESS, CoreConfigs.KNX_PORT);
+    }
+
+    /**
+     * Creates a new {@link KnxDiscovery} for given multicast address and port
+     * on all eligible network interfaces
+     *
+     * @param multicastAddress multicast address where search requests are sent to
+     * @param port             port where search requests are sent to
+     * @return a new instance of {@link KnxDiscovery}
+     */
+    public static KnxDiscovery create(final InetAddress multicastAddress, final int port) {
+        return new KnxDiscovery(new InetSocketAddress(multicastAddress, port), Networker.getNetworkInterfaces(),
+                CoreConfigs.Multicast.TIME_TO_LIVE.getDefaultValue());
+    }
+
+    /**
+     * Creates a new {@link KnxDiscovery} with multicast address, port and time-to-live
+     * from given {@link Config} on all eligible network interfaces
+     *
+     * @param config configuration
+     * @return a new instance of {@link KnxDiscovery}
+     */
+    public static KnxDiscovery create(final Config config) {
+        return new KnxDiscovery(
+                new InetSocketAddress(config.getValue(CoreConfigs.Multicast.ADDRESS), config.getRemoteControlPort()),
+                Networker.getNetworkInterfaces(),
+                config.getValue(CoreConfigs.Multicast.TIME_TO_LIVE)
+        );
+    }
+
+    /**
+     * Returns the first discovered gateway (first response wins)
+     *
+     * @param msTimeout timeout in milliseconds waiting for the first response
+     * @return first discovered gateway, or empty if no response within timeout
+     */
+    public Optional<DiscoveredGateway> findFirst(final long msTimeout) {
+        final var first = new ArrayList<DiscoveredGateway>(1);
+        searchUntil(msTimeout, gateway -> {
+            first.add(gateway);
+            return false;
+        });
+        return first.stream().findFirst();
+    }
+
+    /**
+     * Returns the best discovered gateway according to {@link DiscoveredGateway#RANKING}
+     *
+     * @param msDuration duration in milliseconds for collecting responses
+     * @return best discovered gateway, or empty if no response within duration
+     */
+    public Optional<DiscoveredGateway> findBest(final long msDuration) {
+        return collect(msDuration).stream().findFirst();
+    }
+
+    /**
+     * Collects the discovered gateways for given duration
+     *
+     * @param msDuration duration in milliseconds for collecting responses
+     * @return list of discovered gateways ranked by {@link DiscoveredGateway#RANKING} (best first)
+     */
+    public List<DiscoveredGateway> collect(final long msDuration) {
+        final var gateways = new ArrayList<DiscoveredGateway>();
+        search(msDuration, gateways::add);
+        gateways.sort(DiscoveredGateway.RANKING);
+        return gateways;
+    }
+
+    /**
+     * Searches for gateways for given duration and notifies the {@code consumer}
+     * about each discovered gateway as soon the response has been received
+     *
+     * @param msDuration duration in milliseconds for searching
+     * @param consumer   consumer to be notified about discovered gateway
+     */
+    public void search(final long msDuration, final Consumer<DiscoveredGateway> consumer) {
+        Preconditions.checkNonNull(consumer);
+        searchUntil(msDuration, gateway -> {
+            consumer.accept(gateway);
+            return true;
+        });
+    }
+
+    /**
+     * Searches for gateways on all network interfaces
+     *
+     * @param msDuration duration in milliseconds for searching
+     * @param callback   notified about discovered gateway; returns {@code true} to continue
+     *                   searching, {@code false} to stop searching
+     */
+    private void searchUntil(final long msDuration, final Predicate<DiscoveredGateway> callback) {
+        Preconditions.checkArgument(msDuration > 0, "Duration must be positive: {}", msDuration);
+
+        final var channels = new ArrayList<DatagramChannel>(networkInterfaces.size());
+        try (final var selector = Selector.open()) {
+            // send search request on all network interfaces
+            for (final var entry : networkInterfaces.entrySet()) {
+                for (final var address : entry.getValue()) {
+                    final var channel = sendSearchRequest(selector, entry.getKey(), address);
+                    if (channel != null) {
+                        channels.add(channel);
+                    }
+                }
+            }
+            if (channels.isEmpty()) {
+                log.warn("Search request could not be sent on any network interface: {}", networkInterfaces.keySet());
+                return;
+            }
+
+            // receive search responses until end of duration
+            final var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            final var controlEndpoints = new HashSet<HPAI>();
+            final var end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(msDuration);
+            long remaining;
+            while ((remaining = end - System.nanoTime()) > 0) {
+                if (selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining))) == 0) {
+                    continue;
+                }
+                final var selectedKeys = selector.selectedKeys().iterator();
+                while (selectedKeys.hasNext()) {
+                    final var key = selectedKeys.next();
+                    selectedKeys.remove();
+
+                    final var gateway = receive(key, buffer);
+                    if (gateway != null && controlEndpoints.add(gateway.getSearchResponse().getControlEndpoint())) {
+                        log.debug("Gateway discovered: {}", gateway);
+                        if (!callback.test(gateway)) {
+                            return;
+                        }
+                    }
+                }
+            }
+        } catch (final IOException ex) {
+            throw new KnxCommunicationException("I/O exception during discovery", ex);
+        } finally {
+            channels.forEach(Closeables::closeQuietly);
+        }
+    }
+
+    /**
+     * Opens a channel for given network interface and sends the search request
+     *
+     * @param selector         selector where the channel is registered for responses
+     * @param networkInterface network interface where search request is sent
+     * @param address          local address of network interface
+     * @return channel, or {@code null} if search request could not be sent via network interface
+     */
+    @Nullable
+    private DatagramChannel sendSearchRequest(final Selector selector,
+                                              final NetworkInterface networkInterface,
+                                              final InetAddress address) {
+        DatagramChannel channel = null;
+        try {
+            channel = DatagramChannel.open(StandardProtocolFamily.INET);
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.IP_MULTICAST_IF, networkInterface);
+            channel.setOption(StandardSocketOptions.IP_MULTICAST_TTL, timeToLive);
+            channel.bind(new InetSocketAddress(address, 0));
+
+            final var requestBody = SearchRequestBody.of(HPAI.of(channel));
+            channel.register(selector, SelectionKey.OP_READ, new SearchContext(networkInterface, System.nanoTime()));
+            channel.send(ByteBuffer.wrap(requestBody.toByteArray(true)), multicastEndpoint);
+            log.debug("Search request sent via network interface '{}': {}", networkInterface.getName(), requestBody);
+            return channel;
+        } catch (final IOException | RuntimeException ex) {
+            log.debug("Could not send search request via network interface: {} ({})", networkInterface, address, ex);
+            Closeables.closeQuietly(channel);
+            return null;
+        }
+    }
+
+    /**
+     * Receives the search response from the channel of selection key
+     *
+     * @param key    selection key of channel
+     * @param buffer buffer to be used for receiving
+     * @return discovered gateway, or {@code null} if no search response was received
+     */
+    @Nullable
+    private DiscoveredGateway receive(final SelectionKey key, final ByteBuffer buffer) {
+        final var context = (SearchContext) key.attachment();
+        try {
+            buffer.clear();
+            if (((DatagramChannel) key.channel()).receive(buffer) == null) {
+                return null;
+            }
+            final var latency = Duration.ofNanos(System.nanoTime() - context.sentTime);
+            buffer.flip();
+            final var bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+
+            final var body = BodyFactory.of(bytes);
+            if (body instanceof SearchResponseBody) {
+                return new DiscoveredGateway((SearchResponseBody) body, context.networkInterface, latency);
+            }
+            log.debug("Unexpected body received via network interface '{}': {}", context.networkInterface.getName(), body);
+        } catch (final IOException | RuntimeException ex) {
+            log.debug("Could not receive search response via network interface: {}", context.networkInterface, ex);
+        }
+        return null;
+    }
+
+    /**
+     * Network interface and time of search request (attachment of selection key)
+     */
+    private static final class SearchContext {
+        private final NetworkInterface networkInterface;
+        private final long sentTime;
+
+        private SearchContext(final NetworkInterface networkInterface, final long sentTime) {
+            this.networkInterface = networkInterface;
+            this.sentTime = sentTime;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication.jfr;
+
+import jdk.jfr.Label;
+import li.pitschmann.knx.core.CEMIAware;
+import li.pitschmann.knx.core.ChannelIdAware;
+import li.pitschmann.knx.core.annotations.Nullable;
+import li.pitschmann.knx.core.body.Body;
+import li.pitschmann.knx.core.body.TunnelingAckBody;
+import li.pitschmann.knx.core.body.TunnelingRequestBody;
+
+/**
+ * Abstract JDK Flight Recorder event for a KNX {@link Body}
+ * <p>
+ * The fields are populated by {@link #setBody(Body)} which should be called only when
+ * the event is going to be committed, see {@link #shouldCommit()}.
+ * <p>
+ * Fields are not private, because JDK Flight Recorder ignores private fields of super classes.
+ *
+ * @author PITSCHR
+ */
+abstract class AbstractKnxBodyEvent extends jdk.jfr.Event {
+    @Label("Service Type")
+    String serviceType;
+
+    @Label("Channel Id")
+    int channelId = -1;
+
+    @Label("Sequence")
+    int sequence = -1;
+
+    @Label("Destination Address")
+    String destinationAddress;
+
+    @Label("APCI")
+    String apci;
+
+    /**
+     * Populates the service type, channel id, sequence, destination address and APCI from given {@link Body}.
+     * Channel id and sequence are {@code -1} if not applicable for the body.
+     *
+     * @param body the body, may be {@code null}
+     */
+    public final void setBody(final @Nullable Body body) {
+        if (body == null) {
+            return;
+        }
+        this.serviceType = body.getServiceType().name();
+        if (body instanceof ChannelIdAware) {
+            this.channelId = ((ChannelIdAware) body).getChannelId();
+        }
+        if (body instanceof TunnelingRequestBody) {
+            this.sequence = ((TunnelingRequestBody) body).getSequence();
+        } else if (body instanceof TunnelingAckBody) {
+            this.sequence = ((TunnelingAckBody) body).getSequence();
+        }
+        if (body instanceof CEMIAware) {
+            final var cemi = ((CEMIAware) body).getCEMI();
+            this.destinationAddress = cemi.getDestinationAddress().getAddress();
+            this.apci = cemi.getAPCI().name();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JDK Flight Recorder event for a notification of plug-in. The duration covers the
+ * processing by the plug-in, the queue wait is the time the notification has been
+ * waiting for the plug-in executor.
+ *
+ * @author PITSCHR
+ */
+@Name("li.pitschmann.knx.Plugin")
+@Label("KNX Plugin Notification")
+@Category({"KNX", "Plugin"})
+@Description("Notification of KNX plug-in")
+public final class KnxPluginEvent extends AbstractKnxBodyEvent {
+    @Label("Plugin")
+    private Class<?> plugin;
+
+    @Label("Queue Wait")
+    @Timespan
+    private long queueWait;
+
+    @Label("Failed")
+    private boolean failed;
+
+    public void setPlugin(final Class<?> plugin) {
+        this.plugin = plugin;
+    }
+
+    public void setQueueWait(final long queueWait) {
+        this.queueWait = queueWait;
+    }
+
+    public void setFailed(final boolean failed) {
+        this.failed = failed;
+    }
+}
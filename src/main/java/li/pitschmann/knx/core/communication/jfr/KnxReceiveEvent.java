@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JDK Flight Recorder event for a KNX packet received by the inbox queue. The duration
+ * covers parsing of frame, verification of channel id, enqueuing and notification of
+ * statistic and plug-ins.
+ *
+ * @author PITSCHR
+ */
+@Name("li.pitschmann.knx.Receive")
+@Label("KNX Receive")
+@Category({"KNX", "Communication"})
+@Description("KNX packet received from KNX Net/IP device")
+public final class KnxReceiveEvent extends AbstractKnxBodyEvent {
+    @Label("Frame Length")
+    @DataAmount
+    private int frameLength;
+
+    public void setFrameLength(final int frameLength) {
+        this.frameLength = frameLength;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JDK Flight Recorder event for a KNX request that waits for a response. The duration
+ * covers all attempts until the response has been received or the last attempt timed out.
+ *
+ * @author PITSCHR
+ */
+@Name("li.pitschmann.knx.Request")
+@Label("KNX Request")
+@Category({"KNX", "Communication"})
+@Description("KNX request sent and waiting for response")
+public final class KnxRequestEvent extends AbstractKnxBodyEvent {
+    @Label("Retries")
+    private int retries;
+
+    @Label("Response Received")
+    private boolean responseReceived;
+
+    public void setRetries(final int retries) {
+        this.retries = retries;
+    }
+
+    public void setResponseReceived(final boolean responseReceived) {
+        this.responseReceived = responseReceived;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JDK Flight Recorder event for a KNX packet sent by the outbox queue. The duration
+ * covers the write to the channel, the queue wait is the time between enqueuing of
+ * packet and the first write attempt.
+ *
+ * @author PITSCHR
+ */
+@Name("li.pitschmann.knx.Send")
+@Label("KNX Send")
+@Category({"KNX", "Communication"})
+@Description("KNX packet sent to KNX Net/IP device")
+public final class KnxSendEvent extends AbstractKnxBodyEvent {
+    @Label("Frame Length")
+    @DataAmount
+    private int frameLength;
+
+    @Label("Queue Wait")
+    @Timespan
+    private long queueWait;
+
+    public void setFrameLength(final int frameLength) {
+        this.frameLength = frameLength;
+    }
+
+    public void setQueueWait(final long queueWait) {
+        this.queueWait = queueWait;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import li.pitschmann.knx.core.address.KnxAddress;
+import li.pitschmann.knx.core.communication.KnxStatusData;
+
+/**
+ * JDK Flight Recorder event for an update of KNX status pool
+ *
+ * @author PITSCHR
+ */
+@Name("li.pitschmann.knx.StatusUpdate")
+@Label("KNX Status Update")
+@Category({"KNX", "Status Pool"})
+@Description("Update of status in KNX status pool")
+public final class KnxStatusUpdateEvent extends jdk.jfr.Event {
+    @Label("Destination Address")
+    private String destinationAddress;
+
+    @Label("Source Address")
+    private String sourceAddress;
+
+    @Label("APCI")
+    private String apci;
+
+    @Label("Duplicate")
+    private boolean duplicate;
+
+    /**
+     * Populates the destination address, source address and APCI
+     *
+     * @param address    the KNX address of status
+     * @param statusData the status data
+     */
+    public void setStatus(final KnxAddress address, final KnxStatusData statusData) {
+        this.destinationAddress = address.getAddress();
+        this.sourceAddress = statusData.getSourceAddress().getAddress();
+        this.apci = statusData.getAPCI().name();
+    }
+
+    public void setDuplicate(final boolean duplicate) {
+        this.duplicate = duplicate;
+    }
+}
@@ -17,8 +17,11 @@
 
 package li.pitschmann.knx.core.communication.queue;
 
+import li.pitschmann.knx.core.annotations.Nullable;
 import li.pitschmann.knx.core.body.BodyFactory;
 import li.pitschmann.knx.core.communication.InternalKnxClient;
+import li.pitschmann.knx.core.communication.KnxQueueType;
+import li.pitschmann.knx.core.communication.jfr.KnxReceiveEvent;
 import li.pitschmann.knx.core.header.Header;
 import li.pitschmann.knx.core.utils.ByteFormatter;
 import li.pitschmann.knx.core.utils.Networker;
@@ -39,7 +42,7 @@ import java.nio.channels.SelectionKey;
  */
 public abstract class AbstractInboxQueue<T extends ByteChannel> extends AbstractKnxQueue<T> {
     private final Logger log = LoggerFactory.getLogger(getClass());
-    private final ByteBuffer buff = ByteBuffer.allocate(256);
+    private final ByteBuffer buff;
 
     /**
      * Constructor for KNX Inbox Queue
@@ -48,7 +51,19 @@ public abstract class AbstractInboxQueue<T extends ByteChannel> extends Abstract
      * @param channel channel of communication
      */
     protected AbstractInboxQueue(final InternalKnxClient client, final SelectableChannel channel) {
-        super(client, channel);
+        this(client, channel, 256);
+    }
+
+    /**
+     * Constructor for KNX Inbox Queue with customized capacity of receive buffer
+     *
+     * @param client         internal KNX client for internal actions like informing plug-ins
+     * @param channel        channel of communication
+     * @param bufferCapacity capacity of receive buffer in bytes
+     */
+    protected AbstractInboxQueue(final InternalKnxClient client, final SelectableChannel channel, final int bufferCapacity) {
+        super(client, channel, KnxQueueType.INBOX);
+        this.buff = ByteBuffer.allocate(bufferCapacity);
     }
 
     @Override
@@ -71,20 +86,53 @@ public abstract class AbstractInboxQueue<T extends ByteChannel> extends Abstract
     protected void action(final SelectionKey key) throws IOException {
         log.trace("Method 'action(SelectionKey)' called.");
 
-        final byte[] receivedBytes;
         final var channel = getChannel(key);
+        log.trace("Receiving packet.");
+        receive(channel, buff);
+        buff.flip();
         try {
-            log.trace("Receiving packet.");
-            receive(channel, buff);
-            buff.flip();
-            receivedBytes = new byte[buff.limit()];
-            buff.get(receivedBytes);
-            if (log.isTraceEnabled()) {
-                log.trace("Receiving packet: {}", ByteFormatter.formatHexAsString(receivedBytes));
+            byte[] receivedBytes;
+            while ((receivedBytes = nextFrame(buff)) != null) {
+                if (log.isTraceEnabled()) {
+                    log.trace("Receiving packet: {}", ByteFormatter.formatHexAsString(receivedBytes));
+                }
+                accept(channel, receivedBytes);
             }
         } finally {
-            buff.clear();
+            // keep incomplete frame (if any) for next receive
+            buff.compact();
+        }
+    }
+
+    /**
+     * Returns the next complete frame (header and body) from the receive buffer. The bytes of
+     * returned frame are consumed from the buffer.
+     * <p>
+     * Per default the whole content of buffer is one frame (one datagram per receive).
+     *
+     * @param bb buffer in read mode containing the received bytes
+     * @return byte array of next frame, or {@code null} if there is no complete frame
+     * @throws IOException if the received bytes cannot be framed
+     */
+    @Nullable
+    protected byte[] nextFrame(final ByteBuffer bb) throws IOException {
+        if (!bb.hasRemaining()) {
+            return null;
         }
+        final var bytes = new byte[bb.remaining()];
+        bb.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Parses the frame, verifies the channel id and adds the body to the inbox queue
+     *
+     * @param channel       channel where the frame has been received
+     * @param receivedBytes byte array of frame (header and body)
+     */
+    private void accept(final T channel, final byte[] receivedBytes) {
+        final var event = new KnxReceiveEvent();
+        event.begin();
 
         final var body = BodyFactory.of(receivedBytes);
 
@@ -111,7 +159,13 @@ public abstract class AbstractInboxQueue<T extends ByteChannel> extends Abstract
 
             // add body to queue
             add(body);
-            getInternalClient().notifyIncomingBody(body);
+            getInternalClient().notifyIncomingBody(body, receivedBytes.length);
+
+            if (event.shouldCommit()) {
+                event.setBody(body);
+                event.setFrameLength(receivedBytes.length);
+                event.commit();
+            }
         }
     }
 
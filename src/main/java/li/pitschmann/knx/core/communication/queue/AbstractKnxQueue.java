@@ -17,8 +17,10 @@
 
 package li.pitschmann.knx.core.communication.queue;
 
+import li.pitschmann.knx.core.annotations.Nullable;
 import li.pitschmann.knx.core.body.Body;
 import li.pitschmann.knx.core.communication.InternalKnxClient;
+import li.pitschmann.knx.core.communication.KnxQueueType;
 import li.pitschmann.knx.core.exceptions.KnxException;
 import li.pitschmann.knx.core.exceptions.KnxWrongChannelIdException;
 import org.slf4j.Logger;
@@ -43,17 +45,21 @@ public abstract class AbstractKnxQueue<T extends ByteChannel> implements Runnabl
     private final Logger log = LoggerFactory.getLogger(getClass());
     private final InternalKnxClient client;
     private final SelectableChannel channel;
-    private final BlockingQueue<Body> queue = new LinkedBlockingDeque<>();
+    private final KnxQueueType queueType;
+    private final BlockingQueue<Entry> queue = new LinkedBlockingDeque<>();
+    private volatile SelectionKey selectionKey;
 
     /**
      * Constructor for Abstract KNX Queue
      *
-     * @param client  internal KNX client for internal actions like informing plug-ins
-     * @param channel channel of communication
+     * @param client    internal KNX client for internal actions like informing plug-ins
+     * @param channel   channel of communication
+     * @param queueType type of queue for statistic
      */
-    protected AbstractKnxQueue(final InternalKnxClient client, final SelectableChannel channel) {
+    protected AbstractKnxQueue(final InternalKnxClient client, final SelectableChannel channel, final KnxQueueType queueType) {
         this.client = Objects.requireNonNull(client);
         this.channel = Objects.requireNonNull(channel);
+        this.queueType = Objects.requireNonNull(queueType);
     }
 
     /**
@@ -103,6 +109,32 @@ public abstract class AbstractKnxQueue<T extends ByteChannel> implements Runnabl
         }
     }
 
+    /**
+     * Performs the {@code keyAction} for a selected key on behalf of {@link KnxEventLoop}.
+     * Errors are handled in the same way as by {@link #run()}, except that an {@link IOException}
+     * is thrown to the event loop which cancels the registration of this queue.
+     *
+     * @param key       selected key from event loop
+     * @param keyAction action to be performed
+     * @throws IOException - if IO exception happened while performing the action
+     */
+    final void handle(final SelectionKey key, final KeyAction keyAction) throws IOException {
+        try {
+            keyAction.perform(key);
+        } catch (final KnxWrongChannelIdException wrongChannelIdException) {
+            log.warn("KNX packet with wrong channel and will be ignored", wrongChannelIdException);
+            this.client.notifyError(wrongChannelIdException);
+        } catch (final InterruptedException ie) {
+            log.debug("Event loop is interrupted: {}", key);
+            Thread.currentThread().interrupt();
+        } catch (final IOException ioe) {
+            throw ioe;
+        } catch (final Throwable e) {
+            log.warn("Error while processing KNX packet and will be ignored", e);
+            this.client.notifyError(e);
+        }
+    }
+
     /**
      * Returns a new instance of {@link Selector} that listens on the given {@link SelectableChannel}
      *
@@ -113,12 +145,40 @@ public abstract class AbstractKnxQueue<T extends ByteChannel> implements Runnabl
         final var selector = Selector.open();
 
         // prepare channel for non-blocking and register to selector
-        channel.register(selector, interestOps());
+        this.selectionKey = channel.register(selector, interestOps());
         log.debug("Channel {} registered to selector: {}", channel, selector);
 
         return selector;
     }
 
+    /**
+     * Returns the channel of this queue
+     *
+     * @return the channel
+     */
+    final SelectableChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * Returns the selection key of the channel registration
+     *
+     * @return the selection key, or {@code null} if the channel is not registered yet
+     */
+    @Nullable
+    protected final SelectionKey getSelectionKey() {
+        return selectionKey;
+    }
+
+    /**
+     * Sets the selection key in case the channel has been registered by {@link KnxEventLoop}
+     *
+     * @param selectionKey the selection key
+     */
+    final void setSelectionKey(final SelectionKey selectionKey) {
+        this.selectionKey = selectionKey;
+    }
+
     /**
      * Restricted access to {@link InternalKnxClient} for KNX queue implementations.
      *
@@ -170,7 +230,9 @@ public abstract class AbstractKnxQueue<T extends ByteChannel> implements Runnabl
      * @return {@code true} (as specified by {@link Collection#add})
      */
     protected boolean add(final Body body) {
-        return this.queue.add(Objects.requireNonNull(body));
+        final var entry = new Entry(Objects.requireNonNull(body), System.nanoTime());
+        this.client.notifyEnqueue(this.queueType);
+        return this.queue.add(entry);
     }
 
     /**
@@ -180,6 +242,86 @@ public abstract class AbstractKnxQueue<T extends ByteChannel> implements Runnabl
      * @throws InterruptedException - if interrupted while waiting
      */
     public final Body next() throws InterruptedException {
-        return Objects.requireNonNull(this.queue.take());
+        return dequeue(this.queue.take());
+    }
+
+    /**
+     * Returns the head {@link Body} of queue without removing it
+     *
+     * @return the {@link Body} from head of queue, or {@code null} if the queue is empty
+     */
+    @Nullable
+    protected final Body peek() {
+        final var entry = this.queue.peek();
+        return entry == null ? null : entry.body;
+    }
+
+    /**
+     * Returns the time the head {@link Body} of queue has been waiting in the queue
+     *
+     * @return time in nanoseconds, or {@code 0} if the queue is empty
+     */
+    protected final long getHeadQueueWait() {
+        final var entry = this.queue.peek();
+        return entry == null ? 0L : System.nanoTime() - entry.enqueueTime;
+    }
+
+    /**
+     * Returns the head {@link Body} of queue without waiting
+     *
+     * @return the {@link Body} from head of queue, or {@code null} if the queue is empty
+     */
+    @Nullable
+    public final Body poll() {
+        final var entry = this.queue.poll();
+        return entry == null ? null : dequeue(entry);
+    }
+
+    /**
+     * Removes the head {@link Body} of queue that is dropped without processing
+     * (e.g. the channel is closed)
+     *
+     * @return the {@link Body} from head of queue, or {@code null} if the queue is empty
+     */
+    @Nullable
+    protected final Body drop() {
+        final var entry = this.queue.poll();
+        if (entry == null) {
+            return null;
+        }
+        this.client.notifyReject(this.queueType);
+        return entry.body;
+    }
+
+    /**
+     * Counts the entry taken from queue for statistic
+     *
+     * @param entry the entry taken from queue
+     * @return the {@link Body} of entry
+     */
+    private Body dequeue(final Entry entry) {
+        this.client.notifyDequeue(this.queueType, System.nanoTime() - entry.enqueueTime);
+        return entry.body;
+    }
+
+    /**
+     * Entry of queue with the {@link Body} and the time when it has been added
+     */
+    private static final class Entry {
+        private final Body body;
+        private final long enqueueTime;
+
+        private Entry(final Body body, final long enqueueTime) {
+            this.body = body;
+            this.enqueueTime = enqueueTime;
+        }
+    }
+
+    /**
+     * Action for a selected key that is performed by {@link KnxEventLoop}
+     */
+    @FunctionalInterface
+    interface KeyAction {
+        void perform(final SelectionKey key) throws InterruptedException, IOException;
     }
 }
@@ -19,6 +19,8 @@ package li.pitschmann.knx.core.communication.queue;
 
 import li.pitschmann.knx.core.body.Body;
 import li.pitschmann.knx.core.communication.InternalKnxClient;
+import li.pitschmann.knx.core.communication.KnxQueueType;
+import li.pitschmann.knx.core.communication.jfr.KnxSendEvent;
 import li.pitschmann.knx.core.header.Header;
 import li.pitschmann.knx.core.utils.ByteFormatter;
 import li.pitschmann.knx.core.utils.Networker;
@@ -28,6 +30,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
+import java.nio.channels.CancelledKeyException;
 import java.nio.channels.SelectableChannel;
 import java.nio.channels.SelectionKey;
 import java.util.Collection;
@@ -40,6 +43,14 @@ import java.util.Collection;
  */
 public abstract class AbstractOutboxQueue<T extends ByteChannel> extends AbstractKnxQueue<T> {
     protected final Logger log = LoggerFactory.getLogger(getClass());
+    /**
+     * Bytes of packet from queue head that are not written yet; accessed by the selector thread only
+     */
+    private ByteBuffer pendingBuffer;
+    /**
+     * Time in nanoseconds the pending packet has been waiting in the queue; accessed by the selector thread only
+     */
+    private long pendingQueueWait;
 
     /**
      * Constructor for KNX Outbox Queue
@@ -48,7 +59,7 @@ public abstract class AbstractOutboxQueue<T extends ByteChannel> extends Abstrac
      * @param channel channel of communication
      */
     protected AbstractOutboxQueue(final InternalKnxClient client, final SelectableChannel channel) {
-        super(client, channel);
+        super(client, channel, KnxQueueType.OUTBOX);
     }
 
     @Override
@@ -62,32 +73,67 @@ public abstract class AbstractOutboxQueue<T extends ByteChannel> extends Abstrac
     }
 
     /**
-     * Sends the packet from queue head and the next packet to channel, the packet , verifies if the packet has correct channel id and adds to the appropriate
-     * inbox queue.
+     * Sends the packet from queue head to the channel. This method doesn't block: if there is
+     * no pending packet, then the interest for write operations is removed from the {@code key}
+     * until the next packet is enqueued by {@link #send(Body)}.
+     * <p>
+     * A packet is removed from the queue when it has been written completely. In case the channel
+     * could not accept the packet (e.g. the socket send buffer is full), the remaining bytes are
+     * written when the channel is ready for writing again.
      *
      * @param key selection key
-     * @throws InterruptedException if interrupted while waiting
-     * @throws IOException          exception while writing to {@link ByteChannel}
+     * @throws IOException exception while writing to {@link ByteChannel}
      */
-    protected void action(final SelectionKey key) throws InterruptedException, IOException {
+    @Override
+    protected void action(final SelectionKey key) throws IOException {
         log.trace("Method 'action(SelectionKey)' called.");
 
-        // get body from queue
-        final var body = next();
+        final var body = peek();
+        if (body == null) {
+            // nothing to send -> no interest in write operations until the next packet is enqueued
+            key.interestOpsAnd(~SelectionKey.OP_WRITE);
+            // re-check as a packet might be enqueued concurrently after peek
+            if (peek() != null) {
+                key.interestOpsOr(SelectionKey.OP_WRITE);
+            }
+            return;
+        }
+
+        final var event = new KnxSendEvent();
+        event.begin();
 
         // packet: header + body
-        final var packetToSend = body.toByteArray(true);
+        if (this.pendingBuffer == null) {
+            this.pendingBuffer = ByteBuffer.wrap(body.toByteArray(true));
+            this.pendingQueueWait = getHeadQueueWait();
+        }
 
         // write to channel
         final var channel = getChannel(key);
         log.debug("Sending packet: {}", body);
         if (!channel.isOpen()) {
             log.warn("Channel is not open. Write aborted.");
+            this.pendingBuffer = null;
+            drop();
             return;
         }
-        send(channel, ByteBuffer.wrap(packetToSend));
+        send(channel, this.pendingBuffer);
+        if (this.pendingBuffer.hasRemaining()) {
+            log.debug("Packet could not be sent completely and will be retried when channel is ready: {}", body);
+            return;
+        }
+        final var packetToSend = this.pendingBuffer.array();
+        final var queueWait = this.pendingQueueWait;
+        removePending();
         log.trace("Packet sent.");
-        this.getInternalClient().notifyOutgoingBody(body);
+        this.getInternalClient().notifyOutgoingBody(body, packetToSend.length);
+
+        if (event.shouldCommit()) {
+            event.setBody(body);
+            event.setFrameLength(packetToSend.length);
+            event.setQueueWait(queueWait);
+            event.commit();
+        }
 
         if (log.isDebugEnabled()) {
             log.debug("SEND: {}\n" + //
@@ -108,14 +154,32 @@ public abstract class AbstractOutboxQueue<T extends ByteChannel> extends Abstrac
     }
 
     /**
-     * Send {@link Body}. It will adds {@link Body} to the outbox queue for sending and will be internally picked up
-     * by the {@link #run()} method.
+     * Removes the pending packet from queue head
+     */
+    private void removePending() {
+        this.pendingBuffer = null;
+        poll();
+    }
+
+    /**
+     * Send {@link Body}. It will adds {@link Body} to the outbox queue for sending and wakes up the
+     * selector that is picking up the {@link Body} as soon the channel is ready for writing.
      *
      * @param body body to be sent
      * @return {@code true} (as specified by {@link Collection#add})
      */
     public boolean send(final Body body) {
-        return add(body);
+        final var added = add(body);
+        final var key = getSelectionKey();
+        if (key != null) {
+            try {
+                key.interestOpsOr(SelectionKey.OP_WRITE);
+                key.selector().wakeup();
+            } catch (final CancelledKeyException ex) {
+                log.debug("Selection key is cancelled, body will not be picked up: {}", body);
+            }
+        }
+        return added;
     }
 
     /**
@@ -0,0 +1,291 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication.queue;
+
+import li.pitschmann.knx.core.body.Body;
+import li.pitschmann.knx.core.exceptions.KnxException;
+import li.pitschmann.knx.core.utils.Closeables;
+import li.pitschmann.knx.core.utils.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Event loop that multiplexes the channels of one or more KNX clients with a single
+ * selector thread. This is an alternative to the thread-per-queue model of
+ * {@link AbstractKnxQueue#run()} where each inbox and outbox queue runs its own
+ * selector thread.
+ * <p>
+ * For every registered channel the event loop:
+ * <ul>
+ * <li>reads incoming packets using the {@link AbstractInboxQueue} and dispatches the
+ * decoded bodies inline to the consumer of registration</li>
+ * <li>writes outgoing packets using the {@link AbstractOutboxQueue}; the interest for
+ * write operations is only registered as long there are pending packets, see
+ * {@link AbstractOutboxQueue#send(Body)}</li>
+ * </ul>
+ * The consumer is called by the event loop thread and therefore must not block.
+ *
+ * @author PITSCHR
+ */
+public final class KnxEventLoop implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(KnxEventLoop.class);
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+    private static final long TASK_TIMEOUT_MILLIS = 5000;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final Selector selector;
+    private final Thread thread;
+
+    /**
+     * Creates and starts a new event loop
+     */
+    public KnxEventLoop() {
+        try {
+            this.selector = Selector.open();
+        } catch (final IOException ioe) {
+            throw new KnxException("Could not open selector for event loop", ioe);
+        }
+        this.thread = new Thread(this::run, "knx-event-loop-" + THREAD_NUMBER.incrementAndGet());
+        this.thread.setDaemon(true);
+        this.thread.start();
+        log.debug("Event loop started: {}", this.thread.getName());
+    }
+
+    /**
+     * Registers the channel of given inbox and outbox queues to this event loop.
+     * <p>
+     * Both queues must belong to the same channel. This method blocks until the
+     * channel has been registered by the event loop thread, but not longer than
+     * {@value #TASK_TIMEOUT_MILLIS} milliseconds.
+     *
+     * @param inboxQueue  inbox queue for reading packets from channel
+     * @param outboxQueue outbox queue for writing packets to channel
+     * @param consumer    consumer for bodies that have been received
+     * @return the registration, used to cancel the registration
+     * @throws IllegalStateException if the event loop is closed
+     * @throws KnxException          if the channel could not be registered within time
+     */
+    public Registration register(final AbstractInboxQueue<? extends ByteChannel> inboxQueue,
+                                 final AbstractOutboxQueue<? extends ByteChannel> outboxQueue,
+                                 final Consumer<Body> consumer) {
+        Preconditions.checkArgument(inboxQueue.getChannel() == outboxQueue.getChannel(),
+                "Inbox and outbox queue must have the same channel.");
+        Preconditions.checkState(!closed.get() && thread.isAlive(), "Event loop is closed.");
+
+        final var registration = new Registration(inboxQueue, outboxQueue, Objects.requireNonNull(consumer));
+        executeAndWait(() -> {
+            try {
+                registration.key = inboxQueue.getChannel().register(selector, SelectionKey.OP_READ, registration);
+            } catch (final ClosedChannelException e) {
+                throw new KnxException("Channel is closed: {}", inboxQueue.getChannel(), e);
+            }
+            inboxQueue.setSelectionKey(registration.key);
+            outboxQueue.setSelectionKey(registration.key);
+        }, "register channel");
+        log.debug("Channel registered to event loop: {}", inboxQueue.getChannel());
+        return registration;
+    }
+
+    /**
+     * Executes the {@code task} by the event loop thread
+     *
+     * @param task task to be executed
+     */
+    private void execute(final Runnable task) {
+        tasks.add(task);
+        selector.wakeup();
+    }
+
+    /**
+     * Executes the {@code task} by the event loop thread and waits until it has been completed.
+     * If called by the event loop thread, the {@code task} is executed immediately.
+     *
+     * @param task   task to be executed
+     * @param action description of task, used for exception message
+     */
+    private void executeAndWait(final Runnable task, final String action) {
+        if (Thread.currentThread() == thread) {
+            task.run();
+            return;
+        }
+
+        final var future = new CompletableFuture<Void>();
+        execute(() -> {
+            try {
+                task.run();
+                future.complete(null);
+            } catch (final Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+
+        try {
+            future.get(TASK_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new KnxException("Interrupted while waiting for event loop to {}", action, ie);
+        } catch (final ExecutionException ee) {
+            throw new KnxException("Event loop could not {}", action, ee.getCause());
+        } catch (final TimeoutException te) {
+            throw new KnxException("Event loop did not {} within {} ms", action, TASK_TIMEOUT_MILLIS, te);
+        }
+    }
+
+    /**
+     * Iterates the selected keys until the event loop is closed
+     */
+    private void run() {
+        log.debug("*** START ***");
+        try {
+            while (!closed.get()) {
+                selector.select();
+
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    task.run();
+                }
+
+                final var selectedKeys = selector.selectedKeys().iterator();
+                while (selectedKeys.hasNext()) {
+                    final var key = selectedKeys.next();
+                    selectedKeys.remove();
+                    process(key);
+                }
+            }
+        } catch (final Throwable t) {
+            log.error("Throwable caught in event loop", t);
+        } finally {
+            Closeables.closeQuietly(selector);
+            // complete the pending tasks, they will fail as the selector is closed
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+            log.debug("*** END ***");
+        }
+    }
+
+    /**
+     * Processes the selected key for read and write operations
+     *
+     * @param key selected key
+     */
+    private void process(final SelectionKey key) {
+        final var registration = (Registration) key.attachment();
+        try {
+            if (key.isValid() && key.isReadable()) {
+                final var inboxQueue = registration.inboxQueue;
+                inboxQueue.handle(key, k -> {
+                    inboxQueue.action(k);
+                    // dispatch all bodies that have been received
+                    Body body;
+                    while ((body = inboxQueue.poll()) != null) {
+                        registration.consumer.accept(body);
+                    }
+                });
+            }
+            if (key.isValid() && key.isWritable()) {
+                final var outboxQueue = registration.outboxQueue;
+                outboxQueue.handle(key, outboxQueue::action);
+            }
+        } catch (final IOException ioe) {
+            log.error("IOException for channel and registration will be cancelled: {}", key.channel(), ioe);
+            key.cancel();
+        }
+    }
+
+    /**
+     * Returns if the event loop is closed
+     *
+     * @return {@code true} if closed, otherwise {@code false}
+     */
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    @Override
+    public void close() {
+        if (!closed.getAndSet(true)) {
+            selector.wakeup();
+            try {
+                thread.join();
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+            log.debug("Event loop closed: {}", thread.getName());
+        }
+    }
+
+    /**
+     * Registration of a channel with its inbox and outbox queues
+     */
+    public final class Registration {
+        private final AbstractInboxQueue<? extends ByteChannel> inboxQueue;
+        private final AbstractOutboxQueue<? extends ByteChannel> outboxQueue;
+        private final Consumer<Body> consumer;
+        private volatile SelectionKey key;
+
+        private Registration(final AbstractInboxQueue<? extends ByteChannel> inboxQueue,
+                             final AbstractOutboxQueue<? extends ByteChannel> outboxQueue,
+                             final Consumer<Body> consumer) {
+            this.inboxQueue = inboxQueue;
+            this.outboxQueue = outboxQueue;
+            this.consumer = consumer;
+        }
+
+        /**
+         * Cancels the registration, the channel won't be served by the event loop anymore.
+         * <p>
+         * This method blocks until the channel has been deregistered from the selector, so the
+         * channel releases its local port when it is closed afterwards.
+         */
+        public void cancel() {
+            if (!thread.isAlive()) {
+                // selector is closed and channel is deregistered already
+                key.cancel();
+                return;
+            }
+            executeAndWait(() -> {
+                key.cancel();
+                try {
+                    // deregisters the cancelled key from selector
+                    selector.selectNow();
+                } catch (final IOException | ClosedSelectorException e) {
+                    log.debug("Selector is closed, channel is deregistered already: {}", key.channel());
+                }
+            }, "cancel registration");
+        }
+    }
+}
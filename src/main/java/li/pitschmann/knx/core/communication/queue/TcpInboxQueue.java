@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2019 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication.queue;
+
+import li.pitschmann.knx.core.annotations.Nullable;
+import li.pitschmann.knx.core.communication.InternalKnxClient;
+import li.pitschmann.knx.core.header.Header;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Inbox Queue for KNX packets received over TCP (tunneling over TCP)
+ * <p>
+ * TCP is a byte stream: one receive may contain several frames or only a part of a frame.
+ * Frames are delimited by the total length of KNX {@link Header}, bytes of an incomplete
+ * frame are kept until the remaining bytes are received.
+ *
+ * @author PITSCHR
+ */
+public final class TcpInboxQueue extends AbstractInboxQueue<SocketChannel> {
+    private static final int BUFFER_CAPACITY = 1024;
+
+    public TcpInboxQueue(final InternalKnxClient client, final SelectableChannel channel) {
+        super(client, channel, BUFFER_CAPACITY);
+    }
+
+    @Override
+    protected void receive(final SocketChannel channel, final ByteBuffer bb) throws IOException {
+        if (channel.read(bb) < 0) {
+            throw new EOFException("Connection closed by remote: " + channel);
+        }
+    }
+
+    @Nullable
+    @Override
+    protected byte[] nextFrame(final ByteBuffer bb) throws IOException {
+        // header not complete yet
+        if (bb.remaining() < Header.STRUCTURE_LENGTH) {
+            return null;
+        }
+
+        // header: length (1 byte), protocol version (1 byte), service type (2 bytes), total length (2 bytes)
+        final var position = bb.position();
+        final var headerLength = Byte.toUnsignedInt(bb.get(position));
+        final var totalLength = Short.toUnsignedInt(bb.getShort(position + 4));
+        if (headerLength != Header.STRUCTURE_LENGTH || totalLength < Header.STRUCTURE_LENGTH || totalLength > BUFFER_CAPACITY) {
+            // frame boundaries are lost and the stream cannot be synchronized anymore
+            throw new IOException(String.format("Corrupt frame received (header length: %s, total length: %s)",
+                    headerLength, totalLength));
+        }
+
+        // frame not complete yet
+        if (bb.remaining() < totalLength) {
+            return null;
+        }
+
+        final var bytes = new byte[totalLength];
+        bb.get(bytes);
+        return bytes;
+    }
+}
@@ -39,7 +39,7 @@ import java.util.concurrent.Flow.Subscription;
 public final class ConnectResponseTask implements Subscriber<Body> {
     private static final Logger log = LoggerFactory.getLogger(ConnectResponseTask.class);
     private final InternalKnxClient client;
-    private Subscription subscription;
+    private boolean connected;
 
     public ConnectResponseTask(final InternalKnxClient client) {
         this.client = Objects.requireNonNull(client);
@@ -52,14 +52,14 @@ public final class ConnectResponseTask implements Subscriber<Body> {
             final var responseBody = (ConnectResponseBody) body;
             log.debug("Connect Response received: {}", responseBody);
             this.client.getEventPool().connectEvent().setResponse(responseBody);
+            this.connected = true;
             log.trace("Connect Response saved.");
-            // now cancel the subscription as we only expect this frame once time at beginning only!
-            this.subscription.cancel();
-            log.trace("Subscription for connect frames cancelled.");
-        } else {
+        } else if (!this.connected) {
             // at beginning we MUST receive the ConnectResponseBody otherwise something went wrong!
             throw new KnxBodyNotReceivedException(ConnectResponseBody.class);
         }
+        // other frames after connect are not relevant for this task. The subscription
+        // is kept because a new ConnectResponseBody is expected when reconnecting
     }
 
     @Override
@@ -74,8 +74,7 @@ public final class ConnectResponseTask implements Subscriber<Body> {
 
     @Override
     public void onSubscribe(final Subscription subscription) {
-        this.subscription = subscription;
-        this.subscription.request(1); // receive it only once time!
+        subscription.request(Long.MAX_VALUE);
     }
 
 }
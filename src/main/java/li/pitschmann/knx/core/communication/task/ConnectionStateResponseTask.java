@@ -49,6 +49,12 @@ public final class ConnectionStateResponseTask implements Subscriber<Body> {
             log.debug("Connection State Response received: {}", responseBody);
             this.client.getEventPool().connectionStateEvent().setResponse(responseBody);
             log.trace("Connection State Response saved.");
+
+            // inform the monitor to schedule the next heartbeat
+            final var monitor = this.client.getConnectionStateMonitor();
+            if (monitor != null) {
+                monitor.onResponse(responseBody);
+            }
         }
     }
 
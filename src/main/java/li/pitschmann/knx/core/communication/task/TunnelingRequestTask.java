@@ -52,12 +52,12 @@ public final class TunnelingRequestTask implements Subscriber<Body> {
         if (body instanceof TunnelingRequestBody) {
             log.debug("Tunneling Request received: {}", body);
 
-            // acknowledge frame to be sent back
+            // acknowledge frame to be sent back (not over TCP as the transport is reliable)
             final var reqBody = (TunnelingRequestBody) body;
-            final var ackBody = TunnelingAckBody.of(this.client.getChannelId(), reqBody.getSequence(), Status.NO_ERROR);
-
-            // send acknowledge frame
-            this.client.send(ackBody);
+            if (!this.client.getConfig().isTcpEnabled()) {
+                final var ackBody = TunnelingAckBody.of(this.client.getChannelId(), reqBody.getSequence(), Status.NO_ERROR);
+                this.client.send(ackBody);
+            }
 
             // Consider only:
             // 1) Indication + Group Value Write
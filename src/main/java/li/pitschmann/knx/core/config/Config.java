@@ -25,8 +25,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -39,6 +41,7 @@ public final class Config {
     private final boolean routingEnabled;
     private final InetAddress remoteControlAddress;
     private final int remoteControlPort;
+    private final List<InetSocketAddress> additionalEndpoints;
     private final List<Plugin> plugins;
     private final Map<ConfigValue<?>, Object> settings;
     private final XmlProject xmlProject;
@@ -46,6 +49,7 @@ public final class Config {
     Config(final boolean routingEnabled,
            final InetAddress remoteControlAddress,
            final int remoteControlPort,
+           final List<InetSocketAddress> additionalEndpoints,
            final Map<ConfigValue<?>, Object> settings,
            final List<Plugin> plugins) {
         // communication type
@@ -54,6 +58,7 @@ public final class Config {
         // remote endpoint
         this.remoteControlAddress = Objects.requireNonNull(remoteControlAddress);
         this.remoteControlPort = remoteControlPort;
+        this.additionalEndpoints = List.copyOf(additionalEndpoints);
 
         // plugins
         this.plugins = List.copyOf(plugins);
@@ -73,6 +78,19 @@ public final class Config {
         this.xmlProject = tmpXmlProject;
     }
 
+    /**
+     * Copy of {@code config} with a different remote endpoint and without additional endpoints
+     */
+    private Config(final Config config, final InetSocketAddress endpoint) {
+        this.routingEnabled = config.routingEnabled;
+        this.remoteControlAddress = endpoint.getAddress();
+        this.remoteControlPort = endpoint.getPort();
+        this.additionalEndpoints = List.of();
+        this.plugins = config.plugins;
+        this.settings = config.settings;
+        this.xmlProject = config.xmlProject;
+    }
+
     /**
      * Returns the actual value for given {@code configValue}
      *
@@ -107,6 +125,30 @@ public final class Config {
         return this.remoteControlPort;
     }
 
+    /**
+     * Returns all endpoints of KNX Net/IP devices: the remote control endpoint first,
+     * followed by the additional endpoints (tunneling only) in the order they were added.
+     *
+     * @return unmodifiable list of endpoints
+     */
+    public List<InetSocketAddress> getEndpoints() {
+        final var endpoints = new ArrayList<InetSocketAddress>(1 + this.additionalEndpoints.size());
+        endpoints.add(new InetSocketAddress(this.remoteControlAddress, this.remoteControlPort));
+        endpoints.addAll(this.additionalEndpoints);
+        return List.copyOf(endpoints);
+    }
+
+    /**
+     * Returns a copy of this config for given remote control {@code endpoint}. The
+     * settings, plugins and KNX project are taken over, additional endpoints are not.
+     *
+     * @param endpoint the remote control endpoint of KNX Net/IP device
+     * @return a new instance of {@link Config}
+     */
+    public Config withEndpoint(final InetSocketAddress endpoint) {
+        return new Config(this, Objects.requireNonNull(endpoint));
+    }
+
     /**
      * Returns if the routing is enabled.
      *
@@ -132,6 +174,15 @@ public final class Config {
         return getValue(CoreConfigs.NAT);
     }
 
+    /**
+     * Returns if tunneling over TCP is enabled. Only used when tunneling.
+     *
+     * @return {@code true} if enabled, otherwise {@code false}
+     */
+    public boolean isTcpEnabled() {
+        return getValue(CoreConfigs.Tunneling.TCP);
+    }
+
     /**
      * Returns the path of *.knxproj (KNX Project)
      *
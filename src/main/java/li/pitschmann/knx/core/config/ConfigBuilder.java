@@ -27,6 +27,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +45,7 @@ public final class ConfigBuilder {
     private static final Logger log = LoggerFactory.getLogger(ConfigBuilder.class);
     private final List<Plugin> plugins = new LinkedList<>();
     private final Map<ConfigValue<?>, Object> settings = Maps.newHashMap(100);
+    private final List<InetSocketAddress> endpoints = new ArrayList<>();
     private final InetAddress remoteControlAddress;
     private final int remoteControlPort;
     private final boolean routingEnabled;
@@ -273,6 +276,56 @@ public final class ConfigBuilder {
         return new ConfigBuilder(false, address, port).setting(CoreConfigs.NAT, natEnabled);
     }
 
+    /**
+     * Adds an additional endpoint of KNX Net/IP device with default KNX port (tunneling only)
+     *
+     * @param address the address of additional KNX Net/IP device
+     * @return myself
+     * @see #endpoint(InetAddress, int)
+     */
+    public ConfigBuilder endpoint(final InetAddress address) {
+        return endpoint(address, CoreConfigs.KNX_PORT);
+    }
+
+    /**
+     * Adds an additional endpoint of KNX Net/IP device (tunneling only)
+     * <p>
+     * The additional endpoints are used by the {@code PooledKnxClient} as hot standby
+     * (or for load-balancing) in the order they were added, after the endpoint of this builder.
+     *
+     * @param address the address of additional KNX Net/IP device
+     * @param port    the port of additional KNX Net/IP device
+     * @return myself
+     */
+    public ConfigBuilder endpoint(final InetAddress address, final int port) {
+        Preconditions.checkNonNull(address);
+        Preconditions.checkState(!routingEnabled, "Additional endpoints are not supported for routing.");
+        Preconditions.checkArgument(!address.isAnyLocalAddress() && !address.isMulticastAddress(),
+                "Given address is not suitable for an additional endpoint: {}", address.getHostAddress());
+        // accept only 1024 .. 65535, other ports are reserved
+        Preconditions.checkArgument(port >= 1024 && port <= 65535,
+                "Port is outside of range [1024 .. 65535]: {}", port);
+
+        final var endpoint = new InetSocketAddress(address, port);
+        Preconditions.checkArgument(!endpoints.contains(endpoint)
+                        && !endpoint.equals(new InetSocketAddress(remoteControlAddress, remoteControlPort)),
+                "Endpoint is already added: {}", endpoint);
+        this.endpoints.add(endpoint);
+        return this;
+    }
+
+    /**
+     * Uses TCP instead of UDP for tunneling (KNXnet/IP v2). Control and data related packets
+     * are going over a single TCP connection; as the transport is reliable, no acknowledge
+     * is waited for tunneling requests.
+     *
+     * @return myself
+     */
+    public ConfigBuilder tcp() {
+        Preconditions.checkState(!routingEnabled, "TCP is not supported for routing.");
+        return setting(CoreConfigs.Tunneling.TCP, Boolean.TRUE);
+    }
+
     /**
      * Adds plugin to be used by KNX client
      *
@@ -323,6 +376,7 @@ public final class ConfigBuilder {
                 routingEnabled,
                 remoteControlAddress,
                 remoteControlPort,
+                endpoints,
                 settings,
                 plugins
         );
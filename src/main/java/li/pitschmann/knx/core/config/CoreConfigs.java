@@ -18,6 +18,7 @@
 package li.pitschmann.knx.core.config;
 
 import li.pitschmann.knx.core.exceptions.KnxConfigurationException;
+import li.pitschmann.knx.core.plugin.PluginOverflowPolicy;
 import li.pitschmann.knx.core.utils.Configs;
 import li.pitschmann.knx.core.utils.Networker;
 
@@ -27,6 +28,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Comparator;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
@@ -151,6 +153,37 @@ public final class CoreConfigs {
         }
     }
 
+    public static final class Cache {
+        /**
+         * Default value if the responses of discovery (SEARCH_RESPONSE) and description
+         * (DESCRIPTION_RESPONSE) should be cached on the local filesystem. Tunneling mode only.
+         * <p>
+         * If enabled, the KNX client starts with the cached responses and revalidates them in
+         * the background. If the connect fails with cached responses, the KNX client falls back
+         * to a live discovery and description.
+         */
+        public static final ConfigValue<Boolean> ENABLED = new ConfigValue<>(
+                "client.communication.cache.enabled",
+                Boolean.class,
+                Boolean::valueOf,
+                () -> Boolean.FALSE,
+                null
+        );
+        /**
+         * Directory where the cached responses are stored
+         */
+        public static final ConfigValue<Path> PATH = new ConfigValue<>(
+                "client.communication.cache.path",
+                Path.class,
+                Paths::get,
+                () -> Paths.get(System.getProperty("user.home"), ".knx-core", "cache"),
+                Objects::nonNull
+        );
+
+        private Cache() {
+        }
+    }
+
     public static final class Connect {
         /**
          * KNX client shall wait for 10 seconds for a CONNECT_RESPONSE frame from KNX Net/IP device.
@@ -232,6 +265,102 @@ public final class CoreConfigs {
         }
     }
 
+    public static final class Reconnect {
+        /**
+         * Default value if the KNX client should reconnect automatically when the connection
+         * to the KNX Net/IP device is lost (e.g. no heartbeat). Tunneling over UDP only, the
+         * setting is ignored for routing and tunneling over TCP.
+         * <p>
+         * If enabled, only the CONNECT handshake is performed again; the channels, status pool,
+         * plugins and pending tunneling requests are kept.
+         */
+        public static final ConfigValue<Boolean> ENABLED = new ConfigValue<>(
+                "client.communication.reconnect.enabled",
+                Boolean.class,
+                Boolean::valueOf,
+                () -> Boolean.FALSE,
+                null
+        );
+        /**
+         * Maximum number of CONNECT attempts for a reconnect until the KNX client is closed
+         */
+        public static final ConfigValue<Integer> MAX_ATTEMPTS = new ConfigValue<>(
+                "client.communication.reconnect.maxAttempts",
+                Integer.class,
+                Integer::valueOf,
+                () -> 10,
+                v -> v != null && v > 0
+        );
+        /**
+         * Initial backoff time in milliseconds between two CONNECT attempts. The backoff time
+         * is doubled after each failed attempt (up to {@link #MAX_BACKOFF}) and jittered.
+         */
+        public static final ConfigValue<Long> INITIAL_BACKOFF = new ConfigValue<>(
+                "client.communication.reconnect.initialBackoff",
+                Long.class,
+                Long::valueOf,
+                () -> 100L,
+                v -> v != null && v >= 0
+        );
+        /**
+         * Maximum backoff time in milliseconds between two CONNECT attempts
+         */
+        public static final ConfigValue<Long> MAX_BACKOFF = new ConfigValue<>(
+                "client.communication.reconnect.maxBackoff",
+                Long.class,
+                Long::valueOf,
+                () -> TimeUnit.SECONDS.toMillis(10),
+                v -> v != null && v >= 0
+        );
+
+        private Reconnect() {
+        }
+    }
+
+    public static final class Pool {
+        /**
+         * Time window in milliseconds within an identical status (same source address, APCI and
+         * data) received via another tunneling connection of a pooled KNX client is considered
+         * as duplicate and not taken into the shared status pool. Zero disables the de-duplication.
+         */
+        public static final ConfigValue<Long> DEDUPLICATION_WINDOW = new ConfigValue<>(
+                "client.communication.pool.deduplicationWindow",
+                Long.class,
+                Long::valueOf,
+                () -> 1000L,
+                v -> v != null && v >= 0
+        );
+
+        /**
+         * Default value if the traffic of a pooled KNX client created with several endpoints (see
+         * {@link ConfigBuilder#endpoint(InetAddress, int)}) should be spread across all healthy
+         * KNX Net/IP devices. If disabled, the traffic is sent to the first healthy KNX Net/IP device
+         * in order of endpoints; the other devices are kept connected as hot standby.
+         */
+        public static final ConfigValue<Boolean> LOAD_BALANCING = new ConfigValue<>(
+                "client.communication.pool.loadBalancing",
+                Boolean.class,
+                Boolean::valueOf,
+                () -> Boolean.FALSE,
+                null
+        );
+        /**
+         * Maximum round trip time in milliseconds of connection state and tunneling requests. A tunneling
+         * connection with a higher round trip time is considered as degraded until a connection state
+         * response arrives within this time.
+         */
+        public static final ConfigValue<Long> MAX_ROUND_TRIP_TIME = new ConfigValue<>(
+                "client.communication.pool.maxRoundTripTime",
+                Long.class,
+                Long::valueOf,
+                () -> 1000L,
+                v -> v != null && v > 0
+        );
+
+        private Pool() {
+        }
+    }
+
     public static final class Control {
         /**
          * Control Channel Port
@@ -270,6 +399,17 @@ public final class CoreConfigs {
                 () -> TimeUnit.SECONDS.toMillis(1),
                 Objects::nonNull
         );
+        /**
+         * Default value if tunneling shall be done over TCP (KNXnet/IP v2) instead of UDP.
+         * Over TCP the transport is reliable and no TUNNELING_ACK is exchanged.
+         */
+        public static final ConfigValue<Boolean> TCP = new ConfigValue<>(
+                "client.communication.tunneling.tcp",
+                Boolean.class,
+                Boolean::valueOf,
+                () -> Boolean.FALSE,
+                null
+        );
 
         private Tunneling() {
         }
@@ -406,6 +546,32 @@ public final class CoreConfigs {
                 () -> 10,
                 Objects::nonNull
         );
+        /**
+         * Default value if the event loop transport mode should be enabled.
+         * <p>
+         * If enabled, all channels of the KNX client are served by a single selector thread
+         * instead of having an inbox and an outbox thread per channel.
+         */
+        public static final ConfigValue<Boolean> EVENT_LOOP_ENABLED = new ConfigValue<>(
+                "client.communication.eventLoop.enabled",
+                Boolean.class,
+                Boolean::valueOf,
+                () -> Boolean.FALSE,
+                null
+        );
+
+        /**
+         * Default value if virtual threads should be used for request/response communication
+         * (e.g. waiting for the acknowledge of a request). Requires Java 21 or later, otherwise
+         * a fixed thread pool with size of {@link #EXECUTOR_POOL_SIZE} is used.
+         */
+        public static final ConfigValue<Boolean> VIRTUAL_THREADS_ENABLED = new ConfigValue<>(
+                "client.communication.virtualThreads.enabled",
+                Boolean.class,
+                Boolean::valueOf,
+                () -> Boolean.FALSE,
+                null
+        );
 
         private Communication() {
         }
@@ -434,6 +600,58 @@ public final class CoreConfigs {
                 Objects::nonNull
         );
 
+        /**
+         * Default value if virtual threads should be used for plugin notifications.
+         * Requires Java 21 or later, otherwise a fixed thread pool with size of
+         * {@link #EXECUTOR_POOL_SIZE} is used.
+         */
+        public static final ConfigValue<Boolean> VIRTUAL_THREADS_ENABLED = new ConfigValue<>(
+                "client.plugin.virtualThreads.enabled",
+                Boolean.class,
+                Boolean::valueOf,
+                () -> Boolean.FALSE,
+                null
+        );
+
+        /**
+         * Capacity of mailbox per plug-in. Each plug-in has its own mailbox which
+         * is consumed by a single thread to keep the order of notifications.
+         * <p>
+         * Per default the mailbox is unbounded and no notification is dropped. Bounding
+         * the mailbox is opt-in, see {@link #MAILBOX_OVERFLOW_POLICY}.
+         */
+        public static final ConfigValue<Integer> MAILBOX_CAPACITY = new ConfigValue<>(
+                "client.plugin.mailbox.capacity",
+                Integer.class,
+                Integer::valueOf,
+                () -> Integer.MAX_VALUE,
+                v -> v != null && v > 0
+        );
+
+        /**
+         * Policy how a notification is handled when the mailbox of plug-in is full
+         * (applies only if {@link #MAILBOX_CAPACITY} is set)
+         */
+        public static final ConfigValue<PluginOverflowPolicy> MAILBOX_OVERFLOW_POLICY = new ConfigValue<>(
+                "client.plugin.mailbox.overflowPolicy",
+                PluginOverflowPolicy.class,
+                x -> PluginOverflowPolicy.valueOf(x.toUpperCase(Locale.ROOT)),
+                () -> PluginOverflowPolicy.DROP_OLDEST,
+                Objects::nonNull
+        );
+
+        /**
+         * Every n-th notification is accepted when the mailbox of plug-in is half full and
+         * the overflow policy is {@link PluginOverflowPolicy#SAMPLE}
+         */
+        public static final ConfigValue<Integer> MAILBOX_SAMPLE_RATE = new ConfigValue<>(
+                "client.plugin.mailbox.sampleRate",
+                Integer.class,
+                Integer::valueOf,
+                () -> 10,
+                v -> v != null && v > 0
+        );
+
         private Plugin() {
         }
     }
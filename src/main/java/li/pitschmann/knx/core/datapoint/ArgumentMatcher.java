@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.datapoint;
+
+import java.util.function.Predicate;
+
+/**
+ * Precompiled matchers for string arguments of {@link BaseDataPointType#of(String[])}.
+ * <p>
+ * The matchers are hand-written character scanners that replace the regular expressions
+ * which were used previously; they are allocation-free and accept exactly the same
+ * syntax as the regular expression mentioned in the documentation of each constant.
+ *
+ * @author PITSCHR
+ */
+enum ArgumentMatcher implements Predicate<String> {
+    /**
+     * Digits only, equivalent to: {@code ^[\d]+$}
+     */
+    DIGITS {
+        @Override
+        public boolean test(final String arg) {
+            return !arg.isEmpty() && isDigits(arg, 0, arg.length());
+        }
+    },
+    /**
+     * Date in ISO format, equivalent to: {@code ^[0-9]{4}-[0-9]{2}-[0-9]{2}$}
+     */
+    DATE {
+        @Override
+        public boolean test(final String arg) {
+            return arg.length() == 10
+                    && isDigits(arg, 0, 4) && arg.charAt(4) == '-'
+                    && isDigits(arg, 5, 7) && arg.charAt(7) == '-'
+                    && isDigits(arg, 8, 10);
+        }
+    },
+    /**
+     * Time in ISO format, equivalent to: {@code ^[0-9]{2}:[0-9]{2}(:[0-9]{2})?$}
+     */
+    TIME {
+        @Override
+        public boolean test(final String arg) {
+            final var length = arg.length();
+            if (length != 5 && length != 8) {
+                return false;
+            }
+            return isDigits(arg, 0, 2) && arg.charAt(2) == ':'
+                    && isDigits(arg, 3, 5)
+                    && (length == 5 || (arg.charAt(5) == ':' && isDigits(arg, 6, 8)));
+        }
+    },
+    /**
+     * Two bytes as hex string, equivalent to: {@code ^(0x)?([0-9a-fA-F]{2}\s?){2}$}
+     */
+    HEX_WORD {
+        @Override
+        public boolean test(final String arg) {
+            var i = arg.startsWith("0x") ? 2 : 0;
+            for (var pair = 0; pair < 2; pair++) {
+                if (i + 2 > arg.length() || !isHex(arg.charAt(i)) || !isHex(arg.charAt(i + 1))) {
+                    return false;
+                }
+                i += 2;
+                if (i < arg.length() && isWhitespace(arg.charAt(i))) {
+                    i++;
+                }
+            }
+            return i == arg.length();
+        }
+    },
+    /**
+     * Step interval, equivalent to: {@code ^([\d]+|[\d.,]+%|stop)$} (case-insensitive)
+     */
+    STEP_INTERVAL {
+        @Override
+        public boolean test(final String arg) {
+            final var length = arg.length();
+            if (length == 0) {
+                return false;
+            } else if (arg.charAt(length - 1) == '%') {
+                if (length == 1) {
+                    return false;
+                }
+                for (var i = 0; i < length - 1; i++) {
+                    final var c = arg.charAt(i);
+                    if (!isDigit(c) && c != '.' && c != ',') {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            return isDigits(arg, 0, length) || "stop".equalsIgnoreCase(arg);
+        }
+    };
+
+    private static boolean isDigits(final String arg, final int from, final int to) {
+        for (var i = from; i < to; i++) {
+            if (!isDigit(arg.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHex(final char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static boolean isWhitespace(final char c) {
+        // same as '\s' in regular expression: [ \t\n\x0B\f\r]
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+}
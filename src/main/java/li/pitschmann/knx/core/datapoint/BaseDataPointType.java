@@ -31,10 +31,12 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Base {@link DataPointType} containing common id and description data
@@ -42,6 +44,19 @@ import java.util.stream.Stream;
  * @author PITSCHR
  */
 public abstract class BaseDataPointType<V extends DataPointValue> implements DataPointType {
+    /**
+     * Minimum number of values per chunk when decoding a batch in parallel
+     */
+    private static final int BATCH_CHUNK_SIZE = 4096;
+    /**
+     * Enum constants per enumeration class, {@link Class#getEnumConstants()} returns a new copy for every call
+     */
+    private static final ClassValue<Object[]> ENUM_CONSTANTS = new ClassValue<>() {
+        @Override
+        protected Object[] computeValue(final Class<?> type) {
+            return type.getEnumConstants();
+        }
+    };
     protected final Logger log = LoggerFactory.getLogger(getClass());
     private final String description;
     private final String unit;
@@ -140,6 +155,158 @@ public abstract class BaseDataPointType<V extends DataPointValue> implements Dat
         }
     }
 
+    @Override
+    public final double[] toDoubleArray(final byte[] payloads, final int[] offsets, final boolean parallel) {
+        final var values = new double[checkBatch(payloads, offsets)];
+        decodeBatch(values.length, parallel, i -> values[i] = decodeDouble(payloads, offsets[i], offsets[i + 1] - offsets[i]));
+        return values;
+    }
+
+    @Override
+    public final long[] toLongArray(final byte[] payloads, final int[] offsets, final boolean parallel) {
+        final var values = new long[checkBatch(payloads, offsets)];
+        decodeBatch(values.length, parallel, i -> values[i] = decodeLong(payloads, offsets[i], offsets[i + 1] - offsets[i]));
+        return values;
+    }
+
+    @Override
+    public final int[] toIntArray(final byte[] payloads, final int[] offsets, final boolean parallel) {
+        final var values = new int[checkBatch(payloads, offsets)];
+        decodeBatch(values.length, parallel, i -> values[i] = decodeInt(payloads, offsets[i], offsets[i + 1] - offsets[i]));
+        return values;
+    }
+
+    @Override
+    public final int[] toEnumOrdinalArray(final byte[] payloads, final int[] offsets, final boolean parallel) {
+        final var values = new int[checkBatch(payloads, offsets)];
+        decodeBatch(values.length, parallel, i -> values[i] = decodeEnumOrdinal(payloads, offsets[i], offsets[i + 1] - offsets[i]));
+        return values;
+    }
+
+    /**
+     * Validates the {@code payloads} and {@code offsets} for batch decoding
+     *
+     * @param payloads packed raw bytes of all values
+     * @param offsets  boundaries of values in {@code payloads}
+     * @return number of values to be decoded
+     */
+    private static int checkBatch(final byte[] payloads, final int[] offsets) {
+        if (payloads == null) {
+            throw new KnxNullPointerException("payloads");
+        }
+        Preconditions.checkArgument(offsets != null && offsets.length > 0, "Offsets must have at least one element.");
+        Preconditions.checkArgument(offsets[0] >= 0, "First offset must not be negative: {}", offsets[0]);
+        for (var i = 1; i < offsets.length; i++) {
+            if (offsets[i] < offsets[i - 1]) {
+                throw new IllegalArgumentException(
+                        String.format("Offsets must be in ascending order. Offset at index %s: %s < %s", i, offsets[i], offsets[i - 1]));
+            }
+        }
+        Preconditions.checkArgument(offsets[offsets.length - 1] <= payloads.length,
+                "Last offset must not exceed the length of payloads ({}): {}", payloads.length, offsets[offsets.length - 1]);
+        return offsets.length - 1;
+    }
+
+    /**
+     * Decodes values from {@code 0} (inclusive) to {@code size} (exclusive) using the {@code decoder}.
+     * If {@code parallel} then the batch is split into chunks which are decoded using fork/join.
+     *
+     * @param size     number of values to be decoded
+     * @param parallel if {@code true} the batch is decoded in parallel
+     * @param decoder  decoder for the value at given index
+     */
+    private static void decodeBatch(final int size, final boolean parallel, final IntConsumer decoder) {
+        if (parallel && size > BATCH_CHUNK_SIZE) {
+            ForkJoinPool.commonPool().invoke(new BatchDecodeAction(decoder, 0, size));
+        } else {
+            for (var i = 0; i < size; i++) {
+                decoder.accept(i);
+            }
+        }
+    }
+
+    /**
+     * Decodes a single raw value from {@code payloads} as {@code int} without creating
+     * a {@link DataPointValue}. Data point types that can be represented as {@code int}
+     * should override this method.
+     *
+     * @param payloads packed raw bytes
+     * @param offset   offset of raw value in {@code payloads}
+     * @param length   length of raw value
+     * @return decoded value
+     */
+    protected int decodeInt(final byte[] payloads, final int offset, final int length) {
+        throw new UnsupportedOperationException("Decoding to 'int' is not supported for: " + getId());
+    }
+
+    /**
+     * Decodes a single raw value from {@code payloads} as {@code long} without creating
+     * a {@link DataPointValue}. Per default it delegates to {@link #decodeInt(byte[], int, int)}.
+     *
+     * @param payloads packed raw bytes
+     * @param offset   offset of raw value in {@code payloads}
+     * @param length   length of raw value
+     * @return decoded value
+     */
+    protected long decodeLong(final byte[] payloads, final int offset, final int length) {
+        return decodeInt(payloads, offset, length);
+    }
+
+    /**
+     * Decodes a single raw value from {@code payloads} as {@code double} without creating
+     * a {@link DataPointValue}. Per default it delegates to {@link #decodeLong(byte[], int, int)}.
+     *
+     * @param payloads packed raw bytes
+     * @param offset   offset of raw value in {@code payloads}
+     * @param length   length of raw value
+     * @return decoded value
+     */
+    protected double decodeDouble(final byte[] payloads, final int offset, final int length) {
+        return decodeLong(payloads, offset, length);
+    }
+
+    /**
+     * Decodes a single raw value from {@code payloads} as enumeration ordinal without
+     * creating a {@link DataPointValue}. Supported by enumerated data point types only.
+     *
+     * @param payloads packed raw bytes
+     * @param offset   offset of raw value in {@code payloads}
+     * @param length   length of raw value
+     * @return ordinal of enumeration constant
+     */
+    protected int decodeEnumOrdinal(final byte[] payloads, final int offset, final int length) {
+        throw new UnsupportedOperationException("Decoding to enumeration ordinal is not supported for: " + getId());
+    }
+
+    /**
+     * Returns the {@code int} from four bytes (big-endian) at given {@code offset}
+     *
+     * @param payloads packed raw bytes
+     * @param offset   offset of first byte
+     * @return int
+     */
+    protected static int toInt(final byte[] payloads, final int offset) {
+        return (payloads[offset] << 24)
+                | ((payloads[offset + 1] & 0xFF) << 16)
+                | ((payloads[offset + 2] & 0xFF) << 8)
+                | (payloads[offset + 3] & 0xFF);
+    }
+
+    /**
+     * Checks if the raw value at given {@code offset} has the {@code expectedLength}
+     *
+     * @param payloads       packed raw bytes
+     * @param offset         offset of raw value in {@code payloads}
+     * @param length         length of raw value
+     * @param expectedLength the expected length of raw value
+     * @throws DataPointTypeIncompatibleBytesException if the length is not expected
+     */
+    protected final void checkLength(final byte[] payloads, final int offset, final int length, final int expectedLength) {
+        if (length != expectedLength) {
+            throw new DataPointTypeIncompatibleBytesException(this, Arrays.copyOfRange(payloads, offset, offset + length));
+        }
+    }
+
     /**
      * Checks if the given {@code bytes} is compatible with the current DPT
      *
@@ -186,8 +353,20 @@ public abstract class BaseDataPointType<V extends DataPointValue> implements Dat
      */
     private V tryParseAsHexString(final String[] args) {
         Preconditions.checkArgument(args[0].startsWith("0x"), "Hex string should start with '0x'. Actual: {}", args[0]);
-        final var joinedString = Stream.of(args).map(arg -> arg.replaceFirst("0x", "")).collect(Collectors.joining());
-        return of(Bytes.toByteArray(joinedString));
+        if (args.length == 1) {
+            return of(Bytes.toByteArray(args[0].substring(2)));
+        }
+        final var sb = new StringBuilder(args.length * 4);
+        for (final var arg : args) {
+            // removes the first occurrence of '0x' only
+            final var index = arg.indexOf("0x");
+            if (index < 0) {
+                sb.append(arg);
+            } else {
+                sb.append(arg, 0, index).append(arg, index + 2, arg.length());
+            }
+        }
+        return of(Bytes.toByteArray(sb.toString()));
     }
 
     /**
@@ -200,10 +379,11 @@ public abstract class BaseDataPointType<V extends DataPointValue> implements Dat
      */
     @Nullable
     protected final <E extends Enum<E>> E findByEnumConstant(final String[] args, final Class<E> enumClass) {
+        @SuppressWarnings("unchecked") final var enumConstants = (E[]) ENUM_CONSTANTS.get(enumClass);
         for (var i = 0; i < args.length; i++) {
-            final var arg = args[i].toUpperCase();
-            for (final var enumConstant : enumClass.getEnumConstants()) {
-                if (enumConstant.name().equals(arg)) {
+            final var arg = args[i];
+            for (final var enumConstant : enumConstants) {
+                if (enumConstant.name().equalsIgnoreCase(arg)) {
                     return enumConstant;
                 }
             }
@@ -245,6 +425,43 @@ public abstract class BaseDataPointType<V extends DataPointValue> implements Dat
         return defaultValue;
     }
 
+    /**
+     * Returns the first argument accepted by {@code matcher}
+     * <p>
+     * Prefer this method over {@link #findByPattern(String[], Pattern, Function)} when
+     * the syntax can be checked without regular expression, see {@link ArgumentMatcher}.
+     *
+     * @param args     array of arguments
+     * @param matcher  matcher to find the suitable argument
+     * @param function if found then convert to desired object instance
+     * @param <T>      the value type we are looking for
+     * @return found and converted object instance, otherwise {@code null} if not found
+     */
+    @Nullable
+    protected final <T> T findByMatcher(final String[] args, final Predicate<String> matcher, final Function<String, T> function) {
+        return findByMatcher(args, matcher, function, null);
+    }
+
+    /**
+     * Returns the first argument accepted by {@code matcher}
+     *
+     * @param args         array of arguments
+     * @param matcher      matcher to find the suitable argument
+     * @param function     if found then convert to desired object instance
+     * @param defaultValue value to be returned in case no argument is accepted by matcher
+     * @param <T>          the value type we are looking for
+     * @return found and converted object instance, otherwise {@code defaultValue} if not found
+     */
+    @Nullable
+    protected final <T> T findByMatcher(final String[] args, final Predicate<String> matcher, final Function<String, T> function, final @Nullable T defaultValue) {
+        for (var i = 0; i < args.length; i++) {
+            if (matcher.test(args[i])) {
+                return function.apply(args[i]);
+            }
+        }
+        return defaultValue;
+    }
+
     /**
      * Returns {@code true }if the given {@code searchString} or {@code moreSearchStrings} was
      * found in argument array. The search is case-insensitive.
@@ -291,4 +508,32 @@ public abstract class BaseDataPointType<V extends DataPointValue> implements Dat
                 .toString();
         // @formatter:on
     }
+
+    /**
+     * Fork/Join action for decoding a batch in parallel chunks
+     */
+    private static final class BatchDecodeAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final transient IntConsumer decoder;
+        private final int from;
+        private final int to;
+
+        private BatchDecodeAction(final IntConsumer decoder, final int from, final int to) {
+            this.decoder = decoder;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_CHUNK_SIZE) {
+                for (var i = from; i < to; i++) {
+                    decoder.accept(i);
+                }
+            } else {
+                final var middle = (from + to) >>> 1;
+                invokeAll(new BatchDecodeAction(decoder, from, middle), new BatchDecodeAction(decoder, middle, to));
+            }
+        }
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.datapoint;
+
+import li.pitschmann.knx.core.annotations.Nullable;
+
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Applies the inverse of calculation functions of data point types to the raw value,
+ * shared by the data point types (batch decoding) and their data point values.
+ *
+ * @author PITSCHR
+ */
+public final class CalculationFunctions {
+    private CalculationFunctions() {
+        throw new AssertionError("Do not touch me!");
+    }
+
+    /**
+     * Converts the raw value to value representation using calculation function
+     * of {@link DPT5} and {@link DPT7}
+     *
+     * @param calculationFunction the calculation function, may be {@code null}
+     * @param rawValue            the raw value as unsigned int
+     * @return value representation
+     */
+    public static int toInt(final @Nullable IntToDoubleFunction calculationFunction, final int rawValue) {
+        if (calculationFunction == null) {
+            return rawValue;
+        } else {
+            return (int) Math.round((100d / calculationFunction.applyAsDouble(100)) * rawValue);
+        }
+    }
+
+    /**
+     * Converts the raw value to value representation using calculation function
+     * of {@link DPT8}
+     *
+     * @param calculationFunction the calculation function, may be {@code null}
+     * @param rawValue            the raw value as signed int
+     * @return value representation
+     */
+    public static int toInt(final @Nullable IntUnaryOperator calculationFunction, final int rawValue) {
+        if (calculationFunction == null) {
+            return rawValue;
+        } else {
+            return (100 / calculationFunction.applyAsInt(100)) * rawValue;
+        }
+    }
+
+    /**
+     * Converts the raw value to value representation using calculation function
+     * of {@link DPT8.Percent}
+     *
+     * @param calculationFunction the calculation function
+     * @param rawValue            the raw value as signed int
+     * @return value representation
+     */
+    public static double toDouble(final DoubleUnaryOperator calculationFunction, final int rawValue) {
+        return (100d / calculationFunction.applyAsDouble(100)) * rawValue;
+    }
+}
@@ -18,6 +18,7 @@
 package li.pitschmann.knx.core.datapoint;
 
 import li.pitschmann.knx.core.datapoint.value.DPT1Value;
+import li.pitschmann.knx.core.exceptions.DataPointTypeIncompatibleBytesException;
 import li.pitschmann.knx.core.utils.Preconditions;
 
 import java.util.Arrays;
@@ -433,6 +434,7 @@ public final class DPT1 extends BaseDataPointType<DPT1Value> {
 
     private final String textForFalse;
     private final String textForTrue;
+    private final DataPointValueCache<DPT1Value> valueCache = new DataPointValueCache<>(2, i -> new DPT1Value(this, i == 1));
 
     /**
      * Constructor for {@link DPT1}
@@ -468,7 +470,16 @@ public final class DPT1 extends BaseDataPointType<DPT1Value> {
 
     @Override
     protected DPT1Value parse(final byte[] bytes) {
-        return new DPT1Value(this, bytes[0]);
+        return valueCache.get(bytes[0] == 0x01 ? 1 : 0);
+    }
+
+    @Override
+    protected int decodeInt(final byte[] payloads, final int offset, final int length) {
+        checkLength(payloads, offset, length, 1);
+        if ((payloads[offset] >>> 1) != 0x00) {
+            throw new DataPointTypeIncompatibleBytesException(this, new byte[]{payloads[offset]});
+        }
+        return payloads[offset];
     }
 
     @Override
@@ -494,6 +505,6 @@ public final class DPT1 extends BaseDataPointType<DPT1Value> {
     }
 
     public DPT1Value of(final boolean value) {
-        return new DPT1Value(this, value);
+        return valueCache.get(value ? 1 : 0);
     }
 }
@@ -24,7 +24,6 @@ import li.pitschmann.knx.core.utils.Preconditions;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.util.Arrays;
-import java.util.regex.Pattern;
 
 /**
  * Data Point Type 10 for 'Time' (3 Octets)
@@ -103,7 +102,7 @@ public final class DPT10 extends BaseDataPointType<DPT10Value> {
     @Override
     protected DPT10Value parse(final String[] args) {
         final var dayOfWeek = findByEnumConstant(args, DayOfWeek.class);
-        final var time = findByPattern(args, Pattern.compile("^[0-9]{2}:[0-9]{2}(:[0-9]{2})?$"), LocalTime::parse);
+        final var time = findByMatcher(args, ArgumentMatcher.TIME, LocalTime::parse);
 
         Preconditions.checkArgument(time != null,
                 "Time missing (supported format: 'hh:mm', 'hh:mm:ss'). Provided: {}", Arrays.toString(args));
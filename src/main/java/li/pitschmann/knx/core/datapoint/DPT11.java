@@ -22,7 +22,6 @@ import li.pitschmann.knx.core.utils.Preconditions;
 
 import java.time.LocalDate;
 import java.util.Arrays;
-import java.util.regex.Pattern;
 
 /**
  * Data Point Type 11 for 'Date' (3 Octets)
@@ -102,11 +101,11 @@ public final class DPT11 extends BaseDataPointType<DPT11Value> {
 
     @Override
     protected DPT11Value parse(final String[] args) {
-        final var date = findByPattern(args, Pattern.compile("^[0-9]{4}-[0-9]{2}-[0-9]{2}$"), LocalDate::parse);
+        final var date = findByMatcher(args, ArgumentMatcher.DATE, LocalDate::parse);
 
         Preconditions.checkArgument(date != null,
                 "Date missing (supported format: 'yyyy-mm-dd'). Provided: {}", Arrays.toString(args));
-        return of(LocalDate.parse(args[0]));
+        return of(date);
     }
 
     public DPT11Value of(final LocalDate date) {
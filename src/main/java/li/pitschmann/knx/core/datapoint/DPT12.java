@@ -182,6 +182,12 @@ public final class DPT12 extends BaseRangeDataPointType<DPT12Value, Long> {
         return new DPT12Value(this, bytes);
     }
 
+    @Override
+    protected long decodeLong(final byte[] payloads, final int offset, final int length) {
+        checkLength(payloads, offset, length, 4);
+        return Integer.toUnsignedLong(toInt(payloads, offset));
+    }
+
     @Override
     protected boolean isCompatible(final String[] args) {
         return args.length == 1;
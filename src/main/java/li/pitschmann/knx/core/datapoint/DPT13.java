@@ -301,6 +301,12 @@ public final class DPT13 extends BaseRangeDataPointType<DPT13Value, Integer> {
         return new DPT13Value(this, bytes);
     }
 
+    @Override
+    protected int decodeInt(final byte[] payloads, final int offset, final int length) {
+        checkLength(payloads, offset, length, 4);
+        return toInt(payloads, offset);
+    }
+
     @Override
     protected boolean isCompatible(final String[] args) {
         return args.length == 1;
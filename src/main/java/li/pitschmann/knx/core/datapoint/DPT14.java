@@ -1887,6 +1887,12 @@ public final class DPT14 extends BaseRangeDataPointType<DPT14Value, Double> {
         return new DPT14Value(this, bytes);
     }
 
+    @Override
+    protected double decodeDouble(final byte[] payloads, final int offset, final int length) {
+        checkLength(payloads, offset, length, 4);
+        return Float.intBitsToFloat(toInt(payloads, offset));
+    }
+
     @Override
     protected boolean isCompatible(final String[] args) {
         return args.length == 1;
@@ -21,7 +21,6 @@ import li.pitschmann.knx.core.datapoint.value.DPT17Value;
 import li.pitschmann.knx.core.utils.Preconditions;
 
 import java.util.Arrays;
-import java.util.regex.Pattern;
 
 /**
  * Data Point Type 17 for 'Scene Number' (1 Octet)
@@ -52,6 +51,8 @@ public final class DPT17 extends BaseRangeDataPointType<DPT17Value, Integer> {
     @DataPoint({"17.001", "dpt-17", "dpst-17-1"})
     public static final DPT17 SCENE_NUMBER = new DPT17("Scene Number");
 
+    private final DataPointValueCache<DPT17Value> valueCache = new DataPointValueCache<>(64, DPT17Value::new);
+
     /**
      * Constructor for {@link DPT17}
      *
@@ -68,7 +69,7 @@ public final class DPT17 extends BaseRangeDataPointType<DPT17Value, Integer> {
 
     @Override
     protected DPT17Value parse(final byte[] bytes) {
-        return new DPT17Value(bytes[0]);
+        return of(Byte.toUnsignedInt(bytes[0]));
     }
 
     @Override
@@ -78,7 +79,7 @@ public final class DPT17 extends BaseRangeDataPointType<DPT17Value, Integer> {
 
     @Override
     protected DPT17Value parse(final String[] args) {
-        final var intValue = findByPattern(args, Pattern.compile("^[\\d]+$"), Integer::valueOf);
+        final var intValue = findByMatcher(args, ArgumentMatcher.DIGITS, Integer::valueOf);
         Preconditions.checkArgument(intValue != null,
                 "Scene Number missing (digit between {} and {}). Provided: {}",
                 getLowerValue(),
@@ -90,6 +91,10 @@ public final class DPT17 extends BaseRangeDataPointType<DPT17Value, Integer> {
     }
 
     public DPT17Value of(final int sceneNumber) {
-        return new DPT17Value(sceneNumber);
+        if (sceneNumber < getLowerValue() || sceneNumber > getUpperValue()) {
+            // out of range, let the constructor throw the exception
+            return new DPT17Value(sceneNumber);
+        }
+        return valueCache.get(sceneNumber);
     }
 }
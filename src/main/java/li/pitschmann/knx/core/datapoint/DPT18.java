@@ -21,7 +21,6 @@ import li.pitschmann.knx.core.datapoint.value.DPT18Value;
 import li.pitschmann.knx.core.utils.Preconditions;
 
 import java.util.Arrays;
-import java.util.regex.Pattern;
 
 /**
  * Data Point Type 18 for 'Scene Control' (1 Octet)
@@ -55,6 +54,9 @@ public final class DPT18 extends BaseRangeDataPointType<DPT18Value, Integer> {
     @DataPoint({"18.001", "dpt-18", "dpst-18-1"})
     public static final DPT18 SCENE_CONTROL = new DPT18("Scene Control");
 
+    private final DataPointValueCache<DPT18Value> valueCache = new DataPointValueCache<>(128,
+            i -> new DPT18Value(i >= 64, i & 0x3F));
+
     /**
      * Constructor for {@link DPT18}
      *
@@ -71,7 +73,8 @@ public final class DPT18 extends BaseRangeDataPointType<DPT18Value, Integer> {
 
     @Override
     protected DPT18Value parse(final byte[] bytes) {
-        return new DPT18Value(bytes[0]);
+        // bit 7 = controlled, bit 0..6 = scene number
+        return of((bytes[0] & 0x80) != 0x00, bytes[0] & 0x7F);
     }
 
     @Override
@@ -82,7 +85,7 @@ public final class DPT18 extends BaseRangeDataPointType<DPT18Value, Integer> {
     @Override
     protected DPT18Value parse(final String[] args) {
         final var controlled = containsString(args, "controlled");
-        final var intValue = findByPattern(args, Pattern.compile("^[\\d]+$"), Integer::valueOf);
+        final var intValue = findByMatcher(args, ArgumentMatcher.DIGITS, Integer::valueOf);
 
         Preconditions.checkArgument(intValue != null,
                 "Scene Number missing (digit between {} and {}). Provided: {}",
@@ -94,6 +97,10 @@ public final class DPT18 extends BaseRangeDataPointType<DPT18Value, Integer> {
     }
 
     public DPT18Value of(final boolean controlled, final int sceneNumber) {
-        return new DPT18Value(controlled, sceneNumber);
+        if (sceneNumber < getLowerValue() || sceneNumber > getUpperValue()) {
+            // out of range, let the constructor throw the exception
+            return new DPT18Value(controlled, sceneNumber);
+        }
+        return valueCache.get((controlled ? 64 : 0) | sceneNumber);
     }
 }
@@ -27,7 +27,6 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Arrays;
-import java.util.regex.Pattern;
 
 /**
  * Data Point Type 19 for 'Date &amp; Time' (8 Octets)
@@ -154,9 +153,9 @@ public final class DPT19 extends BaseDataPointType<DPT19Value> {
     @Override
     protected DPT19Value parse(final String[] args) {
         final var dayOfWeek = findByEnumConstant(args, DayOfWeek.class);
-        final var date = findByPattern(args, Pattern.compile("^[0-9]{4}-[0-9]{2}-[0-9]{2}$"), LocalDate::parse);
-        final var time = findByPattern(args, Pattern.compile("^[0-9]{2}:[0-9]{2}(:[0-9]{2})?$"), LocalTime::parse);
-        final var flags = findByPattern(args, Pattern.compile("^(0x)?([0-9a-fA-F]{2}\\s?){2}$"), v -> new Flags(Bytes.toByteArray(v)), Flags.NO_FLAGS);
+        final var date = findByMatcher(args, ArgumentMatcher.DATE, LocalDate::parse);
+        final var time = findByMatcher(args, ArgumentMatcher.TIME, LocalTime::parse);
+        final var flags = findByMatcher(args, ArgumentMatcher.HEX_WORD, v -> new Flags(Bytes.toByteArray(v)), Flags.NO_FLAGS);
 
         // minimum are date and time
         Preconditions.checkArgument(date != null,
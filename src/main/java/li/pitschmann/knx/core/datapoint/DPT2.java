@@ -229,6 +229,7 @@ public final class DPT2 extends BaseDataPointType<DPT2Value> {
     public static final DPT2 INVERT_CONTROL = new DPT2("Invert Controlled", DPT1.INVERT);
 
     private final DPT1 dpt1;
+    private final DataPointValueCache<DPT2Value> valueCache = new DataPointValueCache<>(4, i -> new DPT2Value(this, (byte) i));
 
     /**
      * Constructor for {@link DPT2}
@@ -253,7 +254,7 @@ public final class DPT2 extends BaseDataPointType<DPT2Value> {
 
     @Override
     protected DPT2Value parse(final byte[] bytes) {
-        return new DPT2Value(this, bytes[0]);
+        return valueCache.get(bytes[0] & 0x03);
     }
 
     @Override
@@ -280,7 +281,8 @@ public final class DPT2 extends BaseDataPointType<DPT2Value> {
     }
 
     public DPT2Value of(final boolean controlled, final boolean booleanValue) {
-        return new DPT2Value(this, controlled, booleanValue);
+        // bit 1 = controlled, bit 0 = value
+        return valueCache.get((controlled ? 0x02 : 0x00) | (booleanValue ? 0x01 : 0x00));
     }
 
 }
@@ -19,8 +19,6 @@ package li.pitschmann.knx.core.datapoint;
 
 import li.pitschmann.knx.core.datapoint.value.DPT26Value;
 
-import java.util.regex.Pattern;
-
 /**
  * Data Point Type 26 for 'Scene Information' (1 Octet)
  *
@@ -86,7 +84,7 @@ public final class DPT26 extends BaseRangeDataPointType<DPT26Value, Integer> {
     @Override
     protected DPT26Value parse(final String[] args) {
         final var sceneActive = containsString(args, "active", "true");
-        final var sceneNumber = findByPattern(args, Pattern.compile("^[\\d]+$"), Integer::valueOf);
+        final var sceneNumber = findByMatcher(args, ArgumentMatcher.DIGITS, Integer::valueOf);
         return of(sceneActive, sceneNumber);
     }
 
@@ -154,6 +154,12 @@ public final class DPT29 extends BaseDataPointType<DPT29Value> {
         return new DPT29Value(this, bytes);
     }
 
+    @Override
+    protected long decodeLong(final byte[] payloads, final int offset, final int length) {
+        checkLength(payloads, offset, length, 8);
+        return ((long) toInt(payloads, offset) << 32) | Integer.toUnsignedLong(toInt(payloads, offset + 4));
+    }
+
     @Override
     protected boolean isCompatible(final String[] args) {
         return args.length == 1;
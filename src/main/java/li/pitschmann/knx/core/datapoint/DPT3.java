@@ -22,7 +22,7 @@ import li.pitschmann.knx.core.datapoint.value.StepInterval;
 import li.pitschmann.knx.core.utils.Preconditions;
 
 import java.util.Arrays;
-import java.util.regex.Pattern;
+import java.util.Objects;
 
 /**
  * Data Point Type 3 for 'Controlled Dimming/Blinds' (3 Bits)
@@ -80,6 +80,7 @@ public final class DPT3 extends BaseDataPointType<DPT3Value> {
     public static final DPT3 BLINDS_CONTROL = new DPT3("Blinds Controlled", DPT1.UP_DOWN);
 
     private final DPT1 dpt1;
+    private final DataPointValueCache<DPT3Value> valueCache = new DataPointValueCache<>(16, i -> new DPT3Value(this, (byte) i));
 
     /**
      * Constructor for {@link DPT3}
@@ -104,7 +105,7 @@ public final class DPT3 extends BaseDataPointType<DPT3Value> {
 
     @Override
     protected DPT3Value parse(final byte[] bytes) {
-        return new DPT3Value(this, bytes[0]);
+        return valueCache.get(bytes[0] & 0x0F);
     }
 
     @Override
@@ -115,7 +116,7 @@ public final class DPT3 extends BaseDataPointType<DPT3Value> {
     @Override
     protected DPT3Value parse(final String[] args) {
         final var controlled = containsString(args, "controlled");
-        final var stepInterval = findByPattern(args, Pattern.compile("^([\\d]+|[\\d.,]+%|stop)$", Pattern.CASE_INSENSITIVE), StepInterval::parse);
+        final var stepInterval = findByMatcher(args, ArgumentMatcher.STEP_INTERVAL, StepInterval::parse);
 
         Preconditions.checkArgument(stepInterval != null,
                 "Step Interval missing (format: '0', '0%%', '0.0%%', '0,0%%' or 'stop'). Provided: {}",
@@ -125,6 +126,7 @@ public final class DPT3 extends BaseDataPointType<DPT3Value> {
     }
 
     public DPT3Value of(final boolean controlled, final StepInterval stepInterval) {
-        return new DPT3Value(this, controlled, stepInterval);
+        // bit 3 = controlled, bit 0, 1 and 2 = step code
+        return valueCache.get((controlled ? 0x08 : 0x00) | Objects.requireNonNull(stepInterval).getByte());
     }
 }
@@ -175,6 +175,7 @@ public final class DPT5 extends BaseRangeDataPointType<DPT5Value, Integer> {
      * Calculates from {@link Integer} to {@link Float} using a formula
      */
     private final IntToDoubleFunction calculationFunction;
+    private final DataPointValueCache<DPT5Value> valueCache;
 
     /**
      * Constructor for {@link DPT5}
@@ -192,6 +193,7 @@ public final class DPT5 extends BaseRangeDataPointType<DPT5Value, Integer> {
                  final @Nullable IntToDoubleFunction calculationFunction) {
         super(description, lowerValue, upperValue, unit);
         this.calculationFunction = calculationFunction;
+        this.valueCache = new DataPointValueCache<>(upperValue - lowerValue + 1, i -> new DPT5Value(this, lowerValue + i));
     }
 
     @Nullable
@@ -206,7 +208,14 @@ public final class DPT5 extends BaseRangeDataPointType<DPT5Value, Integer> {
 
     @Override
     protected DPT5Value parse(final byte[] bytes) {
-        return new DPT5Value(this, bytes[0]);
+        return of(decodeInt(bytes, 0, 1));
+    }
+
+    @Override
+    protected int decodeInt(final byte[] payloads, final int offset, final int length) {
+        checkLength(payloads, offset, length, 1);
+        final var unsignedInt = Byte.toUnsignedInt(payloads[offset]);
+        return CalculationFunctions.toInt(calculationFunction, unsignedInt);
     }
 
     @Override
@@ -220,6 +229,10 @@ public final class DPT5 extends BaseRangeDataPointType<DPT5Value, Integer> {
     }
 
     public DPT5Value of(final int value) {
-        return new DPT5Value(this, value);
+        if (value < getLowerValue() || value > getUpperValue()) {
+            // out of range, let the constructor throw the exception
+            return new DPT5Value(this, value);
+        }
+        return valueCache.get(value - getLowerValue());
     }
 }
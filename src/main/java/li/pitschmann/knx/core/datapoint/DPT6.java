@@ -118,6 +118,12 @@ public final class DPT6 extends BaseRangeDataPointType<DPT6Value, Integer> {
         return new DPT6Value(this, bytes[0]);
     }
 
+    @Override
+    protected int decodeInt(final byte[] payloads, final int offset, final int length) {
+        checkLength(payloads, offset, length, 1);
+        return payloads[offset];
+    }
+
     @Override
     protected boolean isCompatible(final String[] args) {
         return args.length == 1;
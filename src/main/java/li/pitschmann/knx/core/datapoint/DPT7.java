@@ -287,6 +287,13 @@ public final class DPT7 extends BaseRangeDataPointType<DPT7Value, Integer> {
         return new DPT7Value(this, bytes);
     }
 
+    @Override
+    protected int decodeInt(final byte[] payloads, final int offset, final int length) {
+        checkLength(payloads, offset, length, 2);
+        final var unsignedInt = ((payloads[offset] & 0xFF) << 8) | (payloads[offset + 1] & 0xFF);
+        return CalculationFunctions.toInt(calculationFunction, unsignedInt);
+    }
+
     @Override
     protected boolean isCompatible(final String[] args) {
         return args.length == 1;
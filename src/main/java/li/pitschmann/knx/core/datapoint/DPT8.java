@@ -21,6 +21,7 @@ import li.pitschmann.knx.core.annotations.Nullable;
 import li.pitschmann.knx.core.datapoint.value.DPT8Value;
 import li.pitschmann.knx.core.utils.Bytes;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.IntUnaryOperator;
 
 /**
@@ -255,6 +256,13 @@ public final class DPT8 extends BaseRangeDataPointType<DPT8Value, Integer> {
         return new DPT8Value(this, bytes);
     }
 
+    @Override
+    protected int decodeInt(final byte[] payloads, final int offset, final int length) {
+        checkLength(payloads, offset, length, 2);
+        final var signedInt = (payloads[offset] << 8) | (payloads[offset + 1] & 0xFF);
+        return CalculationFunctions.toInt(calculationFunction, signedInt);
+    }
+
     @Override
     protected boolean isCompatible(final String[] args) {
         return args.length == 1;
@@ -275,6 +283,13 @@ public final class DPT8 extends BaseRangeDataPointType<DPT8Value, Integer> {
      * @author PITSCHR
      */
     public static class Percent extends BaseRangeDataPointType<DPT8Value.Percent, Double> {
+        /**
+         * Calculation function
+         * <p>
+         * Calculates from {@link Double} to {@link Double} using a formula
+         */
+        private final DoubleUnaryOperator calculationFunction = v -> v * 100d;
+
         /**
          * Constructor for {@link DPT8.Percent}
          */
@@ -282,6 +297,10 @@ public final class DPT8 extends BaseRangeDataPointType<DPT8Value, Integer> {
             super("Percent", -327.68, 327.67, "%");
         }
 
+        public DoubleUnaryOperator getCalculationFunction() {
+            return this.calculationFunction;
+        }
+
         @Override
         protected boolean isCompatible(final byte[] bytes) {
             return bytes.length == 2;
@@ -292,6 +311,13 @@ public final class DPT8 extends BaseRangeDataPointType<DPT8Value, Integer> {
             return new DPT8Value.Percent(bytes);
         }
 
+        @Override
+        protected double decodeDouble(final byte[] payloads, final int offset, final int length) {
+            checkLength(payloads, offset, length, 2);
+            final var signedInt = (payloads[offset] << 8) | (payloads[offset + 1] & 0xFF);
+            return CalculationFunctions.toDouble(calculationFunction, signedInt);
+        }
+
         @Override
         protected boolean isCompatible(final String[] args) {
             return args.length == 1;
@@ -504,6 +504,12 @@ public final class DPT9 extends BaseRangeDataPointType<DPT9Value, Double> {
         return new DPT9Value(this, bytes);
     }
 
+    @Override
+    protected double decodeDouble(final byte[] payloads, final int offset, final int length) {
+        checkLength(payloads, offset, length, 2);
+        return DPT9Value.toFloatingValue(payloads[offset], payloads[offset + 1]);
+    }
+
     @Override
     protected boolean isCompatible(final String[] args) {
         return args.length == 1;
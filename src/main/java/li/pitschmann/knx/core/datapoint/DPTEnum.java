@@ -24,6 +24,7 @@ import li.pitschmann.knx.core.utils.Maps;
 import li.pitschmann.knx.core.utils.Preconditions;
 import li.pitschmann.knx.core.utils.Strings;
 
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -41,7 +42,9 @@ import java.util.Map;
  * @author PITSCHR
  */
 public final class DPTEnum<T extends Enum<T> & DataPointEnum<T>> extends BaseDataPointType<DPTEnumValue<T>> {
-    private final Map<Integer, DPTEnumValue<T>> values = Maps.newHashMap(255);
+    @SuppressWarnings("unchecked")
+    private final DPTEnumValue<T>[] values = new DPTEnumValue[256];
+    private final Map<String, DPTEnumValue<T>> valuesByText = Maps.newHashMap(64);
     private final String id;
 
     /**
@@ -66,9 +69,22 @@ public final class DPTEnum<T extends Enum<T> & DataPointEnum<T>> extends BaseDat
      * @param enumValue value that should be used for DPT enumeration
      */
     final void addValue(final DPTEnumValue<T> enumValue) {
-        Preconditions.checkArgument(!this.values.containsKey(enumValue.getValue()),
+        Preconditions.checkArgument(this.values[enumValue.getValue()] == null,
                 "Data point field with value '{}' already registered. Please check your DPT implementation!", enumValue);
-        this.values.put(enumValue.getValue(), enumValue);
+        this.values[enumValue.getValue()] = enumValue;
+        // index by description (preferred) and by name of enum constant
+        this.valuesByText.putIfAbsent(toLookupKey(enumValue.getDescription()), enumValue);
+        this.valuesByText.putIfAbsent(toLookupKey(enumValue.getEnum().name()), enumValue);
+    }
+
+    /**
+     * Returns the key for case-insensitive lookup of description or name
+     *
+     * @param text description or name of enumeration value
+     * @return lookup key
+     */
+    private static String toLookupKey(final String text) {
+        return text.toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -79,7 +95,7 @@ public final class DPTEnum<T extends Enum<T> & DataPointEnum<T>> extends BaseDat
      * @throws KnxEnumNotFoundException if enumeration with given value could not be found
      */
     public final DPTEnumValue<T> of(final int value) {
-        final var dptEnumValue = this.values.get(value);
+        final var dptEnumValue = value >= 0 && value < this.values.length ? this.values[value] : null;
         if (dptEnumValue == null) {
             throw new KnxEnumNotFoundException(
                     String.format("Could not find data point enum value for dpt '%s' and value '%s'.", this.getId(), value));
@@ -97,6 +113,18 @@ public final class DPTEnum<T extends Enum<T> & DataPointEnum<T>> extends BaseDat
         return this.of(Byte.toUnsignedInt(bytes[0]));
     }
 
+    @Override
+    protected int decodeInt(final byte[] payloads, final int offset, final int length) {
+        checkLength(payloads, offset, length, 1);
+        return this.of(Byte.toUnsignedInt(payloads[offset])).getValue();
+    }
+
+    @Override
+    protected int decodeEnumOrdinal(final byte[] payloads, final int offset, final int length) {
+        checkLength(payloads, offset, length, 1);
+        return this.of(Byte.toUnsignedInt(payloads[offset])).getEnum().ordinal();
+    }
+
     @Override
     protected boolean isCompatible(String[] args) {
         return args.length == 1 && !Strings.isNullOrEmpty(args[0]);
@@ -117,16 +145,13 @@ public final class DPTEnum<T extends Enum<T> & DataPointEnum<T>> extends BaseDat
             // digits only
             return this.of(Integer.parseInt(args[0]));
         } else {
-            // not digits only -> try with value name
-            for (final var value : this.values.values()) {
-                if (args[0].equalsIgnoreCase(value.getDescription())) {
-                    // found
-                    return value;
-                }
+            // not digits only -> try with description or name of enum constant
+            final var dptEnumValue = this.valuesByText.get(toLookupKey(args[0]));
+            if (dptEnumValue == null) {
+                throw new KnxEnumNotFoundException(
+                        String.format("Could not find data point enum value for dpt '%s' and value '%s'.", this.getId(), args[0]));
             }
-            // not found
-            throw new KnxEnumNotFoundException(
-                    String.format("Could not find data point enum value for dpt '%s' and value '%s'.", this.getId(), args[0]));
+            return dptEnumValue;
         }
     }
 
@@ -30,6 +30,7 @@ import org.slf4j.LoggerFactory;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -45,39 +46,48 @@ public final class DataPointRegistry {
     private static final Map<String, DataPointType> dataPointTypeMap = Maps.newHashMap(1024);
     private static final Map<Object, String[]> dataPointIdentifierMap = Maps.newHashMap(1024);
     private static final Map<Enum<?>, DPTEnumValue<?>> dataPointEnumMap = Maps.newHashMap(1024);
+    private static final String INDEX_CLASS_NAME = DataPointRegistry.class.getPackageName() + ".DataPointIndex";
+    /**
+     * Classes that contain the data point types of KNX Core
+     */
+    static final List<Class<?>> DATA_POINT_TYPE_CLASSES = List.of(
+            DPTRaw.class,
+            DPT1.class,
+            DPT2.class,
+            DPT3.class,
+            DPT4.class,
+            DPT5.class,
+            DPT6.class,
+            DPT7.class,
+            DPT8.class,
+            DPT9.class,
+            DPT10.class,
+            DPT11.class,
+            DPT12.class,
+            DPT13.class,
+            DPT14.class,
+            DPT15.class,
+            DPT16.class,
+            DPT17.class,
+            DPT18.class,
+            DPT19.class,
+            DPT20.class,
+            DPT21.class,
+            DPT22.class,
+            DPT23.class,
+            DPT24.class,
+            DPT25.class,
+            DPT26.class,
+            DPT27.class,
+            DPT28.class,
+            DPT29.class
+    );
 
     static {
-        // add DPT fields
-        registerDataPointType(DPTRaw.class);
-        registerDataPointType(DPT1.class);
-        registerDataPointType(DPT2.class);
-        registerDataPointType(DPT3.class);
-        registerDataPointType(DPT4.class);
-        registerDataPointType(DPT5.class);
-        registerDataPointType(DPT6.class);
-        registerDataPointType(DPT7.class);
-        registerDataPointType(DPT8.class);
-        registerDataPointType(DPT9.class);
-        registerDataPointType(DPT10.class);
-        registerDataPointType(DPT11.class);
-        registerDataPointType(DPT12.class);
-        registerDataPointType(DPT13.class);
-        registerDataPointType(DPT14.class);
-        registerDataPointType(DPT15.class);
-        registerDataPointType(DPT16.class);
-        registerDataPointType(DPT17.class);
-        registerDataPointType(DPT18.class);
-        registerDataPointType(DPT19.class);
-        registerDataPointType(DPT20.class);
-        registerDataPointType(DPT21.class);
-        registerDataPointType(DPT22.class);
-        registerDataPointType(DPT23.class);
-        registerDataPointType(DPT24.class);
-        registerDataPointType(DPT25.class);
-        registerDataPointType(DPT26.class);
-        registerDataPointType(DPT27.class);
-        registerDataPointType(DPT28.class);
-        registerDataPointType(DPT29.class);
+        // use the index generated at compile time, fall back to reflection if not available or incomplete
+        if (!registerDataPointTypesByIndex()) {
+            DATA_POINT_TYPE_CLASSES.forEach(DataPointRegistry::registerDataPointType);
+        }
 
         if (log.isDebugEnabled()) {
             log.debug("{} data point types registered: {}", dataPointTypeMap.size(),
@@ -92,6 +102,57 @@ public final class DataPointRegistry {
         throw new AssertionError("Do not touch me!");
     }
 
+    /**
+     * Registers all data point types using the {@link Index} that has been generated
+     * at compile time (see: {@code DataPointIndexProcessor}). This avoids the reflection
+     * over all data point type classes, their fields and annotations.
+     *
+     * @return {@code true} if the data point types have been registered by index,
+     * {@code false} if no index is available or the index is incomplete
+     */
+    private static boolean registerDataPointTypesByIndex() {
+        final Class<?> indexClass;
+        try {
+            indexClass = Class.forName(INDEX_CLASS_NAME);
+        } catch (final ClassNotFoundException ex) {
+            log.debug("No index for data point types found. Fall back to reflection.");
+            return false;
+        }
+
+        final Index index;
+        try {
+            index = (Index) indexClass.getDeclaredConstructor().newInstance();
+        } catch (final ReflectiveOperationException ex) {
+            throw new KnxException("Could not create index for data point types: " + INDEX_CLASS_NAME, ex);
+        }
+        if (!isComplete(index)) {
+            return false;
+        }
+        index.registerAll();
+        log.debug("Data point types registered by index: {}", INDEX_CLASS_NAME);
+        return true;
+    }
+
+    /**
+     * Checks if the {@link Index} covers all {@link #DATA_POINT_TYPE_CLASSES}. An index may be
+     * incomplete when it has been generated by an incremental build (e.g. IDE) which compiled
+     * only a subset of data point type classes.
+     *
+     * @param index the index to be checked
+     * @return {@code true} if the index is complete, otherwise {@code false}
+     */
+    static boolean isComplete(final Index index) {
+        final var sourceClasses = index.getSourceClasses();
+        final var missingClasses = DATA_POINT_TYPE_CLASSES.stream()
+                .filter(c -> !sourceClasses.contains(c))
+                .collect(Collectors.toList());
+        if (missingClasses.isEmpty()) {
+            return true;
+        }
+        log.warn("Index for data point types is incomplete (missing: {}). Fall back to reflection.", missingClasses);
+        return false;
+    }
+
     /**
      * Registers the given data point type class. By calling this method the class will be visited with the result that
      * all data point types of given class will be registered.
@@ -139,21 +200,13 @@ public final class DataPointRegistry {
             try {
                 // we are safe to cast here with "null" because field is an enumeration
                 @SuppressWarnings("unchecked") final var fieldInstance = (T) field.get(null);
-                final var dptEnumValue = new DPTEnumValue<>(dptEnum, fieldInstance, fieldAnnotation.value(),
-                        fieldAnnotation.description());
-                dptEnum.addValue(dptEnumValue);
-                dataPointEnumMap.put(dptEnumValue.getEnum(), dptEnumValue);
-                log.debug("Enum Value registered: {}", dptEnumValue);
+                addDataPointEnumValue(dptEnum, fieldInstance, fieldAnnotation.value(), fieldAnnotation.description());
             } catch (final Exception ex) {
                 throw new KnxException("Could not register enum field: " + field.getName(), ex);
             }
         }
 
-        for (final var id : classAnnotation.value()) {
-            dataPointTypeMap.put(id, dptEnum);
-            log.debug("Enum Data Point Type registered: {}={}", id, dptEnum);
-        }
-        dataPointIdentifierMap.put(dptEnum, classAnnotation.value().clone());
+        addDataPointEnum(dptEnum, classAnnotation.value());
     }
 
     /**
@@ -185,19 +238,65 @@ public final class DataPointRegistry {
             // object is a DataPointType
             final var dpt = (DataPointType) obj;
             final var fieldAnnotation = field.getAnnotation(DataPoint.class);
-            for (final var id : fieldAnnotation.value()) {
-                if (dataPointTypeMap.containsKey(id)) {
-                    throw new AssertionError("Please check the DPT implementation! Data Point Type key is already registered: " + id);
-                }
-                dataPointTypeMap.put(id, dpt);
-            }
-            dataPointIdentifierMap.put(dpt, fieldAnnotation.value().clone());
+            addDataPointType(dpt, fieldAnnotation.value());
             if (log.isDebugEnabled()) {
                 log.debug("Field: {}->{} [{}]", clazz, field.getName(), Arrays.toString(fieldAnnotation.value()));
             }
         }
     }
 
+    /**
+     * Adds the data point type with given identifiers. This method is subject to be
+     * called by reflection-based registration and by {@link Index}.
+     *
+     * @param dpt the data point type to be added
+     * @param ids identifiers of data point type, the first is the main identifier
+     */
+    static void addDataPointType(final DataPointType dpt, final String[] ids) {
+        for (final var id : ids) {
+            if (dataPointTypeMap.containsKey(id)) {
+                throw new AssertionError("Please check the DPT implementation! Data Point Type key is already registered: " + id);
+            }
+            dataPointTypeMap.put(id, dpt);
+        }
+        dataPointIdentifierMap.put(dpt, ids.clone());
+    }
+
+    /**
+     * Adds the data point enumeration with given identifiers. This method is subject to be
+     * called by reflection-based registration and by {@link Index}.
+     *
+     * @param dptEnum the data point enumeration to be added
+     * @param ids     identifiers of data point enumeration, the first is the main identifier
+     */
+    static void addDataPointEnum(final DPTEnum<?> dptEnum, final String[] ids) {
+        for (final var id : ids) {
+            dataPointTypeMap.put(id, dptEnum);
+            log.debug("Enum Data Point Type registered: {}={}", id, dptEnum);
+        }
+        dataPointIdentifierMap.put(dptEnum, ids.clone());
+    }
+
+    /**
+     * Adds the enumeration value to the data point enumeration. This method is subject to be
+     * called by reflection-based registration and by {@link Index}.
+     *
+     * @param dptEnum     the data point enumeration the value belongs to
+     * @param enumField   the enumeration constant
+     * @param value       the value of enumeration constant (0..255)
+     * @param description the description of enumeration constant
+     * @param <T>         the type of DPT enumeration
+     */
+    static <T extends Enum<T> & DataPointEnum<T>> void addDataPointEnumValue(final DPTEnum<T> dptEnum,
+                                                                            final T enumField,
+                                                                            final int value,
+                                                                            final String description) {
+        final var dptEnumValue = new DPTEnumValue<>(dptEnum, enumField, value, description);
+        dptEnum.addValue(dptEnumValue);
+        dataPointEnumMap.put(dptEnumValue.getEnum(), dptEnumValue);
+        log.debug("Enum Value registered: {}", dptEnumValue);
+    }
+
     /**
      * Returns the data point type by given enumeration field
      *
@@ -236,4 +335,21 @@ public final class DataPointRegistry {
         final String[] identifiers = dataPointIdentifierMap.get(dpt);
         return Preconditions.checkNonNull(identifiers, "Could not find Data Point Type in identifier map: {}", dpt.getClass());
     }
+
+    /**
+     * Index of data point types which is generated at compile time
+     */
+    interface Index {
+        /**
+         * Returns the classes that have been scanned for data point types when generating the index
+         *
+         * @return list of classes
+         */
+        List<Class<?>> getSourceClasses();
+
+        /**
+         * Registers all data point types of the index
+         */
+        void registerAll();
+    }
 }
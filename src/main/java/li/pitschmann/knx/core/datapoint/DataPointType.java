@@ -122,4 +122,79 @@ public interface DataPointType {
      * @throws DataPointTypeIncompatibleSyntaxException to be thrown if the arguments could not be interpreted
      */
     DataPointValue of(final String arg, final String... moreArgs);
+
+    /**
+     * Decodes a batch of raw values to an array of {@code double} values.
+     * <p>
+     * The raw values are packed in {@code payloads} and the {@code offsets} array defines
+     * the boundaries: the raw bytes of i-th value are located from {@code offsets[i]}
+     * (inclusive) to {@code offsets[i+1]} (exclusive). The {@code offsets} array has
+     * therefore one element more than the number of values.
+     * <p>
+     * Unlike {@link #of(byte[])} no {@link DataPointValue} instance is created and the
+     * range of data point type is not validated.
+     * <p>
+     * Batch decoding is implemented by {@link BaseDataPointType}, other implementations
+     * throw {@link UnsupportedOperationException} per default.
+     *
+     * @param payloads packed raw bytes of all values
+     * @param offsets  boundaries of values in {@code payloads}
+     * @param parallel if {@code true} then large batches are decoded in parallel chunks
+     *                 using the common fork/join pool
+     * @return array of decoded {@code double} values
+     * @throws DataPointTypeIncompatibleBytesException to be thrown if wrong byte array structure was provided
+     * @throws UnsupportedOperationException           if the data point type cannot be decoded as {@code double}
+     */
+    default double[] toDoubleArray(final byte[] payloads, final int[] offsets, final boolean parallel) {
+        throw new UnsupportedOperationException("Batch decoding is not supported for: " + getId());
+    }
+
+    /**
+     * Decodes a batch of raw values to an array of {@code long} values.
+     * See {@link #toDoubleArray(byte[], int[], boolean)} for layout of {@code payloads} and {@code offsets}.
+     *
+     * @param payloads packed raw bytes of all values
+     * @param offsets  boundaries of values in {@code payloads}
+     * @param parallel if {@code true} then large batches are decoded in parallel chunks
+     *                 using the common fork/join pool
+     * @return array of decoded {@code long} values
+     * @throws DataPointTypeIncompatibleBytesException to be thrown if wrong byte array structure was provided
+     * @throws UnsupportedOperationException           if the data point type cannot be decoded as {@code long}
+     */
+    default long[] toLongArray(final byte[] payloads, final int[] offsets, final boolean parallel) {
+        throw new UnsupportedOperationException("Batch decoding is not supported for: " + getId());
+    }
+
+    /**
+     * Decodes a batch of raw values to an array of {@code int} values.
+     * See {@link #toDoubleArray(byte[], int[], boolean)} for layout of {@code payloads} and {@code offsets}.
+     *
+     * @param payloads packed raw bytes of all values
+     * @param offsets  boundaries of values in {@code payloads}
+     * @param parallel if {@code true} then large batches are decoded in parallel chunks
+     *                 using the common fork/join pool
+     * @return array of decoded {@code int} values
+     * @throws DataPointTypeIncompatibleBytesException to be thrown if wrong byte array structure was provided
+     * @throws UnsupportedOperationException           if the data point type cannot be decoded as {@code int}
+     */
+    default int[] toIntArray(final byte[] payloads, final int[] offsets, final boolean parallel) {
+        throw new UnsupportedOperationException("Batch decoding is not supported for: " + getId());
+    }
+
+    /**
+     * Decodes a batch of raw values to an array of enumeration ordinals. This is supported
+     * by {@link DPTEnum} only. See {@link #toDoubleArray(byte[], int[], boolean)} for layout
+     * of {@code payloads} and {@code offsets}.
+     *
+     * @param payloads packed raw bytes of all values
+     * @param offsets  boundaries of values in {@code payloads}
+     * @param parallel if {@code true} then large batches are decoded in parallel chunks
+     *                 using the common fork/join pool
+     * @return array of enumeration ordinals
+     * @throws DataPointTypeIncompatibleBytesException to be thrown if wrong byte array structure was provided
+     * @throws UnsupportedOperationException           if the data point type is not an enumeration
+     */
+    default int[] toEnumOrdinalArray(final byte[] payloads, final int[] offsets, final boolean parallel) {
+        throw new UnsupportedOperationException("Batch decoding is not supported for: " + getId());
+    }
 }
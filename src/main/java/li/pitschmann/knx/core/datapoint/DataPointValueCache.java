@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.datapoint;
+
+import li.pitschmann.knx.core.datapoint.value.DataPointValue;
+
+import java.util.function.IntFunction;
+
+/**
+ * Cache of canonical {@link DataPointValue} instances for data point types
+ * with a small value domain (e.g. booleans, scenes, 8-bit unsigned values).
+ * <p>
+ * Data point values are immutable, therefore the same instance can be shared.
+ * All instances are created at once when the cache is accessed the first time.
+ *
+ * @param <V> type of data point value
+ * @author PITSCHR
+ */
+final class DataPointValueCache<V extends DataPointValue> {
+    private final int size;
+    private final IntFunction<V> factory;
+    private volatile DataPointValue[] values;
+
+    /**
+     * Creates a new cache
+     *
+     * @param size    number of values in the domain
+     * @param factory function to create the data point value for given index
+     */
+    DataPointValueCache(final int size, final IntFunction<V> factory) {
+        this.size = size;
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the canonical data point value for given {@code index}.
+     * The caller is responsible that the {@code index} is within the domain.
+     *
+     * @param index index of data point value, between {@code 0} and {@code size - 1}
+     * @return canonical data point value
+     */
+    @SuppressWarnings("unchecked")
+    V get(final int index) {
+        var localValues = values;
+        if (localValues == null) {
+            localValues = initialize();
+        }
+        return (V) localValues[index];
+    }
+
+    private synchronized DataPointValue[] initialize() {
+        if (values == null) {
+            final var newValues = new DataPointValue[size];
+            for (var i = 0; i < size; i++) {
+                newValues[i] = factory.apply(i);
+            }
+            values = newValues;
+        }
+        return values;
+    }
+}
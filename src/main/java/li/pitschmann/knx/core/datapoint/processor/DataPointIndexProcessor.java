@@ -0,0 +1,277 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.datapoint.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Annotation Processor that generates the {@code DataPointIndex} class at compile time.
+ * <p>
+ * The generated class contains all data point types (fields and enumerations) which are
+ * annotated with {@code @DataPoint} and are picked up by {@code DataPointRegistry}
+ * without reflection. The criteria are the same as for the reflection-based registration:
+ * <ul>
+ * <li>Fields must be {@code public static final} and an instance of {@code DataPointType}</li>
+ * <li>Enumerations must be public, implement {@code DataPointEnum} and only enum constants
+ * with {@code @DataPointEnumValue} annotation are considered</li>
+ * </ul>
+ * This processor is subject to be used during the build of KNX Core only.
+ *
+ * @author PITSCHR
+ */
+@SupportedAnnotationTypes(DataPointIndexProcessor.DATA_POINT_ANNOTATION)
+public final class DataPointIndexProcessor extends AbstractProcessor {
+    static final String DATA_POINT_ANNOTATION = "li.pitschmann.knx.core.datapoint.DataPoint";
+    private static final String DATA_POINT_ENUM_VALUE_ANNOTATION = "li.pitschmann.knx.core.datapoint.value.DataPointEnumValue";
+    private static final String DATA_POINT_TYPE_INTERFACE = "li.pitschmann.knx.core.datapoint.DataPointType";
+    private static final String DATA_POINT_ENUM_INTERFACE = "li.pitschmann.knx.core.datapoint.DataPointEnum";
+    private static final String INDEX_PACKAGE = "li.pitschmann.knx.core.datapoint";
+    private static final String INDEX_SIMPLE_NAME = "DataPointIndex";
+    private boolean generated;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (generated || annotations.isEmpty()) {
+            return false;
+        }
+
+        final var annotationElement = processingEnv.getElementUtils().getTypeElement(DATA_POINT_ANNOTATION);
+        final var elements = roundEnv.getElementsAnnotatedWith(annotationElement).stream()
+                .sorted(Comparator.comparing(this::sortKey))
+                .collect(Collectors.toList());
+
+        // top level classes the data point types are declared in, to detect an incomplete index at runtime
+        final var sourceClasses = elements.stream()
+                .map(this::getTopLevelType)
+                .map(e -> e.getQualifiedName().toString())
+                .collect(Collectors.toCollection(TreeSet::new));
+
+        final var fields = new ArrayList<VariableElement>();
+        final var enums = new ArrayList<TypeElement>();
+        for (final var element : elements) {
+            if (element.getKind() == ElementKind.FIELD
+                    && element.getModifiers().containsAll(Set.of(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL))) {
+                if (!isAssignable(element.asType(), DATA_POINT_TYPE_INTERFACE)) {
+                    error(element, "Field is not an instance of DataPointType: %s", element);
+                } else {
+                    fields.add((VariableElement) element);
+                }
+            } else if (element.getKind() == ElementKind.ENUM
+                    && element.getModifiers().contains(Modifier.PUBLIC)
+                    && isAssignable(element.asType(), DATA_POINT_ENUM_INTERFACE)) {
+                enums.add((TypeElement) element);
+            }
+        }
+
+        try {
+            writeIndex(sourceClasses, fields, enums);
+            generated = true;
+        } catch (final IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write " + INDEX_SIMPLE_NAME + ": " + ex.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Writes the {@code DataPointIndex} source file
+     *
+     * @param sourceClasses qualified names of top level classes that contain the data point types
+     * @param fields data point type fields to be registered
+     * @param enums  data point enumerations to be registered
+     * @throws IOException if the source file could not be written
+     */
+    private void writeIndex(final Set<String> sourceClasses,
+                            final List<VariableElement> fields, final List<TypeElement> enums) throws IOException {
+        final var originatingElements = new ArrayList<Element>(fields);
+        originatingElements.addAll(enums);
+        final var sourceFile = processingEnv.getFiler().createSourceFile(INDEX_PACKAGE + "." + INDEX_SIMPLE_NAME,
+                originatingElements.toArray(new Element[0]));
+
+        final var registeredIds = new HashSet<String>();
+        try (final var writer = new PrintWriter(sourceFile.openWriter())) {
+            writer.println("package " + INDEX_PACKAGE + ";");
+            writer.println();
+            writer.println("/**");
+            writer.println(" * Data Point Index generated by {@code " + getClass().getName() + "}");
+            writer.println(" * <p>");
+            writer.println(" * Do not modify, this file is generated at compile time!");
+            writer.println(" */");
+            writer.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+            writer.println("final class " + INDEX_SIMPLE_NAME + " implements DataPointRegistry.Index {");
+            writer.println("    @Override");
+            writer.println("    public java.util.List<Class<?>> getSourceClasses() {");
+            writer.println(sourceClasses.stream().map(c -> "                " + c + ".class")
+                    .collect(Collectors.joining(",\n", "        return java.util.List.of(\n", "\n        );")));
+            writer.println("    }");
+            writer.println();
+            writer.println("    @Override");
+            writer.println("    public void registerAll() {");
+
+            // data point enumerations
+            for (final var enumElement : enums) {
+                final var enumName = enumElement.getQualifiedName().toString();
+                final var annotation = getAnnotation(enumElement, DATA_POINT_ANNOTATION);
+                final var ids = getStringArray(annotation, "value");
+                checkDuplicates(enumElement, ids, registeredIds);
+                writer.println("        {");
+                writer.printf("            final var dptEnum = new DPTEnum<%s>(%s, %s);%n",
+                        enumName, literal(ids.get(0)), literal(getString(annotation, "description")));
+                for (final var constant : enumElement.getEnclosedElements()) {
+                    final var valueAnnotation = getAnnotation(constant, DATA_POINT_ENUM_VALUE_ANNOTATION);
+                    if (constant.getKind() == ElementKind.ENUM_CONSTANT && valueAnnotation != null) {
+                        writer.printf("            DataPointRegistry.addDataPointEnumValue(dptEnum, %s.%s, %s, %s);%n",
+                                enumName, constant.getSimpleName(), getValue(valueAnnotation, "value"),
+                                literal(getString(valueAnnotation, "description")));
+                    }
+                }
+                writer.printf("            DataPointRegistry.addDataPointEnum(dptEnum, %s);%n", literals(ids));
+                writer.println("        }");
+            }
+
+            // data point type fields
+            for (final var field : fields) {
+                final var ids = getStringArray(getAnnotation(field, DATA_POINT_ANNOTATION), "value");
+                checkDuplicates(field, ids, registeredIds);
+                writer.printf("        DataPointRegistry.addDataPointType(%s.%s, %s);%n",
+                        ((TypeElement) field.getEnclosingElement()).getQualifiedName(), field.getSimpleName(), literals(ids));
+            }
+
+            writer.println("    }");
+            writer.println("}");
+        }
+    }
+
+    /**
+     * Verifies that the given {@code ids} are not registered yet
+     *
+     * @param element       the element for error reporting
+     * @param ids           identifiers to be checked
+     * @param registeredIds identifiers that have been registered already
+     */
+    private void checkDuplicates(final Element element, final List<String> ids, final Set<String> registeredIds) {
+        for (final var id : ids) {
+            if (!registeredIds.add(id)) {
+                error(element, "Please check the DPT implementation! Data Point Type key is already registered: %s", id);
+            }
+        }
+    }
+
+    /**
+     * Sorting key to have a stable order of generated code: enclosing top level type, then source order
+     *
+     * @param element the element to be sorted
+     * @return sort key
+     */
+    private String sortKey(final Element element) {
+        if (element.getEnclosingElement().getKind() == ElementKind.PACKAGE) {
+            return ((TypeElement) element).getQualifiedName().toString();
+        }
+        // find the element that is directly enclosed by the top level type
+        var child = element;
+        while (child.getEnclosingElement().getEnclosingElement().getKind() != ElementKind.PACKAGE) {
+            child = child.getEnclosingElement();
+        }
+        final var topLevel = (TypeElement) child.getEnclosingElement();
+        return String.format("%s#%05d", topLevel.getQualifiedName(), topLevel.getEnclosedElements().indexOf(child));
+    }
+
+    /**
+     * Returns the top level type the given {@code element} is declared in
+     *
+     * @param element the element
+     * @return top level type
+     */
+    private TypeElement getTopLevelType(final Element element) {
+        var child = element;
+        while (child.getEnclosingElement().getKind() != ElementKind.PACKAGE) {
+            child = child.getEnclosingElement();
+        }
+        return (TypeElement) child;
+    }
+
+    private boolean isAssignable(final TypeMirror type, final String interfaceName) {
+        final var types = processingEnv.getTypeUtils();
+        final var interfaceElement = processingEnv.getElementUtils().getTypeElement(interfaceName);
+        return interfaceElement != null && types.isAssignable(types.erasure(type), types.erasure(interfaceElement.asType()));
+    }
+
+    private AnnotationMirror getAnnotation(final Element element, final String annotationName) {
+        for (final var annotation : element.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private Object getValue(final AnnotationMirror annotation, final String name) {
+        for (final var entry : processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        throw new IllegalArgumentException("Annotation value not found: " + name);
+    }
+
+    private String getString(final AnnotationMirror annotation, final String name) {
+        return (String) getValue(annotation, name);
+    }
+
+    private List<String> getStringArray(final AnnotationMirror annotation, final String name) {
+        @SuppressWarnings("unchecked") final var values = (List<? extends AnnotationValue>) getValue(annotation, name);
+        return values.stream().map(v -> (String) v.getValue()).collect(Collectors.toList());
+    }
+
+    private String literal(final String value) {
+        return processingEnv.getElementUtils().getConstantExpression(value);
+    }
+
+    private String literals(final List<String> values) {
+        return values.stream().map(this::literal).collect(Collectors.joining(", ", "new String[]{", "}"));
+    }
+
+    private void error(final Element element, final String format, final Object... args) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format(format, args), element);
+    }
+}
@@ -18,6 +18,7 @@
 package li.pitschmann.knx.core.datapoint.value;
 
 import li.pitschmann.knx.core.annotations.Nullable;
+import li.pitschmann.knx.core.datapoint.CalculationFunctions;
 import li.pitschmann.knx.core.datapoint.DPT5;
 import li.pitschmann.knx.core.exceptions.KnxNumberOutOfRangeException;
 import li.pitschmann.knx.core.utils.ByteFormatter;
@@ -74,13 +75,7 @@ public final class DPT5Value extends AbstractDataPointValue<DPT5> {
      * @return the unsigned integer
      */
     private static int toUnsignedInt(final DPT5 dpt, final byte b) {
-        final var calcFunction = dpt.getCalculationFunction();
-        final int unsignedInt = Byte.toUnsignedInt(b);
-        if (calcFunction == null) {
-            return unsignedInt;
-        } else {
-            return (int) Math.round((100d / calcFunction.applyAsDouble(100)) * unsignedInt);
-        }
+        return CalculationFunctions.toInt(dpt.getCalculationFunction(), Byte.toUnsignedInt(b));
     }
 
     /**
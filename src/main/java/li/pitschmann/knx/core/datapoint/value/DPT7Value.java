@@ -18,6 +18,7 @@
 package li.pitschmann.knx.core.datapoint.value;
 
 import li.pitschmann.knx.core.annotations.Nullable;
+import li.pitschmann.knx.core.datapoint.CalculationFunctions;
 import li.pitschmann.knx.core.datapoint.DPT5;
 import li.pitschmann.knx.core.datapoint.DPT7;
 import li.pitschmann.knx.core.exceptions.KnxNumberOutOfRangeException;
@@ -76,13 +77,7 @@ public final class DPT7Value extends AbstractDataPointValue<DPT7> {
      * @return the unsigned integer
      */
     private static int toUnsignedInt(final DPT7 dpt, final byte[] bytes) {
-        final var calcFunction = dpt.getCalculationFunction();
-        final int unsignedInt = new BigInteger(1, bytes).intValue();
-        if (calcFunction == null) {
-            return unsignedInt;
-        } else {
-            return (int) Math.round((100d / calcFunction.applyAsDouble(100)) * unsignedInt);
-        }
+        return CalculationFunctions.toInt(dpt.getCalculationFunction(), new BigInteger(1, bytes).intValue());
     }
 
     /**
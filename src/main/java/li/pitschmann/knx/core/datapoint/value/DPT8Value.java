@@ -18,6 +18,7 @@
 package li.pitschmann.knx.core.datapoint.value;
 
 import li.pitschmann.knx.core.annotations.Nullable;
+import li.pitschmann.knx.core.datapoint.CalculationFunctions;
 import li.pitschmann.knx.core.datapoint.DPT8;
 import li.pitschmann.knx.core.exceptions.KnxNumberOutOfRangeException;
 import li.pitschmann.knx.core.utils.ByteFormatter;
@@ -25,7 +26,6 @@ import li.pitschmann.knx.core.utils.Strings;
 
 import java.math.BigInteger;
 import java.util.Objects;
-import java.util.function.DoubleUnaryOperator;
 
 /**
  * Data Point Value for {@link DPT8} (8.xxx)
@@ -74,13 +74,7 @@ public final class DPT8Value extends AbstractDataPointValue<DPT8> {
      * @return the signed integer
      */
     private static int toInt(final DPT8 dpt, final byte[] bytes) {
-        final var calcFunction = dpt.getCalculationFunction();
-        final int signedInt = new BigInteger(bytes).intValue();
-        if (calcFunction == null) {
-            return signedInt;
-        } else {
-            return (100 / calcFunction.applyAsInt(100)) * signedInt;
-        }
+        return CalculationFunctions.toInt(dpt.getCalculationFunction(), new BigInteger(bytes).intValue());
     }
 
     /**
@@ -145,7 +139,6 @@ public final class DPT8Value extends AbstractDataPointValue<DPT8> {
      * Special Class for {@link DPT8Value} as it is not an Integer
      */
     public static final class Percent extends AbstractDataPointValue<DPT8.Percent> {
-        private static final DoubleUnaryOperator calcFunction = v -> v * 100d;
         private final double value;
 
         public Percent(final byte[] bytes) {
@@ -166,8 +159,7 @@ public final class DPT8Value extends AbstractDataPointValue<DPT8> {
          * Converts from {@code bytes[]} to a {@code double} according.
          */
         private static double toDouble(final byte[] bytes) {
-            final int signedInt = new BigInteger(bytes).intValue();
-            return (100d / calcFunction.applyAsDouble(100)) * signedInt;
+            return CalculationFunctions.toDouble(DPT8.PERCENT.getCalculationFunction(), new BigInteger(bytes).intValue());
         }
 
         /**
@@ -178,7 +170,7 @@ public final class DPT8Value extends AbstractDataPointValue<DPT8> {
 
         @Override
         public byte[] toByteArray() {
-            final int newValue = (int) Math.round(calcFunction.applyAsDouble(value));
+            final int newValue = (int) Math.round(getDPT().getCalculationFunction().applyAsDouble(value));
 
             return new byte[]{
                     (byte) (newValue >>> 8), //
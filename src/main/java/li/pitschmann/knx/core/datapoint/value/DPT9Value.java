@@ -62,6 +62,9 @@ public final class DPT9Value extends AbstractDataPointValue<DPT9> {
 
     /**
      * Converts the two byte array to double according to formula {@code (0.01 * M)*2(E)}
+     * <p>
+     * As there are only 65536 possible encodings, the value is looked up from a
+     * pre-computed table which is lazily initialized on first use.
      *
      * @param bytes byte array to be converted
      * @return double value from byte array
@@ -71,9 +74,32 @@ public final class DPT9Value extends AbstractDataPointValue<DPT9> {
         if (bytes.length != 2) {
             throw new KnxNumberOutOfRangeException("bytes", 2, 2, bytes.length, bytes);
         }
+        return toFloatingValue(bytes[0], bytes[1]);
+    }
 
-        final var exponent = getExponent(bytes);
-        final var mantissa = getMantissa(bytes);
+    /**
+     * Converts the high and low byte to double according to formula {@code (0.01 * M)*2(E)}
+     * using the pre-computed decode table.
+     *
+     * @param highByte the high byte containing sign, exponent and upper mantissa bits
+     * @param lowByte  the low byte containing lower mantissa bits
+     * @return double value
+     */
+    public static double toFloatingValue(final byte highByte, final byte lowByte) {
+        return DecodeTable.VALUES[((highByte & 0xFF) << 8) | (lowByte & 0xFF)];
+    }
+
+    /**
+     * Calculates the double value according to formula {@code (0.01 * M)*2(E)}
+     * for the given two byte encoding.
+     *
+     * @param highByte the high byte containing sign, exponent and upper mantissa bits
+     * @param lowByte  the low byte containing lower mantissa bits
+     * @return double value
+     */
+    private static double calculateFloatingValue(final int highByte, final int lowByte) {
+        final var exponent = getExponent(highByte);
+        final var mantissa = getMantissa(highByte, lowByte);
         return (1 << exponent) * mantissa * 0.01d;
     }
 
@@ -88,16 +114,14 @@ public final class DPT9Value extends AbstractDataPointValue<DPT9> {
      *              E = [0 .. 15]
      * </pre>
      *
-     * @param bytes byte array to get the exponent
+     * @param highByte high byte to get the exponent
      * @return exponent, between {@code 0} and {@code 15}
      */
-    private static int getExponent(final byte[] bytes) {
-        // we are interested in high byte only!
-
+    private static int getExponent(final int highByte) {
         // @formatter:off
         // Result: .... EEEE
         return  // .EEE E...
-                (bytes[0] & 0x78) >>> 3;
+                (highByte & 0x78) >>> 3;
         // @formatter:on
     }
 
@@ -112,35 +136,22 @@ public final class DPT9Value extends AbstractDataPointValue<DPT9> {
      *              M = [-2048 .. 2047], two's complement notation
      * </pre>
      *
-     * @param bytes byte array to get the mantissa
+     * @param highByte high byte to get the upper mantissa bits (incl. sign)
+     * @param lowByte  low byte to get the lower mantissa bits
      * @return mantissa
      */
-    private static int getMantissa(final byte[] bytes) {
+    private static int getMantissa(final int highByte, final int lowByte) {
         // @formatter:off
         // Result: MMMM 0000 0000 0000 0000 0000 0000 0000
-        var highByte = // M... .... --> M... .... 0000 0000 0000 0000 0000 0000
-                (bytes[0] & 0x80 << 24)
+        final var high = // M... .... --> M... .... 0000 0000 0000 0000 0000 0000
+                ((highByte & 0x80) << 24)
                         // .... .MMM --> .MMM 0000 0000 0000 0000 0000 0000 0000
-                        | ((bytes[0] & 0x07) << 28);
-        //
-        // normalize
-        // Result: MMMM 0000 0000
-        highByte = highByte >> 20;
-
-        // Result: .... MMMM MMMM
-        final var lowByte = (bytes[1] & 0xFF);
+                        | ((highByte & 0x07) << 28);
         // @formatter:on
 
-        // result: MMMM MMMM MMMM
-        final var mantissa = (highByte | lowByte);
-        if (log.isDebugEnabled()) {
-            log.debug("Mantissa for value '{}' (high-byte={}, low-byte={}): {}",
-                    ByteFormatter.formatHexAsString(bytes),
-                    highByte,
-                    lowByte,
-                    mantissa);
-        }
-        return mantissa;
+        // normalize (Result: MMMM 0000 0000) and
+        // combine with low byte (Result: MMMM MMMM MMMM)
+        return (high >> 20) | (lowByte & 0xFF);
     }
 
     public double getValue() {
@@ -150,42 +161,73 @@ public final class DPT9Value extends AbstractDataPointValue<DPT9> {
     @Override
     public byte[] toByteArray() {
         // multiply with 100 because value is a digit with two decimal places
-        var calcValue = value * 100d;
-
-        var exponent = 0;
+        final var calcValue = value * 100d;
         final var valueNegative = calcValue < 0d;
-        if (valueNegative) {
-            // negative value, calculate how many times it can be divided by 2
-            while (calcValue < -2048.0d) {
-                exponent++;
-                calcValue /= 2;
-            }
-        } else {
-            // positive value
-            while (calcValue > 2047.0d) {
-                exponent++;
-                calcValue /= 2;
-            }
-        }
-        log.debug("Exponents for '{}': {}", value, exponent);
-        log.debug("Value after division for '{}': {}", value, calcValue);
+        final var exponent = calculateExponent(calcValue);
 
-        final var mantissa = Math.round(calcValue) & 0x7FF;
-        log.debug("Mantissa for '{}': {}", value, mantissa);
+        // division by power of 2 is exact, no rounding error compared to repeated division by 2
+        final var mantissa = Math.round(Math.scalb(calcValue, -exponent)) & 0x7FF;
         // M... ....
         var highByte = valueNegative ? (byte) 0x80 : 0x00;
         // .EEE ....
         highByte |= (exponent << 3);
         // .... MMMM
         highByte |= (mantissa >>> 8);
-        log.debug("High Byte for '{}': {} (unsigned: {})", value, highByte, Byte.toUnsignedInt(highByte));
-
         final var lowByte = (byte) (mantissa & 0xFF);
-        log.debug("Low Byte for '{}': {} (unsigned: {})", value, lowByte, Byte.toUnsignedInt(lowByte));
 
+        if (log.isDebugEnabled()) {
+            log.debug("Exponent and Mantissa for '{}': {} and {} (high-byte={}, low-byte={})",
+                    value, exponent, mantissa, Byte.toUnsignedInt(highByte), Byte.toUnsignedInt(lowByte));
+        }
         return new byte[]{highByte, lowByte};
     }
 
+    /**
+     * Calculates the smallest exponent {@code E} so that {@code calcValue / 2^E} fits
+     * into the mantissa range [-2048 .. 2047].
+     * <p>
+     * The exponent is derived from binary exponent of {@code calcValue} instead
+     * of dividing the value by 2 until it fits into the mantissa range.
+     *
+     * @param calcValue the value multiplied by 100
+     * @return exponent, non-negative
+     */
+    private static int calculateExponent(final double calcValue) {
+        if (calcValue < -2048.0d) {
+            // 2^g <= |calcValue| < 2^(g+1) --> |calcValue|/2^(g-10) is within [1024 .. 2048)
+            // when |calcValue| is a power of 2 then |calcValue|/2^(g-11) is exactly 2048 and still fits
+            final var absValue = -calcValue;
+            final var binaryExponent = Math.getExponent(absValue);
+            final var isPowerOfTwo = Math.scalb(1.0d, binaryExponent) == absValue;
+            return isPowerOfTwo ? binaryExponent - 11 : binaryExponent - 10;
+        } else if (calcValue > 2047.0d) {
+            // 2^g <= calcValue < 2^(g+1) --> calcValue/2^(g-10) is within [1024 .. 2048)
+            // when calcValue/2^(g-10) is greater than 2047 then one exponent more is required
+            final var binaryExponent = Math.getExponent(calcValue);
+            final var exponent = binaryExponent - 10;
+            return Math.scalb(calcValue, -exponent) > 2047.0d ? exponent + 1 : exponent;
+        }
+        return 0;
+    }
+
+    /**
+     * Pre-computed decode table for all 65536 possible encodings. The table
+     * is initialized lazily by the JVM when it is accessed the first time.
+     */
+    private static final class DecodeTable {
+        private static final double[] VALUES = new double[0x10000];
+
+        static {
+            for (var i = 0; i < VALUES.length; i++) {
+                VALUES[i] = calculateFloatingValue(i >>> 8, i & 0xFF);
+            }
+        }
+
+        private DecodeTable() {
+            throw new AssertionError("Do not touch me!");
+        }
+    }
+
     @Override
     public String toText() {
         return getValueAsText(getValue());
@@ -0,0 +1,364 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.plugin;
+
+import li.pitschmann.knx.core.annotations.Nullable;
+import li.pitschmann.knx.core.communication.InternalKnxStatistic;
+import li.pitschmann.knx.core.communication.KnxQueueType;
+import li.pitschmann.knx.core.utils.Preconditions;
+import li.pitschmann.knx.core.utils.Strings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+
+/**
+ * Bounded mailbox of a {@link Plugin}
+ * <p>
+ * The notifications are consumed by a single task at the same time which keeps the order
+ * of notifications. The task is submitted to the (shared) plugin executor only when the
+ * mailbox has notifications and gives the thread back after a batch of notifications, so
+ * a slow plug-in does not delay the notifications of other plug-ins.
+ * <p>
+ * When the mailbox is full, the notification is handled by {@link PluginOverflowPolicy}.
+ * Lifecycle notifications (initialization, start and shutdown) are never dropped, neither
+ * when offered nor in favor of a newer notification.
+ *
+ * @author PITSCHR
+ */
+final class PluginMailbox {
+    private static final Logger log = LoggerFactory.getLogger(PluginMailbox.class);
+    private static final int BATCH_SIZE = 64;
+    private final Plugin plugin;
+    private final Executor executor;
+    private final int capacity;
+    private final PluginOverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final InternalKnxStatistic statistics;
+    private final Deque<Entry> entries = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private long sampleCounter;
+    private boolean scheduled;
+    private boolean closed;
+    private volatile Thread consumerThread;
+
+    /**
+     * Creates a new {@link PluginMailbox}
+     *
+     * @param plugin         the plugin that consumes the notifications
+     * @param executor       the executor that runs the consumer task
+     * @param capacity       maximum number of notifications in mailbox
+     * @param overflowPolicy policy when the mailbox is full
+     * @param sampleRate     every n-th notification is accepted if mailbox is half full ({@link PluginOverflowPolicy#SAMPLE} only)
+     * @param statistics     the statistic to be updated, may be {@code null}
+     */
+    PluginMailbox(final Plugin plugin,
+                  final Executor executor,
+                  final int capacity,
+                  final PluginOverflowPolicy overflowPolicy,
+                  final int sampleRate,
+                  final @Nullable InternalKnxStatistic statistics) {
+        Preconditions.checkArgument(capacity > 0, "Capacity must be positive: {}", capacity);
+        Preconditions.checkArgument(sampleRate > 0, "Sample rate must be positive: {}", sampleRate);
+        this.plugin = Objects.requireNonNull(plugin);
+        this.executor = Objects.requireNonNull(executor);
+        this.capacity = capacity;
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+        this.sampleRate = sampleRate;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Offers the notification to the mailbox
+     *
+     * @param action    the notification to be run by consumer task, accepts the time in nanoseconds
+     *                  the notification has been waiting in mailbox
+     * @param droppable {@code true} if the notification may be dropped when mailbox is full,
+     *                  {@code false} if the notification is always accepted (lifecycle notifications)
+     * @return future that is completed after the notification is consumed, or {@code null} if dropped
+     * @throws RejectedExecutionException if the consumer task could not be submitted to executor
+     */
+    @Nullable
+    CompletableFuture<Void> offer(final LongConsumer action, final boolean droppable) {
+        final var entry = new Entry(action, droppable, System.nanoTime());
+        Entry dropped = null;
+        boolean schedule;
+
+        this.lock.lock();
+        try {
+            if (this.closed) {
+                return null;
+            }
+            if (droppable && !isAcceptable()) {
+                switch (this.overflowPolicy) {
+                    case DROP_OLDEST:
+                        dropped = pollOldestDroppable();
+                        if (dropped == null) {
+                            // mailbox is full of lifecycle notifications
+                            dropped = entry;
+                        }
+                        break;
+                    case BLOCK:
+                        if (awaitNotFull()) {
+                            break;
+                        }
+                        // fall-through: closed or interrupted while waiting
+                    default:
+                        dropped = entry;
+                }
+            }
+            if (dropped != entry) {
+                this.entries.addLast(entry);
+            }
+            schedule = !this.scheduled && dropped != entry;
+            this.scheduled |= schedule;
+        } finally {
+            this.lock.unlock();
+        }
+
+        if (dropped == entry) {
+            onDrop(false);
+            return null;
+        }
+        onEnqueue();
+        if (dropped != null) {
+            dropped.future.cancel(false);
+            onDrop(true);
+        }
+        if (schedule) {
+            schedule();
+        }
+        return entry.future;
+    }
+
+    /**
+     * Returns the number of notifications waiting in mailbox
+     *
+     * @return number of notifications
+     */
+    int size() {
+        this.lock.lock();
+        try {
+            return this.entries.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the mailbox: new notifications are not accepted anymore and blocked
+     * notifying threads are released. Notifications in mailbox are still consumed.
+     */
+    void close() {
+        this.lock.lock();
+        try {
+            this.closed = true;
+            this.notFull.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the notification can be added to the mailbox according to capacity
+     * and {@link PluginOverflowPolicy#SAMPLE}. Must be called under lock.
+     *
+     * @return {@code true} if notification can be added without drop
+     */
+    private boolean isAcceptable() {
+        final var size = this.entries.size();
+        if (size >= this.capacity) {
+            // the consumer thread must never wait for itself (e.g. plugin sends a body during notification)
+            return this.overflowPolicy == PluginOverflowPolicy.BLOCK && Thread.currentThread() == this.consumerThread;
+        } else if (this.overflowPolicy == PluginOverflowPolicy.SAMPLE && size >= this.capacity / 2) {
+            return this.sampleCounter++ % this.sampleRate == 0;
+        }
+        return true;
+    }
+
+    /**
+     * Removes the oldest notification that may be dropped. Must be called under lock.
+     *
+     * @return the removed entry, or {@code null} if there is no notification that may be dropped
+     */
+    @Nullable
+    private Entry pollOldestDroppable() {
+        final var iterator = this.entries.iterator();
+        while (iterator.hasNext()) {
+            final var entry = iterator.next();
+            if (entry.droppable) {
+                iterator.remove();
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Waits until the mailbox has space again. Must be called under lock.
+     *
+     * @return {@code true} if mailbox has space, {@code false} if closed or interrupted
+     */
+    private boolean awaitNotFull() {
+        try {
+            while (this.entries.size() >= this.capacity && !this.closed) {
+                this.notFull.await();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return !this.closed;
+    }
+
+    private void schedule() {
+        try {
+            this.executor.execute(this::consume);
+        } catch (final RejectedExecutionException e) {
+            this.lock.lock();
+            try {
+                this.scheduled = false;
+            } finally {
+                this.lock.unlock();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Consumes a batch of notifications. If there are notifications remaining
+     * the consumer task is submitted again to give other plug-ins a chance.
+     * If the executor does not accept the task anymore (e.g. shutdown), the
+     * remaining notifications are consumed by the current thread, so that
+     * lifecycle notifications (e.g. shutdown) are not lost.
+     */
+    private void consume() {
+        if (consume(BATCH_SIZE)) {
+            return;
+        }
+
+        // batch completed, mailbox may still have notifications
+        try {
+            this.executor.execute(this::consume);
+        } catch (final RejectedExecutionException e) {
+            log.debug("Plugin executor is shutdown already, consume remaining notifications of plug-in '{}' inline", this.plugin);
+            consume(Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Consumes up to {@code maxEntries} notifications
+     *
+     * @param maxEntries maximum number of notifications to be consumed
+     * @return {@code true} if the mailbox is empty and the consumer task is not scheduled anymore,
+     * otherwise {@code false}
+     */
+    private boolean consume(final int maxEntries) {
+        this.consumerThread = Thread.currentThread();
+        try {
+            for (var i = 0; i < maxEntries; i++) {
+                final Entry entry;
+                this.lock.lock();
+                try {
+                    entry = this.entries.pollFirst();
+                    if (entry == null) {
+                        this.scheduled = false;
+                        return true;
+                    }
+                    this.notFull.signal();
+                } finally {
+                    this.lock.unlock();
+                }
+                entry.run(this.statistics);
+            }
+            return false;
+        } finally {
+            this.consumerThread = null;
+        }
+    }
+
+    private void onEnqueue() {
+        if (this.statistics != null) {
+            this.statistics.onEnqueue(KnxQueueType.PLUGIN_EXECUTOR);
+        }
+    }
+
+    /**
+     * Updates the statistic about a dropped notification
+     *
+     * @param enqueued {@code true} if dropped notification was in mailbox already
+     */
+    private void onDrop(final boolean enqueued) {
+        log.debug("Notification dropped for plug-in '{}' because mailbox is full (policy: {})", this.plugin, this.overflowPolicy);
+        if (this.statistics != null) {
+            if (!enqueued) {
+                this.statistics.onEnqueue(KnxQueueType.PLUGIN_EXECUTOR);
+            }
+            this.statistics.onReject(KnxQueueType.PLUGIN_EXECUTOR);
+            this.statistics.onPluginDrop(this.plugin.getClass());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Strings.toStringHelper(this)
+                .add("plugin", this.plugin)
+                .add("capacity", this.capacity)
+                .add("overflowPolicy", this.overflowPolicy)
+                .add("size", size())
+                .toString();
+    }
+
+    /**
+     * Notification in mailbox with time when it has been offered
+     */
+    private static final class Entry {
+        private final LongConsumer action;
+        private final boolean droppable;
+        private final long enqueueTime;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private Entry(final LongConsumer action, final boolean droppable, final long enqueueTime) {
+            this.action = action;
+            this.droppable = droppable;
+            this.enqueueTime = enqueueTime;
+        }
+
+        private void run(final @Nullable InternalKnxStatistic statistics) {
+            final var queueWait = System.nanoTime() - this.enqueueTime;
+            if (statistics != null) {
+                statistics.onDequeue(KnxQueueType.PLUGIN_EXECUTOR, queueWait);
+            }
+            try {
+                this.action.accept(queueWait);
+                this.future.complete(null);
+            } catch (final Throwable t) {
+                this.future.completeExceptionally(t);
+            }
+        }
+    }
+}
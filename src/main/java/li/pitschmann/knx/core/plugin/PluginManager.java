@@ -19,11 +19,16 @@ package li.pitschmann.knx.core.plugin;
 
 import li.pitschmann.knx.core.annotations.Nullable;
 import li.pitschmann.knx.core.body.Body;
+import li.pitschmann.knx.core.communication.InternalKnxStatistic;
 import li.pitschmann.knx.core.communication.KnxClient;
+import li.pitschmann.knx.core.communication.KnxQueueType;
+import li.pitschmann.knx.core.communication.jfr.KnxPluginEvent;
 import li.pitschmann.knx.core.config.Config;
 import li.pitschmann.knx.core.config.CoreConfigs;
+import li.pitschmann.knx.core.exceptions.KnxConfigurationException;
 import li.pitschmann.knx.core.exceptions.KnxPluginException;
 import li.pitschmann.knx.core.utils.Closeables;
+import li.pitschmann.knx.core.utils.ExecutorServices;
 import li.pitschmann.knx.core.utils.Preconditions;
 import li.pitschmann.knx.core.utils.Stopwatch;
 import org.slf4j.Logger;
@@ -34,12 +39,12 @@ import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
@@ -51,6 +56,9 @@ import java.util.stream.Stream;
  * This class is a storage for all plugins that listens to events
  * triggered by the KNX client. An instance of {@link PluginManager}
  * is mutable and allows to add or remove plugins on-demand.
+ * <p>
+ * Each plugin has its own bounded mailbox (see {@link PluginMailbox}) that
+ * is consumed in order, a slow plugin does not delay other plugins.
  *
  * @author PITSCHR
  */
@@ -68,13 +76,80 @@ public final class PluginManager implements AutoCloseable {
     private final List<ObserverPlugin> observerPlugins = Collections.synchronizedList(new LinkedList<>());
     private final List<ExtensionPlugin> extensionPlugins = Collections.synchronizedList(new LinkedList<>());
     private final List<Plugin> allPlugins = Collections.synchronizedList(new LinkedList<>());
+    private final Map<Plugin, PluginMailbox> mailboxes = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final int mailboxCapacity;
+    private final PluginOverflowPolicy mailboxOverflowPolicy;
+    private final int mailboxSampleRate;
     private final ExecutorService pluginExecutor;
+    private final boolean sharedPluginExecutor;
+    private final InternalKnxStatistic statistics;
+    private volatile boolean closed;
     private KnxClient client;
 
     public PluginManager(final Config config) {
-        final var pluginExecutorPoolSize = config.getValue(CoreConfigs.Plugin.EXECUTOR_POOL_SIZE);
-        pluginExecutor = Executors.newFixedThreadPool(pluginExecutorPoolSize);
-        log.debug("Plugin Executor created with size of {}: {}", pluginExecutorPoolSize, pluginExecutor);
+        this(config, (InternalKnxStatistic) null, null);
+    }
+
+    /**
+     * Creates a Plugin Manager that uses a shared plugin executor. The
+     * shared plugin executor won't be shut down when closing this manager.
+     *
+     * @param config         the config
+     * @param pluginExecutor the shared executor for plugin notifications
+     */
+    public PluginManager(final Config config, final ExecutorService pluginExecutor) {
+        this(config, null, Objects.requireNonNull(pluginExecutor));
+    }
+
+    /**
+     * Creates a Plugin Manager that updates the queue statistic of plugin executor
+     * (see {@link KnxQueueType#PLUGIN_EXECUTOR})
+     *
+     * @param config     the config
+     * @param statistics the statistic to be updated
+     */
+    public PluginManager(final Config config, final InternalKnxStatistic statistics) {
+        this(config, Objects.requireNonNull(statistics), null);
+    }
+
+    /**
+     * Creates a Plugin Manager that uses a shared plugin executor and updates the queue
+     * statistic of plugin executor (see {@link KnxQueueType#PLUGIN_EXECUTOR}). The
+     * shared plugin executor won't be shut down when closing this manager.
+     *
+     * @param config         the config
+     * @param pluginExecutor the shared executor for plugin notifications
+     * @param statistics     the statistic to be updated
+     */
+    public PluginManager(final Config config, final ExecutorService pluginExecutor, final InternalKnxStatistic statistics) {
+        this(config, Objects.requireNonNull(statistics), Objects.requireNonNull(pluginExecutor));
+    }
+
+    private PluginManager(final Config config,
+                          final @Nullable InternalKnxStatistic statistics,
+                          final @Nullable ExecutorService pluginExecutor) {
+        Objects.requireNonNull(config);
+        if (pluginExecutor == null) {
+            final var pluginExecutorPoolSize = config.getValue(CoreConfigs.Plugin.EXECUTOR_POOL_SIZE);
+            final var virtualThreads = config.getValue(CoreConfigs.Plugin.VIRTUAL_THREADS_ENABLED);
+            this.pluginExecutor = ExecutorServices.newExecutorService(virtualThreads, pluginExecutorPoolSize);
+            this.sharedPluginExecutor = false;
+            log.debug("Plugin Executor created with size of {} (virtual threads: {}): {}", pluginExecutorPoolSize, virtualThreads, this.pluginExecutor);
+        } else {
+            this.pluginExecutor = pluginExecutor;
+            this.sharedPluginExecutor = true;
+            log.debug("Shared Plugin Executor used: {}", pluginExecutor);
+        }
+        this.statistics = statistics;
+        this.mailboxCapacity = config.getValue(CoreConfigs.Plugin.MAILBOX_CAPACITY);
+        this.mailboxOverflowPolicy = config.getValue(CoreConfigs.Plugin.MAILBOX_OVERFLOW_POLICY);
+        // the event loop thread must not block (with shared runtime the event loop is always used)
+        if (this.mailboxOverflowPolicy == PluginOverflowPolicy.BLOCK
+                && (this.sharedPluginExecutor || config.getValue(CoreConfigs.Communication.EVENT_LOOP_ENABLED))) {
+            throw new KnxConfigurationException("Overflow policy '{}' of plugin mailbox is not supported when event loop is used",
+                    PluginOverflowPolicy.BLOCK);
+        }
+        this.mailboxSampleRate = config.getValue(CoreConfigs.Plugin.MAILBOX_SAMPLE_RATE);
     }
 
     /**
@@ -98,7 +173,7 @@ public final class PluginManager implements AutoCloseable {
      * @param body any KNX body
      */
     public void notifyIncomingBody(final Body body) {
-        notifyPlugins(Objects.requireNonNull(body), observerPlugins, ObserverPlugin::onIncomingBody);
+        notifyPlugins(Objects.requireNonNull(body), observerPlugins, ObserverPlugin::onIncomingBody, true);
     }
 
     /**
@@ -107,7 +182,7 @@ public final class PluginManager implements AutoCloseable {
      * @param body any KNX body
      */
     public void notifyOutgoingBody(final Body body) {
-        notifyPlugins(Objects.requireNonNull(body), observerPlugins, ObserverPlugin::onOutgoingBody);
+        notifyPlugins(Objects.requireNonNull(body), observerPlugins, ObserverPlugin::onOutgoingBody, true);
     }
 
     /**
@@ -116,7 +191,7 @@ public final class PluginManager implements AutoCloseable {
      * @param cause the cause to be sent to plug-ins
      */
     public void notifyError(final Throwable cause) {
-        notifyPlugins(Objects.requireNonNull(cause), observerPlugins, ObserverPlugin::onError);
+        notifyPlugins(Objects.requireNonNull(cause), observerPlugins, ObserverPlugin::onError, true);
     }
 
     /**
@@ -125,7 +200,7 @@ public final class PluginManager implements AutoCloseable {
      * <strong>For internal use only!</strong>
      */
     public void notifyClientStart() {
-        notifyPlugins(null, extensionPlugins, (p, x) -> p.onStart());
+        notifyPlugins(null, extensionPlugins, (p, x) -> p.onStart(), false);
     }
 
     /**
@@ -134,7 +209,7 @@ public final class PluginManager implements AutoCloseable {
      * <strong>For internal use only!</strong>
      */
     public void notifyClientShutdown() {
-        notifyPlugins(null, extensionPlugins, (p, x) -> p.onShutdown());
+        notifyPlugins(null, extensionPlugins, (p, x) -> p.onShutdown(), false);
     }
 
     /**
@@ -172,13 +247,14 @@ public final class PluginManager implements AutoCloseable {
         final var sw = Stopwatch.createStarted();
         try {
             // now perform onInitialization method and give a specific time to start
-            final var future = notifyPlugin(client, plugin, Plugin::onInitialization);
+            final var future = notifyPlugin(client, plugin, Plugin::onInitialization, false);
             if (future != null) {
                 final var timeoutInMs = this.client.getConfig(CoreConfigs.Plugin.INITIALIZATION_TIMEOUT);
                 future.get(timeoutInMs, TimeUnit.MILLISECONDS);
                 log.debug("Initialization completed for plugin: {}", plugin);
             }
         } catch (final Exception e) {
+            closeMailbox(plugin);
             throw new KnxPluginException("Could not initialize plugin: {}", plugin, e);
         }
 
@@ -189,7 +265,7 @@ public final class PluginManager implements AutoCloseable {
             // for extension plugins, we have a special case:
             // if the KNX Client is already started -> kick in the onStart immediately!
             if (client.isRunning()) {
-                notifyPlugin(null, (ExtensionPlugin) plugin, (p, x) -> p.onStart());
+                notifyPlugin(null, (ExtensionPlugin) plugin, (p, x) -> p.onStart(), false);
             }
         }
         if (plugin instanceof ObserverPlugin) {
@@ -236,6 +312,7 @@ public final class PluginManager implements AutoCloseable {
             REMOVE_PLUGIN_FUNCTION.accept(allPlugins, pluginClass);
             REMOVE_PLUGIN_FUNCTION.accept(extensionPlugins, pluginClass);
             REMOVE_PLUGIN_FUNCTION.accept(observerPlugins, pluginClass);
+            closeMailbox(plugin);
         }
         return plugin;
     }
@@ -245,15 +322,17 @@ public final class PluginManager implements AutoCloseable {
      *
      * @param object   object to be sent to plug-ins (for non-arg method the object may be {@code null})
      * @param plugins  list of plug-ins to be notified
-     * @param consumer consumer defining which method should be called
-     * @param <P>      the instance of {@link Plugin}
-     * @param <T>      the instance of object
+     * @param consumer  consumer defining which method should be called
+     * @param droppable {@code true} if the notification may be dropped when mailbox of plug-in is full
+     * @param <P>       the instance of {@link Plugin}
+     * @param <T>       the instance of object
      */
     private <T, P extends Plugin> void notifyPlugins(final @Nullable T object,
                                                      final List<P> plugins,
-                                                     final BiConsumer<P, T> consumer) {
+                                                     final BiConsumer<P, T> consumer,
+                                                     final boolean droppable) {
         for (final var plugin : plugins) {
-            notifyPlugin(object, plugin, consumer);
+            notifyPlugin(object, plugin, consumer, droppable);
         }
     }
 
@@ -262,33 +341,81 @@ public final class PluginManager implements AutoCloseable {
      *
      * @param object   object to be sent to plug-ins (for non-arg method the object may be {@code null})
      * @param plugin   plug-ins to be notified
-     * @param consumer consumer defining which method should be called
-     * @param <P>      the instance of {@link Plugin}
-     * @param <T>      the instance of object
-     * @return future for further check
+     * @param consumer  consumer defining which method should be called
+     * @param droppable {@code true} if the notification may be dropped when mailbox of plug-in is full
+     * @param <P>       the instance of {@link Plugin}
+     * @param <T>       the instance of object
+     * @return future for further check, or {@code null} if the notification has not been accepted
      */
     @Nullable
     private <T, P extends Plugin> Future<Void> notifyPlugin(final @Nullable T object,
                                                             final P plugin,
-                                                            final BiConsumer<P, T> consumer) {
-        if (this.pluginExecutor.isShutdown()) {
+                                                            final BiConsumer<P, T> consumer,
+                                                            final boolean droppable) {
+        if (this.closed || this.pluginExecutor.isShutdown()) {
             log.warn("Could not send to plug-in '{}' because plugin executor is shutdown already: {}",
                     plugin, object instanceof Throwable ? ((Throwable) object).getMessage() : object);
             return null;
         } else {
-            return CompletableFuture.runAsync(() -> {
-                log.trace("Send to plugin: {}", plugin);
-                try {
-                    consumer.accept(plugin, object);
-                } catch (final Exception ex) {
-                    log.warn("Exception during notifyPlugins(T, List<Plugin>, BiConsumer): object={}, plugin={}", object, plugin, ex);
-                }
-            }, this.pluginExecutor);
+            final var mailbox = this.mailboxes.computeIfAbsent(plugin, p -> new PluginMailbox(p, this.pluginExecutor,
+                    this.mailboxCapacity, this.mailboxOverflowPolicy, this.mailboxSampleRate, this.statistics));
+            return mailbox.offer(queueWait -> invokePlugin(object, plugin, consumer, queueWait), droppable);
+        }
+    }
+
+    /**
+     * Notifies the {@link Plugin}, called by the consumer of mailbox of plugin
+     *
+     * @param object    the object to be sent to plugin
+     * @param plugin    the plugin to be notified
+     * @param consumer  consumer defining which method should be called
+     * @param queueWait time in nanoseconds the notification has been waiting in mailbox
+     * @param <T>       instance of object
+     * @param <P>       instance of {@link Plugin}
+     */
+    private <T, P extends Plugin> void invokePlugin(final @Nullable T object,
+                                                    final P plugin,
+                                                    final BiConsumer<P, T> consumer,
+                                                    final long queueWait) {
+        final var event = new KnxPluginEvent();
+        event.begin();
+        log.trace("Send to plugin: {}", plugin);
+        var failed = false;
+        try {
+            consumer.accept(plugin, object);
+        } catch (final Exception ex) {
+            log.warn("Exception during notifyPlugins(T, List<Plugin>, BiConsumer): object={}, plugin={}", object, plugin, ex);
+            failed = true;
+        }
+        if (event.shouldCommit()) {
+            event.setPlugin(plugin.getClass());
+            event.setBody(object instanceof Body ? (Body) object : null);
+            event.setQueueWait(queueWait);
+            event.setFailed(failed);
+            event.commit();
+        }
+    }
+
+    /**
+     * Closes and removes the mailbox of given plugin
+     *
+     * @param plugin the plugin
+     */
+    private void closeMailbox(final Plugin plugin) {
+        final var mailbox = this.mailboxes.remove(plugin);
+        if (mailbox != null) {
+            mailbox.close();
         }
     }
 
     @Override
     public void close() {
-        Closeables.shutdownQuietly(this.pluginExecutor, 10, TimeUnit.SECONDS);
+        this.closed = true;
+        synchronized (this.mailboxes) {
+            this.mailboxes.values().forEach(PluginMailbox::close);
+        }
+        if (!this.sharedPluginExecutor) {
+            Closeables.shutdownQuietly(this.pluginExecutor, 10, TimeUnit.SECONDS);
+        }
     }
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.plugin;
+
+/**
+ * Policy how a notification is handled when the mailbox of plug-in is full
+ * (see {@link li.pitschmann.knx.core.config.CoreConfigs.Plugin#MAILBOX_CAPACITY})
+ *
+ * @author PITSCHR
+ */
+public enum PluginOverflowPolicy {
+    /**
+     * Blocks the notifying thread until the mailbox has space again.
+     * <p>
+     * A slow plug-in slows down the KNX communication as well! The notifying thread is the
+     * inbox queue thread of KNX client. This policy is not supported when the event loop is
+     * used, because the event loop thread serves all channels (and with shared runtime all
+     * KNX clients) and must not block.
+     */
+    BLOCK,
+    /**
+     * Drops the new notification, the notifications in mailbox are kept
+     */
+    DROP_NEWEST,
+    /**
+     * Drops the oldest notification in mailbox in favor of the new notification. Lifecycle
+     * notifications are kept; if the mailbox has lifecycle notifications only, the new
+     * notification is dropped.
+     */
+    DROP_OLDEST,
+    /**
+     * Accepts only every n-th notification when the mailbox is half full
+     * (see {@link li.pitschmann.knx.core.config.CoreConfigs.Plugin#MAILBOX_SAMPLE_RATE}),
+     * drops the new notification when the mailbox is full
+     */
+    SAMPLE
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.plugin.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import li.pitschmann.knx.core.annotations.Nullable;
+import li.pitschmann.knx.core.communication.KnxClient;
+import li.pitschmann.knx.core.exceptions.KnxPluginException;
+import li.pitschmann.knx.core.plugin.ExtensionPlugin;
+import li.pitschmann.knx.core.plugin.IntegerConfigValue;
+import li.pitschmann.knx.core.plugin.StringConfigValue;
+import li.pitschmann.knx.core.utils.Closeables;
+import li.pitschmann.knx.core.utils.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Extension plugin that serves the statistic of {@link KnxClient} via HTTP
+ * in OpenMetrics text format (or in Prometheus text format for older scrapers).
+ * <p>
+ * Scrapes are served by a dedicated daemon thread and rendered from snapshots of
+ * the statistic (see {@link KnxClient#getStatistic()}), the KNX communication is
+ * never blocked by a scrape.
+ * <p>
+ * Configuration:
+ * <ul>
+ * <li>{@code plugin.config.openmetricsplugin.host}: HTTP host to bind to, default {@code 127.0.0.1} (loopback only)</li>
+ * <li>{@code plugin.config.openmetricsplugin.port}: HTTP port, default {@code 9464}</li>
+ * <li>{@code plugin.config.openmetricsplugin.path}: HTTP path, default {@code /metrics}</li>
+ * </ul>
+ *
+ * @author PITSCHR
+ */
+public final class OpenMetricsPlugin implements ExtensionPlugin {
+    public static final StringConfigValue HOST = new StringConfigValue("host", () -> InetAddress.getLoopbackAddress().getHostAddress(), h -> !h.isBlank());
+    public static final IntegerConfigValue PORT = new IntegerConfigValue("port", () -> 9464, p -> p >= 0 && p <= 65535);
+    public static final StringConfigValue PATH = new StringConfigValue("path", () -> "/metrics", p -> p.startsWith("/"));
+    private static final Logger log = LoggerFactory.getLogger(OpenMetricsPlugin.class);
+    private static final String OPENMETRICS_CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+    private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private final OpenMetricsWriter writer = new OpenMetricsWriter();
+    private KnxClient client;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    @Override
+    public void onInitialization(final KnxClient client) {
+        this.client = Objects.requireNonNull(client);
+    }
+
+    @Override
+    public void onStart() {
+        Preconditions.checkState(this.client != null, "Plugin is not initialized yet.");
+        final var host = this.client.getConfig(HOST);
+        final var port = this.client.getConfig(PORT);
+        final var path = this.client.getConfig(PATH);
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(host, port), 0);
+        } catch (final IOException e) {
+            throw new KnxPluginException("Could not start HTTP server for OpenMetrics on: {}:{}", host, port, e);
+        }
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            final var thread = new Thread(r, "knx-openmetrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server.createContext(path, this::handle);
+        this.server.setExecutor(this.executor);
+        this.server.start();
+        log.info("OpenMetrics served on: http://{}{}", this.server.getAddress(), path);
+    }
+
+    @Override
+    public void onShutdown() {
+        if (this.server != null) {
+            this.server.stop(0);
+            this.server = null;
+        }
+        Closeables.shutdownQuietly(this.executor);
+        this.executor = null;
+    }
+
+    /**
+     * Returns the address the HTTP server is bound to
+     *
+     * @return address of HTTP server, or {@code null} if not started
+     */
+    @Nullable
+    public InetSocketAddress getAddress() {
+        final var httpServer = this.server;
+        return httpServer == null ? null : httpServer.getAddress();
+    }
+
+    /**
+     * Handles the HTTP request. The OpenMetrics format is served only if accepted by the
+     * scraper, otherwise the Prometheus text format (version 0.0.4) is served.
+     *
+     * @param exchange the HTTP exchange
+     * @throws IOException if response could not be written
+     */
+    private void handle(final HttpExchange exchange) throws IOException {
+        try {
+            final var method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            final var accept = exchange.getRequestHeaders().getFirst("Accept");
+            final var openMetrics = accept != null && accept.contains("application/openmetrics-text");
+            exchange.getResponseHeaders().set("Content-Type", openMetrics ? OPENMETRICS_CONTENT_TYPE : PROMETHEUS_CONTENT_TYPE);
+
+            // only one scrape is served at the same time (single thread executor), the buffer is re-used
+            final var length = this.writer.write(this.client.getStatistic(), this.client.getStatusPool().size(), openMetrics);
+            if ("HEAD".equals(method)) {
+                exchange.sendResponseHeaders(200, -1);
+            } else {
+                exchange.sendResponseHeaders(200, length);
+                exchange.getResponseBody().write(this.writer.getBytes(), 0, length);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.plugin.metrics;
+
+import li.pitschmann.knx.core.communication.KnxLatency;
+import li.pitschmann.knx.core.communication.KnxQueueType;
+import li.pitschmann.knx.core.communication.KnxStatistic;
+import li.pitschmann.knx.core.header.ServiceType;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Writer of {@link KnxStatistic} in OpenMetrics text format or in Prometheus text format (version 0.0.4)
+ * <p>
+ * The text is rendered into buffers that are re-used for the next rendering, therefore
+ * this class is not thread-safe. The text is encoded in UTF-8; backslash, double-quote
+ * and line feed in label values are escaped.
+ *
+ * @author PITSCHR
+ */
+final class OpenMetricsWriter {
+    private static final String[] QUANTILES = {"0.5", "0.9", "0.99", "1"};
+    private final StringBuilder text = new StringBuilder(16 * 1024);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private byte[] bytes = new byte[16 * 1024];
+    private boolean openMetrics;
+
+    /**
+     * Renders the statistic into the buffer, see {@link #getBytes()}
+     *
+     * @param statistic      the snapshot of statistic to be rendered
+     * @param statusPoolSize the number of statuses in status pool
+     * @param openMetrics    {@code true} for OpenMetrics text format, {@code false} for Prometheus text format
+     * @return number of bytes rendered
+     */
+    int write(final KnxStatistic statistic, final int statusPoolSize, final boolean openMetrics) {
+        this.text.setLength(0);
+        this.openMetrics = openMetrics;
+
+        // bodies and bytes
+        family("knx_bodies_received", "counter", "Number of received KNX bodies");
+        for (final var serviceType : ServiceType.values()) {
+            sample("knx_bodies_received_total", "service_type", label(serviceType), statistic.getNumberOfBodyReceived(serviceType));
+        }
+        family("knx_bodies_sent", "counter", "Number of sent KNX bodies");
+        for (final var serviceType : ServiceType.values()) {
+            sample("knx_bodies_sent_total", "service_type", label(serviceType), statistic.getNumberOfBodySent(serviceType));
+        }
+        counter("knx_received_bytes", "Number of received bytes (including protocol overhead)", statistic.getNumberOfBytesReceived());
+        counter("knx_sent_bytes", "Number of sent bytes (including protocol overhead)", statistic.getNumberOfBytesSent());
+        counter("knx_errors", "Number of errors", statistic.getNumberOfErrors());
+        counter("knx_retransmits", "Number of requests sent again due missing response", statistic.getNumberOfRetransmits());
+        counter("knx_reconnects", "Number of successful reconnects", statistic.getNumberOfReconnects());
+        gauge("knx_reconnect_last_latency_seconds", "Latency of last reconnect", statistic.getLastReconnectLatency() / 1000d);
+        gauge("knx_reconnect_max_latency_seconds", "Maximum latency of reconnects", statistic.getMaxReconnectLatency() / 1000d);
+
+        // bus load
+        final var busLoad = statistic.getBusLoad();
+        family("knx_bus_load_percent", "gauge", "Estimated TP1 bus load in percentage (moving average)");
+        sample("knx_bus_load_percent", "window", "1s", busLoad.getOneSecondRate());
+        sample("knx_bus_load_percent", "window", "1m", busLoad.getOneMinuteRate());
+        sample("knx_bus_load_percent", "window", "5m", busLoad.getFiveMinuteRate());
+
+        // latencies
+        family("knx_request_latency_seconds", "summary", "Round trip time of request until response");
+        for (final var serviceType : ServiceType.values()) {
+            final var latency = statistic.getLatency(serviceType);
+            if (latency.getCount() > 0) {
+                summary("knx_request_latency_seconds", "service_type", label(serviceType), latency);
+            }
+        }
+        family("knx_heartbeat_rtt_seconds", "summary", "Round trip time of connection state requests (heartbeat)");
+        summary("knx_heartbeat_rtt_seconds", null, null, statistic.getLatency(ServiceType.CONNECTION_STATE_REQUEST));
+        family("knx_write_latency_seconds", "summary", "Latency of group value write requests until acknowledged");
+        summary("knx_write_latency_seconds", null, null, statistic.getWriteLatency());
+        family("knx_read_latency_seconds", "summary", "Latency of group value read requests until response");
+        summary("knx_read_latency_seconds", null, null, statistic.getReadLatency());
+
+        // queues
+        family("knx_queue_depth", "gauge", "Current number of elements waiting in queue");
+        for (final var queueType : KnxQueueType.values()) {
+            sample("knx_queue_depth", "queue", label(queueType), statistic.getQueueStatistic(queueType).getDepth());
+        }
+        family("knx_queue_max_depth", "gauge", "Maximum number of elements waiting in queue");
+        for (final var queueType : KnxQueueType.values()) {
+            sample("knx_queue_max_depth", "queue", label(queueType), statistic.getQueueStatistic(queueType).getMaxDepth());
+        }
+        family("knx_queue_enqueued", "counter", "Number of elements offered to queue");
+        for (final var queueType : KnxQueueType.values()) {
+            sample("knx_queue_enqueued_total", "queue", label(queueType), statistic.getQueueStatistic(queueType).getNumberOfEnqueued());
+        }
+        family("knx_queue_rejected", "counter", "Number of elements rejected or dropped by queue");
+        for (final var queueType : KnxQueueType.values()) {
+            sample("knx_queue_rejected_total", "queue", label(queueType), statistic.getQueueStatistic(queueType).getNumberOfRejected());
+        }
+        family("knx_queue_wait_seconds", "summary", "Time elements are waiting in queue");
+        for (final var queueType : KnxQueueType.values()) {
+            summary("knx_queue_wait_seconds", "queue", label(queueType), statistic.getQueueStatistic(queueType).getWait());
+        }
+
+        // plugins
+        family("knx_plugin_dropped", "counter", "Number of notifications dropped because mailbox of plugin was full");
+        statistic.getNumberOfPluginDrops().forEach(
+                (pluginClass, drops) -> sample("knx_plugin_dropped_total", "plugin", pluginClass.getName(), drops));
+
+        // status pool
+        gauge("knx_status_pool_size", "Number of KNX addresses with a status in status pool", statusPoolSize);
+
+        if (openMetrics) {
+            this.text.append("# EOF\n");
+        }
+        return encode();
+    }
+
+    /**
+     * Returns the buffer with rendered bytes. Only the number of bytes returned by
+     * {@link #write(KnxStatistic, int, boolean)} are valid.
+     *
+     * @return the buffer (not a copy)
+     */
+    byte[] getBytes() {
+        return this.bytes;
+    }
+
+    private void counter(final String name, final String help, final long value) {
+        family(name, "counter", help);
+        sample(name + "_total", null, null, value);
+    }
+
+    private void gauge(final String name, final String help, final double value) {
+        family(name, "gauge", help);
+        sample(name, null, null, value);
+    }
+
+    private void summary(final String name, final String labelName, final String labelValue, final KnxLatency latency) {
+        final var values = new Duration[]{latency.getP50(), latency.getP90(), latency.getP99(), latency.getMax()};
+        for (var i = 0; i < QUANTILES.length; i++) {
+            this.text.append(name).append('{');
+            if (labelName != null) {
+                this.text.append(labelName).append("=\"");
+                appendLabelValue(this.text, labelValue);
+                this.text.append("\",");
+            }
+            this.text.append("quantile=\"").append(QUANTILES[i]).append("\"} ").append(seconds(values[i])).append('\n');
+        }
+        sample(name + "_count", labelName, labelValue, latency.getCount());
+    }
+
+    /**
+     * Writes the metadata of metric family. In Prometheus text format the name of counter
+     * family has the {@code _total} suffix.
+     */
+    private void family(final String name, final String type, final String help) {
+        final var familyName = !this.openMetrics && "counter".equals(type) ? name + "_total" : name;
+        this.text.append("# TYPE ").append(familyName).append(' ').append(type).append('\n');
+        this.text.append("# HELP ").append(familyName).append(' ').append(help).append('\n');
+    }
+
+    private void sample(final String name, final String labelName, final String labelValue, final long value) {
+        labels(name, labelName, labelValue);
+        this.text.append(value).append('\n');
+    }
+
+    private void sample(final String name, final String labelName, final String labelValue, final double value) {
+        labels(name, labelName, labelValue);
+        this.text.append(value).append('\n');
+    }
+
+    private void labels(final String name, final String labelName, final String labelValue) {
+        this.text.append(name);
+        if (labelName != null) {
+            this.text.append('{').append(labelName).append("=\"");
+            appendLabelValue(this.text, labelValue);
+            this.text.append("\"}");
+        }
+        this.text.append(' ');
+    }
+
+    /**
+     * Appends the label value to the {@code text}; backslash, double-quote and line feed are escaped
+     *
+     * @param text  the text to append to
+     * @param value the label value
+     */
+    static void appendLabelValue(final StringBuilder text, final String value) {
+        for (var i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            if (c == '\\') {
+                text.append("\\\\");
+            } else if (c == '"') {
+                text.append("\\\"");
+            } else if (c == '\n') {
+                text.append("\\n");
+            } else {
+                text.append(c);
+            }
+        }
+    }
+
+    private static String label(final Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static double seconds(final Duration duration) {
+        return duration.toNanos() / 1e9d;
+    }
+
+    /**
+     * Encodes the text in UTF-8 into the byte buffer; the buffer grows if necessary
+     *
+     * @return number of bytes
+     */
+    private int encode() {
+        final var maxLength = (int) (this.text.length() * this.encoder.maxBytesPerChar());
+        if (this.bytes.length < maxLength) {
+            this.bytes = Arrays.copyOf(this.bytes, Math.max(maxLength, this.bytes.length * 2));
+        }
+        final var out = ByteBuffer.wrap(this.bytes);
+        this.encoder.reset();
+        this.encoder.encode(CharBuffer.wrap(this.text), out, true);
+        this.encoder.flush(out);
+        return out.position();
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.utils;
+
+import li.pitschmann.knx.core.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * Helper class to create {@link ExecutorService} instances
+ * <p>
+ * Virtual threads are available since Java 21. As KNX Core is compiled for Java 11,
+ * the virtual thread executor is looked up by reflection; on older runtimes it falls
+ * back to a fixed thread pool.
+ *
+ * @author PITSCHR
+ */
+public final class ExecutorServices {
+    private static final Logger log = LoggerFactory.getLogger(ExecutorServices.class);
+    private static final Method VIRTUAL_THREAD_PER_TASK_EXECUTOR = findVirtualThreadPerTaskExecutor();
+
+    private ExecutorServices() {
+        throw new AssertionError("Do not touch me!");
+    }
+
+    /**
+     * Returns {@code true} if the current runtime supports virtual threads
+     *
+     * @return {@code true} if virtual threads are supported, otherwise {@code false}
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Creates a new {@link ExecutorService}.
+     * <p>
+     * If {@code virtualThreads} is requested and supported by the runtime, an executor that starts
+     * a new virtual thread for each task is returned and the {@code poolSize} is not relevant.
+     * Otherwise, a fixed thread pool with {@code poolSize} threads is returned.
+     *
+     * @param virtualThreads {@code true} if virtual threads should be used (when supported)
+     * @param poolSize       the number of threads for the fixed thread pool
+     * @return a new {@link ExecutorService}
+     */
+    public static ExecutorService newExecutorService(final boolean virtualThreads, final int poolSize) {
+        if (virtualThreads) {
+            final var executorService = newVirtualThreadPerTaskExecutor();
+            if (executorService != null) {
+                return executorService;
+            }
+            log.warn("Virtual threads are not supported by current runtime (Java {}). Fall back to fixed thread pool with size of {}.",
+                    Runtime.version().feature(), poolSize);
+        }
+        return Executors.newFixedThreadPool(poolSize);
+    }
+
+    /**
+     * Returns the scheduler that is shared by all KNX clients for short-running timer tasks
+     * (e.g. connection state monitoring). The scheduler is backed by a single daemon thread
+     * and is created lazily on first access.
+     *
+     * @return shared scheduler
+     */
+    public static ScheduledExecutorService sharedScheduler() {
+        return SharedSchedulerHolder.INSTANCE;
+    }
+
+    /**
+     * Creates a new scheduler backed by a single daemon thread. Cancelled tasks are
+     * removed from the work queue immediately.
+     *
+     * @param threadName the name of thread
+     * @return a new {@link ScheduledExecutorService}
+     */
+    public static ScheduledExecutorService newSingleThreadScheduler(final String threadName) {
+        final var scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+            final var thread = new Thread(r, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    /**
+     * Creates a new executor that starts a new virtual thread for each task
+     *
+     * @return a new executor, or {@code null} if virtual threads are not supported
+     */
+    @Nullable
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (VIRTUAL_THREAD_PER_TASK_EXECUTOR == null) {
+            return null;
+        }
+        try {
+            return (ExecutorService) VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+        } catch (final ReflectiveOperationException | RuntimeException ex) {
+            log.debug("Could not create virtual thread executor", ex);
+            return null;
+        }
+    }
+
+    /**
+     * Looks up the {@code Executors#newVirtualThreadPerTaskExecutor()} method and verifies
+     * that it is usable (virtual threads were a preview feature in Java 19 and 20)
+     *
+     * @return method, or {@code null} if not available in current runtime
+     */
+    @Nullable
+    private static Method findVirtualThreadPerTaskExecutor() {
+        try {
+            final var method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            ((ExecutorService) method.invoke(null)).shutdown();
+            return method;
+        } catch (final ReflectiveOperationException | RuntimeException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Holder for lazy initialization of shared scheduler
+     */
+    private static final class SharedSchedulerHolder {
+        private static final ScheduledExecutorService INSTANCE = newSingleThreadScheduler("knx-scheduler");
+    }
+}
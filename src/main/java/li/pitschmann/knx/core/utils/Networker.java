@@ -32,6 +32,7 @@ import java.net.SocketAddress;
 import java.net.SocketException;
 import java.net.SocketOption;
 import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
 import java.net.UnknownHostException;
 import java.nio.channels.Channel;
 import java.nio.channels.DatagramChannel;
@@ -292,8 +293,9 @@ public final class Networker {
                                                                         final long socketTimeout,
                                                                         final @Nullable SocketAddress socketAddress,
                                                                         final @Nullable Map<? extends SocketOption<T>, T> socketOptionMap) {
+        DatagramChannel channel = null;
         try {
-            final var channel = DatagramChannel.open(StandardProtocolFamily.INET);
+            channel = DatagramChannel.open(StandardProtocolFamily.INET);
             channel.configureBlocking(false);
             final var socket = channel.socket();
             if (socketOptionMap != null) {
@@ -308,7 +310,39 @@ public final class Networker {
             }
             return channel;
         } catch (final IOException e) {
+            Closeables.closeQuietly(channel);
             throw new KnxCommunicationException("Exception occurred during creating datagram channel", e);
         }
     }
+
+    /**
+     * Creates a TCP channel for communication and connects to the given {@code socketAddress}
+     * <p>
+     * The connection is established in blocking mode (limited by {@code socketTimeout}), afterwards
+     * the channel is configured as non-blocking. Nagle's algorithm is disabled as KNX frames are small
+     * and latency sensitive.
+     *
+     * @param localPort     given port to be used (A port number of {@code zero} will let the system pick up an ephemeral port)
+     * @param socketTimeout socket timeout for connection
+     * @param socketAddress socket address to be connected
+     * @return a new instance of {@link SocketChannel}
+     */
+    public static SocketChannel newSocketChannel(final int localPort,
+                                                 final long socketTimeout,
+                                                 final SocketAddress socketAddress) {
+        Preconditions.checkNonNull(socketAddress);
+        SocketChannel channel = null;
+        try {
+            channel = SocketChannel.open();
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            final var socket = channel.socket();
+            socket.bind(new InetSocketAddress(localPort));
+            socket.connect(socketAddress, (int) socketTimeout);
+            channel.configureBlocking(false);
+            return channel;
+        } catch (final IOException e) {
+            Closeables.closeQuietly(channel);
+            throw new KnxCommunicationException("Exception occurred during creating socket channel", e);
+        }
+    }
 }
@@ -140,6 +140,9 @@ final class IndividualAddressTest {
         assertThat(testByValueOfRawData.getAddress()).isEqualTo(addressAsString);
         assertThat(testByString.getAddress()).isEqualTo(addressAsString);
 
+        // check address as int
+        assertThat(testByCreate.getAddressAsInt()).isEqualTo(Byte.toUnsignedInt(bytes[0]) << 8 | Byte.toUnsignedInt(bytes[1]));
+
         // toString
         assertThat(testByCreate).hasToString(
                 String.format("IndividualAddress{address=%s}", testByCreate.getAddress())
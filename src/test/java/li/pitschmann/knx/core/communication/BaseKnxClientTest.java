@@ -18,7 +18,9 @@
 package li.pitschmann.knx.core.communication;
 
 import li.pitschmann.knx.core.address.GroupAddress;
+import li.pitschmann.knx.core.body.ConnectRequestBody;
 import li.pitschmann.knx.core.body.RoutingIndicationBody;
+import li.pitschmann.knx.core.body.TunnelingAckBody;
 import li.pitschmann.knx.core.body.TunnelingRequestBody;
 import li.pitschmann.knx.core.config.Config;
 import li.pitschmann.knx.core.config.CoreConfigs;
@@ -27,12 +29,14 @@ import li.pitschmann.knx.core.datapoint.DPT5;
 import li.pitschmann.knx.core.datapoint.value.DataPointValue;
 import li.pitschmann.knx.core.exceptions.KnxCommunicationException;
 import li.pitschmann.knx.core.header.ServiceType;
+import li.pitschmann.knx.core.net.HostProtocol;
 import li.pitschmann.knx.core.plugin.ExtensionPlugin;
 import li.pitschmann.knx.core.test.KnxBody;
 import li.pitschmann.knx.core.test.MockServer;
 import li.pitschmann.knx.core.test.MockServerTest;
 import li.pitschmann.knx.core.test.TestHelpers;
 import li.pitschmann.knx.core.test.data.TestExtensionPlugin;
+import li.pitschmann.knx.core.test.strategy.IgnoreStrategy;
 import li.pitschmann.knx.core.utils.Sleeper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -130,6 +134,120 @@ public class BaseKnxClientTest {
         readAndWriteTunnelingRequests(mockServer, (m) -> m.newConfigBuilder().setting(CoreConfigs.NAT, true).build());
     }
 
+    /**
+     * Tests read and write requests methods for {@link BaseKnxClient} using
+     * the event loop transport mode
+     *
+     * @param mockServer the mock server
+     */
+    @MockServerTest
+    @DisplayName("OK: Tunneling + Event Loop: Test read and write requests asynchronously")
+    public void testReadAndWriteRequestsTunnelingAndEventLoop(final MockServer mockServer) {
+        readAndWriteTunnelingRequests(mockServer, (m) -> m.newConfigBuilder().setting(CoreConfigs.Communication.EVENT_LOOP_ENABLED, true).build());
+    }
+
+    /**
+     * Tests read and write requests methods for {@link BaseKnxClient} using
+     * enabled NAT and the event loop transport mode
+     *
+     * @param mockServer the mock server
+     */
+    @MockServerTest
+    @DisplayName("OK: Tunneling + NAT + Event Loop: Test read and write requests asynchronously")
+    public void testReadAndWriteRequestsTunnelingAndNATAndEventLoop(final MockServer mockServer) {
+        readAndWriteTunnelingRequests(mockServer, (m) -> m.newConfigBuilder()
+                .setting(CoreConfigs.NAT, true)
+                .setting(CoreConfigs.Communication.EVENT_LOOP_ENABLED, true)
+                .build());
+    }
+
+    /**
+     * Tests read and write requests methods for {@link BaseKnxClient} using
+     * virtual threads for communication and plugins (falls back to thread
+     * pools when not supported by runtime)
+     *
+     * @param mockServer the mock server
+     */
+    @MockServerTest
+    @DisplayName("OK: Tunneling + Virtual Threads: Test read and write requests asynchronously")
+    public void testReadAndWriteRequestsTunnelingAndVirtualThreads(final MockServer mockServer) {
+        readAndWriteTunnelingRequests(mockServer, (m) -> m.newConfigBuilder()
+                .setting(CoreConfigs.Communication.VIRTUAL_THREADS_ENABLED, true)
+                .setting(CoreConfigs.Plugin.VIRTUAL_THREADS_ENABLED, true)
+                .build());
+    }
+
+    /**
+     * Tests read and write requests methods for {@link BaseKnxClient} using
+     * tunneling over TCP. The KNX mock server doesn't acknowledge tunneling
+     * requests as the transport is reliable.
+     *
+     * @param mockServer the mock server
+     */
+    @MockServerTest(useTcp = true, tunnelingStrategy = IgnoreStrategy.class)
+    @DisplayName("OK: Tunneling + TCP: Test read and write requests asynchronously")
+    public void testReadAndWriteRequestsTunnelingAndTCP(final MockServer mockServer) {
+        readAndWriteTunnelingRequests(mockServer, (m) -> m.newConfigBuilder().build());
+
+        // control and data endpoints are 'route back' over TCP connection
+        final var connectRequestBody = mockServer.getReceivedBodies()
+                .stream()
+                .filter(ConnectRequestBody.class::isInstance)
+                .map(ConnectRequestBody.class::cast)
+                .findFirst()
+                .orElseThrow();
+        assertThat(connectRequestBody.getControlEndpoint().getProtocol()).isSameAs(HostProtocol.IPV4_TCP);
+        assertThat(connectRequestBody.getDataEndpoint().getProtocol()).isSameAs(HostProtocol.IPV4_TCP);
+        assertThat(connectRequestBody.getControlEndpoint().getAddress().isAnyLocalAddress()).isTrue();
+        // no tunneling acknowledge sent by KNX mock server
+        assertThat(mockServer.getSentBodies()).noneMatch(TunnelingAckBody.class::isInstance);
+    }
+
+    /**
+     * Tests read and write requests methods for {@link BaseKnxClient} using
+     * tunneling over TCP and the event loop transport mode
+     *
+     * @param mockServer the mock server
+     */
+    @MockServerTest(useTcp = true, tunnelingStrategy = IgnoreStrategy.class)
+    @DisplayName("OK: Tunneling + TCP + Event Loop: Test read and write requests asynchronously")
+    public void testReadAndWriteRequestsTunnelingAndTCPAndEventLoop(final MockServer mockServer) {
+        readAndWriteTunnelingRequests(mockServer, (m) -> m.newConfigBuilder()
+                .setting(CoreConfigs.Communication.EVENT_LOOP_ENABLED, true)
+                .build());
+    }
+
+    /**
+     * Tests that tunneling over TCP doesn't reconnect when the connection is lost, and
+     * tunneling requests are not acknowledged on behalf of a closed TCP connection.
+     *
+     * @param mockServer the mock server
+     */
+    @MockServerTest(useTcp = true, tunnelingStrategy = IgnoreStrategy.class)
+    @DisplayName("OK: Tunneling + TCP: No reconnect when connection is lost")
+    public void testConnectionLostTCP(final MockServer mockServer) {
+        final var config = mockServer.newConfigBuilder()
+                .setting(CoreConfigs.Reconnect.ENABLED, true)
+                .build();
+
+        try (final var client = DefaultKnxClient.createStarted(config)) {
+            assertThat(client.isRunning()).isTrue();
+
+            final var internalClient = client.getInternalClient();
+            internalClient.onConnectionLost();
+            assertThat(internalClient.isReconnecting()).isFalse();
+            assertThat(client.isRunning()).isFalse();
+
+            final var requestBody = TunnelingRequestBody.of(1, 0, KnxBody.TUNNELING_REQUEST_BODY.getCEMI());
+            assertThat(internalClient.send(requestBody, 1000))
+                    .failsWithin(Duration.ofSeconds(1))
+                    .withThrowableOfType(ExecutionException.class)
+                    .withCauseInstanceOf(KnxCommunicationException.class);
+        } catch (final Throwable t) {
+            fail("Unexpected test state", t);
+        }
+    }
+
     @MockServerTest(useRouting = true)
     @DisplayName("OK: Routing: Test read and write requests asynchronously")
     public void testReadAndWriteRequestsRouting(final MockServer mockServer) {
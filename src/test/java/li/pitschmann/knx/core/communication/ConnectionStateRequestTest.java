@@ -17,20 +17,28 @@
 
 package li.pitschmann.knx.core.communication;
 
+import li.pitschmann.knx.core.address.GroupAddress;
 import li.pitschmann.knx.core.body.Body;
 import li.pitschmann.knx.core.body.ConnectRequestBody;
 import li.pitschmann.knx.core.body.ConnectResponseBody;
 import li.pitschmann.knx.core.body.ConnectionStateRequestBody;
 import li.pitschmann.knx.core.body.DescriptionRequestBody;
 import li.pitschmann.knx.core.body.DisconnectRequestBody;
+import li.pitschmann.knx.core.body.TunnelingRequestBody;
+import li.pitschmann.knx.core.config.CoreConfigs;
+import li.pitschmann.knx.core.datapoint.DPT1;
 import li.pitschmann.knx.core.header.ServiceType;
 import li.pitschmann.knx.core.test.MockServer;
 import li.pitschmann.knx.core.test.MockServerTest;
 import li.pitschmann.knx.core.test.strategy.IgnoreStrategy;
+import li.pitschmann.knx.core.test.strategy.impl.DefaultConnectStrategy;
+import li.pitschmann.knx.core.test.strategy.impl.DefaultConnectionStateStrategy;
 import org.junit.jupiter.api.DisplayName;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
@@ -94,6 +102,50 @@ public class ConnectionStateRequestTest {
         }
     }
 
+    /**
+     * Test reconnect when no ConnectionStateResponseBody was received from KNX Net/IP device.
+     * <p>
+     * The first three connection state requests are ignored, the client reconnects by a new
+     * connect request (first one is ignored as well). A write request during reconnect is
+     * deferred and sent after the reconnect with a fresh sequence.
+     */
+    @MockServerTest(
+            connectionStateStrategy = {IgnoreStrategy.class, IgnoreStrategy.class, IgnoreStrategy.class, DefaultConnectionStateStrategy.class},
+            connectStrategy = {DefaultConnectStrategy.class, IgnoreStrategy.class, DefaultConnectStrategy.class}
+    )
+    @DisplayName("Reconnect: No Connection State Request received")
+    public void testReconnect(final MockServer mockServer) {
+        final var config = mockServer.newConfigBuilder()
+                .setting(CoreConfigs.Reconnect.ENABLED, true)
+                .setting(CoreConfigs.Connect.REQUEST_TIMEOUT, 500L)
+                .setting(CoreConfigs.ConnectionState.REQUEST_TIMEOUT, 200L)
+                .setting(CoreConfigs.ConnectionState.HEARTBEAT_TIMEOUT, 500L)
+                .build();
+
+        try (final var client = DefaultKnxClient.createStarted(config)) {
+            // 2nd connect request (reconnect) is ignored by mock server
+            mockServer.waitForReceivedServiceType(ServiceType.CONNECT_REQUEST, 2);
+            assertThat(client.getInternalClient().isReconnecting()).isTrue();
+            assertThat(client.isRunning()).isTrue();
+
+            // write request is deferred until reconnect is completed
+            assertThat(client.writeRequest(GroupAddress.of(1, 2, 3), DPT1.SWITCH.of(true)))
+                    .succeedsWithin(Duration.ofSeconds(3)).isEqualTo(Boolean.TRUE);
+            assertThat(client.getInternalClient().isReconnecting()).isFalse();
+            assertThat(client.getStatistic().getNumberOfReconnects()).isOne();
+            assertThat(client.getStatistic().getLastReconnectLatency()).isPositive();
+        }
+
+        // tunneling request sent after reconnect with new sequence
+        final var tunnelingRequests = mockServer.getReceivedBodies().stream()
+                .filter(TunnelingRequestBody.class::isInstance)
+                .map(TunnelingRequestBody.class::cast)
+                .collect(Collectors.toList());
+        assertThat(tunnelingRequests).hasSize(1);
+        assertThat(tunnelingRequests.get(0).getSequence()).isZero();
+        assertThat(tunnelingRequests.get(0).getChannelId()).isEqualTo(mockServer.getChannelId());
+    }
+
     /**
      * Generate list of expected received bodies for assertion
      *
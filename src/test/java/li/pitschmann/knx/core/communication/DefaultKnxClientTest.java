@@ -28,6 +28,7 @@ import li.pitschmann.knx.core.body.DisconnectRequestBody;
 import li.pitschmann.knx.core.body.DisconnectResponseBody;
 import li.pitschmann.knx.core.body.RoutingIndicationBody;
 import li.pitschmann.knx.core.body.SearchRequestBody;
+import li.pitschmann.knx.core.body.TunnelingRequestBody;
 import li.pitschmann.knx.core.cemi.APCI;
 import li.pitschmann.knx.core.datapoint.DPT1;
 import li.pitschmann.knx.core.exceptions.KnxDescriptionNotReceivedException;
@@ -37,6 +38,8 @@ import li.pitschmann.knx.core.test.MockServerTest;
 import li.pitschmann.knx.core.test.strategy.IgnoreStrategy;
 import org.junit.jupiter.api.DisplayName;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
 import static org.mockito.Mockito.spy;
@@ -80,6 +83,40 @@ public class DefaultKnxClientTest {
         );
     }
 
+    /**
+     * Perform a happy path between {@link KnxClient} created against a shared
+     * {@link KnxRuntime} and the KNX Net/IP device. The runtime remains open
+     * after the client has been closed.
+     */
+    @MockServerTest
+    @DisplayName("Success: Disconnect by KNX client using shared runtime")
+    public void testSuccessDisconnectByClientWithRuntime(final MockServer mockServer) {
+        try (final var runtime = KnxRuntime.create()) {
+            try (final var client = DefaultKnxClient.createStarted(runtime, mockServer.newConfigBuilder().build())) {
+                assertThat(client.isRunning()).isTrue();
+                assertThat(client.getInternalClient().getRuntime()).isSameAs(runtime);
+                assertThat(client.getInternalClient().getEventLoop()).isSameAs(runtime.getEventLoops().get(0));
+                assertThat(runtime.getClientCount()).isOne();
+
+                mockServer.waitForReceivedServiceType(ServiceType.CONNECTION_STATE_REQUEST);
+                assertThat(client.readRequest(GroupAddress.of(1, 2, 3))).succeedsWithin(Duration.ofSeconds(1)).isEqualTo(Boolean.TRUE);
+            }
+
+            assertThat(runtime.getClientCount()).isZero();
+            assertThat(runtime.isClosed()).isFalse();
+            assertThat(runtime.getEventLoops().get(0).isClosed()).isFalse();
+        }
+
+        // assert packets
+        mockServer.assertReceivedPackets( //
+                DescriptionRequestBody.class, // #1
+                ConnectRequestBody.class, // #2
+                ConnectionStateRequestBody.class, // #3
+                TunnelingRequestBody.class, // #4
+                DisconnectRequestBody.class // #5
+        );
+    }
+
     /**
      * Perform a happy path between {@link KnxClient} and the KNX Net/IP device returns following:
      * <ol>
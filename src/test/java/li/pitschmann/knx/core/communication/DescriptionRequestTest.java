@@ -25,9 +25,12 @@ import li.pitschmann.knx.core.body.DescriptionRequestBody;
 import li.pitschmann.knx.core.body.DescriptionResponseBody;
 import li.pitschmann.knx.core.body.DisconnectRequestBody;
 import li.pitschmann.knx.core.body.DisconnectResponseBody;
+import li.pitschmann.knx.core.config.CoreConfigs;
+import li.pitschmann.knx.core.dib.SupportedServiceFamiliesDIB;
 import li.pitschmann.knx.core.exceptions.KnxDescriptionNotReceivedException;
 import li.pitschmann.knx.core.exceptions.KnxNoTunnelingException;
 import li.pitschmann.knx.core.header.ServiceType;
+import li.pitschmann.knx.core.test.KnxBody;
 import li.pitschmann.knx.core.test.MockServer;
 import li.pitschmann.knx.core.test.MockServerTest;
 import li.pitschmann.knx.core.test.strategy.IgnoreStrategy;
@@ -35,7 +38,13 @@ import li.pitschmann.knx.core.test.strategy.impl.DefaultDescriptionStrategy;
 import li.pitschmann.knx.core.test.strategy.impl.DescriptionBadDataStrategy;
 import li.pitschmann.knx.core.test.strategy.impl.DescriptionInvalidServiceStrategy;
 import li.pitschmann.knx.core.test.strategy.impl.DescriptionNoTunnelingStrategy;
+import li.pitschmann.knx.core.utils.Networker;
+import li.pitschmann.knx.core.utils.Sleeper;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
@@ -121,4 +130,94 @@ public class DescriptionRequestTest {
                 DescriptionRequestBody.class // #3 (corrupted response, DescriptionInvalidServiceStrategy)
         );
     }
+
+    /**
+     * Test the cached {@link DescriptionResponseBody}. The client is started with the cached
+     * description response, and the cache entry is revalidated in the background.
+     */
+    @MockServerTest
+    @DisplayName("Success: Start with cached description response")
+    public void testDescriptionCached(final MockServer mockServer, final @TempDir Path tempDir) {
+        final var cache = new InternalKnxCache(tempDir);
+        final var cacheKey = InternalKnxCache.descriptionKey(new InetSocketAddress(Networker.getLocalHost(), mockServer.getPort()));
+        final var cachedBody = newDescriptionResponseBody(0x02, 0x01, 0x04, 0x01, 0x05, 0x01);
+        cache.put(cacheKey, cachedBody);
+
+        final var config = mockServer.newConfigBuilder()
+                .setting(CoreConfigs.Cache.ENABLED, true)
+                .setting(CoreConfigs.Cache.PATH, tempDir)
+                .build();
+        try (final var client = DefaultKnxClient.createStarted(config)) {
+            assertThat(client.isRunning()).isTrue();
+            // description request is sent for revalidation
+            mockServer.waitForReceivedServiceType(ServiceType.DESCRIPTION_REQUEST);
+            mockServer.waitForReceivedServiceType(ServiceType.CONNECTION_STATE_REQUEST);
+            waitForCacheUpdate(cache, cacheKey, cachedBody);
+        } catch (final Throwable t) {
+            fail("Unexpected test state", t);
+        }
+
+        // cache entry has been revalidated by the description response from mock server
+        final var revalidatedBody = cache.get(cacheKey, DescriptionResponseBody.class);
+        assertThat(revalidatedBody).isNotNull().isNotEqualTo(cachedBody);
+    }
+
+    /**
+     * Test the cached {@link DescriptionResponseBody} without tunneling. The client falls back to
+     * live description response and updates the cache entry.
+     */
+    @MockServerTest
+    @DisplayName("Success: Fall back to live description response when cached is not applicable")
+    public void testDescriptionCachedFallback(final MockServer mockServer, final @TempDir Path tempDir) {
+        final var cache = new InternalKnxCache(tempDir);
+        final var cacheKey = InternalKnxCache.descriptionKey(new InetSocketAddress(Networker.getLocalHost(), mockServer.getPort()));
+        final var cachedBody = newDescriptionResponseBody(0x02, 0x01, 0x03, 0x02, 0x05, 0x03);
+        cache.put(cacheKey, cachedBody);
+
+        final var config = mockServer.newConfigBuilder()
+                .setting(CoreConfigs.Cache.ENABLED, true)
+                .setting(CoreConfigs.Cache.PATH, tempDir)
+                .build();
+        try (final var client = DefaultKnxClient.createStarted(config)) {
+            assertThat(client.isRunning()).isTrue();
+            // description requests for revalidation and live description
+            mockServer.waitForReceivedServiceType(ServiceType.DESCRIPTION_REQUEST, 2);
+            mockServer.waitForReceivedServiceType(ServiceType.CONNECTION_STATE_REQUEST);
+        } catch (final Throwable t) {
+            fail("Unexpected test state", t);
+        }
+
+        // cache entry has been replaced by the description response from mock server
+        final var liveBody = cache.get(cacheKey, DescriptionResponseBody.class);
+        assertThat(liveBody).isNotNull().isNotEqualTo(cachedBody);
+    }
+
+    /**
+     * Creates a new {@link DescriptionResponseBody} with given supported service families
+     *
+     * @param serviceFamilies pairs of service family id and version
+     * @return description response body
+     */
+    private static DescriptionResponseBody newDescriptionResponseBody(final int... serviceFamilies) {
+        final var bytes = new byte[2 + serviceFamilies.length];
+        bytes[0] = (byte) bytes.length; // Structure Length
+        bytes[1] = 0x02; // Description Type Code
+        for (var i = 0; i < serviceFamilies.length; i++) {
+            bytes[2 + i] = (byte) serviceFamilies[i];
+        }
+        return DescriptionResponseBody.of(
+                KnxBody.DESCRIPTION_RESPONSE_BODY.getDeviceInformation(),
+                SupportedServiceFamiliesDIB.of(bytes)
+        );
+    }
+
+    /**
+     * Waits until the cache entry is not equal to {@code oldBody} anymore (max. 2 seconds)
+     */
+    private static void waitForCacheUpdate(final InternalKnxCache cache, final String key, final DescriptionResponseBody oldBody) {
+        final var end = System.currentTimeMillis() + 2000;
+        while (oldBody.equals(cache.get(key, DescriptionResponseBody.class)) && System.currentTimeMillis() < end) {
+            Sleeper.milliseconds(10);
+        }
+    }
 }
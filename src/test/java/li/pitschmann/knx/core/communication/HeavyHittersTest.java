@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link HeavyHitters}
+ *
+ * @author PITSCHR
+ */
+class HeavyHittersTest {
+
+    @Test
+    @DisplayName("Test invalid arguments")
+    void testInvalid() {
+        assertThatThrownBy(() -> new HeavyHitters(1000, 8))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Width must be a power of two: 1000");
+        assertThatThrownBy(() -> new HeavyHitters(1024, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Capacity must be positive: 0");
+    }
+
+    @Test
+    @DisplayName("Test estimates and top keys with few keys")
+    void testFewKeys() {
+        final var heavyHitters = new HeavyHitters(1024, 8);
+        assertThat(heavyHitters.top(5)).isEmpty();
+
+        for (var key = 1L; key <= 5; key++) {
+            for (var i = 0; i < key * 10; i++) {
+                heavyHitters.add(key);
+            }
+        }
+
+        // no collisions expected for few keys
+        assertThat(heavyHitters.estimate(3L)).isEqualTo(30L);
+        assertThat(heavyHitters.estimate(99L)).isZero();
+        assertThat(heavyHitters.top(3)).containsExactly(5L, 4L, 3L);
+        assertThat(heavyHitters.top(10)).containsExactly(5L, 4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("Test candidate with lowest estimate is replaced")
+    void testReplace() {
+        final var heavyHitters = new HeavyHitters(1024, 2);
+        heavyHitters.add(1L);
+        heavyHitters.add(2L);
+
+        // key 1 is a candidate already and becomes a heavy hitter
+        for (var i = 0; i < 100; i++) {
+            heavyHitters.add(1L);
+        }
+        assertThat(heavyHitters.top(2)).containsExactly(1L, 2L);
+
+        // key 3 replaces key 2 (lowest estimate), and not key 1
+        for (var i = 0; i < 50; i++) {
+            heavyHitters.add(3L);
+        }
+        assertThat(heavyHitters.top(2)).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("Test heavy hitters among many keys")
+    void testManyKeys() {
+        final var heavyHitters = new HeavyHitters(1024, 8);
+
+        // 5000 keys with 1 occurrence each, and 3 heavy hitters mixed in
+        for (var key = 100L; key < 5100L; key++) {
+            heavyHitters.add(key);
+            if (key % 10 == 0) {
+                heavyHitters.add(1L);
+                heavyHitters.add(1L);
+                heavyHitters.add(2L);
+            }
+            if (key % 50 == 0) {
+                heavyHitters.add(3L);
+            }
+        }
+
+        // estimates are never lower than real counts
+        assertThat(heavyHitters.estimate(1L)).isGreaterThanOrEqualTo(1000L);
+        assertThat(heavyHitters.estimate(2L)).isGreaterThanOrEqualTo(500L);
+        assertThat(heavyHitters.estimate(3L)).isGreaterThanOrEqualTo(100L);
+        assertThat(heavyHitters.top(3)).containsExactly(1L, 2L, 3L);
+    }
+}
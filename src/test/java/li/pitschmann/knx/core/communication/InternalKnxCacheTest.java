@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication;
+
+import li.pitschmann.knx.core.body.DescriptionResponseBody;
+import li.pitschmann.knx.core.body.SearchResponseBody;
+import li.pitschmann.knx.core.test.KnxBody;
+import li.pitschmann.knx.core.utils.Networker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link InternalKnxCache}
+ *
+ * @author PITSCHR
+ */
+class InternalKnxCacheTest {
+
+    @Test
+    @DisplayName("Test put, get and remove of cache entries")
+    void testPutAndGet(final @TempDir Path tempDir) {
+        final var cache = new InternalKnxCache(tempDir.resolve("cache"));
+
+        // not cached yet
+        assertThat(cache.get("foo", DescriptionResponseBody.class)).isNull();
+
+        // cached (directory is created on first write)
+        cache.put("foo", KnxBody.DESCRIPTION_RESPONSE_BODY);
+        cache.put("bar", KnxBody.SEARCH_RESPONSE_BODY);
+        assertThat(cache.get("foo", DescriptionResponseBody.class)).isEqualTo(KnxBody.DESCRIPTION_RESPONSE_BODY);
+        assertThat(cache.get("bar", SearchResponseBody.class)).isEqualTo(KnxBody.SEARCH_RESPONSE_BODY);
+
+        // replace
+        cache.put("foo", KnxBody.SEARCH_RESPONSE_BODY);
+        assertThat(cache.get("foo", SearchResponseBody.class)).isEqualTo(KnxBody.SEARCH_RESPONSE_BODY);
+
+        // removed
+        cache.remove("bar");
+        assertThat(cache.get("bar", SearchResponseBody.class)).isNull();
+        // remove of non-existing entry is ignored
+        cache.remove("bar");
+
+        assertThat(cache).hasToString(String.format("InternalKnxCache{directory=%s}", tempDir.resolve("cache")));
+    }
+
+    @Test
+    @DisplayName("Test cache entry with unexpected body type and corrupt data")
+    void testInvalidEntries(final @TempDir Path tempDir) throws IOException {
+        final var cache = new InternalKnxCache(tempDir);
+
+        // unexpected type -> entry is removed
+        cache.put("foo", KnxBody.DESCRIPTION_RESPONSE_BODY);
+        assertThat(cache.get("foo", SearchResponseBody.class)).isNull();
+        assertThat(tempDir.resolve("foo.knx")).doesNotExist();
+
+        // corrupt data -> entry is removed
+        Files.write(tempDir.resolve("bar.knx"), new byte[]{0x06, 0x10, 0x02});
+        assertThat(cache.get("bar", DescriptionResponseBody.class)).isNull();
+        assertThat(tempDir.resolve("bar.knx")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Test conditional put is skipped when cache entry was removed or replaced")
+    void testPutIfUnchanged(final @TempDir Path tempDir) {
+        final var cache = new InternalKnxCache(tempDir);
+
+        // unchanged -> stored
+        final var generation = cache.generation("foo");
+        assertThat(cache.putIfUnchanged("foo", KnxBody.DESCRIPTION_RESPONSE_BODY, generation)).isTrue();
+        assertThat(cache.get("foo", DescriptionResponseBody.class)).isEqualTo(KnxBody.DESCRIPTION_RESPONSE_BODY);
+
+        // removed in the meantime -> skipped
+        final var generationBeforeRemove = cache.generation("foo");
+        cache.remove("foo");
+        assertThat(cache.putIfUnchanged("foo", KnxBody.DESCRIPTION_RESPONSE_BODY, generationBeforeRemove)).isFalse();
+        assertThat(tempDir.resolve("foo.knx")).doesNotExist();
+
+        // replaced in the meantime -> skipped
+        final var generationBeforePut = cache.generation("foo");
+        cache.put("foo", KnxBody.SEARCH_RESPONSE_BODY);
+        assertThat(cache.putIfUnchanged("foo", KnxBody.DESCRIPTION_RESPONSE_BODY, generationBeforePut)).isFalse();
+        assertThat(cache.get("foo", SearchResponseBody.class)).isEqualTo(KnxBody.SEARCH_RESPONSE_BODY);
+
+        // other keys are not affected
+        assertThat(cache.putIfUnchanged("bar", KnxBody.SEARCH_RESPONSE_BODY, cache.generation("bar"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test keys for search and description responses")
+    void testKeys() {
+        final var localAddress = Networker.getLocalHost().getHostAddress();
+        final var endpoint = new InetSocketAddress(Networker.getByAddress(192, 168, 1, 2), 3671);
+
+        assertThat(InternalKnxCache.searchKey(endpoint)).isEqualTo("search_" + localAddress + "_192.168.1.2_3671");
+        assertThat(InternalKnxCache.descriptionKey(endpoint)).isEqualTo("description_" + localAddress + "_192.168.1.2_3671");
+    }
+}
@@ -17,6 +17,9 @@
 
 package li.pitschmann.knx.core.communication;
 
+import li.pitschmann.knx.core.address.GroupAddress;
+import li.pitschmann.knx.core.address.IndividualAddress;
+import li.pitschmann.knx.core.address.KnxAddress;
 import li.pitschmann.knx.core.body.Body;
 import li.pitschmann.knx.core.body.ConnectRequestBody;
 import li.pitschmann.knx.core.body.ConnectResponseBody;
@@ -26,10 +29,23 @@ import li.pitschmann.knx.core.body.DescriptionRequestBody;
 import li.pitschmann.knx.core.body.DescriptionResponseBody;
 import li.pitschmann.knx.core.body.DisconnectRequestBody;
 import li.pitschmann.knx.core.body.DisconnectResponseBody;
+import li.pitschmann.knx.core.body.RoutingIndicationBody;
+import li.pitschmann.knx.core.body.Status;
 import li.pitschmann.knx.core.body.TunnelingAckBody;
 import li.pitschmann.knx.core.body.TunnelingRequestBody;
+import li.pitschmann.knx.core.cemi.APCI;
+import li.pitschmann.knx.core.cemi.AdditionalInfo;
+import li.pitschmann.knx.core.cemi.CEMI;
+import li.pitschmann.knx.core.cemi.ControlByte1;
+import li.pitschmann.knx.core.cemi.ControlByte2;
+import li.pitschmann.knx.core.cemi.MessageCode;
+import li.pitschmann.knx.core.cemi.TPCI;
+import li.pitschmann.knx.core.datapoint.DPT1;
 import li.pitschmann.knx.core.exceptions.KnxException;
+import li.pitschmann.knx.core.header.ServiceType;
 import li.pitschmann.knx.core.test.KnxBody;
+import li.pitschmann.knx.core.test.data.TestExtensionPlugin;
+import li.pitschmann.knx.core.test.data.TestObserverPlugin;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -37,8 +53,13 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.within;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -66,6 +87,10 @@ public class InternalKnxStatisticTest {
         assertThat(knxStatistic.getNumberOfBodySent(DescriptionRequestBody.class)).isZero();
 
         assertThat(knxStatistic.getNumberOfErrors()).isZero();
+
+        assertThat(knxStatistic.getLatency(ServiceType.TUNNELING_REQUEST)).isSameAs(KnxLatency.EMPTY);
+        assertThat(knxStatistic.getWriteLatency()).isSameAs(KnxLatency.EMPTY);
+        assertThat(knxStatistic.getReadLatency()).isSameAs(KnxLatency.EMPTY);
     }
 
     /**
@@ -93,6 +118,7 @@ public class InternalKnxStatisticTest {
         assertThat(knxStatistic.getNumberOfBodyReceived(DisconnectResponseBody.class)).isEqualTo(8);
         assertThat(knxStatistic.getNumberOfBodyReceived(TunnelingRequestBody.class)).isEqualTo(9);
         assertThat(knxStatistic.getNumberOfBodyReceived(TunnelingAckBody.class)).isEqualTo(10);
+        assertThat(knxStatistic.getNumberOfBodyReceived(ServiceType.TUNNELING_ACK)).isEqualTo(10);
 
         assertThat(knxStatistic.getNumberOfBodySent()).isEqualTo(255);
         assertThat(knxStatistic.getNumberOfBodySent(DescriptionRequestBody.class)).isEqualTo(21);
@@ -106,10 +132,242 @@ public class InternalKnxStatisticTest {
         assertThat(knxStatistic.getNumberOfBodySent(TunnelingRequestBody.class)).isEqualTo(29);
         assertThat(knxStatistic.getNumberOfBodySent(TunnelingAckBody.class)).isEqualTo(30);
 
+        assertThat(knxStatistic.getNumberOfBodySent(ServiceType.TUNNELING_ACK)).isEqualTo(30);
+        assertThat(knxStatistic.getNumberOfBodySent(ServiceType.ROUTING_INDICATION)).isZero();
+        assertThat(knxStatistic.getNumberOfBodySent(RoutingIndicationBody.class)).isZero();
+
+        // bytes = frame length + 42 bytes (Ethernet, IPv4 and UDP)
+        assertThat(knxStatistic.getNumberOfBytesReceived()).isEqualTo(
+                countBytes(KnxBody.DESCRIPTION_REQUEST, 1) + countBytes(KnxBody.DESCRIPTION_RESPONSE, 2)
+                        + countBytes(KnxBody.CONNECT_REQUEST, 3) + countBytes(KnxBody.CONNECT_RESPONSE, 4)
+                        + countBytes(KnxBody.CONNECTION_STATE_REQUEST, 5) + countBytes(KnxBody.CONNECTION_STATE_RESPONSE, 6)
+                        + countBytes(KnxBody.DISCONNECT_REQUEST, 7) + countBytes(KnxBody.DISCONNECT_RESPONSE, 8)
+                        + countBytes(KnxBody.TUNNELING_REQUEST, 9) + countBytes(KnxBody.TUNNELING_ACK, 10));
+
         assertThat(knxStatistic.getNumberOfErrors()).isEqualTo(40);
         assertThat(knxStatistic.getErrorRate()).isEqualTo(40d * 100 / (55 + 255));
     }
 
+    /**
+     * Test latencies of request/response, write/acknowledge and read/group value response
+     */
+    @Test
+    @DisplayName("Test latencies of KNX statistic")
+    public void testLatencies() {
+        final var statistic = new InternalKnxStatistic();
+        final var groupAddress = GroupAddress.of(1, 2, 3);
+
+        // request -> response
+        sent(statistic, KnxBody.CONNECTION_STATE_REQUEST_BODY);
+        received(statistic, KnxBody.CONNECTION_STATE_RESPONSE_BODY);
+        // response without request is ignored
+        received(statistic, KnxBody.CONNECTION_STATE_RESPONSE_BODY);
+        assertThat(statistic.getLatency(ServiceType.CONNECTION_STATE_REQUEST).getCount()).isOne();
+        assertThat(statistic.getLatency(ServiceType.CONNECT_REQUEST).getCount()).isZero();
+        // not a request service type
+        assertThat(statistic.getLatency(ServiceType.CONNECTION_STATE_RESPONSE)).isSameAs(KnxLatency.EMPTY);
+
+        // write request -> acknowledge (matched by channel id and sequence)
+        sent(statistic, TunnelingRequestBody.of(7, 1,
+                CEMI.useDefault(MessageCode.L_DATA_REQ, groupAddress, APCI.GROUP_VALUE_WRITE, DPT1.SWITCH.of(true))));
+        received(statistic, TunnelingAckBody.of(8, 1, Status.NO_ERROR));
+        assertThat(statistic.getWriteLatency().getCount()).isZero();
+        received(statistic, TunnelingAckBody.of(7, 1, Status.NO_ERROR));
+        assertThat(statistic.getWriteLatency().getCount()).isOne();
+        assertThat(statistic.getLatency(ServiceType.TUNNELING_REQUEST).getCount()).isOne();
+
+        // read request -> acknowledge -> group value response
+        sent(statistic, TunnelingRequestBody.of(7, 2,
+                CEMI.useDefault(MessageCode.L_DATA_REQ, groupAddress, APCI.GROUP_VALUE_READ, null)));
+        received(statistic, TunnelingAckBody.of(7, 2, Status.NO_ERROR));
+        assertThat(statistic.getLatency(ServiceType.TUNNELING_REQUEST).getCount()).isEqualTo(2);
+        assertThat(statistic.getWriteLatency().getCount()).isOne();
+        assertThat(statistic.getReadLatency().getCount()).isZero();
+
+        final var responseCEMI = CEMI.useDefault(MessageCode.L_DATA_IND, groupAddress, APCI.GROUP_VALUE_RESPONSE, DPT1.SWITCH.of(false));
+        received(statistic, TunnelingRequestBody.of(7, 0, responseCEMI));
+        assertThat(statistic.getReadLatency().getCount()).isOne();
+        // second response for same group address is ignored
+        received(statistic, RoutingIndicationBody.of(responseCEMI));
+        assertThat(statistic.getReadLatency().getCount()).isOne();
+
+        // snapshot
+        final var unmodifiableStatistic = statistic.asUnmodifiable();
+        assertThat(unmodifiableStatistic.getLatency(ServiceType.CONNECTION_STATE_REQUEST))
+                .isEqualTo(statistic.getLatency(ServiceType.CONNECTION_STATE_REQUEST));
+        assertThat(unmodifiableStatistic.getLatency(ServiceType.TUNNELING_REQUEST).getCount()).isEqualTo(2);
+        assertThat(unmodifiableStatistic.getLatency(ServiceType.TUNNELING_ACK)).isSameAs(KnxLatency.EMPTY);
+        assertThat(unmodifiableStatistic.getWriteLatency()).isEqualTo(statistic.getWriteLatency());
+        assertThat(unmodifiableStatistic.getReadLatency()).isEqualTo(statistic.getReadLatency());
+    }
+
+    /**
+     * Test moving average rates and bus load
+     */
+    @Test
+    @DisplayName("Test rates and bus load of KNX statistic")
+    public void testRatesAndBusLoad() {
+        final var clock = new AtomicLong();
+        final var statistic = new InternalKnxStatistic(clock::get);
+        final var groupAddress = GroupAddress.of(1, 2, 3);
+        final var indication = CEMI.useDefault(MessageCode.L_DATA_IND, groupAddress, APCI.GROUP_VALUE_WRITE, DPT1.SWITCH.of(true));
+        final var request = CEMI.useDefault(MessageCode.L_DATA_REQ, groupAddress, APCI.GROUP_VALUE_WRITE, DPT1.SWITCH.of(true));
+
+        // 10 telegrams per second for 10 minutes
+        // * received: indication from bus (counts for bus load)
+        // * sent: tunneling request (does not count for bus load, as it will be confirmed)
+        // * 1 error and 1 retransmit
+        for (var i = 0; i < 600; i++) {
+            for (var j = 0; j < 10; j++) {
+                received(statistic, TunnelingRequestBody.of(1, j, indication));
+                sent(statistic, TunnelingRequestBody.of(1, j, request));
+            }
+            statistic.onError(new Throwable());
+            statistic.onRetransmit(KnxBody.TUNNELING_REQUEST_BODY);
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        }
+
+        final var frameLength = TunnelingRequestBody.of(1, 0, indication).toByteArray(true).length;
+        assertThat(statistic.getBodyReceivedRate().getOneMinuteRate()).isCloseTo(10d, within(0.01));
+        assertThat(statistic.getBodySentRate().getOneMinuteRate()).isCloseTo(10d, within(0.01));
+        assertThat(statistic.getBytesReceivedRate().getOneSecondRate()).isCloseTo(10d * (frameLength + 42), within(0.01));
+        assertThat(statistic.getBytesSentRate().getOneSecondRate()).isCloseTo(10d * (frameLength + 42), within(0.01));
+        assertThat(statistic.getErrorsRate().getOneMinuteRate()).isCloseTo(1d, within(0.01));
+        assertThat(statistic.getRetransmitsRate().getOneMinuteRate()).isCloseTo(1d, within(0.01));
+        assertThat(statistic.getNumberOfRetransmits()).isEqualTo(600);
+
+        // bus load: 50 + 15 + 13 bit times + 13 bit times per character for 9 characters (NPDU length = 1)
+        // = 195 bit times per telegram; 10 telegrams per second at 9600 bit/s = 20.3125%
+        assertThat(statistic.getBusLoad().getOneMinuteRate()).isCloseTo(20.3125d, within(0.01));
+
+        // snapshot
+        final var unmodifiableStatistic = statistic.asUnmodifiable();
+        assertThat(unmodifiableStatistic.getBusLoad()).isEqualTo(statistic.getBusLoad());
+        assertThat(unmodifiableStatistic.getBodyReceivedRate()).isEqualTo(statistic.getBodyReceivedRate());
+        assertThat(unmodifiableStatistic.getBodySentRate()).isEqualTo(statistic.getBodySentRate());
+        assertThat(unmodifiableStatistic.getBytesReceivedRate()).isEqualTo(statistic.getBytesReceivedRate());
+        assertThat(unmodifiableStatistic.getBytesSentRate()).isEqualTo(statistic.getBytesSentRate());
+        assertThat(unmodifiableStatistic.getErrorsRate()).isEqualTo(statistic.getErrorsRate());
+        assertThat(unmodifiableStatistic.getRetransmitsRate()).isEqualTo(statistic.getRetransmitsRate());
+        assertThat(unmodifiableStatistic.getNumberOfRetransmits()).isEqualTo(600);
+    }
+
+    /**
+     * Test queue statistics of {@link InternalKnxStatistic} and its unmodifiable snapshot
+     */
+    @Test
+    @DisplayName("Test queue statistics")
+    public void testQueueStatistics() {
+        final var statistic = new InternalKnxStatistic();
+        statistic.onEnqueue(KnxQueueType.OUTBOX);
+        statistic.onEnqueue(KnxQueueType.OUTBOX);
+        statistic.onEnqueue(KnxQueueType.OUTBOX);
+        statistic.onDequeue(KnxQueueType.OUTBOX, TimeUnit.MILLISECONDS.toNanos(5));
+        statistic.onReject(KnxQueueType.OUTBOX);
+        statistic.onEnqueue(KnxQueueType.PLUGIN_EXECUTOR);
+
+        final var outbox = statistic.getQueueStatistic(KnxQueueType.OUTBOX);
+        assertThat(outbox.getDepth()).isEqualTo(1);
+        assertThat(outbox.getMaxDepth()).isEqualTo(3);
+        assertThat(outbox.getNumberOfEnqueued()).isEqualTo(3);
+        assertThat(outbox.getNumberOfRejected()).isEqualTo(1);
+        assertThat(outbox.getWait().getCount()).isEqualTo(1);
+        assertThat(statistic.getQueueStatistic(KnxQueueType.PLUGIN_EXECUTOR).getDepth()).isEqualTo(1);
+        assertThat(statistic.getQueueStatistic(KnxQueueType.INBOX)).isEqualTo(KnxQueueStatistic.EMPTY);
+
+        // unmodifiable snapshot is not affected by further updates
+        final var unmodifiable = statistic.asUnmodifiable();
+        statistic.onDequeue(KnxQueueType.OUTBOX, TimeUnit.MILLISECONDS.toNanos(5));
+        assertThat(unmodifiable.getQueueStatistic(KnxQueueType.OUTBOX)).isEqualTo(outbox);
+        assertThat(unmodifiable.getQueueStatistic(KnxQueueType.INBOX)).isEqualTo(KnxQueueStatistic.EMPTY);
+        assertThat(statistic.getQueueStatistic(KnxQueueType.OUTBOX).getDepth()).isZero();
+    }
+
+    /**
+     * Test number of dropped notifications per plugin
+     */
+    @Test
+    @DisplayName("Test plugin drop statistics")
+    public void testPluginDrops() {
+        final var statistic = new InternalKnxStatistic();
+        assertThat(statistic.getNumberOfPluginDrops()).isEmpty();
+
+        statistic.onPluginDrop(TestObserverPlugin.class);
+        statistic.onPluginDrop(TestObserverPlugin.class);
+        statistic.onPluginDrop(TestExtensionPlugin.class);
+        assertThat(statistic.getNumberOfPluginDrops()).containsOnly(
+                entry(TestObserverPlugin.class, 2L),
+                entry(TestExtensionPlugin.class, 1L)
+        );
+
+        // unmodifiable snapshot is not affected by further updates
+        final var unmodifiable = statistic.asUnmodifiable();
+        statistic.onPluginDrop(TestObserverPlugin.class);
+        assertThat(unmodifiable.getNumberOfPluginDrops()).containsEntry(TestObserverPlugin.class, 2L);
+        assertThat(statistic.getNumberOfPluginDrops()).containsEntry(TestObserverPlugin.class, 3L);
+    }
+
+    /**
+     * Test number of telegrams per address and top talkers
+     */
+    @Test
+    @DisplayName("Test address statistics and top talkers")
+    public void testTopTalkers() {
+        final var statistic = new InternalKnxStatistic();
+        final var device1 = IndividualAddress.of(1, 1, 1);
+        final var device2 = IndividualAddress.of(15, 15, 255);
+        final var lamp = GroupAddress.of(1, 2, 3);
+        final var blinds = GroupAddress.of(31, 7, 255);
+
+        // 1.1.1 -> 1/2/3: 30 indications (from bus)
+        // 15.15.255 -> 31/7/255: 20 routing indications (sent by client)
+        // 15.15.255 -> 1.1.1: 10 confirmations (point-to-point)
+        // 1.1.1 -> 31/7/255: 5 requests are not counted (will be confirmed)
+        for (var i = 0; i < 30; i++) {
+            received(statistic, TunnelingRequestBody.of(1, i, cemi(MessageCode.L_DATA_IND, device1, lamp)));
+        }
+        for (var i = 0; i < 20; i++) {
+            sent(statistic, RoutingIndicationBody.of(cemi(MessageCode.L_DATA_IND, device2, blinds)));
+        }
+        for (var i = 0; i < 10; i++) {
+            received(statistic, TunnelingRequestBody.of(1, i, cemi(MessageCode.L_DATA_CON, device2, device1)));
+        }
+        for (var i = 0; i < 5; i++) {
+            sent(statistic, TunnelingRequestBody.of(1, i, cemi(MessageCode.L_DATA_REQ, device1, blinds)));
+        }
+
+        assertThat(statistic.getNumberOfTelegramsTo(lamp)).isEqualTo(30);
+        assertThat(statistic.getNumberOfTelegramsTo(blinds)).isEqualTo(20);
+        assertThat(statistic.getNumberOfTelegramsTo(GroupAddress.of(1))).isZero();
+        assertThat(statistic.getNumberOfTelegramsFrom(device1)).isEqualTo(30);
+        assertThat(statistic.getNumberOfTelegramsFrom(device2)).isEqualTo(30);
+        assertThat(statistic.getNumberOfTelegramsFrom(IndividualAddress.of(1, 1, 2))).isZero();
+
+        final var expectedTopTalkers = List.of(
+                new KnxTalker(device1, lamp, 30),
+                new KnxTalker(device2, blinds, 20),
+                new KnxTalker(device2, device1, 10)
+        );
+        assertThat(statistic.topTalkers(10)).containsExactlyElementsOf(expectedTopTalkers);
+        assertThat(statistic.topTalkers(1)).containsExactly(expectedTopTalkers.get(0));
+        assertThat(statistic.topTalkers(0)).isEmpty();
+        assertThatThrownBy(() -> statistic.topTalkers(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(expectedTopTalkers.get(2)).hasToString("KnxTalker{source=15.15.255, destination=1.1.1, numberOfTelegrams=10}");
+
+        // snapshot
+        final var unmodifiableStatistic = statistic.asUnmodifiable();
+        assertThat(unmodifiableStatistic.getNumberOfTelegramsTo(lamp)).isEqualTo(30);
+        assertThat(unmodifiableStatistic.getNumberOfTelegramsTo(GroupAddress.of(1))).isZero();
+        assertThat(unmodifiableStatistic.getNumberOfTelegramsFrom(device2)).isEqualTo(30);
+        assertThat(unmodifiableStatistic.topTalkers(10)).containsExactlyElementsOf(expectedTopTalkers);
+        assertThat(unmodifiableStatistic.topTalkers(2)).containsExactlyElementsOf(expectedTopTalkers.subList(0, 2));
+    }
+
+    private static CEMI cemi(final MessageCode messageCode, final IndividualAddress source, final KnxAddress destination) {
+        return CEMI.of(messageCode, AdditionalInfo.empty(), ControlByte1.useDefault(), ControlByte2.of(destination), source,
+                destination, TPCI.UNNUMBERED_PACKAGE, 0, APCI.GROUP_VALUE_WRITE, DPT1.SWITCH.of(true));
+    }
+
     /**
      * Test for unmodifiable {@link KnxStatistic}
      */
@@ -220,7 +478,7 @@ public class InternalKnxStatisticTest {
         bodies.addAll(generateBodyList(KnxBody.TUNNELING_REQUEST_BODY, 9));
         bodies.addAll(generateBodyList(KnxBody.TUNNELING_ACK_BODY, 10));
 
-        bodies.stream().forEach(knxStatistic::onIncomingBody);
+        bodies.forEach(body -> knxStatistic.onIncomingBody(body, body.toByteArray(true).length));
     }
 
     /**
@@ -255,7 +513,19 @@ public class InternalKnxStatisticTest {
         bodies.addAll(generateBodyList(KnxBody.TUNNELING_REQUEST_BODY, 29));
         bodies.addAll(generateBodyList(KnxBody.TUNNELING_ACK_BODY, 30));
 
-        bodies.stream().forEach(knxStatistic::onOutgoingBody);
+        bodies.forEach(body -> knxStatistic.onOutgoingBody(body, body.toByteArray(true).length));
+    }
+
+    private static long countBytes(final String hex, final int occurrences) {
+        return (hex.length() / 2 + 42L) * occurrences;
+    }
+
+    private static void sent(final InternalKnxStatistic statistic, final Body body) {
+        statistic.onOutgoingBody(body, body.toByteArray(true).length);
+    }
+
+    private static void received(final InternalKnxStatistic statistic, final Body body) {
+        statistic.onIncomingBody(body, body.toByteArray(true).length);
     }
 
     private List<Body> generateBodyList(final Body body, final int occurrences) {
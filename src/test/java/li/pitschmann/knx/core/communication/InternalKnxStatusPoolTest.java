@@ -31,8 +31,20 @@ import li.pitschmann.knx.core.datapoint.DataPointRegistry;
 import li.pitschmann.knx.core.datapoint.value.DPT1Value;
 import li.pitschmann.knx.core.datapoint.value.DPT9Value;
 import li.pitschmann.knx.core.test.KnxBody;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -263,6 +275,112 @@ public final class InternalKnxStatusPoolTest {
         assertThat(map1).isEqualTo(map2); // but entry should be same
     }
 
+    /**
+     * Test de-duplication of {@link InternalKnxStatusPool#updateStatus(KnxAddress, KnxStatusData)}
+     * when status pool is shared by several tunneling connections
+     */
+    @Test
+    @DisplayName("Test de-duplication of identical status")
+    public void testDeduplication() {
+        final var pool = new InternalKnxStatusPool(60000);
+        final var source = IndividualAddress.of(1, 1, 1);
+
+        // first status is taken
+        final var status = new KnxStatusData(source, APCI.GROUP_VALUE_WRITE, new byte[]{0x01});
+        pool.updateStatus(ADDRESS, status);
+        assertThat(pool.getStatusFor(ADDRESS)).isSameAs(status);
+
+        // identical status (e.g. received via another tunneling connection) is ignored
+        pool.updateStatus(ADDRESS, new KnxStatusData(source, APCI.GROUP_VALUE_WRITE, new byte[]{0x01}));
+        assertThat(pool.getStatusFor(ADDRESS)).isSameAs(status);
+
+        // different data, source address or APCI is taken
+        final var statusOtherData = new KnxStatusData(source, APCI.GROUP_VALUE_WRITE, new byte[]{0x00});
+        pool.updateStatus(ADDRESS, statusOtherData);
+        assertThat(pool.getStatusFor(ADDRESS)).isSameAs(statusOtherData);
+
+        final var statusOtherSource = new KnxStatusData(ADDRESS_2, APCI.GROUP_VALUE_WRITE, new byte[]{0x00});
+        pool.updateStatus(ADDRESS, statusOtherSource);
+        assertThat(pool.getStatusFor(ADDRESS)).isSameAs(statusOtherSource);
+
+        final var statusOtherApci = new KnxStatusData(ADDRESS_2, APCI.GROUP_VALUE_RESPONSE, new byte[]{0x00});
+        pool.updateStatus(ADDRESS, statusOtherApci);
+        assertThat(pool.getStatusFor(ADDRESS)).isSameAs(statusOtherApci);
+
+        // identical status is taken when the current status is dirty
+        pool.setDirty(ADDRESS);
+        final var statusAfterDirty = new KnxStatusData(ADDRESS_2, APCI.GROUP_VALUE_RESPONSE, new byte[]{0x00});
+        pool.updateStatus(ADDRESS, statusAfterDirty);
+        assertThat(pool.getStatusFor(ADDRESS)).isSameAs(statusAfterDirty);
+
+        // no de-duplication by default
+        final var defaultPool = new InternalKnxStatusPool();
+        defaultPool.updateStatus(ADDRESS, status);
+        final var statusDuplicate = new KnxStatusData(source, APCI.GROUP_VALUE_WRITE, new byte[]{0x01});
+        defaultPool.updateStatus(ADDRESS, statusDuplicate);
+        assertThat(defaultPool.getStatusFor(ADDRESS)).isSameAs(statusDuplicate);
+
+        // negative window is not allowed
+        assertThatThrownBy(() -> new InternalKnxStatusPool(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Test concurrent updates and reads of {@link InternalKnxStatusPool} when status pool is
+     * shared by several tunneling connections of a pooled KNX client
+     */
+    @Test
+    @DisplayName("Test concurrent read and write of status pool shared by pooled client")
+    public void testConcurrentReadAndWrite() throws Exception {
+        final var pool = new InternalKnxStatusPool(1000);
+        final var writers = 4;
+        final var executor = Executors.newFixedThreadPool(writers + 2);
+        try {
+            // writers: each tunneling connection updates its own group addresses
+            final var writerFutures = new ArrayList<Future<?>>();
+            for (var w = 0; w < writers; w++) {
+                final var middle = w;
+                writerFutures.add(executor.submit(() -> {
+                    for (var i = 0; i < 256; i++) {
+                        final var address = GroupAddress.of(1, middle, i);
+                        pool.updateStatus(address, new KnxStatusData(ADDRESS, APCI.GROUP_VALUE_WRITE, new byte[]{(byte) i}));
+                        pool.setDirty(address);
+                    }
+                }));
+            }
+
+            // readers: read the status pool while it is updated
+            final var writersDone = new AtomicBoolean();
+            final var readerFutures = new ArrayList<Future<?>>();
+            for (var r = 0; r < 2; r++) {
+                readerFutures.add(executor.submit(() -> {
+                    while (!writersDone.get()) {
+                        assertThat(pool.copyStatusMap().size()).isLessThanOrEqualTo(writers * 256);
+                        assertThat(pool.size()).isLessThanOrEqualTo(writers * 256);
+                        assertThat(pool.toString()).startsWith("InternalKnxStatusPool{statusMap={");
+                        pool.existsStatusFor(GroupAddress.of(1, 0, 0));
+                        pool.isUpdated(GroupAddress.of(1, 1, 1));
+                    }
+                }));
+            }
+
+            for (final var future : writerFutures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            writersDone.set(true);
+            for (final var future : readerFutures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // all statuses are in the pool
+        assertThat(pool.size()).isEqualTo(writers * 256);
+        assertThat(pool.copyStatusMap()).hasSize(writers * 256);
+        assertThat(pool.existsStatusFor(GroupAddress.of(1, 3, 255))).isTrue();
+        assertThat(pool.isUpdated(GroupAddress.of(1, 3, 255))).isFalse();
+    }
+
     /**
      * Test {@link KnxStatusPool#toString()}
      */
@@ -278,4 +396,41 @@ public final class InternalKnxStatusPoolTest {
         pool.updateStatus(CEMI.useDefault(MessageCode.L_DATA_REQ, ADDRESS, APCI.GROUP_VALUE_WRITE, DPT1.SWITCH.of(false)));
         assertThat(pool).hasToString(String.format("InternalKnxStatusPool{statusMap={%s=%s}}", ADDRESS, pool.getStatusFor(ADDRESS)));
     }
+
+    /**
+     * Tests the JDK Flight Recorder event of {@link InternalKnxStatusPool#updateStatus(KnxAddress, KnxStatusData)}
+     */
+    @Test
+    @DisplayName("Test JFR event for updateStatus(KnxAddress, KnxStatusData)")
+    @ResourceLock("jfr")
+    public void testUpdateStatusEvent() throws IOException {
+        final var pool = new InternalKnxStatusPool(1000);
+        // unique addresses, as events of other tests may be recorded concurrently
+        final var groupAddress = GroupAddress.of(31, 7, 201);
+        final var sourceAddress = IndividualAddress.of(15, 15, 201);
+
+        final var file = Files.createTempFile("knx-", ".jfr");
+        try (final var recording = new Recording()) {
+            recording.enable("li.pitschmann.knx.StatusUpdate");
+            recording.start();
+            // status data created after start of recording to be within de-duplication window
+            pool.updateStatus(groupAddress, new KnxStatusData(sourceAddress, APCI.GROUP_VALUE_WRITE, new byte[]{0x01}));
+            pool.updateStatus(groupAddress, new KnxStatusData(sourceAddress, APCI.GROUP_VALUE_WRITE, new byte[]{0x01}));
+            recording.stop();
+            recording.dump(file);
+
+            final var events = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> "li.pitschmann.knx.StatusUpdate".equals(event.getEventType().getName()))
+                    .filter(event -> groupAddress.getAddress().equals(event.getString("destinationAddress")))
+                    .collect(Collectors.toList());
+            assertThat(events).hasSize(2);
+            assertThat(events.get(0).getString("destinationAddress")).isEqualTo(groupAddress.getAddress());
+            assertThat(events.get(0).getString("sourceAddress")).isEqualTo(sourceAddress.getAddress());
+            assertThat(events.get(0).getString("apci")).isEqualTo("GROUP_VALUE_WRITE");
+            assertThat(events.get(0).getBoolean("duplicate")).isFalse();
+            assertThat(events.get(1).getBoolean("duplicate")).isTrue();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
 }
@@ -53,8 +53,8 @@ public class KnxClientTest {
      * <ul>
      * <li>{@code InternalKnxClient#notifyPlugins(Object, List, BiConsumer)}
      * (internally used for initialization, start and shutdown)</li>
-     * <li>{@link InternalKnxClient#notifyIncomingBody(Body)}</li>
-     * <li>{@link InternalKnxClient#notifyOutgoingBody(Body)}</li>
+     * <li>{@link InternalKnxClient#notifyIncomingBody(Body, int)}</li>
+     * <li>{@link InternalKnxClient#notifyOutgoingBody(Body, int)}</li>
      * <li>{@link InternalKnxClient#notifyError(Throwable)}</li>
      * </ul>
      */
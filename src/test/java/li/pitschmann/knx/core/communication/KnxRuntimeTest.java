@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication;
+
+import li.pitschmann.knx.core.config.ConfigBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link KnxRuntime}
+ *
+ * @author PITSCHR
+ */
+class KnxRuntimeTest {
+
+    @Test
+    @DisplayName("Test event loops are assigned in round-robin manner")
+    void testEventLoops() {
+        try (final var runtime = KnxRuntime.create(3, 2)) {
+            final var eventLoops = runtime.getEventLoops();
+            assertThat(eventLoops).hasSize(3).doesNotHaveDuplicates();
+
+            assertThat(runtime.nextEventLoop()).isSameAs(eventLoops.get(0));
+            assertThat(runtime.nextEventLoop()).isSameAs(eventLoops.get(1));
+            assertThat(runtime.nextEventLoop()).isSameAs(eventLoops.get(2));
+            assertThat(runtime.nextEventLoop()).isSameAs(eventLoops.get(0));
+        }
+    }
+
+    @Test
+    @DisplayName("Test register and unregister of clients")
+    void testRegisterAndUnregister() {
+        try (final var runtime = KnxRuntime.create()) {
+            final var config = ConfigBuilder.create("127.0.0.1").build();
+            final var client1 = new InternalKnxClient(config, runtime);
+            final var client2 = new InternalKnxClient(config, runtime);
+            assertThat(client1.getRuntime()).isSameAs(runtime);
+            assertThat(client1.getPluginManager()).isNotSameAs(client2.getPluginManager());
+            assertThat(runtime.getClientCount()).isEqualTo(2);
+
+            runtime.unregister(client1);
+            assertThat(runtime.getClientCount()).isOne();
+            // unregister twice is ignored
+            runtime.unregister(client1);
+            assertThat(runtime.getClientCount()).isOne();
+        }
+    }
+
+    @Test
+    @DisplayName("Test close of runtime")
+    void testClose() {
+        final var runtime = KnxRuntime.create();
+        final var client = new InternalKnxClient(ConfigBuilder.create("127.0.0.1").build(), runtime);
+        assertThat(runtime.isClosed()).isFalse();
+
+        runtime.close();
+        assertThat(runtime.isClosed()).isTrue();
+        assertThat(runtime.getClientCount()).isZero();
+        assertThat(runtime.getEventLoops()).allMatch(eventLoop -> eventLoop.isClosed());
+        assertThat(runtime.getTaskExecutor().isShutdown()).isTrue();
+        assertThat(runtime.getPluginExecutor().isShutdown()).isTrue();
+        assertThat(client.getState()).isEqualTo(InternalKnxClient.State.NOT_STARTED);
+
+        // second close is ignored
+        runtime.close();
+
+        // no clients can be created against closed runtime
+        assertThatThrownBy(() -> new InternalKnxClient(ConfigBuilder.create("127.0.0.1").build(), runtime))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Test invalid arguments")
+    void testInvalidArguments() {
+        assertThatThrownBy(() -> KnxRuntime.create(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KnxRuntime.create(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
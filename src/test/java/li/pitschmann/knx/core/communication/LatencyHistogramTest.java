@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link LatencyHistogram}
+ *
+ * @author PITSCHR
+ */
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Test bucket index and upper bound of bucket")
+    void testBuckets() {
+        // exact buckets for small values
+        assertThat(LatencyHistogram.indexOf(0)).isZero();
+        assertThat(LatencyHistogram.indexOf(15)).isEqualTo(15);
+        assertThat(LatencyHistogram.upperBoundOf(15)).isEqualTo(15);
+
+        // logarithmic buckets: value is within bucket and relative error not greater than 1/16
+        for (final var value : new long[]{16, 17, 31, 32, 33, 1000, 4_999, 5_000, 900_000, 1L << 35}) {
+            final var index = LatencyHistogram.indexOf(value);
+            final var upperBound = LatencyHistogram.upperBoundOf(index);
+            assertThat(upperBound).isGreaterThanOrEqualTo(value).isLessThanOrEqualTo(value + value / 16);
+            assertThat(LatencyHistogram.indexOf(upperBound)).isEqualTo(index);
+            assertThat(LatencyHistogram.indexOf(upperBound + 1)).isEqualTo(index + 1);
+        }
+
+        // out of range values are recorded in first / last bucket
+        assertThat(LatencyHistogram.indexOf(-1)).isZero();
+        assertThat(LatencyHistogram.indexOf(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.indexOf((1L << 36) - 1));
+    }
+
+    @Test
+    @DisplayName("Test snapshot without recorded latencies")
+    void testEmpty() {
+        final var histogram = new LatencyHistogram();
+        assertThat(histogram.snapshot()).isSameAs(KnxLatency.EMPTY);
+        assertThat(KnxLatency.EMPTY.getCount()).isZero();
+        assertThat(KnxLatency.EMPTY.getP50()).isZero();
+        assertThat(KnxLatency.EMPTY.getMax()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test percentiles of recorded latencies")
+    void testPercentiles() {
+        final var histogram = new LatencyHistogram();
+        // 1ms .. 100ms
+        for (var i = 1; i <= 100; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        final var latency = histogram.snapshot();
+        assertThat(latency.getCount()).isEqualTo(100);
+        assertThat(latency.getMax()).isEqualTo(Duration.ofMillis(100));
+        assertPercentile(latency.getP50(), Duration.ofMillis(50));
+        assertPercentile(latency.getP90(), Duration.ofMillis(90));
+        assertPercentile(latency.getP99(), Duration.ofMillis(99));
+
+        // snapshot is immutable
+        histogram.record(TimeUnit.SECONDS.toNanos(1));
+        assertThat(latency.getCount()).isEqualTo(100);
+        assertThat(histogram.snapshot().getMax()).isEqualTo(Duration.ofSeconds(1));
+
+        assertThat(latency).hasToString("KnxLatency{count=100, p50=" + latency.getP50().toNanos() / 1000 + "us, p90="
+                + latency.getP90().toNanos() / 1000 + "us, p99=" + latency.getP99().toNanos() / 1000 + "us, max=100000us}");
+    }
+
+    @Test
+    @DisplayName("Test percentiles are capped by maximum latency")
+    void testCappedByMax() {
+        final var histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(1000));
+
+        final var latency = histogram.snapshot();
+        assertThat(latency.getP50()).isEqualTo(Duration.ofMillis(1));
+        assertThat(latency.getP99()).isEqualTo(Duration.ofMillis(1));
+        assertThat(latency.getMax()).isEqualTo(Duration.ofMillis(1));
+    }
+
+    @Test
+    @DisplayName("Test equals and hashCode of KnxLatency")
+    void testEqualsAndHashCode() {
+        final var histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(5));
+
+        assertThat(histogram.snapshot()).isEqualTo(histogram.snapshot()).hasSameHashCodeAs(histogram.snapshot());
+        assertThat(histogram.snapshot()).isNotEqualTo(KnxLatency.EMPTY);
+    }
+
+    private static void assertPercentile(final Duration actual, final Duration expected) {
+        assertThat(actual).isBetween(expected, expected.plus(expected.dividedBy(16)));
+    }
+}
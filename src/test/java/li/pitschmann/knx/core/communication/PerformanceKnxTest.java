@@ -27,10 +27,14 @@ import li.pitschmann.knx.core.body.DisconnectRequestBody;
 import li.pitschmann.knx.core.body.TunnelingAckBody;
 import li.pitschmann.knx.core.body.TunnelingRequestBody;
 import li.pitschmann.knx.core.config.CoreConfigs;
+import li.pitschmann.knx.core.datapoint.DPT1;
 import li.pitschmann.knx.core.header.ServiceType;
 import li.pitschmann.knx.core.test.MockServer;
 import li.pitschmann.knx.core.test.MockServerTest;
+import li.pitschmann.knx.core.utils.Stopwatch;
 import org.junit.jupiter.api.DisplayName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.util.LinkedList;
@@ -46,6 +50,7 @@ import static org.assertj.core.api.Assertions.fail;
  * @author PITSCHR
  */
 class PerformanceKnxTest {
+    private static final Logger log = LoggerFactory.getLogger(PerformanceKnxTest.class);
     /**
      * How many times the TUNNELING_REQUEST and TUNNELING_ACK packets should be
      * sent between KNX Net/IP device and clients.
@@ -166,4 +171,40 @@ class PerformanceKnxTest {
         assertThat(tunnelingRequestBodies.get(256).getSequence()).isEqualTo(0);
         assertThat(tunnelingRequestBodies.get(258).getSequence()).isEqualTo(2);
     }
+
+    /**
+     * Measures the lifecycle of {@link KnxClient}: start, first write request until
+     * acknowledge is received and close. There are no fixed delays during start and
+     * close, the latency is driven by the communication with KNX Net/IP device only.
+     */
+    @MockServerTest
+    @DisplayName("KNX Client lifecycle: start-to-first-write latency")
+    void testLifecycle(final MockServer mockServer) {
+        final var config = mockServer.newConfigBuilder().build();
+
+        final var sw = Stopwatch.createStarted();
+        final Duration startLatency;
+        final Duration firstWriteLatency;
+        try (final var client = DefaultKnxClient.createStarted(config)) {
+            startLatency = sw.elapsed();
+            assertThat(client.writeRequest(GroupAddress.of(1, 2, 3), DPT1.SWITCH.of(true)))
+                    .succeedsWithin(Duration.ofSeconds(1)).isEqualTo(Boolean.TRUE);
+            firstWriteLatency = sw.elapsed();
+            sw.reset().start();
+        }
+        final var closeLatency = sw.elapsed();
+        log.info("Lifecycle latency: start={} ms, start-to-first-write={} ms, close={} ms",
+                startLatency.toMillis(), firstWriteLatency.toMillis(), closeLatency.toMillis());
+
+        assertThat(firstWriteLatency).isLessThan(Duration.ofSeconds(2));
+        assertThat(closeLatency).isLessThan(Duration.ofSeconds(2));
+
+        mockServer.assertReceivedPackets(
+                DescriptionRequestBody.class,
+                ConnectRequestBody.class,
+                ConnectionStateRequestBody.class,
+                TunnelingRequestBody.class,
+                DisconnectRequestBody.class
+        );
+    }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication;
+
+import li.pitschmann.knx.core.address.GroupAddress;
+import li.pitschmann.knx.core.body.ConnectRequestBody;
+import li.pitschmann.knx.core.body.TunnelingRequestBody;
+import li.pitschmann.knx.core.config.Config;
+import li.pitschmann.knx.core.config.ConfigBuilder;
+import li.pitschmann.knx.core.config.CoreConfigs;
+import li.pitschmann.knx.core.datapoint.DPT1;
+import li.pitschmann.knx.core.exceptions.KnxException;
+import li.pitschmann.knx.core.header.ServiceType;
+import li.pitschmann.knx.core.test.MockServer;
+import li.pitschmann.knx.core.test.MockServerTest;
+import li.pitschmann.knx.core.test.strategy.IgnoreStrategy;
+import li.pitschmann.knx.core.utils.Networker;
+import li.pitschmann.knx.core.utils.Sleeper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.DatagramChannel;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link PooledKnxClient}
+ *
+ * @author PITSCHR
+ */
+class PooledKnxClientTest {
+
+    @MockServerTest
+    @DisplayName("Test pooled client with one established and one unreachable tunneling connection")
+    void testPool(final MockServer mockServer) throws IOException {
+        final var config = mockServer.newConfigBuilder().build();
+
+        try (final var silentChannel = DatagramChannel.open().bind(new InetSocketAddress(Networker.getLocalHost(), 0))) {
+            final var client = PooledKnxClient.createStarted(List.of(config, newUnreachableConfig(silentChannel)));
+            try (client) {
+                assertThat(client.isRunning()).isTrue();
+                assertThat(client.getActiveConnections()).isEqualTo(1);
+                assertThat(client.getConfig()).isSameAs(config);
+                assertThat(client).hasToString("PooledKnxClient{connections=2, activeConnections=1, loadBalancing=true, closed=false}");
+
+                // requests of all group addresses are taken over by the established tunneling connection
+                assertThat(client.writeRequest(GroupAddress.of(1, 2, 3), DPT1.SWITCH.of(true)))
+                        .succeedsWithin(Duration.ofSeconds(2)).isEqualTo(Boolean.TRUE);
+                assertThat(client.writeRequest(GroupAddress.of(1, 2, 4), DPT1.SWITCH.of(false)))
+                        .succeedsWithin(Duration.ofSeconds(2)).isEqualTo(Boolean.TRUE);
+                assertThat(client.readRequest(GroupAddress.of(1, 2, 5)))
+                        .succeedsWithin(Duration.ofSeconds(2)).isEqualTo(Boolean.TRUE);
+
+                mockServer.waitForReceivedServiceType(ServiceType.TUNNELING_REQUEST, 3);
+                assertThat(client.getStatistic().getNumberOfBodySent(TunnelingRequestBody.class)).isEqualTo(3);
+            }
+            assertThat(client.isRunning()).isFalse();
+            assertThat(client.getActiveConnections()).isZero();
+        }
+
+        // only one connection has been established with the mock server
+        assertThat(mockServer.getReceivedBodies().stream().filter(ConnectRequestBody.class::isInstance)).hasSize(1);
+        final var tunnelingRequests = mockServer.getReceivedBodies().stream()
+                .filter(TunnelingRequestBody.class::isInstance)
+                .map(TunnelingRequestBody.class::cast)
+                .mapToInt(TunnelingRequestBody::getSequence);
+        assertThat(tunnelingRequests).containsExactly(0, 1, 2);
+    }
+
+    /**
+     * Tests the failover to the standby KNX Net/IP device. The primary KNX Net/IP device
+     * (mock server) doesn't acknowledge the tunneling requests, the standby KNX Net/IP device
+     * (second mock server) does.
+     *
+     * @param mockServer the mock server (primary)
+     */
+    @MockServerTest(tunnelingStrategy = IgnoreStrategy.class)
+    @DisplayName("Test pooled client with failover to the standby KNX Net/IP device")
+    void testFailover(final MockServer mockServer) throws NoSuchMethodException {
+        // standby KNX Net/IP device with default behavior
+        final var standbyAnnotation = getClass().getDeclaredMethod("testPool", MockServer.class).getAnnotation(MockServerTest.class);
+        try (final var standbyServer = MockServer.createStarted(standbyAnnotation)) {
+            assertThat(Sleeper.milliseconds(100, standbyServer::isReady, 30000)).isTrue();
+
+            final var config = mockServer.newConfigBuilder()
+                    .endpoint(Networker.getLocalHost(), standbyServer.getPort())
+                    .setting(CoreConfigs.Tunneling.REQUEST_TIMEOUT, 200L)
+                    .build();
+
+            try (final var client = PooledKnxClient.createStarted(config)) {
+                assertThat(client.getActiveConnections()).isEqualTo(2);
+                assertThat(client.getHealthyConnections()).isEqualTo(2);
+                assertThat(client).hasToString("PooledKnxClient{connections=2, activeConnections=2, loadBalancing=false, closed=false}");
+
+                // primary doesn't acknowledge -> request is sent again via standby
+                assertThat(client.writeRequest(GroupAddress.of(1, 2, 3), DPT1.SWITCH.of(true)))
+                        .succeedsWithin(Duration.ofSeconds(5)).isEqualTo(Boolean.TRUE);
+                assertThat(client.getHealthyConnections()).isEqualTo(1);
+
+                // primary is degraded -> further requests are sent via standby directly
+                assertThat(client.writeRequest(GroupAddress.of(1, 2, 4), DPT1.SWITCH.of(false)))
+                        .succeedsWithin(Duration.ofSeconds(1)).isEqualTo(Boolean.TRUE);
+                standbyServer.waitForReceivedServiceType(ServiceType.TUNNELING_REQUEST, 2);
+            }
+        }
+
+        // primary got the first tunneling request only (3 attempts)
+        assertThat(mockServer.getReceivedBodies().stream()
+                .filter(TunnelingRequestBody.class::isInstance)
+                .map(TunnelingRequestBody.class::cast)
+                .map(body -> body.getCEMI().getDestinationAddress()))
+                .hasSize(3)
+                .containsOnly(GroupAddress.of(1, 2, 3));
+    }
+
+    @Test
+    @DisplayName("Test pooled client when no tunneling connection can be established")
+    void testNoConnection() throws IOException {
+        try (final var silentChannel = DatagramChannel.open().bind(new InetSocketAddress(Networker.getLocalHost(), 0))) {
+            final var config = newUnreachableConfig(silentChannel);
+            assertThatThrownBy(() -> PooledKnxClient.createStarted(config, 2)).isInstanceOf(KnxException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Test pooled client with invalid arguments")
+    void testInvalidArguments() {
+        final var config = ConfigBuilder.tunneling().build();
+
+        assertThatThrownBy(() -> PooledKnxClient.createStarted(List.of())).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PooledKnxClient.createStarted(config, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PooledKnxClient.createStarted(List.of(ConfigBuilder.routing().build())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Returns config for a KNX Net/IP device that never responds
+     */
+    private static Config newUnreachableConfig(final DatagramChannel silentChannel) {
+        return ConfigBuilder.tunneling(Networker.getLocalHost(), silentChannel.socket().getLocalPort())
+                .setting(CoreConfigs.Description.REQUEST_TIMEOUT, 100L)
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link QueueGauge}
+ *
+ * @author PITSCHR
+ */
+class QueueGaugeTest {
+
+    @Test
+    @DisplayName("Test snapshot without any elements")
+    void testEmpty() {
+        assertThat(new QueueGauge().snapshot()).isEqualTo(KnxQueueStatistic.EMPTY);
+    }
+
+    @Test
+    @DisplayName("Test depth, wait time and rejected elements")
+    void testEnqueueDequeueReject() {
+        final var gauge = new QueueGauge();
+        gauge.enqueue();
+        gauge.enqueue();
+        gauge.enqueue();
+        gauge.dequeue(TimeUnit.MILLISECONDS.toNanos(3));
+        gauge.reject();
+        gauge.enqueue();
+
+        final var statistic = gauge.snapshot();
+        assertThat(statistic.getDepth()).isEqualTo(2);
+        assertThat(statistic.getMaxDepth()).isEqualTo(3);
+        assertThat(statistic.getNumberOfEnqueued()).isEqualTo(4);
+        assertThat(statistic.getNumberOfRejected()).isEqualTo(1);
+        assertThat(statistic.getWait().getCount()).isEqualTo(1);
+        assertThat(statistic.getWait().getMax()).isEqualTo(Duration.ofMillis(3));
+
+        // snapshot is immutable
+        gauge.dequeue(TimeUnit.MILLISECONDS.toNanos(1));
+        gauge.dequeue(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(statistic.getDepth()).isEqualTo(2);
+        assertThat(gauge.snapshot().getDepth()).isZero();
+        assertThat(gauge.snapshot().getMaxDepth()).isEqualTo(3);
+
+        assertThat(statistic).hasToString("KnxQueueStatistic{depth=2, maxDepth=3, numberOfEnqueued=4, numberOfRejected=1, wait="
+                + statistic.getWait() + "}");
+    }
+
+    @Test
+    @DisplayName("Test depth is not negative when dequeue is counted before enqueue")
+    void testNotNegative() {
+        final var gauge = new QueueGauge();
+        gauge.dequeue(0);
+        assertThat(gauge.snapshot().getDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test equals and hashCode of KnxQueueStatistic")
+    void testEqualsAndHashCode() {
+        final var gauge = new QueueGauge();
+        gauge.enqueue();
+
+        assertThat(gauge.snapshot()).isEqualTo(gauge.snapshot()).hasSameHashCodeAs(gauge.snapshot());
+        assertThat(gauge.snapshot()).isNotEqualTo(KnxQueueStatistic.EMPTY);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Test for {@link RateMeter}
+ *
+ * @author PITSCHR
+ */
+class RateMeterTest {
+
+    @Test
+    @DisplayName("Test rates are updated once per second")
+    void testTick() {
+        final var clock = new AtomicLong();
+        final var meter = new RateMeter(clock::get);
+
+        // no events
+        assertThat(meter.snapshot()).isEqualTo(KnxRate.ZERO);
+
+        // events within first second are not visible yet
+        meter.mark(10);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertThat(meter.snapshot()).isEqualTo(KnxRate.ZERO);
+
+        // after first second: rate = alpha * 10
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        final var rate = meter.snapshot();
+        assertThat(rate.getOneSecondRate()).isCloseTo(10d * (1 - Math.exp(-1d)), within(1e-9));
+        assertThat(rate.getOneMinuteRate()).isCloseTo(10d * (1 - Math.exp(-1d / 60)), within(1e-9));
+        assertThat(rate.getFiveMinuteRate()).isCloseTo(10d * (1 - Math.exp(-1d / 300)), within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Test rates converge to constant rate")
+    void testConstantRate() {
+        final var clock = new AtomicLong();
+        final var meter = new RateMeter(clock::get);
+
+        // 50 events per second for 30 minutes
+        for (var i = 0; i < 1800; i++) {
+            meter.mark(50);
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        }
+
+        final var rate = meter.snapshot();
+        assertThat(rate.getOneSecondRate()).isCloseTo(50d, within(0.01));
+        assertThat(rate.getOneMinuteRate()).isCloseTo(50d, within(0.01));
+        assertThat(rate.getFiveMinuteRate()).isCloseTo(50d, within(0.2));
+    }
+
+    @Test
+    @DisplayName("Test rates decay when idle")
+    void testDecay() {
+        final var clock = new AtomicLong();
+        final var meter = new RateMeter(clock::get);
+        for (var i = 0; i < 1800; i++) {
+            meter.mark(50);
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        }
+        final var before = meter.snapshot();
+
+        // idle for one minute (ticks are caught up at once)
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        final var after = meter.snapshot();
+        assertThat(after.getOneSecondRate()).isCloseTo(0d, within(1e-9));
+        assertThat(after.getOneMinuteRate()).isCloseTo(before.getOneMinuteRate() * Math.exp(-1d), within(0.01));
+        assertThat(after.getFiveMinuteRate()).isCloseTo(before.getFiveMinuteRate() * Math.exp(-1d / 5), within(0.01));
+    }
+
+    @Test
+    @DisplayName("Test KnxRate")
+    void testKnxRate() {
+        final var rate = new KnxRate(1d, 2d, 3d);
+        assertThat(rate.multiply(2d)).isEqualTo(new KnxRate(2d, 4d, 6d));
+        assertThat(rate).isEqualTo(new KnxRate(1d, 2d, 3d)).hasSameHashCodeAs(new KnxRate(1d, 2d, 3d));
+        assertThat(rate).isNotEqualTo(KnxRate.ZERO);
+        assertThat(rate).hasToString("KnxRate{oneSecondRate=1.0, oneMinuteRate=2.0, fiveMinuteRate=3.0}");
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package li.pitschmann.knx.core.communication.communicator;
+
+import li.pitschmann.knx.core.annotations.Nullable;
+import li.pitschmann.knx.core.body.Body;
+import li.pitschmann.knx.core.communication.InternalKnxClient;
+import li.pitschmann.knx.core.communication.KnxQueueType;
+import li.pitschmann.knx.core.communication.queue.KnxEventLoop;
+import li.pitschmann.knx.core.config.CoreConfigs;
+import li.pitschmann.knx.core.exceptions.KnxCommunicationException;
+import li.pitschmann.knx.core.test.KnxBody;
+import li.pitschmann.knx.core.test.TestHelpers;
+import li.pitschmann.knx.core.utils.Networker;
+import li.pitschmann.knx.core.utils.Sleeper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectableChannel;
+import java.time.Duration;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link AbstractChannelCommunicator}
+ *
+ * @author PITSCHR
+ */
+class AbstractChannelCommunicatorTest {
+
+    @Test
+    @Timeout(30)
+    @DisplayName("Test event loop is not blocked by a subscriber with full buffer and no body is dropped")
+    void testEventLoopNotBlockedBySubscriber() throws Exception {
+        try (final var eventLoop = new KnxEventLoop();
+             final var remoteChannel = DatagramChannel.open()) {
+            final var clientMock = mockInternalKnxClient(eventLoop);
+            final var read = new AtomicInteger();
+            doAnswer(i -> read.incrementAndGet()).when(clientMock).notifyIncomingBody(any(Body.class), anyInt());
+
+            try (final var communicator = new TestCommunicator(clientMock)) {
+                connect(communicator, remoteChannel);
+
+                // subscriber that doesn't request bodies yet (buffer will be full)
+                final var idleSubscriber = new TestSubscriber(0, new AtomicInteger());
+                communicator.subscribe(idleSubscriber);
+
+                // subscriber that consumes all bodies
+                final var received = new AtomicInteger();
+                communicator.subscribe(new TestSubscriber(Long.MAX_VALUE, received));
+
+                // more bodies than buffer of subscriber: all are read by event loop
+                final var numberOfBodies = communicator.getMaxBufferCapacity() + 64;
+                sendBodies(remoteChannel, numberOfBodies, read);
+                assertThat(read.get()).isEqualTo(numberOfBodies);
+
+                // event loop is still serving the channel (outgoing)
+                communicator.send(KnxBody.TUNNELING_REQUEST_BODY);
+                final var buffer = ByteBuffer.allocate(256);
+                remoteChannel.receive(buffer);
+                assertThat(buffer.position()).isEqualTo(KnxBody.TUNNELING_REQUEST_BODY.toByteArray(true).length);
+
+                // subscriber with full buffer is requesting: all bodies are dispatched, nothing dropped
+                idleSubscriber.subscription.get().request(Long.MAX_VALUE);
+                final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                while ((received.get() < numberOfBodies || idleSubscriber.received.get() < numberOfBodies) && System.nanoTime() < deadline) {
+                    Sleeper.milliseconds(10);
+                }
+                assertThat(received.get()).isEqualTo(numberOfBodies);
+                assertThat(idleSubscriber.received.get()).isEqualTo(numberOfBodies);
+                verify(clientMock, never()).notifyReject(KnxQueueType.SUBSCRIBER);
+            }
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("Test bodies in buffer of cancelled subscriber are counted as rejected")
+    void testCancelledSubscriber() throws Exception {
+        try (final var eventLoop = new KnxEventLoop();
+             final var remoteChannel = DatagramChannel.open()) {
+            final var clientMock = mockInternalKnxClient(eventLoop);
+
+            try (final var communicator = new TestCommunicator(clientMock)) {
+                connect(communicator, remoteChannel);
+
+                // subscriber that never requests bodies
+                final var idleSubscriber = new TestSubscriber(0, new AtomicInteger());
+                communicator.subscribe(idleSubscriber);
+
+                // subscriber that consumes all bodies
+                final var received = new AtomicInteger();
+                communicator.subscribe(new TestSubscriber(Long.MAX_VALUE, received));
+
+                sendBodies(remoteChannel, 10, received);
+                assertThat(received.get()).isEqualTo(10);
+                verify(clientMock, times(20)).notifyEnqueue(KnxQueueType.SUBSCRIBER);
+                verify(clientMock, times(10)).notifyDequeue(eq(KnxQueueType.SUBSCRIBER), anyLong());
+
+                // cancel: bodies in buffer of idle subscriber will not be consumed anymore
+                idleSubscriber.subscription.get().cancel();
+                verify(clientMock, times(10)).notifyReject(KnxQueueType.SUBSCRIBER);
+
+                // bodies are not recorded for cancelled subscriber anymore
+                sendBodies(remoteChannel, 5, received);
+                verify(clientMock, timeout(1000).times(25)).notifyEnqueue(KnxQueueType.SUBSCRIBER);
+                verify(clientMock, times(15)).notifyDequeue(eq(KnxQueueType.SUBSCRIBER), anyLong());
+                verify(clientMock, times(10)).notifyReject(KnxQueueType.SUBSCRIBER);
+            }
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("Test duplicate subscription of same subscriber")
+    void testDuplicateSubscribe() throws Exception {
+        try (final var eventLoop = new KnxEventLoop()) {
+            try (final var communicator = new TestCommunicator(mockInternalKnxClient(eventLoop))) {
+                final var subscriber = new TestSubscriber(Long.MAX_VALUE, new AtomicInteger());
+                communicator.subscribe(subscriber);
+                assertThat(communicator.isSubscribed(subscriber)).isTrue();
+
+                // duplicate is detected by submission publisher and signalled as error
+                communicator.subscribe(subscriber);
+                final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (subscriber.error.get() == null && System.nanoTime() < deadline) {
+                    Sleeper.milliseconds(10);
+                }
+                assertThat(subscriber.error.get()).isInstanceOf(IllegalStateException.class).hasMessage("Duplicate subscribe");
+                assertThat(communicator.getNumberOfSubscribers()).isLessThanOrEqualTo(1);
+            }
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("Test subscribe is not blocked while dispatching waits for subscriber with full buffer")
+    void testSubscribeNotBlockedBySubmit() throws Exception {
+        try (final var eventLoop = new KnxEventLoop();
+             final var remoteChannel = DatagramChannel.open()) {
+            final var clientMock = mockInternalKnxClient(eventLoop);
+            final var read = new AtomicInteger();
+            doAnswer(i -> read.incrementAndGet()).when(clientMock).notifyIncomingBody(any(Body.class), anyInt());
+
+            try (final var communicator = new TestCommunicator(clientMock)) {
+                connect(communicator, remoteChannel);
+
+                // subscriber that doesn't request bodies: submit blocks when buffer is full
+                final var idleSubscriber = new TestSubscriber(0, new AtomicInteger());
+                communicator.subscribe(idleSubscriber);
+                final var numberOfBodies = communicator.getMaxBufferCapacity() + 1;
+                sendBodies(remoteChannel, numberOfBodies, read);
+                verify(clientMock, timeout(5000).times(numberOfBodies)).notifyEnqueue(KnxQueueType.SUBSCRIBER);
+
+                // subscribe is not blocked
+                final var subscriber = new TestSubscriber(Long.MAX_VALUE, new AtomicInteger());
+                assertTimeoutPreemptively(Duration.ofSeconds(1), () -> communicator.subscribe(subscriber));
+                assertThat(communicator.isSubscribed(subscriber)).isTrue();
+
+                // release: blocked body is dispatched to idle subscriber
+                idleSubscriber.subscription.get().request(Long.MAX_VALUE);
+                verify(clientMock, timeout(5000).times(numberOfBodies)).notifyDequeue(eq(KnxQueueType.SUBSCRIBER), anyLong());
+            }
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("Test close and immediate restart on a fixed local port using event loop")
+    void testRestartOnFixedPortWithEventLoop() throws Exception {
+        try (final var eventLoop = new KnxEventLoop()) {
+            assertRestartOnFixedPort(eventLoop);
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("Test close and immediate restart on a fixed local port using queue threads")
+    void testRestartOnFixedPortWithQueueThreads() throws Exception {
+        assertRestartOnFixedPort(null);
+    }
+
+    /**
+     * Closes the data channel communicator and opens a new one on the same local port immediately
+     */
+    private static void assertRestartOnFixedPort(final @Nullable KnxEventLoop eventLoop) throws IOException {
+        try (final var remoteChannel = DatagramChannel.open().bind(new InetSocketAddress(Networker.getLocalHost(), 0))) {
+            final int localPort;
+            try (final var channel = DatagramChannel.open().bind(new InetSocketAddress(0))) {
+                localPort = ((InetSocketAddress) channel.getLocalAddress()).getPort();
+            }
+
+            final var remoteEndpoint = (InetSocketAddress) remoteChannel.getLocalAddress();
+            final var clientMock = TestHelpers.mockInternalKnxClient(
+                    config -> when(config.getValue(CoreConfigs.Data.PORT)).thenReturn(localPort),
+                    client -> {
+                        when(client.getEventLoop()).thenReturn(eventLoop);
+                        when(client.getRemoteEndpoint()).thenReturn(remoteEndpoint);
+                    });
+
+            for (var i = 0; i < 10; i++) {
+                try (final var communicator = new DataChannelCommunicator(clientMock)) {
+                    assertThat(communicator.isEventLoopRegistered()).isEqualTo(eventLoop != null);
+                    final var channel = (DatagramChannel) communicator.getChannel();
+                    assertThat(((InetSocketAddress) channel.getLocalAddress()).getPort()).isEqualTo(localPort);
+                }
+            }
+        }
+    }
+
+    private static InternalKnxClient mockInternalKnxClient(final KnxEventLoop eventLoop) {
+        return TestHelpers.mockInternalKnxClient(
+                config -> {
+                },
+                client -> {
+                    when(client.getEventLoop()).thenReturn(eventLoop);
+                    when(client.verifyChannelId(any(Body.class))).thenReturn(true);
+                });
+    }
+
+    /**
+     * Connects the channel of communicator with the remote channel
+     */
+    private static void connect(final AbstractChannelCommunicator communicator,
+                                final DatagramChannel remoteChannel) throws IOException {
+        assertThat(communicator.isEventLoopRegistered()).isTrue();
+        remoteChannel.bind(new InetSocketAddress(Networker.getLocalHost(), 0));
+        final var channel = (DatagramChannel) communicator.getChannel();
+        channel.connect(remoteChannel.getLocalAddress());
+        remoteChannel.connect(channel.getLocalAddress());
+    }
+
+    /**
+     * Sends the bodies from remote channel. The next body is sent when the previous one has
+     * been counted by {@code received} (avoid loss of datagrams in receive buffer of OS)
+     */
+    private static void sendBodies(final DatagramChannel remoteChannel,
+                                   final int numberOfBodies,
+                                   final AtomicInteger received) throws IOException {
+        final var bytes = KnxBody.TUNNELING_ACK_BODY.toByteArray(true);
+        final var offset = received.get();
+        for (var i = 1; i <= numberOfBodies; i++) {
+            remoteChannel.write(ByteBuffer.wrap(bytes));
+            final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+            while (received.get() < offset + i && System.nanoTime() < deadline) {
+                Sleeper.milliseconds(1);
+            }
+        }
+    }
+
+    /**
+     * Subscriber that requests the given number of bodies and counts the received bodies
+     */
+    private static final class TestSubscriber implements Flow.Subscriber<Body> {
+        private final AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private final long request;
+        private final AtomicInteger received;
+
+        private TestSubscriber(final long request, final AtomicInteger received) {
+            this.request = request;
+            this.received = received;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription.set(subscription);
+            if (this.request > 0) {
+                subscription.request(this.request);
+            }
+        }
+
+        @Override
+        public void onNext(final Body item) {
+            this.received.incrementAndGet();
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            this.error.set(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            // NO-OP
+        }
+    }
+
+    /**
+     * Communicator for UDP channel that accepts all bodies
+     */
+    private static final class TestCommunicator extends AbstractChannelCommunicator {
+        private TestCommunicator(final InternalKnxClient client) {
+            super(client);
+        }
+
+        @Override
+        protected SelectableChannel newChannel(final InternalKnxClient client) {
+            try {
+                final var channel = DatagramChannel.open();
+                channel.configureBlocking(false);
+                channel.bind(new InetSocketAddress(Networker.getLocalHost(), 0));
+                return channel;
+            } catch (final IOException e) {
+                throw new KnxCommunicationException("Could not open channel", e);
+            }
+        }
+
+        @Override
+        public boolean isCompatible(final Body body) {
+            return true;
+        }
+    }
+}
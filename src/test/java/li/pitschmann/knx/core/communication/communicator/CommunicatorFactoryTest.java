@@ -33,6 +33,11 @@ import li.pitschmann.knx.core.utils.Networker;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
@@ -58,6 +63,7 @@ class CommunicatorFactoryTest {
         assertThat(communicator).isNotNull();
         assertThat(communicator.getNumberOfSubscribers()).isEqualTo(1);
         assertThat(communicator.getSubscribers().get(0)).isInstanceOf(SearchResponseTask.class);
+        assertThat(communicator.isSubscribed(communicator.getSubscribers().get(0))).isTrue();
     }
 
     @Test
@@ -113,6 +119,32 @@ class CommunicatorFactoryTest {
         );
     }
 
+    @Test
+    @DisplayName("Test creating new TCP channel communicator")
+    void testNewTcpCommunicator() throws IOException {
+        try (final var serverChannel = ServerSocketChannel.open()) {
+            serverChannel.bind(new InetSocketAddress(Networker.getLocalHost(), 0));
+            final var serverAddress = (InetSocketAddress) serverChannel.getLocalAddress();
+            final var communicator = CommunicatorFactory.newTcpChannelCommunicator(TestHelpers.mockInternalKnxClient(
+                    configMock -> {
+                    },
+                    clientMock -> when(clientMock.getRemoteEndpoint()).thenReturn(serverAddress)
+            ));
+
+            assertThat(communicator.getChannel()).isInstanceOf(SocketChannel.class);
+            assertThat(communicator.getNumberOfSubscribers()).isEqualTo(6);
+            assertThat(communicator.getSubscribers().stream().map(Object::getClass).toArray()).containsExactly(
+                    TunnelingRequestTask.class,
+                    TunnelingAckTask.class,
+                    ConnectResponseTask.class,
+                    ConnectionStateResponseTask.class,
+                    DisconnectRequestTask.class,
+                    DisconnectResponseTask.class
+            );
+            communicator.getChannel().close();
+        }
+    }
+
     @Test
     @DisplayName("Test creating new routing channel communicator")
     void testNewRoutingCommunicator() {
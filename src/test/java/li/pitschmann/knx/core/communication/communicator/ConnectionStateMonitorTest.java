@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication.communicator;
+
+import li.pitschmann.knx.core.body.ConnectionStateRequestBody;
+import li.pitschmann.knx.core.communication.InternalKnxClient;
+import li.pitschmann.knx.core.config.CoreConfigs;
+import li.pitschmann.knx.core.net.HPAI;
+import li.pitschmann.knx.core.test.KnxBody;
+import li.pitschmann.knx.core.test.TestHelpers;
+import li.pitschmann.knx.core.utils.Sleeper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link ConnectionStateMonitor}
+ *
+ * @author PITSCHR
+ */
+class ConnectionStateMonitorTest {
+
+    @Test
+    @DisplayName("Connection state request is sent again after heartbeat interval when response was received")
+    void testHeartbeat() {
+        // request timeout is longer than heartbeat interval to avoid re-sending on slow machines
+        final var client = mockClient(1000L, 500L, 2000L);
+        final var monitor = CommunicatorFactory.newConnectionStateMonitor(client);
+
+        monitor.start();
+        verify(client).send(any(ConnectionStateRequestBody.class));
+        final var startTime = monitor.getLastResponseTime();
+        final var roundTripTimeBeforeResponse = monitor.getRoundTripTime();
+
+        // response received -> next request after heartbeat interval (500ms)
+        monitor.onResponse(KnxBody.CONNECTION_STATE_RESPONSE_BODY);
+        verify(client, after(300).times(1)).send(any(ConnectionStateRequestBody.class));
+        verify(client, timeout(1000).times(2)).send(any(ConnectionStateRequestBody.class));
+
+        // round trip time and time of last response
+        assertThat(roundTripTimeBeforeResponse).isZero();
+        assertThat(monitor.getRoundTripTime()).isPositive();
+        assertThat(monitor.getLastResponseTime() - startTime).isPositive();
+        assertThat(monitor.isHeartbeatOverdue()).isFalse();
+
+        monitor.stop();
+        assertThat(monitor.isStopped()).isTrue();
+        verify(client, never()).onConnectionLost();
+    }
+
+    @Test
+    @DisplayName("Connection state request is re-sent when no response received, and connection is lost after heartbeat timeout")
+    void testNoResponse() {
+        final var client = mockClient(200L, 500L, 1000L);
+        final var monitor = CommunicatorFactory.newConnectionStateMonitor(client);
+
+        monitor.start();
+
+        // request timeout (200ms) -> request is sent again
+        verify(client, timeout(1000).times(2)).send(any(ConnectionStateRequestBody.class));
+
+        // no response within heartbeat interval (500ms) and request timeout (200ms) -> overdue
+        assertThat(Sleeper.milliseconds(10, monitor::isHeartbeatOverdue, 1000)).isTrue();
+
+        // heartbeat timeout (1000ms) -> connection is lost
+        verify(client, timeout(2000)).onConnectionLost();
+        assertThat(monitor.isStopped()).isTrue();
+        // 1st request at 0ms, re-sent at 200, 400, 600, 800ms
+        verify(client, times(5)).send(any(ConnectionStateRequestBody.class));
+        verify(client, times(4)).notifyRetransmit(any(ConnectionStateRequestBody.class));
+    }
+
+    @Test
+    @DisplayName("No connection state request after monitor has been stopped")
+    void testStop() {
+        final var client = mockClient(200L, 500L, 1000L);
+        final var monitor = CommunicatorFactory.newConnectionStateMonitor(client);
+
+        monitor.start();
+        monitor.stop();
+        // second stop is ignored
+        monitor.stop();
+        // response after stop is ignored
+        monitor.onResponse(KnxBody.CONNECTION_STATE_RESPONSE_BODY);
+
+        Sleeper.milliseconds(500);
+        verify(client, times(1)).send(any(ConnectionStateRequestBody.class));
+        verify(client, never()).onConnectionLost();
+    }
+
+    private static InternalKnxClient mockClient(final long requestTimeout, final long heartbeatInterval, final long heartbeatTimeout) {
+        return TestHelpers.mockInternalKnxClient(
+                config -> {
+                    when(config.getValue(CoreConfigs.ConnectionState.REQUEST_TIMEOUT)).thenReturn(requestTimeout);
+                    when(config.getValue(CoreConfigs.ConnectionState.HEARTBEAT_INTERVAL)).thenReturn(heartbeatInterval);
+                    when(config.getValue(CoreConfigs.ConnectionState.HEARTBEAT_TIMEOUT)).thenReturn(heartbeatTimeout);
+                },
+                client -> {
+                    when(client.getState()).thenReturn(InternalKnxClient.State.STARTED);
+                    when(client.getChannelId()).thenReturn(1);
+                    when(client.getControlHPAI()).thenReturn(HPAI.useDefault());
+                }
+        );
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication.discovery;
+
+import li.pitschmann.knx.core.body.SearchResponseBody;
+import li.pitschmann.knx.core.dib.ServiceTypeFamily;
+import li.pitschmann.knx.core.dib.SupportedServiceFamiliesDIB;
+import li.pitschmann.knx.core.test.KnxBody;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link DiscoveredGateway}
+ *
+ * @author PITSCHR
+ */
+class DiscoveredGatewayTest {
+
+    @Test
+    @DisplayName("Test getter methods of discovered gateway")
+    void testGetters() {
+        final var networkInterface = newNetworkInterface("eth0");
+        final var gateway = new DiscoveredGateway(KnxBody.SEARCH_RESPONSE_BODY, networkInterface, Duration.ofMillis(12));
+
+        assertThat(gateway.getSearchResponse()).isSameAs(KnxBody.SEARCH_RESPONSE_BODY);
+        assertThat(gateway.getNetworkInterface()).isSameAs(networkInterface);
+        assertThat(gateway.getLatency()).isEqualTo(Duration.ofMillis(12));
+
+        final var controlEndpoint = KnxBody.SEARCH_RESPONSE_BODY.getControlEndpoint();
+        assertThat(gateway.getControlEndpoint()).isEqualTo(new InetSocketAddress(controlEndpoint.getAddress(), controlEndpoint.getPort()));
+        assertThat(gateway.supports(ServiceTypeFamily.CORE)).isTrue();
+
+        assertThat(gateway).hasToString(String.format("DiscoveredGateway{controlEndpoint=%s, friendlyName=%s, networkInterface=eth0, latency=12ms}",
+                gateway.getControlEndpoint(), KnxBody.SEARCH_RESPONSE_BODY.getDeviceInformation().getDeviceFriendlyName()));
+    }
+
+    @Test
+    @DisplayName("Test ranking of discovered gateways")
+    void testRanking() {
+        final var networkInterface = newNetworkInterface("eth0");
+        // core only, fast response
+        final var coreOnly = new DiscoveredGateway(newSearchResponseBody(0x02, 0x01), networkInterface, Duration.ofMillis(1));
+        // tunneling, slow response
+        final var tunnelingSlow = new DiscoveredGateway(newSearchResponseBody(0x02, 0x01, 0x04, 0x01), networkInterface, Duration.ofMillis(50));
+        // tunneling, fast response
+        final var tunnelingFast = new DiscoveredGateway(newSearchResponseBody(0x02, 0x01, 0x04, 0x01), networkInterface, Duration.ofMillis(5));
+        // tunneling and routing, slowest response
+        final var tunnelingRouting = new DiscoveredGateway(newSearchResponseBody(0x02, 0x01, 0x04, 0x01, 0x05, 0x01), networkInterface, Duration.ofMillis(100));
+
+        final var gateways = new ArrayList<>(List.of(coreOnly, tunnelingSlow, tunnelingFast, tunnelingRouting));
+        gateways.sort(DiscoveredGateway.RANKING);
+        assertThat(gateways).containsExactly(tunnelingRouting, tunnelingFast, tunnelingSlow, coreOnly);
+    }
+
+    @Test
+    @DisplayName("Test #equals() and #hashCode()")
+    void testEqualsAndHashCode() {
+        final var networkInterface = newNetworkInterface("eth0");
+        final var gateway = new DiscoveredGateway(KnxBody.SEARCH_RESPONSE_BODY, networkInterface, Duration.ofMillis(12));
+        final var gateway2 = new DiscoveredGateway(KnxBody.SEARCH_RESPONSE_BODY, networkInterface, Duration.ofMillis(12));
+
+        // equals & same hash code
+        assertThat(gateway).isEqualTo(gateway);
+        assertThat(gateway2).isEqualTo(gateway);
+        assertThat(gateway2).hasSameHashCodeAs(gateway);
+
+        // not equals
+        assertThat(gateway).isNotEqualTo(new Object());
+        assertThat(gateway).isNotEqualTo(new DiscoveredGateway(KnxBody.SEARCH_RESPONSE_BODY, networkInterface, Duration.ofMillis(13)));
+        assertThat(gateway).isNotEqualTo(new DiscoveredGateway(KnxBody.SEARCH_RESPONSE_BODY, newNetworkInterface("eth1"), Duration.ofMillis(12)));
+        assertThat(gateway).isNotEqualTo(new DiscoveredGateway(newSearchResponseBody(0x02, 0x01), networkInterface, Duration.ofMillis(12)));
+    }
+
+    private static NetworkInterface newNetworkInterface(final String name) {
+        final var networkInterface = mock(NetworkInterface.class);
+        when(networkInterface.getName()).thenReturn(name);
+        return networkInterface;
+    }
+
+    /**
+     * Creates a new {@link SearchResponseBody} with given service families (pairs of family id and version)
+     */
+    private static SearchResponseBody newSearchResponseBody(final int... serviceFamilies) {
+        final var bytes = new byte[2 + serviceFamilies.length];
+        bytes[0] = (byte) bytes.length; // Structure Length
+        bytes[1] = 0x02; // Description Type Code
+        for (var i = 0; i < serviceFamilies.length; i++) {
+            bytes[2 + i] = (byte) serviceFamilies[i];
+        }
+        return SearchResponseBody.of(
+                KnxBody.SEARCH_RESPONSE_BODY.getControlEndpoint(),
+                KnxBody.SEARCH_RESPONSE_BODY.getDeviceInformation(),
+                SupportedServiceFamiliesDIB.of(bytes)
+        );
+    }
+}
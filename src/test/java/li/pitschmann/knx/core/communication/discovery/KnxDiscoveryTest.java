@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication.discovery;
+
+import li.pitschmann.knx.core.body.SearchRequestBody;
+import li.pitschmann.knx.core.dib.ServiceTypeFamily;
+import li.pitschmann.knx.core.header.ServiceType;
+import li.pitschmann.knx.core.test.MockServer;
+import li.pitschmann.knx.core.test.MockServerTest;
+import li.pitschmann.knx.core.test.strategy.IgnoreStrategy;
+import li.pitschmann.knx.core.utils.Networker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link KnxDiscovery}
+ *
+ * @author PITSCHR
+ */
+class KnxDiscoveryTest {
+
+    @MockServerTest(useDiscovery = true)
+    @DisplayName("Test discovery with first response wins")
+    void testFindFirst(final MockServer mockServer) {
+        final var discovery = KnxDiscovery.create(mockServer.getMulticastAddress(), mockServer.getPort());
+
+        final var gateway = discovery.findFirst(5000);
+        assertThat(gateway).isPresent();
+        assertThat(gateway.get().getControlEndpoint().getPort()).isEqualTo(mockServer.getPort());
+        assertThat(gateway.get().supports(ServiceTypeFamily.TUNNELING)).isTrue();
+        assertThat(gateway.get().getLatency().isNegative()).isFalse();
+
+        mockServer.waitForReceivedServiceType(ServiceType.SEARCH_REQUEST);
+        assertThat(mockServer.getReceivedBodies()).allMatch(SearchRequestBody.class::isInstance);
+    }
+
+    @MockServerTest(useDiscovery = true)
+    @DisplayName("Test discovery collecting responses for a duration")
+    void testCollect(final MockServer mockServer) {
+        final var discovery = KnxDiscovery.create(mockServer.getMulticastAddress(), mockServer.getPort());
+
+        // gateway is reported once, even when the search request was sent via several network interfaces
+        final var gateways = discovery.collect(1000);
+        assertThat(gateways).hasSize(1);
+        assertThat(gateways.get(0).getControlEndpoint().getPort()).isEqualTo(mockServer.getPort());
+        assertThat(discovery.findBest(1000)).hasValueSatisfying(best -> assertThat(best.getSearchResponse()).isEqualTo(gateways.get(0).getSearchResponse()));
+
+        // streaming
+        final var streamed = new ArrayList<DiscoveredGateway>();
+        discovery.search(1000, streamed::add);
+        assertThat(streamed).hasSize(1);
+        assertThat(streamed.get(0).getSearchResponse()).isEqualTo(gateways.get(0).getSearchResponse());
+    }
+
+    @MockServerTest(useDiscovery = true, discoveryStrategy = IgnoreStrategy.class)
+    @DisplayName("Test discovery when no KNX Net/IP device responds")
+    void testNoResponse(final MockServer mockServer) {
+        final var discovery = KnxDiscovery.create(mockServer.getMulticastAddress(), mockServer.getPort());
+
+        assertThat(discovery.findFirst(500)).isEmpty();
+        assertThat(discovery.collect(500)).isEmpty();
+        assertThat(mockServer.waitForReceivedServiceType(ServiceType.SEARCH_REQUEST, 2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test discovery with invalid arguments")
+    void testInvalidArguments() {
+        final var discovery = KnxDiscovery.create(Networker.getByAddress(224, 0, 23, 12), 3671);
+
+        assertThatThrownBy(() -> discovery.findFirst(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> discovery.collect(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> discovery.search(1000, null)).isInstanceOf(NullPointerException.class);
+    }
+}
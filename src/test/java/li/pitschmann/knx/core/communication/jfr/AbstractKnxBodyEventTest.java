@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import li.pitschmann.knx.core.test.KnxBody;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link AbstractKnxBodyEvent}
+ *
+ * @author PITSCHR
+ */
+@ResourceLock("jfr")
+class AbstractKnxBodyEventTest {
+
+    @Test
+    @DisplayName("Test event with fields populated from tunneling request body")
+    void testTunnelingRequestBody() throws IOException {
+        final var body = KnxBody.TUNNELING_REQUEST_BODY;
+        final var events = record("li.pitschmann.knx.Send", e -> e.getLong("queueWait") == 4711, () -> {
+            final var event = new KnxSendEvent();
+            event.begin();
+            event.setBody(body);
+            event.setFrameLength(23);
+            event.setQueueWait(4711);
+            event.commit();
+        });
+
+        assertThat(events).hasSize(1);
+        final var event = events.get(0);
+        assertThat(event.getString("serviceType")).isEqualTo("TUNNELING_REQUEST");
+        assertThat(event.getInt("channelId")).isEqualTo(body.getChannelId());
+        assertThat(event.getInt("sequence")).isEqualTo(body.getSequence());
+        assertThat(event.getString("destinationAddress")).isEqualTo(body.getCEMI().getDestinationAddress().getAddress());
+        assertThat(event.getString("apci")).isEqualTo("GROUP_VALUE_WRITE");
+        assertThat(event.getInt("frameLength")).isEqualTo(23);
+        assertThat(event.getLong("queueWait")).isEqualTo(4711);
+    }
+
+    @Test
+    @DisplayName("Test event with fields populated from body without channel id and CEMI")
+    void testDescriptionRequestBody() throws IOException {
+        final var events = record("li.pitschmann.knx.Request", e -> e.getInt("retries") == 4711, () -> {
+            final var event = new KnxRequestEvent();
+            event.begin();
+            event.setBody(KnxBody.DESCRIPTION_REQUEST_BODY);
+            event.setRetries(4711);
+            event.setResponseReceived(true);
+            event.commit();
+        });
+
+        assertThat(events).hasSize(1);
+        final var event = events.get(0);
+        assertThat(event.getString("serviceType")).isEqualTo("DESCRIPTION_REQUEST");
+        assertThat(event.getInt("channelId")).isEqualTo(-1);
+        assertThat(event.getInt("sequence")).isEqualTo(-1);
+        assertThat(event.getString("destinationAddress")).isNull();
+        assertThat(event.getString("apci")).isNull();
+        assertThat(event.getInt("retries")).isEqualTo(4711);
+        assertThat(event.getBoolean("responseReceived")).isTrue();
+    }
+
+    /**
+     * Runs the {@code action} while recording the event with given {@code name}.
+     * As tests are executed concurrently, only events that match the {@code filter} are returned.
+     *
+     * @param name   name of event to be recorded
+     * @param filter filter for events committed by {@code action}
+     * @param action action that commits events
+     * @return list of recorded events
+     * @throws IOException if the recording could not be dumped or read
+     */
+    static List<RecordedEvent> record(final String name,
+                                      final Predicate<RecordedEvent> filter,
+                                      final Runnable action) throws IOException {
+        final var file = Files.createTempFile("knx-", ".jfr");
+        try (final var recording = new Recording()) {
+            recording.enable(name);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> name.equals(event.getEventType().getName()))
+                    .filter(filter)
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
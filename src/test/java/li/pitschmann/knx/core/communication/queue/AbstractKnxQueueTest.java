@@ -18,6 +18,7 @@
 package li.pitschmann.knx.core.communication.queue;
 
 import li.pitschmann.knx.core.communication.InternalKnxClient;
+import li.pitschmann.knx.core.communication.KnxQueueType;
 import li.pitschmann.knx.core.exceptions.KnxException;
 import li.pitschmann.knx.core.exceptions.KnxWrongChannelIdException;
 import li.pitschmann.knx.core.test.KnxBody;
@@ -35,16 +36,21 @@ import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.util.HashSet;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockingDetails;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -232,12 +238,50 @@ public class AbstractKnxQueueTest {
         assertThat(queue.next()).isSameAs(body);
     }
 
+    @Test
+    @DisplayName("Check #getHeadQueueWait()")
+    public void testHeadQueueWait() throws InterruptedException {
+        final var queue = new TestKnxQueue(mock(InternalKnxClient.class));
+        assertThat(queue.getHeadQueueWait()).isZero();
+
+        queue.add(KnxBody.TUNNELING_ACK_BODY);
+        Thread.sleep(10);
+        assertThat(queue.getHeadQueueWait()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(10));
+        assertThat(queue.peek()).isSameAs(KnxBody.TUNNELING_ACK_BODY);
+
+        assertThat(queue.poll()).isSameAs(KnxBody.TUNNELING_ACK_BODY);
+        assertThat(queue.getHeadQueueWait()).isZero();
+        assertThat(queue.peek()).isNull();
+    }
+
+    @Test
+    @DisplayName("Check queue statistic is updated by #add(Body), #poll() and #drop()")
+    public void testQueueStatistic() {
+        final var clientMock = mock(InternalKnxClient.class);
+        final var queue = new TestKnxQueue(clientMock);
+
+        queue.add(KnxBody.TUNNELING_ACK_BODY);
+        queue.add(KnxBody.TUNNELING_ACK_BODY);
+        verify(clientMock, times(2)).notifyEnqueue(KnxQueueType.INBOX);
+
+        assertThat(queue.poll()).isSameAs(KnxBody.TUNNELING_ACK_BODY);
+        verify(clientMock).notifyDequeue(eq(KnxQueueType.INBOX), anyLong());
+
+        assertThat(queue.drop()).isSameAs(KnxBody.TUNNELING_ACK_BODY);
+        verify(clientMock).notifyReject(KnxQueueType.INBOX);
+
+        // empty queue
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.drop()).isNull();
+        verifyNoMoreInteractions(clientMock);
+    }
+
     /**
      * Test class for {@link AbstractKnxQueue}
      */
     private class TestKnxQueue extends AbstractKnxQueue<ByteChannel> {
         public TestKnxQueue(final InternalKnxClient internalClient) {
-            super(internalClient, mock(SelectableChannel.class));
+            super(internalClient, mock(SelectableChannel.class), KnxQueueType.INBOX);
         }
 
         @Override
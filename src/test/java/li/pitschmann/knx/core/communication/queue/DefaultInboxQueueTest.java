@@ -75,7 +75,7 @@ public class DefaultInboxQueueTest {
         // - add body is in inbox queue
         // - incoming body notification
         assertThat(queue.next()).isEqualTo(body);
-        verify(clientMock).notifyIncomingBody(body);
+        verify(clientMock).notifyIncomingBody(body, body.toByteArray(true).length);
     }
 
     /**
@@ -115,7 +115,7 @@ public class DefaultInboxQueueTest {
         // - add body is in inbox queue
         // - incoming body notification
         assertThat(queue.next()).isEqualTo(body);
-        verify(clientMock).notifyIncomingBody(body);
+        verify(clientMock).notifyIncomingBody(body, body.toByteArray(true).length);
     }
 
     /**
@@ -17,12 +17,14 @@
 
 package li.pitschmann.knx.core.communication.queue;
 
+import li.pitschmann.knx.core.body.Body;
 import li.pitschmann.knx.core.communication.InternalKnxClient;
 import li.pitschmann.knx.core.test.KnxBody;
 import li.pitschmann.knx.core.utils.Sleeper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
@@ -32,7 +34,11 @@ import java.nio.channels.SelectableChannel;
 import java.nio.channels.SelectionKey;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -52,6 +58,7 @@ public class DefaultOutboxQueueTest {
         final var clientMock = mock(InternalKnxClient.class);
         final var channelMock = mock(DatagramChannel.class);
         when(channelMock.isOpen()).thenReturn(Boolean.TRUE);
+        when(channelMock.write(any(ByteBuffer.class))).thenAnswer(DefaultOutboxQueueTest::writeAll);
 
         final var selectionKeyMock = mock(SelectionKey.class);
         when(selectionKeyMock.channel()).thenReturn(channelMock);
@@ -73,7 +80,68 @@ public class DefaultOutboxQueueTest {
         final var byteBufferCaptor = ArgumentCaptor.forClass(ByteBuffer.class);
         verify(channelMock).write(byteBufferCaptor.capture());
         assertThat(byteBufferCaptor.getValue().array()).containsExactly(body.toByteArray(true));
-        verify(clientMock).notifyOutgoingBody(body);
+        verify(clientMock).notifyOutgoingBody(body, body.toByteArray(true).length);
+    }
+
+    /**
+     * Test an outgoing packet that could not be written immediately (e.g. socket send buffer is full).
+     * The packet should be kept in the queue and written on next write readiness.
+     */
+    @Test
+    @DisplayName("Test retry of outgoing KNX packet when channel didn't accept it")
+    public void testRetryWrite() throws Exception {
+        final var clientMock = mock(InternalKnxClient.class);
+        final var channelMock = mock(DatagramChannel.class);
+        when(channelMock.isOpen()).thenReturn(Boolean.TRUE);
+        // first write is not accepted, second write is accepted
+        when(channelMock.write(any(ByteBuffer.class))).thenReturn(0).thenAnswer(DefaultOutboxQueueTest::writeAll);
+
+        final var selectionKeyMock = mock(SelectionKey.class);
+        when(selectionKeyMock.channel()).thenReturn(channelMock);
+
+        final var body = KnxBody.TUNNELING_REQUEST_BODY;
+        final var queue = new DefaultOutboxQueue(clientMock, channelMock);
+        queue.send(body);
+
+        // first attempt: not written -> no notification and body is still pending
+        queue.action(selectionKeyMock);
+        verify(clientMock, never()).notifyOutgoingBody(any(Body.class), anyInt());
+        assertThat(queue.peek()).isSameAs(body);
+
+        // second attempt: written
+        queue.action(selectionKeyMock);
+        verify(clientMock).notifyOutgoingBody(body, body.toByteArray(true).length);
+        assertThat(queue.peek()).isNull();
+        verify(channelMock, times(2)).write(any(ByteBuffer.class));
+    }
+
+    /**
+     * Test that the interest for write operations is removed when there is no pending packet
+     * and registered again when a new packet is enqueued.
+     */
+    @Test
+    @DisplayName("Test interest for write operations when queue is empty")
+    public void testWriteInterestOnlyWhenPending() throws Exception {
+        try (final var channel = fakeChannel()) {
+            channel.connect(new InetSocketAddress("localhost", channel.socket().getLocalPort()));
+            final var queue = new DefaultOutboxQueue(mock(InternalKnxClient.class), channel);
+
+            try (final var selector = queue.openSelector()) {
+                final var key = queue.getSelectionKey();
+                assertThat(key).isNotNull();
+                assertThat(key.interestOps()).isEqualTo(SelectionKey.OP_WRITE);
+
+                // no pending packet -> no interest in write operations anymore
+                queue.action(key);
+                assertThat(key.interestOps()).isZero();
+                assertThat(selector.selectNow()).isZero();
+
+                // new packet -> interest in write operations again
+                queue.send(KnxBody.TUNNELING_REQUEST_BODY);
+                assertThat(key.interestOps()).isEqualTo(SelectionKey.OP_WRITE);
+                assertThat(selector.selectNow()).isOne();
+            }
+        }
     }
 
     /**
@@ -142,6 +210,19 @@ public class DefaultOutboxQueueTest {
         assertThat(queue.valid(selectionKeyMock)).isTrue(); // it is true only when 'valid' + 'writable' is set
     }
 
+    /**
+     * Emulates a successful write of all remaining bytes of {@link ByteBuffer}
+     *
+     * @param invocation invocation of {@link DatagramChannel#write(ByteBuffer)}
+     * @return number of bytes written
+     */
+    private static int writeAll(final InvocationOnMock invocation) {
+        final var bb = invocation.getArgument(0, ByteBuffer.class);
+        final var remaining = bb.remaining();
+        bb.position(bb.limit());
+        return remaining;
+    }
+
     /**
      * Creates a fake {@link DatagramChannel}
      *
@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication.queue;
+
+import li.pitschmann.knx.core.body.Body;
+import li.pitschmann.knx.core.communication.InternalKnxClient;
+import li.pitschmann.knx.core.exceptions.KnxException;
+import li.pitschmann.knx.core.test.KnxBody;
+import li.pitschmann.knx.core.utils.Networker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link KnxEventLoop}
+ *
+ * @author PITSCHR
+ */
+class KnxEventLoopTest {
+
+    @Test
+    @DisplayName("Test sending and receiving packets via event loop")
+    void testSendAndReceive() throws Exception {
+        final var clientMock = mock(InternalKnxClient.class);
+        when(clientMock.verifyChannelId(any(Body.class))).thenReturn(true);
+
+        try (final var eventLoop = new KnxEventLoop();
+             final var channel = newChannel();
+             final var remoteChannel = DatagramChannel.open()) {
+            remoteChannel.bind(new InetSocketAddress(Networker.getLocalHost(), 0));
+            channel.connect(remoteChannel.getLocalAddress());
+            remoteChannel.connect(channel.getLocalAddress());
+
+            final var receivedBody = new CompletableFuture<Body>();
+            final var outboxQueue = new DefaultOutboxQueue(clientMock, channel);
+            final var registration = eventLoop.register(
+                    new DefaultInboxQueue(clientMock, channel),
+                    outboxQueue,
+                    receivedBody::complete
+            );
+
+            // outgoing: written by event loop as soon it has been enqueued
+            outboxQueue.send(KnxBody.TUNNELING_REQUEST_BODY);
+
+            final var buffer = ByteBuffer.allocate(256);
+            remoteChannel.receive(buffer);
+            buffer.flip();
+            final var sentBytes = new byte[buffer.limit()];
+            buffer.get(sentBytes);
+            assertThat(sentBytes).containsExactly(KnxBody.TUNNELING_REQUEST_BODY.toByteArray(true));
+            verify(clientMock, timeout(1000)).notifyOutgoingBody(KnxBody.TUNNELING_REQUEST_BODY, KnxBody.TUNNELING_REQUEST_BODY.toByteArray(true).length);
+
+            // incoming: read by event loop and dispatched to consumer
+            remoteChannel.write(ByteBuffer.wrap(KnxBody.TUNNELING_ACK_BODY.toByteArray(true)));
+            assertThat(receivedBody).succeedsWithin(Duration.ofSeconds(1)).isEqualTo(KnxBody.TUNNELING_ACK_BODY);
+            verify(clientMock).notifyIncomingBody(KnxBody.TUNNELING_ACK_BODY, KnxBody.TUNNELING_ACK_BODY.toByteArray(true).length);
+
+            // nothing pending in the outbox queue anymore
+            assertThat(outboxQueue.poll()).isNull();
+            registration.cancel();
+        }
+    }
+
+    @Test
+    @DisplayName("Test register to a closed event loop")
+    void testClosed() throws Exception {
+        final var eventLoop = new KnxEventLoop();
+        assertThat(eventLoop.isClosed()).isFalse();
+        eventLoop.close();
+        assertThat(eventLoop.isClosed()).isTrue();
+        // second close is ignored
+        eventLoop.close();
+
+        final var clientMock = mock(InternalKnxClient.class);
+        try (final var channel = newChannel()) {
+            assertThatThrownBy(() -> eventLoop.register(new DefaultInboxQueue(clientMock, channel), new DefaultOutboxQueue(clientMock, channel), b -> {
+            })).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Test register when event loop thread doesn't serve the registration within time")
+    void testRegisterTimeout() throws Exception {
+        final var clientMock = mock(InternalKnxClient.class);
+        when(clientMock.verifyChannelId(any(Body.class))).thenReturn(true);
+
+        final var blocked = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        try (final var eventLoop = new KnxEventLoop();
+             final var channel = newChannel();
+             final var otherChannel = newChannel();
+             final var remoteChannel = DatagramChannel.open()) {
+            remoteChannel.bind(new InetSocketAddress(Networker.getLocalHost(), 0));
+            channel.connect(remoteChannel.getLocalAddress());
+            remoteChannel.connect(channel.getLocalAddress());
+
+            // consumer that blocks the event loop thread
+            final var registration = eventLoop.register(new DefaultInboxQueue(clientMock, channel), new DefaultOutboxQueue(clientMock, channel), b -> {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (final InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            remoteChannel.write(ByteBuffer.wrap(KnxBody.TUNNELING_ACK_BODY.toByteArray(true)));
+            assertThat(blocked.await(1, TimeUnit.SECONDS)).isTrue();
+
+            // registration is not served by event loop thread -> bounded wait
+            try {
+                assertThatThrownBy(() -> eventLoop.register(new DefaultInboxQueue(clientMock, otherChannel), new DefaultOutboxQueue(clientMock, otherChannel), b -> {
+                })).isInstanceOf(KnxException.class);
+            } finally {
+                release.countDown();
+            }
+            registration.cancel();
+        }
+    }
+
+    @Test
+    @DisplayName("Test register queues with different channels")
+    void testDifferentChannels() throws Exception {
+        final var clientMock = mock(InternalKnxClient.class);
+        try (final var eventLoop = new KnxEventLoop();
+             final var channel = newChannel();
+             final var otherChannel = newChannel()) {
+            assertThatThrownBy(() -> eventLoop.register(new DefaultInboxQueue(clientMock, channel), new DefaultOutboxQueue(clientMock, otherChannel), b -> {
+            })).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static DatagramChannel newChannel() throws Exception {
+        final var channel = DatagramChannel.open();
+        channel.configureBlocking(false);
+        channel.bind(new InetSocketAddress(Networker.getLocalHost(), 0));
+        return channel;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2019 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.communication.queue;
+
+import li.pitschmann.knx.core.communication.InternalKnxClient;
+import li.pitschmann.knx.core.test.KnxBody;
+import li.pitschmann.knx.core.utils.Bytes;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link TcpInboxQueue}
+ *
+ * @author PITSCHR
+ */
+class TcpInboxQueueTest {
+
+    @Test
+    @DisplayName("Test two KNX packets received in one read")
+    void testCoalescedFrames() throws IOException, InterruptedException {
+        final var body = KnxBody.TUNNELING_REQUEST_BODY;
+        final var body2 = KnxBody.TUNNELING_REQUEST_BODY_2;
+
+        final var clientMock = mockInternalKnxClient();
+        final var channelMock = mockChannel(Bytes.concat(body.toByteArray(true), body2.toByteArray(true)));
+
+        final var queue = new TcpInboxQueue(clientMock, channelMock);
+        queue.action(mockSelectionKey(channelMock));
+
+        assertThat(queue.next()).isEqualTo(body);
+        assertThat(queue.next()).isEqualTo(body2);
+        verify(clientMock).notifyIncomingBody(body, body.toByteArray(true).length);
+        verify(clientMock).notifyIncomingBody(body2, body2.toByteArray(true).length);
+    }
+
+    @Test
+    @DisplayName("Test KNX packet received in fragments (partial header and partial body)")
+    void testFragmentedFrame() throws IOException, InterruptedException {
+        final var body = KnxBody.TUNNELING_REQUEST_BODY;
+        final var bytes = body.toByteArray(true);
+
+        final var clientMock = mockInternalKnxClient();
+        final var channelMock = mockChannel(
+                Arrays.copyOfRange(bytes, 0, 4),              // partial header
+                Arrays.copyOfRange(bytes, 4, 10),             // rest of header + partial body
+                Arrays.copyOfRange(bytes, 10, bytes.length)   // rest of body
+        );
+        final var selectionKeyMock = mockSelectionKey(channelMock);
+
+        final var queue = new TcpInboxQueue(clientMock, channelMock);
+        queue.action(selectionKeyMock);
+        queue.action(selectionKeyMock);
+        verify(clientMock, never()).notifyIncomingBody(any(), anyInt());
+
+        queue.action(selectionKeyMock);
+        assertThat(queue.next()).isEqualTo(body);
+        verify(clientMock).notifyIncomingBody(body, body.toByteArray(true).length);
+    }
+
+    @Test
+    @DisplayName("Error: Test corrupt header and closed connection")
+    void testCorruptFrameAndEndOfStream() throws IOException {
+        // corrupt header length
+        final var corruptChannelMock = mockChannel(new byte[]{0x07, 0x10, 0x04, 0x20, 0x00, 0x15});
+        final var corruptQueue = new TcpInboxQueue(mockInternalKnxClient(), corruptChannelMock);
+        assertThatThrownBy(() -> corruptQueue.action(mockSelectionKey(corruptChannelMock)))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Corrupt frame received (header length: 7, total length: 21)");
+
+        // connection closed by remote
+        final var closedChannelMock = mock(SocketChannel.class);
+        when(closedChannelMock.read(any(ByteBuffer.class))).thenReturn(-1);
+        final var closedQueue = new TcpInboxQueue(mockInternalKnxClient(), closedChannelMock);
+        assertThatThrownBy(() -> closedQueue.action(mockSelectionKey(closedChannelMock)))
+                .isInstanceOf(EOFException.class);
+    }
+
+    private InternalKnxClient mockInternalKnxClient() {
+        final var clientMock = mock(InternalKnxClient.class);
+        when(clientMock.verifyChannelId(any())).thenReturn(true);
+        return clientMock;
+    }
+
+    /**
+     * Creates a mocked {@link SocketChannel} that returns the given chunks (one per read)
+     *
+     * @param chunks byte arrays to be returned by the reads
+     * @return mocked channel
+     * @throws IOException mocked I/O exception
+     */
+    private SocketChannel mockChannel(final byte[]... chunks) throws IOException {
+        final var channelMock = mock(SocketChannel.class);
+        final var index = new int[1];
+        when(channelMock.read(any(ByteBuffer.class))).thenAnswer(invocation -> {
+            final var chunk = chunks[index[0]++];
+            invocation.<ByteBuffer>getArgument(0).put(chunk);
+            return chunk.length;
+        });
+        return channelMock;
+    }
+
+    private SelectionKey mockSelectionKey(final SocketChannel channel) {
+        final var selectionKeyMock = mock(SelectionKey.class);
+        when(selectionKeyMock.channel()).thenReturn(channel);
+        return selectionKeyMock;
+    }
+}
@@ -39,21 +39,29 @@ public class ConnectResponseTaskTest {
     /**
      * Tests the {@link ConnectResponseTask#onNext(Body)}
      * <p>
-     * Providing an unexpected {@link Body} (others than {@link ConnectResponseBody}) will
-     * throw {@link KnxBodyNotReceivedException}.
+     * Providing an unexpected {@link Body} (others than {@link ConnectResponseBody}) before
+     * the first {@link ConnectResponseBody} will throw {@link KnxBodyNotReceivedException}.
+     * After connect other bodies are ignored, and a further {@link ConnectResponseBody}
+     * (e.g. reconnect) is still accepted.
      */
     @Test
     @DisplayName("Test 'onNext(Body)' method")
     public void testOnNext() {
         final var task = createTask();
 
+        // wrong body
+        final var wrongBody = mock(Body.class);
+        assertThatThrownBy(() -> task.onNext(wrongBody)).isInstanceOf(KnxBodyNotReceivedException.class);
+
         // correct body
         final var correctBody = mock(ConnectResponseBody.class);
         task.onNext(correctBody);
 
-        // wrong body
-        final var wrongBody = mock(Body.class);
-        assertThatThrownBy(() -> task.onNext(wrongBody)).isInstanceOf(KnxBodyNotReceivedException.class);
+        // wrong body after connect is ignored
+        task.onNext(wrongBody);
+
+        // correct body again (reconnect)
+        task.onNext(correctBody);
     }
 
     /**
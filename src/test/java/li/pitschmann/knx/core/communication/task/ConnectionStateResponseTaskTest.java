@@ -19,6 +19,7 @@ package li.pitschmann.knx.core.communication.task;
 
 import li.pitschmann.knx.core.body.Body;
 import li.pitschmann.knx.core.body.ConnectionStateResponseBody;
+import li.pitschmann.knx.core.communication.communicator.ConnectionStateMonitor;
 import li.pitschmann.knx.core.test.TestHelpers;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,6 +27,8 @@ import org.junit.jupiter.api.Test;
 import java.util.concurrent.Flow;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Test for {@link ConnectionStateResponseTask}
@@ -51,6 +54,27 @@ public class ConnectionStateResponseTaskTest {
         task.onNext(wrongBody);
     }
 
+    /**
+     * Tests the {@link ConnectionStateResponseTask#onNext(Body)} informs the
+     * {@link ConnectionStateMonitor} about the response
+     */
+    @Test
+    @DisplayName("Test 'onNext(Body)' method informs the connection state monitor")
+    public void testOnNextWithMonitor() {
+        final var monitorMock = mock(ConnectionStateMonitor.class);
+        final var internalClientMock = TestHelpers.mockInternalKnxClient(
+                config -> {
+                },
+                client -> when(client.getConnectionStateMonitor()).thenReturn(monitorMock)
+        );
+        final var task = new ConnectionStateResponseTask(internalClientMock);
+
+        final var correctBody = mock(ConnectionStateResponseBody.class);
+        task.onNext(correctBody);
+        verify(internalClientMock.getEventPool().connectionStateEvent()).setResponse(correctBody);
+        verify(monitorMock).onResponse(correctBody);
+    }
+
     /**
      * Test the {@link ConnectionStateResponseTask#onError(Throwable)}
      * <p>
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -313,6 +314,22 @@ class ConfigBuilderTest {
         assertThat(config.isNatEnabled()).isTrue();
     }
 
+    @Test
+    @DisplayName("Test #tcp() for tunneling over TCP")
+    void testTunnelingTCP() {
+        assertThat(ConfigBuilder.tunneling().build().isTcpEnabled()).isFalse();
+
+        final var config = ConfigBuilder.tunneling(Networker.getByAddress(127, 0, 9, 3), 4723).tcp().build();
+        assertThat(config.isRoutingEnabled()).isFalse();
+        assertThat(config.isTcpEnabled()).isTrue();
+        assertThat(config.isNatEnabled()).isFalse();
+
+        // not supported for routing
+        assertThatThrownBy(() -> ConfigBuilder.routing().tcp())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("TCP is not supported for routing.");
+    }
+
     @Test
     @DisplayName("Test #tunneling(InetAddress, int, boolean) with no IP Address, port and NAT enabled")
     void testTunnelingNoInetAddressAndPortAndNAT() {
@@ -426,4 +443,41 @@ class ConfigBuilderTest {
         // test with valid path
         assertThat(configBuilder.setting(CoreConfigs.PROJECT_PATH, KNX_PROJECT).build()).isNotNull();
     }
+
+    @Test
+    @DisplayName("Test #endpoint(InetAddress) and #endpoint(InetAddress, int) with additional endpoints")
+    void testEndpoints() {
+        final var primary = Networker.getByAddress(10, 0, 0, 1);
+        final var standby = Networker.getByAddress(10, 0, 0, 2);
+        final var config = ConfigBuilder.tunneling(primary)
+                .endpoint(standby)
+                .endpoint(standby, 4711)
+                .setting(CoreConfigs.NAT, true)
+                .build();
+
+        assertThat(config.getEndpoints()).containsExactly(
+                new InetSocketAddress(primary, CoreConfigs.KNX_PORT),
+                new InetSocketAddress(standby, CoreConfigs.KNX_PORT),
+                new InetSocketAddress(standby, 4711)
+        );
+
+        // copy for standby endpoint: settings are taken over, additional endpoints not
+        final var standbyConfig = config.withEndpoint(new InetSocketAddress(standby, 4711));
+        assertThat(standbyConfig.getRemoteControlAddress()).isEqualTo(standby);
+        assertThat(standbyConfig.getRemoteControlPort()).isEqualTo(4711);
+        assertThat(standbyConfig.isNatEnabled()).isTrue();
+        assertThat(standbyConfig.getEndpoints()).containsExactly(new InetSocketAddress(standby, 4711));
+
+        // without additional endpoints
+        assertThat(ConfigBuilder.tunneling(primary).build().getEndpoints())
+                .containsExactly(new InetSocketAddress(primary, CoreConfigs.KNX_PORT));
+
+        // invalid cases
+        final var builder = ConfigBuilder.tunneling(primary).endpoint(standby);
+        assertThatThrownBy(() -> builder.endpoint(standby)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> builder.endpoint(primary)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> builder.endpoint(Networker.getAddressUnbound())).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> builder.endpoint(standby, 80)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ConfigBuilder.routing().endpoint(standby)).isInstanceOf(IllegalStateException.class);
+    }
 }
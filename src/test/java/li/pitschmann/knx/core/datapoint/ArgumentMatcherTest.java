@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.datapoint;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test {@link ArgumentMatcher}
+ *
+ * @author PITSCHR
+ */
+class ArgumentMatcherTest {
+    private static final String ALPHABET = "0123456789aAfFgGxX:-.,% \t\nstopSTOP";
+
+    @Test
+    @DisplayName("Test DIGITS matcher")
+    void testDigits() {
+        assertThat((Predicate<String>) ArgumentMatcher.DIGITS).accepts("0", "1", "0123456789", "255");
+        assertThat((Predicate<String>) ArgumentMatcher.DIGITS).rejects("", " ", "-1", "1.0", "a", "12 ");
+        assertSameAsPattern(ArgumentMatcher.DIGITS, Pattern.compile("^[\\d]+$"));
+    }
+
+    @Test
+    @DisplayName("Test DATE matcher")
+    void testDate() {
+        assertThat((Predicate<String>) ArgumentMatcher.DATE).accepts("2022-01-31", "0000-00-00");
+        assertThat((Predicate<String>) ArgumentMatcher.DATE).rejects("", "2022-1-31", "2022/01/31", "2022-01-31 ", "22-01-31");
+        assertSameAsPattern(ArgumentMatcher.DATE, Pattern.compile("^[0-9]{4}-[0-9]{2}-[0-9]{2}$"));
+    }
+
+    @Test
+    @DisplayName("Test TIME matcher")
+    void testTime() {
+        assertThat((Predicate<String>) ArgumentMatcher.TIME).accepts("12:34", "12:34:56", "00:00:00");
+        assertThat((Predicate<String>) ArgumentMatcher.TIME).rejects("", "1:23", "12:34:5", "12:34:", "12-34", "12:34:56:78");
+        assertSameAsPattern(ArgumentMatcher.TIME, Pattern.compile("^[0-9]{2}:[0-9]{2}(:[0-9]{2})?$"));
+    }
+
+    @Test
+    @DisplayName("Test HEX_WORD matcher")
+    void testHexWord() {
+        assertThat((Predicate<String>) ArgumentMatcher.HEX_WORD).accepts("0x0000", "0xAFaf", "0x00 00", "00 00 ", "aBcD");
+        assertThat((Predicate<String>) ArgumentMatcher.HEX_WORD).rejects("", "0x", "0x00", "0x000000", "0x00  00", "0X0000", "gg00");
+        assertSameAsPattern(ArgumentMatcher.HEX_WORD, Pattern.compile("^(0x)?([0-9a-fA-F]{2}\\s?){2}$"));
+    }
+
+    @Test
+    @DisplayName("Test STEP_INTERVAL matcher")
+    void testStepInterval() {
+        assertThat((Predicate<String>) ArgumentMatcher.STEP_INTERVAL).accepts("0", "7", "100%", "1.5%", "1,5%", "stop", "STOP", "sToP");
+        assertThat((Predicate<String>) ArgumentMatcher.STEP_INTERVAL).rejects("", "%", "stop%", "-1", "1.5", "a%", "stopp");
+        assertSameAsPattern(ArgumentMatcher.STEP_INTERVAL, Pattern.compile("^([\\d]+|[\\d.,]+%|stop)$", Pattern.CASE_INSENSITIVE));
+    }
+
+    /**
+     * Verifies that the {@code matcher} accepts exactly the same arguments as the regular
+     * expression {@code pattern} that was used previously, using random generated arguments
+     * and mutations of well-formed arguments.
+     *
+     * @param matcher the matcher to be tested
+     * @param pattern the regular expression pattern as reference
+     */
+    private static void assertSameAsPattern(final ArgumentMatcher matcher, final Pattern pattern) {
+        final var random = new Random(4711);
+        final var seeds = List.of("12", "2022-01-31", "12:34", "12:34:56", "0x0000", "0x00 00", "12 34", "1,5%", "stop");
+
+        final var args = new ArrayList<String>();
+        for (var i = 0; i < 100_000; i++) {
+            final var sb = new StringBuilder();
+            if (i % 2 == 0) {
+                // random argument
+                final var length = random.nextInt(12);
+                for (var j = 0; j < length; j++) {
+                    sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+                }
+            } else {
+                // mutation of well-formed argument
+                sb.append(seeds.get(random.nextInt(seeds.size())));
+                final var index = random.nextInt(sb.length() + 1);
+                final var c = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+                switch (random.nextInt(4)) {
+                    case 0:
+                        sb.insert(index, c);
+                        break;
+                    case 1:
+                        if (index < sb.length()) {
+                            sb.setCharAt(index, c);
+                        }
+                        break;
+                    case 2:
+                        if (index < sb.length()) {
+                            sb.deleteCharAt(index);
+                        }
+                        break;
+                    default:
+                        // keep as-is
+                }
+            }
+            args.add(sb.toString());
+        }
+
+        for (final var arg : args) {
+            assertThat(matcher.test(arg)).as("Argument: '%s'", arg).isEqualTo(pattern.matcher(arg).matches());
+        }
+    }
+}
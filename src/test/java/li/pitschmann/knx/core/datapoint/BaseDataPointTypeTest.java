@@ -18,7 +18,16 @@
 package li.pitschmann.knx.core.datapoint;
 
 import li.pitschmann.knx.core.datapoint.value.DPT1Value;
+import li.pitschmann.knx.core.datapoint.value.DPT12Value;
+import li.pitschmann.knx.core.datapoint.value.DPT13Value;
+import li.pitschmann.knx.core.datapoint.value.DPT14Value;
+import li.pitschmann.knx.core.datapoint.value.DPT29Value;
 import li.pitschmann.knx.core.datapoint.value.DPT2Value;
+import li.pitschmann.knx.core.datapoint.value.DPT5Value;
+import li.pitschmann.knx.core.datapoint.value.DPT6Value;
+import li.pitschmann.knx.core.datapoint.value.DPT7Value;
+import li.pitschmann.knx.core.datapoint.value.DPT8Value;
+import li.pitschmann.knx.core.datapoint.value.DPT9Value;
 import li.pitschmann.knx.core.datapoint.value.DataPointValue;
 import li.pitschmann.knx.core.exceptions.DataPointTypeIncompatibleBytesException;
 import li.pitschmann.knx.core.exceptions.DataPointTypeIncompatibleSyntaxException;
@@ -28,10 +37,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyByte;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -173,6 +187,145 @@ public class BaseDataPointTypeTest {
         assertThat(captor.getValue()).containsExactly("Hello", "World", "!");
     }
 
+    /**
+     * Test batch conversion {@link BaseDataPointType#toDoubleArray(byte[], int[], boolean)},
+     * {@link BaseDataPointType#toLongArray(byte[], int[], boolean)} and
+     * {@link BaseDataPointType#toIntArray(byte[], int[], boolean)} against {@link BaseDataPointType#of(byte[])}
+     */
+    @Test
+    @DisplayName("Batch conversion is same as single conversion")
+    public void testBatchConversion() {
+        assertBatch(DPT1.SWITCH, 1, 2, v -> ((DPT1Value) v).getValue() ? 1 : 0);
+        assertBatch(DPT5.SCALING, 1, 256, v -> ((DPT5Value) v).getValue());
+        assertBatch(DPT5.VALUE_1_OCTET_UNSIGNED_COUNT, 1, 256, v -> ((DPT5Value) v).getValue());
+        assertBatch(DPT6.VALUE_1_OCTET_COUNT, 1, 256, v -> ((DPT6Value) v).getValue());
+        assertBatch(DPT7.TIME_PERIOD_100MS, 2, 65536, v -> ((DPT7Value) v).getValue());
+        assertBatch(DPT8.DELTA_TIME_10MS, 2, 65536, v -> ((DPT8Value) v).getValue());
+        assertBatch(DPT8.PERCENT, 2, 65536, v -> ((DPT8Value.Percent) v).getValue());
+        assertBatch(DPT9.TEMPERATURE_DIFFERENCE, 2, 65536, v -> ((DPT9Value) v).getValue());
+        assertBatch(DPT12.VALUE_4_OCTET_UNSIGNED_COUNT, 4, 65536, v -> ((DPT12Value) v).getValue());
+        assertBatch(DPT13.VALUE_4_OCTET_COUNT, 4, 65536, v -> ((DPT13Value) v).getValue());
+        assertBatch(DPT14.ACCELERATION, 4, 65536, v -> ((DPT14Value) v).getValue());
+        assertBatch(DPT29.ACTIVE_ENERGY, 8, 65536, v -> ((DPT29Value) v).getValue());
+
+        // long and int
+        final var payloads = new byte[]{0x00, 0x01, 0x00, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x7F};
+        assertThat(DPT1.SWITCH.toIntArray(payloads, new int[]{0, 1, 2, 3}, false)).containsExactly(0, 1, 0);
+        assertThat(DPT1.SWITCH.toLongArray(payloads, new int[]{0, 1, 2}, false)).containsExactly(0L, 1L);
+        assertThat(DPT12.VALUE_4_OCTET_UNSIGNED_COUNT.toLongArray(payloads, new int[]{3, 7}, false)).containsExactly(4294967295L);
+        assertThat(DPT13.VALUE_4_OCTET_COUNT.toIntArray(payloads, new int[]{3, 7}, false)).containsExactly(-1);
+
+        // empty batch
+        assertThat(DPT9.TEMPERATURE.toDoubleArray(new byte[0], new int[]{0}, false)).isEmpty();
+    }
+
+    /**
+     * Test batch conversion for enumerated data point types
+     */
+    @Test
+    @DisplayName("Batch conversion for enumerated data point types")
+    public void testBatchConversionEnum() {
+        final var dpt = DPT20.Priority.HIGH.getDPT();
+        final var payloads = new byte[]{0x03, 0x01, 0x00, 0x02};
+        final var offsets = new int[]{0, 1, 2, 3, 4};
+
+        assertThat(dpt.toIntArray(payloads, offsets, false)).containsExactly(3, 1, 0, 2);
+        assertThat(dpt.toEnumOrdinalArray(payloads, offsets, false)).containsExactly(
+                DPT20.Priority.VOID.ordinal(),
+                DPT20.Priority.MEDIUM.ordinal(),
+                DPT20.Priority.HIGH.ordinal(),
+                DPT20.Priority.LOW.ordinal()
+        );
+    }
+
+    /**
+     * Test batch conversion with invalid arguments and unsupported data point types
+     */
+    @Test
+    @DisplayName("Batch conversion failures")
+    public void testBatchConversionFailures() {
+        final var payloads = new byte[]{0x00, 0x01, 0x02, 0x03};
+
+        // invalid offsets
+        assertThatThrownBy(() -> DPT9.TEMPERATURE.toDoubleArray(null, new int[]{0}, false)).isInstanceOf(KnxNullPointerException.class);
+        assertThatThrownBy(() -> DPT9.TEMPERATURE.toDoubleArray(payloads, new int[0], false)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DPT9.TEMPERATURE.toDoubleArray(payloads, new int[]{-1, 1}, false)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DPT9.TEMPERATURE.toDoubleArray(payloads, new int[]{2, 0}, false)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DPT9.TEMPERATURE.toDoubleArray(payloads, new int[]{0, 2, 6}, false)).isInstanceOf(IllegalArgumentException.class);
+
+        // incompatible length
+        assertThatThrownBy(() -> DPT9.TEMPERATURE.toDoubleArray(payloads, new int[]{0, 3}, false))
+                .isInstanceOf(DataPointTypeIncompatibleBytesException.class);
+        assertThatThrownBy(() -> DPT1.SWITCH.toIntArray(payloads, new int[]{2, 3}, false))
+                .isInstanceOf(DataPointTypeIncompatibleBytesException.class);
+
+        // unsupported
+        assertThatThrownBy(() -> DPT9.TEMPERATURE.toIntArray(payloads, new int[]{0, 2}, false))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> DPT9.TEMPERATURE.toEnumOrdinalArray(payloads, new int[]{0, 2}, false))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> DPT16.ASCII.toDoubleArray(payloads, new int[]{0, 4}, false))
+                .isInstanceOf(UnsupportedOperationException.class);
+
+        // not supported by data point types that are not based on BaseDataPointType (default methods)
+        final var dptMock = mock(DataPointType.class, CALLS_REAL_METHODS);
+        when(dptMock.getId()).thenReturn("mock");
+        assertThatThrownBy(() -> dptMock.toDoubleArray(payloads, new int[]{0, 1}, false))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessage("Batch decoding is not supported for: mock");
+        assertThatThrownBy(() -> dptMock.toLongArray(payloads, new int[]{0, 1}, false))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> dptMock.toIntArray(payloads, new int[]{0, 1}, false))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> dptMock.toEnumOrdinalArray(payloads, new int[]{0, 1}, false))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    /**
+     * Asserts that the batch conversion (sequential and parallel) is same as {@link BaseDataPointType#of(byte[])}
+     *
+     * @param dpt         the data point type to be tested
+     * @param length      length of raw value in bytes
+     * @param count       number of values to be tested
+     * @param valueGetter function to extract the expected value from data point value
+     */
+    private static <V extends DataPointValue> void assertBatch(final BaseDataPointType<V> dpt,
+                                                               final int length,
+                                                               final int count,
+                                                               final ToDoubleFunction<V> valueGetter) {
+        final var random = new Random(count);
+        final var payloads = new byte[length * count];
+        final var offsets = new int[count + 1];
+        final var expected = new double[count];
+        var validCount = 0;
+        for (var i = 0; i < count; i++) {
+            final var bytes = new byte[length];
+            if (length <= 2) {
+                // all combinations
+                bytes[length - 1] = (byte) i;
+                bytes[0] = length == 2 ? (byte) (i >>> 8) : bytes[0];
+            } else {
+                random.nextBytes(bytes);
+            }
+
+            final V value;
+            try {
+                value = dpt.of(bytes);
+            } catch (final Exception ex) {
+                continue; // skip values that are out of range for the DPT
+            }
+            System.arraycopy(bytes, 0, payloads, validCount * length, length);
+            expected[validCount] = valueGetter.applyAsDouble(value);
+            validCount++;
+            offsets[validCount] = validCount * length;
+        }
+
+        final var validOffsets = Arrays.copyOf(offsets, validCount + 1);
+        final var validExpected = Arrays.copyOf(expected, validCount);
+        assertThat(dpt.toDoubleArray(payloads, validOffsets, false)).as(dpt.getId()).containsExactly(validExpected);
+        assertThat(dpt.toDoubleArray(payloads, validOffsets, true)).as(dpt.getId()).containsExactly(validExpected);
+    }
+
     /**
      * Completely implemented Test Data Point Type
      */
@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.datapoint;
+
+import li.pitschmann.knx.core.test.TestHelpers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link CalculationFunctions}
+ *
+ * @author PITSCHR
+ */
+class CalculationFunctionsTest {
+
+    @Test
+    @DisplayName("Test conversion of raw value using calculation function of DPT5 and DPT7")
+    void testToIntUnsigned() {
+        assertThat(CalculationFunctions.toInt((IntToDoubleFunction) null, 255)).isEqualTo(255);
+        assertThat(CalculationFunctions.toInt(DPT5.SCALING.getCalculationFunction(), 255)).isEqualTo(100);
+        assertThat(CalculationFunctions.toInt(DPT5.ANGLE.getCalculationFunction(), 255)).isEqualTo(360);
+        assertThat(CalculationFunctions.toInt(DPT7.TIME_PERIOD_10MS.getCalculationFunction(), 65535)).isEqualTo(655350);
+    }
+
+    @Test
+    @DisplayName("Test conversion of raw value using calculation function of DPT8")
+    void testToIntSigned() {
+        assertThat(CalculationFunctions.toInt((IntUnaryOperator) null, -32768)).isEqualTo(-32768);
+        assertThat(CalculationFunctions.toInt(DPT8.DELTA_TIME_100MS.getCalculationFunction(), -32768)).isEqualTo(-3276800);
+    }
+
+    @Test
+    @DisplayName("Test conversion of raw value using calculation function of DPT8.Percent")
+    void testToDouble() {
+        assertThat(CalculationFunctions.toDouble(DPT8.PERCENT.getCalculationFunction(), 32767)).isEqualTo(327.67);
+        assertThat(CalculationFunctions.toDouble(DPT8.PERCENT.getCalculationFunction(), -32768)).isEqualTo(-327.68);
+    }
+
+    @Test
+    @DisplayName("Test constructor not instantiable")
+    void testConstructorNonInstantiable() {
+        TestHelpers.assertThatNotInstantiable(CalculationFunctions.class);
+    }
+}
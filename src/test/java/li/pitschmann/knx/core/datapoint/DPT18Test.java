@@ -18,6 +18,7 @@
 package li.pitschmann.knx.core.datapoint;
 
 import li.pitschmann.knx.core.datapoint.value.DPT18Value;
+import li.pitschmann.knx.core.exceptions.KnxNumberOutOfRangeException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -112,4 +113,17 @@ class DPT18Test {
         assertThat(dpt.of(true, 0)).isInstanceOf(DPT18Value.class);
         assertThat(dpt.of(true, 63)).isInstanceOf(DPT18Value.class);
     }
+
+    @Test
+    @DisplayName("Test canonical instances of #of(boolean, int) and #of(byte[])")
+    void testCanonicalInstances() {
+        final var dpt = DPT18.SCENE_CONTROL;
+        assertThat(dpt.of(true, 63)).isSameAs(dpt.of((byte) 0xBF));
+        assertThat(dpt.of(false, 0)).isSameAs(dpt.of((byte) 0x00));
+        assertThat(dpt.of(false, 0)).isNotSameAs(dpt.of(true, 0));
+
+        // out of range should still fail
+        assertThatThrownBy(() -> dpt.of(false, 64)).isInstanceOf(KnxNumberOutOfRangeException.class);
+        assertThatThrownBy(() -> dpt.of((byte) 0x40)).isInstanceOf(KnxNumberOutOfRangeException.class);
+    }
 }
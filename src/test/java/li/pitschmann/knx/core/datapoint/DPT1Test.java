@@ -155,4 +155,13 @@ class DPT1Test {
         final var trueValue = DPT1.SWITCH.of(true);
         assertThat(trueValue.getValue()).isTrue();
     }
+
+    @Test
+    @DisplayName("Test canonical instances of #of(boolean) and #of(byte[])")
+    void testCanonicalInstances() {
+        final var dpt = DPT1.SWITCH;
+        assertThat(dpt.of(true)).isSameAs(dpt.of(true)).isSameAs(dpt.of((byte) 0x01));
+        assertThat(dpt.of(false)).isSameAs(dpt.of(false)).isSameAs(dpt.of((byte) 0x00));
+        assertThat(dpt.of(true)).isNotSameAs(DPT1.BOOL.of(true));
+    }
 }
@@ -126,4 +126,13 @@ class DPT3Test {
         // controlled, step =  7 (PERCENT_1)
         assertThat(DPT3.BLINDS_CONTROL.of(true, StepInterval.PERCENT_1)).isInstanceOf(DPT3Value.class);
     }
+
+    @Test
+    @DisplayName("Test canonical instances of #of(boolean, StepInterval) and #of(byte[])")
+    void testCanonicalInstances() {
+        final var dpt = DPT3.DIMMING_CONTROL;
+        assertThat(dpt.of(true, StepInterval.PERCENT_25)).isSameAs(dpt.of((byte) 0x0B));
+        assertThat(dpt.of(false, StepInterval.STOP)).isSameAs(dpt.of((byte) 0x00));
+        assertThat(dpt.of(false, StepInterval.STOP)).isNotSameAs(dpt.of(true, StepInterval.STOP));
+    }
 }
@@ -18,6 +18,7 @@
 package li.pitschmann.knx.core.datapoint;
 
 import li.pitschmann.knx.core.datapoint.value.DPT5Value;
+import li.pitschmann.knx.core.exceptions.KnxNumberOutOfRangeException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -131,4 +132,17 @@ class DPT5Test {
         assertThat(dptAngle.of(360).getValue()).isEqualTo(360);
         assertThat(dptAngle.of(360).toByteArray()).containsExactly(0xFF);
     }
+
+    @Test
+    @DisplayName("Test canonical instances of #of(int) and #of(byte[])")
+    void testCanonicalInstances() {
+        final var dpt = DPT5.SCALING;
+        assertThat(dpt.of(100)).isSameAs(dpt.of(100)).isSameAs(dpt.of(new byte[]{(byte) 0xFF}));
+        assertThat(dpt.of(0)).isSameAs(dpt.of(new byte[]{(byte) 0x00}));
+        assertThat(dpt.of(50)).isSameAs(dpt.of(new byte[]{(byte) 0x80}));
+
+        // out of range should still fail
+        assertThatThrownBy(() -> dpt.of(101)).isInstanceOf(KnxNumberOutOfRangeException.class);
+        assertThatThrownBy(() -> DPT5.TARIFF_INFORMATION.of(new byte[]{(byte) 0xFF})).isInstanceOf(KnxNumberOutOfRangeException.class);
+    }
 }
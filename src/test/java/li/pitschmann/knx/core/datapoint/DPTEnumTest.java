@@ -159,4 +159,18 @@ class DPTEnumTest {
         final var enumWithDifferentId = new DPTEnum<>("123.999", "");
         assertThat(DPT_ENUM.hashCode()).isNotEqualTo(enumWithDifferentId.hashCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test #parse(String[]) by case-insensitive description or name of enum constant")
+    void testStringParseByDescriptionAndName() {
+        final var dpt = DPT20.BuildingMode.BUILDING_IN_USE.getDPT();
+
+        // by description
+        assertThat(dpt.parse(new String[]{"Building in use"}).getEnum()).isSameAs(DPT20.BuildingMode.BUILDING_IN_USE);
+        assertThat(dpt.parse(new String[]{"BUILDING NOT USED"}).getEnum()).isSameAs(DPT20.BuildingMode.BUILDING_NOT_USED);
+
+        // by name of enum constant
+        assertThat(dpt.parse(new String[]{"BUILDING_PROTECTION"}).getEnum()).isSameAs(DPT20.BuildingMode.BUILDING_PROTECTION);
+        assertThat(dpt.parse(new String[]{"building_in_use"}).getEnum()).isSameAs(DPT20.BuildingMode.BUILDING_IN_USE);
+    }
+}
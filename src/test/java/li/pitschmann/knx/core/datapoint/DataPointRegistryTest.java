@@ -26,10 +26,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.io.Serializable;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * Tests for {@link DataPointRegistry}
@@ -100,6 +104,74 @@ class DataPointRegistryTest {
                 .hasMessage("Could not find data point type id: UNKNOWN");
     }
 
+    /**
+     * Test that all data point types are registered by index that has been generated
+     * at compile time and that the index is complete compared to reflection
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testDataPointTypesByIndex() throws ReflectiveOperationException {
+        assertThat(Class.forName("li.pitschmann.knx.core.datapoint.DataPointIndex"))
+                .isAssignableFrom(DataPointIndex.class);
+
+        // index covers the same classes as reflection-based registration
+        final List<Class<?>> dptClasses = new ArrayList<>();
+        dptClasses.add(DPTRaw.class);
+        for (var i = 1; i <= 29; i++) {
+            dptClasses.add(Class.forName("li.pitschmann.knx.core.datapoint.DPT" + i));
+        }
+        assertThat(DataPointRegistry.DATA_POINT_TYPE_CLASSES).containsExactlyElementsOf(dptClasses);
+        assertThat(new DataPointIndex().getSourceClasses()).containsExactlyInAnyOrderElementsOf(dptClasses);
+
+        for (final var dptClass : dptClasses) {
+            // data point type fields
+            for (final var field : dptClass.getFields()) {
+                if (Modifier.isStatic(field.getModifiers()) && field.isAnnotationPresent(DataPoint.class)) {
+                    final var ids = field.getAnnotation(DataPoint.class).value();
+                    final var dpt = (DataPointType) field.get(null);
+                    for (final var id : ids) {
+                        assertThat(DataPointRegistry.getDataPointType(id)).isSameAs(dpt);
+                    }
+                    assertThat(DataPointRegistry.getDataPointIdentifiers(dpt)).containsExactly(ids);
+                }
+            }
+
+            // data point type enumerations
+            for (final var enumClass : dptClass.getClasses()) {
+                if (enumClass.isEnum() && enumClass.isAnnotationPresent(DataPoint.class)) {
+                    final var annotation = enumClass.getAnnotation(DataPoint.class);
+                    final var dptEnum = (DPTEnum<?>) DataPointRegistry.getDataPointType(annotation.value()[0]);
+                    assertThat(dptEnum.getDescription()).isEqualTo(annotation.description());
+                    assertThat(DataPointRegistry.getDataPointIdentifiers(dptEnum)).containsExactly(annotation.value());
+
+                    for (final var field : enumClass.getFields()) {
+                        if (field.isEnumConstant() && field.isAnnotationPresent(DataPointEnumValue.class)) {
+                            final var valueAnnotation = field.getAnnotation(DataPointEnumValue.class);
+                            final var dptEnumValue = DataPointRegistry.getDataPointType((Enum) field.get(null));
+                            assertThat(dptEnumValue.getDPT()).isSameAs(dptEnum);
+                            assertThat(dptEnumValue.getValue()).isEqualTo(valueAnnotation.value());
+                            assertThat(dptEnumValue.getDescription()).isEqualTo(valueAnnotation.description());
+                            assertThat(dptEnum.of(valueAnnotation.value())).isSameAs(dptEnumValue);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Test that an incomplete index (e.g. generated by an incremental build) is detected
+     */
+    @Test
+    @DisplayName("Index is incomplete")
+    void testIncompleteIndex() {
+        assertThat(DataPointRegistry.isComplete(new DataPointIndex())).isTrue();
+
+        final var index = mock(DataPointRegistry.Index.class);
+        when(index.getSourceClasses()).thenReturn(List.of(DPT1.class, DPT20.class));
+        assertThat(DataPointRegistry.isComplete(index)).isFalse();
+    }
+
     /**
      * Tries to register bad / not well-configured DPT classes
      */
@@ -23,6 +23,8 @@ import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -79,6 +81,70 @@ class DPT9ValueTest {
                 .isInstanceOf(KnxNumberOutOfRangeException.class);
     }
 
+    @Test
+    @DisplayName("#(byte[]) and #toByteArray() are exact for all 65536 encodings")
+    void testAllEncodings() {
+        for (var i = 0; i < 0x10000; i++) {
+            final var bytes = new byte[]{(byte) (i >>> 8), (byte) i};
+            final var value = new DPT9Value(DPT9.TEMPERATURE_DIFFERENCE, bytes);
+
+            final var expectedValue = legacyToFloatingValue(bytes);
+            assertThat(value.getValue()).as("decode of %s", i).isEqualTo(expectedValue);
+            assertThat(value.toByteArray()).as("encode of %s", expectedValue).containsExactly(legacyToByteArray(expectedValue));
+        }
+    }
+
+    @Test
+    @DisplayName("#toByteArray() is exact for arbitrary values within range")
+    void testArbitraryValues() {
+        final var random = new Random(4711);
+        for (var i = 0; i < 100_000; i++) {
+            final var doubleValue = -671088.64 + random.nextDouble() * (670760.96 + 671088.64);
+            final var value = new DPT9Value(DPT9.TEMPERATURE_DIFFERENCE, doubleValue);
+            assertThat(value.toByteArray()).as("encode of %s", doubleValue).containsExactly(legacyToByteArray(doubleValue));
+        }
+
+        // boundaries and values where the mantissa range is exceeded by a fraction
+        for (final var doubleValue : new double[]{-671088.64, 670760.96, -20.48, -20.4801, 20.47, 20.4701, 20.475, -40.96, -40.9601, 327.68}) {
+            final var value = new DPT9Value(DPT9.TEMPERATURE_DIFFERENCE, doubleValue);
+            assertThat(value.toByteArray()).as("encode of %s", doubleValue).containsExactly(legacyToByteArray(doubleValue));
+        }
+    }
+
+    /**
+     * Reference implementation of decoding (before decode table was introduced)
+     */
+    private static double legacyToFloatingValue(final byte[] bytes) {
+        final var exponent = (bytes[0] & 0x78) >>> 3;
+        final var mantissa = (((bytes[0] & 0x80 << 24) | ((bytes[0] & 0x07) << 28)) >> 20) | (bytes[1] & 0xFF);
+        return (1 << exponent) * mantissa * 0.01d;
+    }
+
+    /**
+     * Reference implementation of encoding (before exponent calculation was introduced)
+     */
+    private static byte[] legacyToByteArray(final double value) {
+        var calcValue = value * 100d;
+        var exponent = 0;
+        final var valueNegative = calcValue < 0d;
+        if (valueNegative) {
+            while (calcValue < -2048.0d) {
+                exponent++;
+                calcValue /= 2;
+            }
+        } else {
+            while (calcValue > 2047.0d) {
+                exponent++;
+                calcValue /= 2;
+            }
+        }
+        final var mantissa = Math.round(calcValue) & 0x7FF;
+        var highByte = valueNegative ? (byte) 0x80 : 0x00;
+        highByte |= (exponent << 3);
+        highByte |= (mantissa >>> 8);
+        return new byte[]{(byte) highByte, (byte) (mantissa & 0xFF)};
+    }
+
     @Test
     @DisplayName("#toString()")
     void testToString() {
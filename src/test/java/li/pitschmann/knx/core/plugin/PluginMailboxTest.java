@@ -0,0 +1,292 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.plugin;
+
+import li.pitschmann.knx.core.communication.InternalKnxStatistic;
+import li.pitschmann.knx.core.communication.KnxQueueType;
+import li.pitschmann.knx.core.test.data.TestObserverPlugin;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test for {@link PluginMailbox}
+ *
+ * @author PITSCHR
+ */
+class PluginMailboxTest {
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final List<Integer> consumed = new ArrayList<>();
+
+    @Test
+    @DisplayName("Test invalid arguments")
+    void testInvalid() {
+        final var plugin = new TestObserverPlugin();
+        assertThatThrownBy(() -> new PluginMailbox(plugin, tasks::add, 0, PluginOverflowPolicy.BLOCK, 1, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Capacity must be positive: 0");
+        assertThatThrownBy(() -> new PluginMailbox(plugin, tasks::add, 1, PluginOverflowPolicy.SAMPLE, 0, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Sample rate must be positive: 0");
+    }
+
+    @Test
+    @DisplayName("Test notifications are consumed in order by a single task")
+    void testOrder() {
+        final var mailbox = newMailbox(PluginOverflowPolicy.DROP_NEWEST, 10, null);
+        final var future = mailbox.offer(action(1), true);
+        mailbox.offer(action(2), true);
+        mailbox.offer(action(3), true);
+
+        // only one consumer task is submitted
+        assertThat(tasks).hasSize(1);
+        assertThat(mailbox.size()).isEqualTo(3);
+        assertThat(future).isNotDone();
+
+        runTasks();
+        assertThat(consumed).containsExactly(1, 2, 3);
+        assertThat(future).isCompleted();
+        assertThat(mailbox.size()).isZero();
+
+        // new consumer task is submitted for new notifications
+        mailbox.offer(action(4), true);
+        assertThat(tasks).hasSize(1);
+        runTasks();
+        assertThat(consumed).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("Test consumer task is submitted again after a batch of notifications")
+    void testBatch() {
+        final var mailbox = newMailbox(PluginOverflowPolicy.DROP_NEWEST, 100, null);
+        for (var i = 0; i < 100; i++) {
+            mailbox.offer(action(i), true);
+        }
+
+        tasks.poll().run();
+        assertThat(consumed).hasSize(64);
+        assertThat(tasks).hasSize(1);
+
+        runTasks();
+        assertThat(consumed).hasSize(100);
+    }
+
+    @Test
+    @DisplayName("Test remaining notifications are consumed inline when executor rejects the consumer task")
+    void testBatchRejected() {
+        final var executor = new ArrayList<Runnable>();
+        final var mailbox = new PluginMailbox(new TestObserverPlugin(), task -> {
+            if (!executor.isEmpty()) {
+                throw new RejectedExecutionException("Shutdown");
+            }
+            executor.add(task);
+        }, 100, PluginOverflowPolicy.DROP_NEWEST, 1, null);
+        for (var i = 0; i < 99; i++) {
+            mailbox.offer(action(i), true);
+        }
+        final var shutdown = mailbox.offer(action(99), false);
+
+        // first batch re-submits the consumer task which is rejected -> remaining consumed inline
+        executor.get(0).run();
+        assertThat(executor).hasSize(1);
+        assertThat(consumed).hasSize(100);
+        assertThat(shutdown).isCompleted();
+        assertThat(mailbox.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test overflow policy DROP_NEWEST")
+    void testDropNewest() {
+        final var statistics = mock(InternalKnxStatistic.class);
+        final var mailbox = newMailbox(PluginOverflowPolicy.DROP_NEWEST, 2, statistics);
+        mailbox.offer(action(1), true);
+        mailbox.offer(action(2), true);
+        assertThat(mailbox.offer(action(3), true)).isNull();
+
+        // lifecycle notifications are never dropped
+        assertThat(mailbox.offer(action(4), false)).isNotNull();
+
+        runTasks();
+        assertThat(consumed).containsExactly(1, 2, 4);
+        verify(statistics, times(4)).onEnqueue(KnxQueueType.PLUGIN_EXECUTOR);
+        verify(statistics).onReject(KnxQueueType.PLUGIN_EXECUTOR);
+        verify(statistics).onPluginDrop(TestObserverPlugin.class);
+        verify(statistics, times(3)).onDequeue(eq(KnxQueueType.PLUGIN_EXECUTOR), anyLong());
+    }
+
+    @Test
+    @DisplayName("Test overflow policy DROP_OLDEST")
+    void testDropOldest() {
+        final var statistics = mock(InternalKnxStatistic.class);
+        final var mailbox = newMailbox(PluginOverflowPolicy.DROP_OLDEST, 2, statistics);
+        final var oldest = mailbox.offer(action(1), true);
+        mailbox.offer(action(2), true);
+        assertThat(mailbox.offer(action(3), true)).isNotNull();
+        assertThat(oldest).isCancelled();
+
+        runTasks();
+        assertThat(consumed).containsExactly(2, 3);
+        verify(statistics, times(3)).onEnqueue(KnxQueueType.PLUGIN_EXECUTOR);
+        verify(statistics).onReject(KnxQueueType.PLUGIN_EXECUTOR);
+        verify(statistics).onPluginDrop(TestObserverPlugin.class);
+    }
+
+    @Test
+    @DisplayName("Test overflow policy DROP_OLDEST does not drop lifecycle notifications")
+    void testDropOldestLifecycle() {
+        final var statistics = mock(InternalKnxStatistic.class);
+        final var mailbox = newMailbox(PluginOverflowPolicy.DROP_OLDEST, 2, statistics);
+        // pending lifecycle notification (e.g. onStart)
+        final var start = mailbox.offer(action(0), false);
+        final var oldest = mailbox.offer(action(1), true);
+        assertThat(mailbox.offer(action(2), true)).isNotNull();
+        assertThat(start).isNotCancelled();
+        assertThat(oldest).isCancelled();
+
+        // mailbox has lifecycle notifications only: new notification is dropped
+        final var lifecycleMailbox = newMailbox(PluginOverflowPolicy.DROP_OLDEST, 1, statistics);
+        final var lifecycleStart = lifecycleMailbox.offer(action(3), false);
+        assertThat(lifecycleMailbox.offer(action(4), true)).isNull();
+        assertThat(lifecycleStart).isNotCancelled();
+
+        runTasks();
+        assertThat(consumed).containsExactly(0, 2, 3);
+        verify(statistics, times(2)).onPluginDrop(TestObserverPlugin.class);
+    }
+
+    @Test
+    @DisplayName("Test overflow policy SAMPLE")
+    void testSample() {
+        final var mailbox = new PluginMailbox(new TestObserverPlugin(), tasks::add, 10, PluginOverflowPolicy.SAMPLE, 3, null);
+        for (var i = 0; i < 20; i++) {
+            mailbox.offer(action(i), true);
+        }
+
+        // 0..4 accepted, afterwards every 3rd until full
+        runTasks();
+        assertThat(consumed).containsExactly(0, 1, 2, 3, 4, 5, 8, 11, 14, 17);
+    }
+
+    @Test
+    @DisplayName("Test overflow policy BLOCK")
+    void testBlock() throws Exception {
+        final var statistics = mock(InternalKnxStatistic.class);
+        final var mailbox = newMailbox(PluginOverflowPolicy.BLOCK, 1, statistics);
+        mailbox.offer(action(1), true);
+
+        // second notification blocks until the mailbox has space again
+        final var executor = Executors.newSingleThreadExecutor();
+        try {
+            final var blocked = CompletableFuture.supplyAsync(() -> mailbox.offer(action(2), true), executor);
+            TimeUnit.MILLISECONDS.sleep(100);
+            assertThat(blocked).isNotDone();
+
+            runTasks();
+            assertThat(blocked.get(5, TimeUnit.SECONDS)).isNotNull();
+            runTasks();
+            assertThat(consumed).containsExactly(1, 2);
+
+            // blocked notification is dropped when mailbox is closed
+            mailbox.offer(action(3), true);
+            final var blockedOnClose = CompletableFuture.supplyAsync(() -> mailbox.offer(action(4), true), executor);
+            TimeUnit.MILLISECONDS.sleep(100);
+            assertThat(blockedOnClose).isNotDone();
+            mailbox.close();
+            assertThat(blockedOnClose.get(5, TimeUnit.SECONDS)).isNull();
+            verify(statistics).onPluginDrop(TestObserverPlugin.class);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // notifications in mailbox are still consumed after close, new notifications are not accepted
+        assertThat(mailbox.offer(action(5), false)).isNull();
+        runTasks();
+        assertThat(consumed).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("Test overflow policy BLOCK does not block the consumer thread")
+    void testBlockConsumerThread() {
+        final var mailbox = newMailbox(PluginOverflowPolicy.BLOCK, 2, null);
+        mailbox.offer(queueWait -> {
+            // notification while mailbox is full and called by consumer (e.g. plugin sends a body)
+            mailbox.offer(action(1), true);
+            mailbox.offer(action(2), true);
+        }, true);
+        mailbox.offer(action(0), true);
+
+        runTasks();
+        assertThat(consumed).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    @DisplayName("Test exception in notification completes the future exceptionally")
+    void testException() {
+        final var mailbox = newMailbox(PluginOverflowPolicy.DROP_NEWEST, 1, null);
+        final var future = mailbox.offer(queueWait -> {
+            throw new IllegalStateException("Test");
+        }, false);
+        mailbox.offer(action(1), false);
+
+        runTasks();
+        assertThat(future).isCompletedExceptionally();
+        assertThat(consumed).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("Test toString()")
+    void testToString() {
+        final var plugin = new TestObserverPlugin();
+        final var mailbox = new PluginMailbox(plugin, tasks::add, 5, PluginOverflowPolicy.DROP_OLDEST, 1, null);
+        mailbox.offer(action(1), true);
+
+        assertThat(mailbox).hasToString("PluginMailbox{plugin=" + plugin + ", capacity=5, overflowPolicy=DROP_OLDEST, size=1}");
+    }
+
+    private PluginMailbox newMailbox(final PluginOverflowPolicy overflowPolicy, final int capacity, final InternalKnxStatistic statistics) {
+        return new PluginMailbox(new TestObserverPlugin(), tasks::add, capacity, overflowPolicy, 1, statistics);
+    }
+
+    private LongConsumer action(final int number) {
+        return queueWait -> consumed.add(number);
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+}
@@ -21,8 +21,11 @@ import li.pitschmann.knx.core.body.Body;
 import li.pitschmann.knx.core.body.RequestBody;
 import li.pitschmann.knx.core.body.ResponseBody;
 import li.pitschmann.knx.core.communication.BaseKnxClient;
+import li.pitschmann.knx.core.communication.InternalKnxStatistic;
 import li.pitschmann.knx.core.communication.KnxClient;
+import li.pitschmann.knx.core.communication.KnxQueueType;
 import li.pitschmann.knx.core.config.CoreConfigs;
+import li.pitschmann.knx.core.exceptions.KnxConfigurationException;
 import li.pitschmann.knx.core.exceptions.KnxException;
 import li.pitschmann.knx.core.exceptions.KnxPluginException;
 import li.pitschmann.knx.core.test.TestHelpers;
@@ -37,12 +40,21 @@ import org.junit.jupiter.api.Test;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -60,6 +72,28 @@ final class PluginManagerTest {
         assertThatThrownBy(() -> new PluginManager(null)).isInstanceOf(NullPointerException.class);
     }
 
+    @Test
+    @DisplayName("Overflow policy BLOCK is not supported when event loop is used")
+    void testBlockWithEventLoop() {
+        final var config = TestHelpers.mockConfig(c -> {
+            when(c.getValue(CoreConfigs.Plugin.MAILBOX_OVERFLOW_POLICY)).thenReturn(PluginOverflowPolicy.BLOCK);
+        });
+        new PluginManager(config).close();
+
+        final var configEventLoop = TestHelpers.mockConfig(c -> {
+            when(c.getValue(CoreConfigs.Plugin.MAILBOX_OVERFLOW_POLICY)).thenReturn(PluginOverflowPolicy.BLOCK);
+            when(c.getValue(CoreConfigs.Communication.EVENT_LOOP_ENABLED)).thenReturn(Boolean.TRUE);
+        });
+        assertThatThrownBy(() -> new PluginManager(configEventLoop))
+                .isInstanceOf(KnxConfigurationException.class)
+                .hasMessage("Overflow policy 'BLOCK' of plugin mailbox is not supported when event loop is used");
+
+        // shared plugin executor is used by shared runtime which serves all clients by event loops
+        final var executor = mock(ExecutorService.class);
+        assertThatThrownBy(() -> new PluginManager(config, executor))
+                .isInstanceOf(KnxConfigurationException.class);
+    }
+
     @Test
     @DisplayName("Test initial initialization of plugins through configuration instance")
     void testOnInitialization() {
@@ -249,6 +283,48 @@ final class PluginManagerTest {
                 .hasMessage("Could not initialize plugin: " + slowPlugin);
     }
 
+    @Test
+    @DisplayName("Test slow plugin does not delay other plugins and drops notifications when mailbox is full")
+    void testSlowPluginMailbox() throws InterruptedException {
+        final var statistics = mock(InternalKnxStatistic.class);
+        final var knxClientMock = newKnxClientMockWithPlugins();
+        final var config = TestHelpers.mockConfig(c -> {
+            when(c.getValue(CoreConfigs.Plugin.MAILBOX_CAPACITY)).thenReturn(1);
+            when(c.getValue(CoreConfigs.Plugin.MAILBOX_OVERFLOW_POLICY)).thenReturn(PluginOverflowPolicy.DROP_NEWEST);
+        });
+
+        final var pluginManager = new PluginManager(config, statistics);
+        pluginManager.notifyInitialization(knxClientMock);
+        final var slowPlugin = pluginManager.addPlugin(new SlowObserverPlugin());
+        final var fastPlugin = pluginManager.addPlugin(mock(ObserverPlugin.class));
+
+        try {
+            final var body1 = mock(Body.class);
+            final var body2 = mock(Body.class);
+            final var body3 = mock(Body.class);
+
+            // first body is consumed by slow plugin (blocked), second is in mailbox, third is dropped
+            pluginManager.notifyIncomingBody(body1);
+            assertThat(slowPlugin.started.await(5, TimeUnit.SECONDS)).isTrue();
+            verify(fastPlugin, timeout(5000)).onIncomingBody(body1);
+            pluginManager.notifyIncomingBody(body2);
+            verify(fastPlugin, timeout(5000)).onIncomingBody(body2);
+            pluginManager.notifyIncomingBody(body3);
+            verify(fastPlugin, timeout(5000)).onIncomingBody(body3);
+
+            verify(statistics).onPluginDrop(SlowObserverPlugin.class);
+            verify(statistics, never()).onPluginDrop(fastPlugin.getClass());
+
+            // slow plugin receives the notifications in mailbox in order
+            slowPlugin.release.countDown();
+            verify(statistics, timeout(5000).times(7)).onDequeue(eq(KnxQueueType.PLUGIN_EXECUTOR), anyLong());
+            assertThat(slowPlugin.bodies).containsExactly(body1, body2);
+        } finally {
+            slowPlugin.release.countDown();
+            pluginManager.close();
+        }
+    }
+
     /**
      * Creates default plugin manager with mocked client and config
      */
@@ -298,5 +374,40 @@ final class PluginManagerTest {
             Sleeper.seconds(3);
         }
     }
+
+    /**
+     * Simulates an observer plugin that blocks the notification of incoming bodies until released
+     */
+    private static class SlowObserverPlugin implements ObserverPlugin {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<Body> bodies = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onInitialization(KnxClient client) {
+            // NO-OP
+        }
+
+        @Override
+        public void onIncomingBody(Body item) {
+            bodies.add(item);
+            started.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void onOutgoingBody(Body item) {
+            // NO-OP
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            // NO-OP
+        }
+    }
 }
 
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.plugin.metrics;
+
+import li.pitschmann.knx.core.communication.KnxClient;
+import li.pitschmann.knx.core.communication.KnxStatusPool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link OpenMetricsPlugin}
+ *
+ * @author PITSCHR
+ */
+class OpenMetricsPluginTest {
+
+    @Test
+    @DisplayName("Test scrape of metrics via HTTP")
+    void testScrape() throws IOException {
+        final var plugin = startPlugin();
+        try {
+            // bound to loopback by default
+            assertThat(plugin.getAddress().getAddress().isLoopbackAddress()).isTrue();
+
+            final var url = new URL("http://localhost:" + plugin.getAddress().getPort() + "/metrics");
+
+            // Prometheus text format
+            final var connection = (HttpURLConnection) url.openConnection();
+            assertThat(connection.getResponseCode()).isEqualTo(200);
+            assertThat(connection.getContentType()).isEqualTo("text/plain; version=0.0.4; charset=utf-8");
+            try (final var in = connection.getInputStream()) {
+                assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8))
+                        .contains("knx_status_pool_size 3.0\n")
+                        .doesNotContain("# EOF");
+            }
+
+            // OpenMetrics text format
+            final var openMetricsConnection = (HttpURLConnection) url.openConnection();
+            openMetricsConnection.setRequestProperty("Accept", "application/openmetrics-text; version=1.0.0");
+            assertThat(openMetricsConnection.getResponseCode()).isEqualTo(200);
+            assertThat(openMetricsConnection.getContentType()).startsWith("application/openmetrics-text");
+            try (final var in = openMetricsConnection.getInputStream()) {
+                assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).endsWith("# EOF\n");
+            }
+
+            // other methods than GET and HEAD are not allowed
+            final var postConnection = (HttpURLConnection) url.openConnection();
+            postConnection.setRequestMethod("POST");
+            assertThat(postConnection.getResponseCode()).isEqualTo(405);
+        } finally {
+            plugin.onShutdown();
+        }
+        assertThat(plugin.getAddress()).isNull();
+    }
+
+    private static OpenMetricsPlugin startPlugin() {
+        final var statusPool = mock(KnxStatusPool.class);
+        when(statusPool.size()).thenReturn(3);
+
+        final var client = mock(KnxClient.class);
+        when(client.getConfig(OpenMetricsPlugin.HOST)).thenReturn(OpenMetricsPlugin.HOST.getDefaultValue());
+        when(client.getConfig(OpenMetricsPlugin.PORT)).thenReturn(0);
+        when(client.getConfig(OpenMetricsPlugin.PATH)).thenReturn("/metrics");
+        final var statistic = OpenMetricsWriterTest.mockStatistic();
+        when(client.getStatistic()).thenReturn(statistic);
+        when(client.getStatusPool()).thenReturn(statusPool);
+
+        final var plugin = new OpenMetricsPlugin();
+        plugin.onInitialization(client);
+        plugin.onStart();
+        return plugin;
+    }
+}
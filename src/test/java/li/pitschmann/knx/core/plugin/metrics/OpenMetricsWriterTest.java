@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.plugin.metrics;
+
+import li.pitschmann.knx.core.communication.KnxLatency;
+import li.pitschmann.knx.core.communication.KnxQueueStatistic;
+import li.pitschmann.knx.core.communication.KnxRate;
+import li.pitschmann.knx.core.communication.KnxStatistic;
+import li.pitschmann.knx.core.header.ServiceType;
+import li.pitschmann.knx.core.test.data.TestObserverPlugin;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link OpenMetricsWriter}
+ *
+ * @author PITSCHR
+ */
+class OpenMetricsWriterTest {
+
+    @Test
+    @DisplayName("Test Prometheus text format")
+    void testPrometheusFormat() {
+        final var statistic = mockStatistic();
+        when(statistic.getNumberOfBodyReceived(ServiceType.TUNNELING_REQUEST)).thenReturn(13L);
+        when(statistic.getNumberOfBytesSent()).thenReturn(4711L);
+        when(statistic.getNumberOfPluginDrops()).thenReturn(Map.of(TestObserverPlugin.class, 3L));
+
+        final var text = write(new OpenMetricsWriter(), statistic, 17, false);
+        assertThat(text).contains(
+                "# TYPE knx_bodies_received_total counter\n",
+                "knx_bodies_received_total{service_type=\"tunneling_request\"} 13\n",
+                "# TYPE knx_sent_bytes_total counter\n",
+                "knx_sent_bytes_total 4711\n",
+                "# TYPE knx_queue_depth gauge\n",
+                "knx_queue_depth{queue=\"outbox\"} 0\n",
+                "knx_heartbeat_rtt_seconds{quantile=\"0.99\"} 0.0\n",
+                "knx_heartbeat_rtt_seconds_count 0\n",
+                "knx_plugin_dropped_total{plugin=\"li.pitschmann.knx.core.test.data.TestObserverPlugin\"} 3\n",
+                "knx_status_pool_size 17.0\n"
+        );
+        assertThat(text).doesNotContain("# EOF");
+    }
+
+    @Test
+    @DisplayName("Test OpenMetrics text format")
+    void testOpenMetricsFormat() {
+        final var text = write(new OpenMetricsWriter(), mockStatistic(), 0, true);
+        assertThat(text).contains(
+                "# TYPE knx_bodies_received counter\n",
+                "knx_bodies_received_total{service_type=\"tunneling_request\"} 0\n"
+        );
+        assertThat(text).endsWith("\n# EOF\n");
+    }
+
+    @Test
+    @DisplayName("Test buffer is re-used for subsequent writes")
+    void testBufferReused() {
+        final var writer = new OpenMetricsWriter();
+        final var statistic = mockStatistic();
+
+        final var first = write(writer, statistic, 0, true);
+        final var bytes = writer.getBytes();
+        final var second = write(writer, statistic, 0, true);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(writer.getBytes()).isSameAs(bytes);
+    }
+
+    @Test
+    @DisplayName("Test escaping of label values")
+    void testAppendLabelValue() {
+        final var text = new StringBuilder();
+        OpenMetricsWriter.appendLabelValue(text, "a\\b\"c\nd");
+        assertThat(text).hasToString("a\\\\b\\\"c\\nd");
+
+        // non-ASCII characters are kept as-is
+        text.setLength(0);
+        OpenMetricsWriter.appendLabelValue(text, "K\u00fcche");
+        assertThat(text).hasToString("K\u00fcche");
+    }
+
+    private static String write(final OpenMetricsWriter writer, final KnxStatistic statistic, final int statusPoolSize, final boolean openMetrics) {
+        final var length = writer.write(statistic, statusPoolSize, openMetrics);
+        return new String(writer.getBytes(), 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Mocks {@link KnxStatistic} with empty snapshots
+     */
+    static KnxStatistic mockStatistic() {
+        return mock(KnxStatistic.class, invocation -> {
+            final var returnType = invocation.getMethod().getReturnType();
+            if (returnType == KnxLatency.class) {
+                return KnxLatency.EMPTY;
+            } else if (returnType == KnxRate.class) {
+                return KnxRate.ZERO;
+            } else if (returnType == KnxQueueStatistic.class) {
+                return KnxQueueStatistic.EMPTY;
+            } else if (returnType == long.class) {
+                return 0L;
+            } else if (returnType == Map.class) {
+                return Map.of();
+            }
+            return null;
+        });
+    }
+
+}
@@ -19,6 +19,8 @@ package li.pitschmann.knx.core.test;
 
 import li.pitschmann.knx.core.address.IndividualAddress;
 import li.pitschmann.knx.core.body.Body;
+import li.pitschmann.knx.core.body.ControlChannelRelated;
+import li.pitschmann.knx.core.body.DataChannelRelated;
 import li.pitschmann.knx.core.body.DisconnectRequestBody;
 import li.pitschmann.knx.core.body.DisconnectResponseBody;
 import li.pitschmann.knx.core.communication.BaseKnxClient;
@@ -37,7 +39,9 @@ import org.slf4j.LoggerFactory;
 import java.io.Closeable;
 import java.net.InetAddress;
 import java.nio.channels.MembershipKey;
+import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -68,6 +72,7 @@ public final class MockServer implements Runnable, Closeable {
     private final List<Body> receivedBodies = Collections.synchronizedList(new LinkedList<>());
     private final List<Body> sentBodies = Collections.synchronizedList(new LinkedList<>());
     private final MockServerDatagramChannel serverChannel;
+    private final MockServerSocketChannel tcpChannel;
     private final MockServerTest mockServerAnnotation;
     private final ExecutorService executorService;
     private InetAddress multicastAddress;
@@ -84,6 +89,8 @@ public final class MockServer implements Runnable, Closeable {
         this.mockServerAnnotation = mockServerAnnotation;
 
         this.serverChannel = new MockServerDatagramChannel(mockServerAnnotation);
+        // TCP uses the same port number as UDP
+        this.tcpChannel = mockServerAnnotation.useTcp() ? new MockServerSocketChannel(this.serverChannel.getPort()) : null;
 
         this.executorService = Executors.newSingleThreadExecutor();
         this.executorService.execute(this);
@@ -135,6 +142,10 @@ public final class MockServer implements Runnable, Closeable {
             // prepare channel for non-blocking and register to selector
             serverChannel.getChannel().register(selector, this.serverChannel.getChannel().validOps());
             log.debug("Channel {} registered to selector: {}", this.serverChannel, selector);
+            if (this.tcpChannel != null) {
+                tcpChannel.getChannel().register(selector, SelectionKey.OP_ACCEPT);
+                log.debug("Channel {} registered to selector: {}", this.tcpChannel, selector);
+            }
             log.debug("Server Channel created and listening on port: {}", getPort());
 
             // mark mock server as "ready" for communication
@@ -147,20 +158,27 @@ public final class MockServer implements Runnable, Closeable {
                     final var key = selectedKeys.next();
                     selectedKeys.remove();
 
+                    // accept (TCP only)
+                    if (key.isValid() && key.isAcceptable()) {
+                        tcpChannel.accept(selector);
+                        continue;
+                    }
                     // receive
                     if (key.isValid() && key.isReadable()) {
-                        final var body = serverChannel.read(key);
-                        heartbeatMonitor.ping();
-                        this.receivedBodies.add(body);
-                        publisher.submit(body);
-                        if (log.isDebugEnabled()) {
-                            log.debug("RECEIVED BODY from channel '{}': {}", key.channel(), body);
+                        for (final var body : getChannel(key).read(key)) {
+                            heartbeatMonitor.ping();
+                            this.receivedBodies.add(body);
+                            publisher.submit(body);
+                            if (log.isDebugEnabled()) {
+                                log.debug("RECEIVED BODY from channel '{}': {}", key.channel(), body);
+                            }
                         }
                     }
-                    // send
-                    if (key.isValid() && key.isWritable() && !this.outbox.isEmpty()) {
+                    // send (control and data related bodies over TCP, if connected)
+                    if (key.isValid() && key.isWritable() && !this.outbox.isEmpty()
+                            && isTcp(key) == isTcp(this.outbox.peek())) {
                         final var body = this.outbox.take();
-                        serverChannel.send(key, body);
+                        getChannel(key).send(key, body);
                         heartbeatMonitor.ping();
                         this.sentBodies.add(body);
 
@@ -194,6 +212,7 @@ public final class MockServer implements Runnable, Closeable {
                 membershipKeys.forEach(MembershipKey::drop);
             }
 
+            Closeables.closeQuietly(this.tcpChannel);
             Closeables.shutdownQuietly(executorService);
             Closeables.closeQuietly(publisher);
             log.info("*** KNX Mock Server [main] END ***");
@@ -205,6 +224,19 @@ public final class MockServer implements Runnable, Closeable {
      *
      * @return HPAI
      */
+    private MockServerChannel<?> getChannel(final SelectionKey key) {
+        return isTcp(key) ? this.tcpChannel : this.serverChannel;
+    }
+
+    private boolean isTcp(final SelectionKey key) {
+        return key.channel() instanceof SocketChannel;
+    }
+
+    private boolean isTcp(final Body body) {
+        return this.tcpChannel != null && this.tcpChannel.isConnected()
+                && (body instanceof ControlChannelRelated || body instanceof DataChannelRelated);
+    }
+
     public HPAI getHPAI() {
         return hpai;
     }
@@ -459,6 +491,11 @@ public final class MockServer implements Runnable, Closeable {
             log.info("Discovery service will NOT be used for mock server. Endpoint: {}:{}", address, port);
         }
 
+        // tunneling over TCP
+        if (mockServerAnnotation.useTcp()) {
+            configBuilder.tcp();
+        }
+
         // provide a different configuration (e.g. timeouts are too long for tests)
         return configBuilder
                 .setting(CoreConfigs.Multicast.ADDRESS, this.getMulticastAddress())
@@ -22,6 +22,7 @@ import li.pitschmann.knx.core.body.Body;
 import java.io.IOException;
 import java.nio.channels.SelectableChannel;
 import java.nio.channels.SelectionKey;
+import java.util.List;
 
 /**
  * Interface for KNX Mock Server Channel (UDP, TCP)
@@ -46,10 +47,10 @@ public interface MockServerChannel<T extends SelectableChannel> extends AutoClos
      * Reads {@link Body} from {@link SelectionKey}
      *
      * @param key contains channel for incoming traffic
-     * @return An instance of {@link Body}
+     * @return list of {@link Body} instances that are received completely (may be empty)
      * @throws IOException If an I/O error occurs
      */
-    Body read(SelectionKey key) throws IOException;
+    List<Body> read(SelectionKey key) throws IOException;
 
     /**
      * Sends {@link Body} to given {@link SelectionKey}
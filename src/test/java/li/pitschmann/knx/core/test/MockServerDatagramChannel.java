@@ -42,6 +42,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.DatagramChannel;
 import java.nio.channels.SelectionKey;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Mock Server Channel for UDP ({@link DatagramChannel}) communication
@@ -71,7 +72,7 @@ public final class MockServerDatagramChannel implements MockServerChannel<Datagr
     }
 
     @Override
-    public Body read(final SelectionKey key) throws IOException {
+    public List<Body> read(final SelectionKey key) throws IOException {
         final var byteBuffer = ByteBuffer.allocate(0xFF);
         final var address = this.channel.receive(byteBuffer);
         final var body = BodyFactory.of(byteBuffer.array());
@@ -112,7 +113,7 @@ public final class MockServerDatagramChannel implements MockServerChannel<Datagr
             log.debug("Data Address   : {}", this.clientDataSocketAddress);
         }
 
-        return body;
+        return List.of(body);
     }
 
     @Override
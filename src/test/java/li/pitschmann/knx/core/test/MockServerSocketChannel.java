@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2019 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.test;
+
+import li.pitschmann.knx.core.body.Body;
+import li.pitschmann.knx.core.body.BodyFactory;
+import li.pitschmann.knx.core.header.Header;
+import li.pitschmann.knx.core.test.body.MockResponseBody;
+import li.pitschmann.knx.core.utils.Bytes;
+import li.pitschmann.knx.core.utils.Closeables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mock Server Channel for TCP ({@link ServerSocketChannel}) communication
+ * <p>
+ * Accepts one client connection at a time; received bytes are framed by the
+ * total length of KNX {@link Header}.
+ */
+public final class MockServerSocketChannel implements MockServerChannel<ServerSocketChannel> {
+    private final static Logger log = LoggerFactory.getLogger(MockServerSocketChannel.class);
+    private final ServerSocketChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(1024);
+    private SocketChannel clientChannel;
+
+    public MockServerSocketChannel(final int port) {
+        try {
+            this.channel = ServerSocketChannel.open();
+            this.channel.configureBlocking(false);
+            this.channel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+            this.channel.bind(new InetSocketAddress(port));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public ServerSocketChannel getChannel() {
+        return channel;
+    }
+
+    @Override
+    public int getPort() {
+        return channel.socket().getLocalPort();
+    }
+
+    /**
+     * Accepts the client connection and registers it to the {@link Selector}
+     *
+     * @param selector selector where the client connection should be registered
+     * @throws IOException If an I/O error occurs
+     */
+    public void accept(final Selector selector) throws IOException {
+        final var acceptedChannel = this.channel.accept();
+        if (acceptedChannel != null) {
+            // one client only
+            Closeables.closeQuietly(this.clientChannel);
+            this.buffer.clear();
+            acceptedChannel.configureBlocking(false);
+            acceptedChannel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            acceptedChannel.register(selector, SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+            this.clientChannel = acceptedChannel;
+            log.debug("Client connection accepted: {}", acceptedChannel);
+        }
+    }
+
+    /**
+     * Returns if a client is connected
+     *
+     * @return {@code true} if connected, otherwise {@code false}
+     */
+    public boolean isConnected() {
+        return this.clientChannel != null && this.clientChannel.isConnected();
+    }
+
+    @Override
+    public List<Body> read(final SelectionKey key) throws IOException {
+        final var socketChannel = (SocketChannel) key.channel();
+        if (socketChannel.read(this.buffer) < 0) {
+            log.debug("Client connection closed: {}", socketChannel);
+            key.cancel();
+            Closeables.closeQuietly(socketChannel);
+            return List.of();
+        }
+
+        final var bodies = new ArrayList<Body>();
+        this.buffer.flip();
+        while (this.buffer.remaining() >= Header.STRUCTURE_LENGTH) {
+            final var totalLength = Short.toUnsignedInt(this.buffer.getShort(this.buffer.position() + 4));
+            if (this.buffer.remaining() < totalLength) {
+                break;
+            }
+            final var bytes = new byte[totalLength];
+            this.buffer.get(bytes);
+            bodies.add(BodyFactory.of(bytes));
+        }
+        this.buffer.compact();
+        return bodies;
+    }
+
+    @Override
+    public void send(final SelectionKey key, final Body body) throws IOException {
+        // packet: header + body
+        final ByteBuffer byteBuffer;
+        if (body instanceof MockResponseBody) {
+            // mock body contains complete byte array (header + body)
+            byteBuffer = ByteBuffer.wrap(body.toByteArray());
+        } else {
+            byteBuffer = ByteBuffer.wrap(Bytes.concat(Header.of(body).toByteArray(), body.toByteArray()));
+        }
+
+        while (byteBuffer.hasRemaining()) {
+            this.clientChannel.write(byteBuffer);
+        }
+    }
+
+    @Override
+    public void close() {
+        Closeables.closeQuietly(this.clientChannel);
+        Closeables.closeQuietly(this.channel);
+    }
+}
@@ -147,4 +147,13 @@ public @interface MockServerTest {
      * @return {@code true} if routing service should be used, otherwise {@code false}
      */
     boolean useRouting() default false;
+
+    /**
+     * Uses TCP for tunneling. If {@code true} then KNX mock server accepts a TCP connection on
+     * the same port number for control and data related packets (description and discovery are
+     * still served over UDP)
+     *
+     * @return {@code true} if TCP should be used for tunneling, otherwise {@code false}
+     */
+    boolean useTcp() default false;
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2022 Pitschmann Christoph
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package li.pitschmann.knx.core.utils;
+
+import li.pitschmann.knx.core.test.TestHelpers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test cases for {@link ExecutorServices} class
+ *
+ * @author PITSCHR
+ */
+class ExecutorServicesTest {
+
+    @Test
+    @DisplayName("Virtual threads are supported since Java 21")
+    void testVirtualThreadSupported() {
+        assertThat(ExecutorServices.isVirtualThreadSupported()).isEqualTo(Runtime.version().feature() >= 21);
+    }
+
+    @Test
+    @DisplayName("Fixed thread pool when virtual threads are not requested")
+    void testFixedThreadPool() throws Exception {
+        final var executorService = ExecutorServices.newExecutorService(false, 3);
+        try {
+            assertThat(executorService).isInstanceOf(ThreadPoolExecutor.class);
+            assertThat(((ThreadPoolExecutor) executorService).getMaximumPoolSize()).isEqualTo(3);
+            assertThat(executorService.submit(() -> "OK").get(1, TimeUnit.SECONDS)).isEqualTo("OK");
+        } finally {
+            Closeables.shutdownQuietly(executorService);
+        }
+    }
+
+    @Test
+    @DisplayName("Virtual threads when requested, otherwise fall back to fixed thread pool")
+    void testVirtualThreads() throws Exception {
+        final var executorService = ExecutorServices.newExecutorService(true, 3);
+        try {
+            if (ExecutorServices.isVirtualThreadSupported()) {
+                assertThat(executorService).isNotInstanceOf(ThreadPoolExecutor.class);
+            } else {
+                assertThat(executorService).isInstanceOf(ThreadPoolExecutor.class);
+            }
+            assertThat(executorService.submit(() -> "OK").get(1, TimeUnit.SECONDS)).isEqualTo("OK");
+        } finally {
+            Closeables.shutdownQuietly(executorService);
+        }
+    }
+
+    @Test
+    @DisplayName("Constructor not instantiable")
+    void testConstructorNonInstantiable() {
+        TestHelpers.assertThatNotInstantiable(ExecutorServices.class);
+    }
+
+    @Test
+    @DisplayName("Test shared scheduler and single thread scheduler")
+    void testScheduler() throws Exception {
+        assertThat(ExecutorServices.sharedScheduler()).isSameAs(ExecutorServices.sharedScheduler());
+
+        final var scheduler = ExecutorServices.newSingleThreadScheduler("test-scheduler");
+        try {
+            final var thread = scheduler.schedule(Thread::currentThread, 10, TimeUnit.MILLISECONDS).get(1, TimeUnit.SECONDS);
+            assertThat(thread.getName()).isEqualTo("test-scheduler");
+            assertThat(thread.isDaemon()).isTrue();
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+}
@@ -284,6 +284,28 @@ public class NetworkerTest {
         assertThat(socketAddressRemote.getPort()).isEqualTo(1317);
     }
 
+    @Test
+    @DisplayName("Test creating an datagram channel (UDP) with fixed local port")
+    public void testDatagramChannelWithFixedPort() throws IOException {
+        final int localPort;
+        try (final var channel = Networker.newDatagramChannel(0, 1000, null, null)) {
+            localPort = ((InetSocketAddress) channel.getLocalAddress()).getPort();
+        }
+
+        // fixed local port is bound exclusively
+        try (final var channel = Networker.newDatagramChannel(localPort, 1000, null, null)) {
+            assertThat(channel.getOption(StandardSocketOptions.SO_REUSEADDR)).isFalse();
+            assertThat(((InetSocketAddress) channel.getLocalAddress()).getPort()).isEqualTo(localPort);
+            assertThatThrownBy(() -> Networker.newDatagramChannel(localPort, 1000, null, null))
+                    .isInstanceOf(KnxCommunicationException.class);
+        }
+
+        // re-bind immediately after close
+        try (final var channel = Networker.newDatagramChannel(localPort, 1000, null, null)) {
+            assertThat(((InetSocketAddress) channel.getLocalAddress()).getPort()).isEqualTo(localPort);
+        }
+    }
+
     @Test
     @DisplayName("ERROR: Test creating an datagram channel (UDP) with exception")
     public void testDatagramChannelException() {